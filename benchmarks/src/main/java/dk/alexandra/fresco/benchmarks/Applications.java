@@ -0,0 +1,87 @@
+package dk.alexandra.fresco.benchmarks;
+
+import dk.alexandra.fresco.framework.Application;
+import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.builder.binary.ProtocolBuilderBinary;
+import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
+import dk.alexandra.fresco.framework.value.SBool;
+import dk.alexandra.fresco.framework.value.SInt;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The applications evaluated by the end-to-end benchmarks of the protocol suites.
+ */
+class Applications {
+
+  private Applications() {
+    // Only static helpers
+  }
+
+  /**
+   * Creates an application where parties 1 and 2 each input a list of numbers, and the inner
+   * product of the lists is computed and opened.
+   *
+   * @param myId the id of the party running the application
+   * @param size the size of the lists
+   * @return the application
+   */
+  static Application<BigInteger, ProtocolBuilderNumeric> innerProduct(int myId, int size) {
+    return builder -> {
+      DRes<List<DRes<SInt>>> left = closeList(builder, myId, 1, size);
+      DRes<List<DRes<SInt>>> right = closeList(builder, myId, 2, size);
+      return builder.seq(seq -> seq.numeric().mult(left.out(), right.out()))
+          .seq((seq, products) -> seq.numeric().open(seq.advancedNumeric().sum(products)));
+    };
+  }
+
+  private static DRes<List<DRes<SInt>>> closeList(ProtocolBuilderNumeric builder, int myId,
+      int inputParty, int size) {
+    if (myId == inputParty) {
+      List<BigInteger> values = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        values.add(BigInteger.valueOf(i));
+      }
+      return builder.collections().closeList(values, inputParty);
+    } else {
+      return builder.collections().closeList(size, inputParty);
+    }
+  }
+
+  /**
+   * Creates an application where parties 1 and 2 each input a list of bits, and the pairwise AND
+   * of the bits is computed and opened.
+   *
+   * @param size the number of bits input by each party
+   * @return the application
+   */
+  static Application<List<Boolean>, ProtocolBuilderBinary> and(int size) {
+    return builder -> builder.par(par -> {
+      List<DRes<SBool>> inputs = new ArrayList<>(2 * size);
+      for (int i = 0; i < size; i++) {
+        inputs.add(par.binary().input(i % 2 == 0, 1));
+        inputs.add(par.binary().input(i % 3 == 0, 2));
+      }
+      return () -> inputs;
+    }).par((par, inputs) -> {
+      List<DRes<SBool>> products = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        products.add(par.binary().and(inputs.get(2 * i), inputs.get(2 * i + 1)));
+      }
+      return () -> products;
+    }).par((par, products) -> {
+      List<DRes<Boolean>> opened = new ArrayList<>(products.size());
+      for (DRes<SBool> product : products) {
+        opened.add(par.binary().open(product));
+      }
+      return () -> opened;
+    }).seq((seq, opened) -> {
+      List<Boolean> result = new ArrayList<>(opened.size());
+      for (DRes<Boolean> bit : opened) {
+        result.add(bit.out());
+      }
+      return () -> result;
+    });
+  }
+}
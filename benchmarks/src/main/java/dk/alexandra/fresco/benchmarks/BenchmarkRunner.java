@@ -0,0 +1,38 @@
+package dk.alexandra.fresco.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmarks jar.
+ *
+ * <p>Accepts the usual JMH command line options (e.g. a regular expression selecting the
+ * benchmarks to run), but writes the results as JSON to <code>jmh-result.json</code> unless a
+ * result format or file is given explicitly, so results can be compared across releases.</p>
+ */
+public class BenchmarkRunner {
+
+  static final String DEFAULT_RESULT_FILE = "jmh-result.json";
+
+  /**
+   * Runs the benchmarks.
+   *
+   * @param args JMH command line options
+   */
+  public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+    CommandLineOptions commandLine = new CommandLineOptions(args);
+    ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLine);
+    if (!commandLine.getResultFormat().hasValue()) {
+      options.resultFormat(ResultFormatType.JSON);
+    }
+    if (!commandLine.getResult().hasValue()) {
+      options.result(DEFAULT_RESULT_FILE);
+    }
+    new Runner(options.build()).run();
+  }
+}
@@ -0,0 +1,68 @@
+package dk.alexandra.fresco.benchmarks;
+
+import dk.alexandra.fresco.suite.spdz2k.datatypes.CompUInt128;
+import dk.alexandra.fresco.suite.spdz2k.datatypes.CompUInt128Factory;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the arithmetic of {@link CompUInt128} used by SPDZ2k.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompUInt128Benchmark {
+
+  private CompUInt128Factory factory;
+  private CompUInt128 left;
+  private CompUInt128 right;
+  private byte[] serialized;
+
+  /**
+   * Creates random elements.
+   */
+  @Setup
+  public void setup() {
+    factory = new CompUInt128Factory();
+    left = factory.createRandom();
+    right = factory.createRandom();
+    serialized = left.toByteArray();
+  }
+
+  @Benchmark
+  public CompUInt128 add() {
+    return left.add(right);
+  }
+
+  @Benchmark
+  public CompUInt128 multiply() {
+    return left.multiply(right);
+  }
+
+  @Benchmark
+  public CompUInt128 subtract() {
+    return left.subtract(right);
+  }
+
+  @Benchmark
+  public byte[] serialize() {
+    return left.toByteArray();
+  }
+
+  @Benchmark
+  public CompUInt128 deserialize() {
+    return factory.deserialize(serialized);
+  }
+}
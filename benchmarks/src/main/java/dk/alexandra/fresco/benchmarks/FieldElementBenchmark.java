@@ -0,0 +1,127 @@
+package dk.alexandra.fresco.benchmarks;
+
+import dk.alexandra.fresco.framework.builder.numeric.field.BigIntegerFieldDefinition;
+import dk.alexandra.fresco.framework.builder.numeric.field.FieldDefinition;
+import dk.alexandra.fresco.framework.builder.numeric.field.FieldElement;
+import dk.alexandra.fresco.framework.builder.numeric.field.FieldElementVector;
+import dk.alexandra.fresco.framework.builder.numeric.field.LongFieldDefinition;
+import dk.alexandra.fresco.framework.builder.numeric.field.MersennePrimeFieldDefinition;
+import dk.alexandra.fresco.framework.builder.numeric.field.MontgomeryFieldDefinition;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the arithmetic and serialization of {@link BigIntegerFieldDefinition}, {@link
+ * MersennePrimeFieldDefinition} and {@link MontgomeryFieldDefinition} over the same prime <i>2^127
+ * - 1</i>, and of {@link LongFieldDefinition} over <i>2^61 - 1</i>. The list benchmarks compare
+ * operations on a list of elements with the same operations on a {@link FieldElementVector}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FieldElementBenchmark {
+
+  private static final int LIST_SIZE = 1024;
+
+  @Param({"BigInteger", "MersennePrime", "Montgomery", "Long"})
+  public String field;
+
+  private FieldDefinition definition;
+  private FieldElement left;
+  private FieldElement right;
+  private List<FieldElement> elements;
+  private byte[] serialized;
+  private FieldElementVector vector;
+  private ByteBuffer buffer;
+
+  /**
+   * Creates the field and random elements.
+   */
+  @Setup
+  public void setup() {
+    BigInteger prime = BigInteger.ONE.shiftLeft(127).subtract(BigInteger.ONE);
+    if ("BigInteger".equals(field)) {
+      definition = new BigIntegerFieldDefinition(prime);
+    } else if ("MersennePrime".equals(field)) {
+      definition = new MersennePrimeFieldDefinition(127, 1);
+    } else if ("Montgomery".equals(field)) {
+      definition = new MontgomeryFieldDefinition(prime);
+    } else {
+      definition = new LongFieldDefinition((1L << 61) - 1);
+    }
+    Random random = new Random(42);
+    left = definition.createElement(new BigInteger(126, random));
+    right = definition.createElement(new BigInteger(126, random));
+    elements = new ArrayList<>(LIST_SIZE);
+    for (int i = 0; i < LIST_SIZE; i++) {
+      elements.add(definition.createElement(new BigInteger(126, random)));
+    }
+    serialized = definition.serialize(elements);
+    vector = definition.createVector(elements);
+    buffer = ByteBuffer.allocate(serialized.length);
+  }
+
+  @Benchmark
+  public FieldElement add() {
+    return left.add(right);
+  }
+
+  @Benchmark
+  public FieldElement multiply() {
+    return left.multiply(right);
+  }
+
+  @Benchmark
+  public byte[] serializeList() {
+    return definition.serialize(elements);
+  }
+
+  @Benchmark
+  public List<FieldElement> deserializeList() {
+    return definition.deserializeList(serialized);
+  }
+
+  @Benchmark
+  public FieldElement innerProductList() {
+    FieldElement result = definition.createElement(0);
+    for (FieldElement element : elements) {
+      result = result.add(element.multiply(element));
+    }
+    return result;
+  }
+
+  @Benchmark
+  public FieldElement innerProductVector() {
+    return vector.innerProduct(vector);
+  }
+
+  @Benchmark
+  public ByteBuffer serializeVector() {
+    buffer.clear();
+    vector.serialize(buffer);
+    return buffer;
+  }
+
+  @Benchmark
+  public FieldElementVector deserializeVector() {
+    return definition.deserializeVector(ByteBuffer.wrap(serialized), LIST_SIZE);
+  }
+}
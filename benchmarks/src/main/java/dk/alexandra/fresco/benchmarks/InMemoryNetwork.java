@@ -0,0 +1,72 @@
+package dk.alexandra.fresco.benchmarks;
+
+import dk.alexandra.fresco.framework.network.CloseableNetwork;
+import dk.alexandra.fresco.framework.util.ExceptionConverter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * A loopback network between parties running in the same process.
+ *
+ * <p>Messages are passed through a queue per ordered pair of parties, so the benchmarks measure the
+ * computation and serialization done by the protocols without the cost and noise of sockets.
+ * Messages are copied on sending, as a real network would do.</p>
+ */
+public class InMemoryNetwork implements CloseableNetwork {
+
+  private final int myId;
+  private final List<List<BlockingQueue<byte[]>>> queues;
+
+  private InMemoryNetwork(int myId, List<List<BlockingQueue<byte[]>>> queues) {
+    this.myId = myId;
+    this.queues = queues;
+  }
+
+  /**
+   * Creates connected networks for a number of parties.
+   *
+   * @param noOfParties the number of parties
+   * @return the networks indexed by party id minus one
+   */
+  public static List<InMemoryNetwork> createNetworks(int noOfParties) {
+    // queues.get(i).get(j) holds the messages from party i + 1 to party j + 1
+    List<List<BlockingQueue<byte[]>>> queues = new ArrayList<>(noOfParties);
+    for (int i = 0; i < noOfParties; i++) {
+      List<BlockingQueue<byte[]>> fromParty = new ArrayList<>(noOfParties);
+      for (int j = 0; j < noOfParties; j++) {
+        fromParty.add(new LinkedBlockingQueue<>());
+      }
+      queues.add(fromParty);
+    }
+    List<InMemoryNetwork> networks = new ArrayList<>(noOfParties);
+    for (int i = 1; i <= noOfParties; i++) {
+      networks.add(new InMemoryNetwork(i, queues));
+    }
+    return networks;
+  }
+
+  @Override
+  public void send(int partyId, byte[] data) {
+    queues.get(myId - 1).get(partyId - 1).add(Arrays.copyOf(data, data.length));
+  }
+
+  @Override
+  public byte[] receive(int partyId) {
+    BlockingQueue<byte[]> queue = queues.get(partyId - 1).get(myId - 1);
+    return ExceptionConverter.safe(queue::take,
+        "P" + myId + ": Interrupted while receiving from P" + partyId);
+  }
+
+  @Override
+  public int getNoOfParties() {
+    return queues.size();
+  }
+
+  @Override
+  public void close() {
+    // Nothing to close
+  }
+}
@@ -0,0 +1,135 @@
+package dk.alexandra.fresco.benchmarks;
+
+import dk.alexandra.fresco.framework.network.Network;
+import dk.alexandra.fresco.framework.util.AesCtrDrbg;
+import dk.alexandra.fresco.framework.util.Drbg;
+import dk.alexandra.fresco.framework.util.StrictBitVector;
+import dk.alexandra.fresco.tools.cointossing.CoinTossing;
+import dk.alexandra.fresco.tools.ot.base.DummyOt;
+import dk.alexandra.fresco.tools.ot.otextension.CoteFactory;
+import dk.alexandra.fresco.tools.ot.otextension.CoteReceiver;
+import dk.alexandra.fresco.tools.ot.otextension.CoteSender;
+import dk.alexandra.fresco.tools.ot.otextension.OtExtensionResourcePool;
+import dk.alexandra.fresco.tools.ot.otextension.OtExtensionResourcePoolImpl;
+import dk.alexandra.fresco.tools.ot.otextension.RotFactory;
+import dk.alexandra.fresco.tools.ot.otextension.RotList;
+import dk.alexandra.fresco.tools.ot.otextension.RotReceiver;
+import dk.alexandra.fresco.tools.ot.otextension.RotSender;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the correlated OT extension ({@link CoteSender#extend(int)}) and the random OT
+ * extension built on top of it ({@link RotSender#extend(int)}) between two parties over an {@link
+ * InMemoryNetwork}. Each invocation runs both the sender and the receiver side.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OtExtensionBenchmark {
+
+  private static final int COMPUTATIONAL_SECURITY = 128;
+  private static final int STATISTICAL_SECURITY = 64;
+  private static final int SENDER = 1;
+  private static final int RECEIVER = 2;
+
+  /**
+   * The OTs are extended in batches of <i>2^logBatchSize</i> including the OTs sacrificed by the
+   * consistency check of the random OT extension.
+   */
+  @Param({"10", "16"})
+  public int logBatchSize;
+
+  private Parties parties;
+  private int coteSize;
+  private int rotSize;
+  private CoteSender coteSender;
+  private CoteReceiver coteReceiver;
+  private RotSender rotSender;
+  private RotReceiver rotReceiver;
+  private StrictBitVector coteChoices;
+  private StrictBitVector rotChoices;
+
+  /**
+   * Runs the seed OTs and sets up the senders and receivers.
+   */
+  @Setup
+  public void setup() {
+    coteSize = 1 << logBatchSize;
+    rotSize = coteSize - COMPUTATIONAL_SECURITY - STATISTICAL_SECURITY;
+    parties = new Parties(2);
+    List<InMemoryNetwork> networks = InMemoryNetwork.createNetworks(2);
+    List<OtExtensionResourcePool> resources =
+        parties.run(id -> () -> createResources(id, networks.get(id - 1)));
+    Network senderNetwork = networks.get(SENDER - 1);
+    Network receiverNetwork = networks.get(RECEIVER - 1);
+    // create each side on its own party thread, as done in an actual deployment
+    parties.run(id -> () -> {
+      if (id == SENDER) {
+        coteSender = new CoteFactory(resources.get(id - 1), senderNetwork).getSender();
+        rotSender = new RotFactory(resources.get(id - 1), senderNetwork).createSender();
+      } else {
+        coteReceiver = new CoteFactory(resources.get(id - 1), receiverNetwork).getReceiver();
+        rotReceiver = new RotFactory(resources.get(id - 1), receiverNetwork).createReceiver();
+      }
+      return null;
+    });
+    Drbg drbg = new AesCtrDrbg(new byte[32]);
+    coteChoices = new StrictBitVector(coteSize, drbg);
+    rotChoices = new StrictBitVector(rotSize, drbg);
+  }
+
+  private static OtExtensionResourcePool createResources(int myId, Network network) {
+    int otherId = myId == SENDER ? RECEIVER : SENDER;
+    byte[] seed = new byte[32];
+    seed[0] = (byte) myId;
+    Drbg drbg = new AesCtrDrbg(seed);
+    DummyOt dummyOt = new DummyOt(otherId, network);
+    RotList seedOts = new RotList(drbg, COMPUTATIONAL_SECURITY);
+    if (myId < otherId) {
+      seedOts.send(dummyOt);
+      seedOts.receive(dummyOt);
+    } else {
+      seedOts.receive(dummyOt);
+      seedOts.send(dummyOt);
+    }
+    CoinTossing coinTossing = new CoinTossing(myId, otherId, drbg);
+    coinTossing.initialize(network);
+    return new OtExtensionResourcePoolImpl(myId, otherId, COMPUTATIONAL_SECURITY,
+        STATISTICAL_SECURITY, 1, drbg, coinTossing, seedOts);
+  }
+
+  @TearDown
+  public void tearDown() {
+    parties.close();
+  }
+
+  @Benchmark
+  public List<Object> coteExtend() {
+    return parties.run(id -> () -> id == SENDER
+        ? coteSender.extend(coteSize)
+        : coteReceiver.extend(coteChoices));
+  }
+
+  @Benchmark
+  public List<Object> rotExtend() {
+    return parties.run(id -> () -> id == SENDER
+        ? rotSender.extend(rotSize)
+        : rotReceiver.extend(rotChoices));
+  }
+}
@@ -0,0 +1,67 @@
+package dk.alexandra.fresco.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+
+/**
+ * Runs a task for each party of a benchmark concurrently, one thread per party.
+ */
+public class Parties implements AutoCloseable {
+
+  private final int noOfParties;
+  private final ExecutorService executor;
+
+  /**
+   * Creates a new {@link Parties}.
+   *
+   * @param noOfParties the number of parties
+   */
+  public Parties(int noOfParties) {
+    this.noOfParties = noOfParties;
+    this.executor = Executors.newFixedThreadPool(noOfParties, r -> {
+      Thread thread = new Thread(r, "Benchmark-party");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  /**
+   * Runs a task for each party and waits for all of them to finish.
+   *
+   * @param task creates the task of a party given its id
+   * @return the results of the tasks indexed by party id minus one
+   */
+  public <T> List<T> run(IntFunction<Callable<T>> task) {
+    List<Future<T>> futures = new ArrayList<>(noOfParties);
+    for (int i = 1; i <= noOfParties; i++) {
+      futures.add(executor.submit(task.apply(i)));
+    }
+    List<T> results = new ArrayList<>(noOfParties);
+    try {
+      for (Future<T> future : futures) {
+        results.add(future.get());
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Interrupted while waiting for parties", e);
+    } catch (ExecutionException e) {
+      throw new RuntimeException("Party failed", e.getCause());
+    }
+    return results;
+  }
+
+  public int getNoOfParties() {
+    return noOfParties;
+  }
+
+  @Override
+  public void close() {
+    executor.shutdownNow();
+  }
+}
@@ -0,0 +1,89 @@
+package dk.alexandra.fresco.benchmarks;
+
+import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
+import dk.alexandra.fresco.framework.sce.SecureComputationEngine;
+import dk.alexandra.fresco.framework.sce.SecureComputationEngineImpl;
+import dk.alexandra.fresco.framework.sce.evaluator.BatchedProtocolEvaluator;
+import dk.alexandra.fresco.framework.sce.evaluator.EvaluationStrategy;
+import dk.alexandra.fresco.framework.util.AesCtrDrbg;
+import dk.alexandra.fresco.suite.spdz2k.Spdz2kProtocolSuiteK64;
+import dk.alexandra.fresco.suite.spdz2k.datatypes.CompUInt128;
+import dk.alexandra.fresco.suite.spdz2k.datatypes.CompUInt128Factory;
+import dk.alexandra.fresco.suite.spdz2k.datatypes.CompUIntFactory;
+import dk.alexandra.fresco.suite.spdz2k.resource.Spdz2kResourcePool;
+import dk.alexandra.fresco.suite.spdz2k.resource.Spdz2kResourcePoolImpl;
+import dk.alexandra.fresco.suite.spdz2k.resource.storage.Spdz2kDummyDataSupplier;
+import dk.alexandra.fresco.suite.spdz2k.resource.storage.Spdz2kOpenedValueStoreImpl;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks an end-to-end run of SPDZ2k (<i>k = 64</i>) with dummy preprocessing over an {@link
+ * InMemoryNetwork}, see {@link Applications#innerProduct(int, int)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Spdz2kBenchmark {
+
+  @Param({"2", "3"})
+  public int noOfParties;
+
+  @Param({"1024"})
+  public int size;
+
+  private Parties parties;
+  private List<InMemoryNetwork> networks;
+  private SecureComputationEngine<Spdz2kResourcePool<CompUInt128>, ProtocolBuilderNumeric> sce;
+  private List<Spdz2kResourcePool<CompUInt128>> resourcePools;
+
+  /**
+   * Creates the networks and resource pools of all parties, including the joint randomness.
+   */
+  @Setup
+  public void setup() {
+    parties = new Parties(noOfParties);
+    networks = InMemoryNetwork.createNetworks(noOfParties);
+    Spdz2kProtocolSuiteK64 suite = new Spdz2kProtocolSuiteK64();
+    sce = new SecureComputationEngineImpl<>(suite,
+        new BatchedProtocolEvaluator<>(EvaluationStrategy.SEQUENTIAL_BATCHED.getStrategy(),
+            suite));
+    resourcePools = parties.run(id -> () -> {
+      CompUIntFactory<CompUInt128> factory = new CompUInt128Factory();
+      Spdz2kResourcePool<CompUInt128> resourcePool = new Spdz2kResourcePoolImpl<>(id,
+          noOfParties, null, new Spdz2kOpenedValueStoreImpl<>(),
+          new Spdz2kDummyDataSupplier<>(id, noOfParties, factory.createRandom(), factory),
+          factory);
+      resourcePool.initializeJointRandomness(() -> networks.get(id - 1), AesCtrDrbg::new, 32);
+      return resourcePool;
+    });
+  }
+
+  @TearDown
+  public void tearDown() {
+    sce.shutdownSCE();
+    parties.close();
+  }
+
+  @Benchmark
+  public List<BigInteger> innerProduct() {
+    return parties.run(id -> () -> sce.runApplication(Applications.innerProduct(id, size),
+        resourcePools.get(id - 1), networks.get(id - 1)));
+  }
+}
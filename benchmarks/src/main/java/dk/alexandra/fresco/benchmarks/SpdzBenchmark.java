@@ -0,0 +1,89 @@
+package dk.alexandra.fresco.benchmarks;
+
+import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
+import dk.alexandra.fresco.framework.builder.numeric.field.BigIntegerFieldDefinition;
+import dk.alexandra.fresco.framework.sce.SecureComputationEngine;
+import dk.alexandra.fresco.framework.sce.SecureComputationEngineImpl;
+import dk.alexandra.fresco.framework.sce.evaluator.BatchedProtocolEvaluator;
+import dk.alexandra.fresco.framework.sce.evaluator.EvaluationStrategy;
+import dk.alexandra.fresco.framework.util.AesCtrDrbg;
+import dk.alexandra.fresco.framework.util.ModulusFinder;
+import dk.alexandra.fresco.framework.util.OpenedValueStoreImpl;
+import dk.alexandra.fresco.suite.spdz.SpdzProtocolSuite;
+import dk.alexandra.fresco.suite.spdz.SpdzResourcePool;
+import dk.alexandra.fresco.suite.spdz.SpdzResourcePoolImpl;
+import dk.alexandra.fresco.suite.spdz.storage.SpdzDummyDataSupplier;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks an end-to-end run of SPDZ with dummy preprocessing over an {@link InMemoryNetwork},
+ * see {@link Applications#innerProduct(int, int)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpdzBenchmark {
+
+  private static final int MAX_BIT_LENGTH = 64;
+  private static final int MODULUS_BIT_LENGTH = 128;
+
+  @Param({"2", "3"})
+  public int noOfParties;
+
+  @Param({"1024"})
+  public int size;
+
+  private Parties parties;
+  private List<InMemoryNetwork> networks;
+  private SecureComputationEngine<SpdzResourcePool, ProtocolBuilderNumeric> sce;
+  private List<SpdzResourcePool> resourcePools;
+
+  /**
+   * Creates the networks and resource pools of all parties.
+   */
+  @Setup
+  public void setup() {
+    parties = new Parties(noOfParties);
+    networks = InMemoryNetwork.createNetworks(noOfParties);
+    SpdzProtocolSuite suite = new SpdzProtocolSuite(MAX_BIT_LENGTH);
+    sce = new SecureComputationEngineImpl<>(suite,
+        new BatchedProtocolEvaluator<>(EvaluationStrategy.SEQUENTIAL_BATCHED.getStrategy(),
+            suite));
+    BigInteger modulus = ModulusFinder.findSuitableModulus(MODULUS_BIT_LENGTH);
+    BigInteger macKey = new BigInteger(MODULUS_BIT_LENGTH, new Random(0)).mod(modulus);
+    resourcePools = parties.run(id -> () -> new SpdzResourcePoolImpl(id, noOfParties,
+        new OpenedValueStoreImpl<>(),
+        new SpdzDummyDataSupplier(id, noOfParties, new BigIntegerFieldDefinition(modulus), macKey),
+        new AesCtrDrbg(new byte[32])));
+  }
+
+  @TearDown
+  public void tearDown() {
+    sce.shutdownSCE();
+    parties.close();
+  }
+
+  @Benchmark
+  public List<BigInteger> innerProduct() {
+    return parties.run(id -> () -> sce.runApplication(Applications.innerProduct(id, size),
+        resourcePools.get(id - 1), networks.get(id - 1)));
+  }
+}
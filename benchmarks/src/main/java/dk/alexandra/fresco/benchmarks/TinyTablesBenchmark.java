@@ -0,0 +1,129 @@
+package dk.alexandra.fresco.benchmarks;
+
+import dk.alexandra.fresco.framework.builder.binary.ProtocolBuilderBinary;
+import dk.alexandra.fresco.framework.sce.SecureComputationEngine;
+import dk.alexandra.fresco.framework.sce.SecureComputationEngineImpl;
+import dk.alexandra.fresco.framework.sce.evaluator.BatchedProtocolEvaluator;
+import dk.alexandra.fresco.framework.sce.evaluator.EvaluationStrategy;
+import dk.alexandra.fresco.framework.sce.resources.ResourcePoolImpl;
+import dk.alexandra.fresco.framework.util.AesCtrDrbg;
+import dk.alexandra.fresco.suite.tinytables.online.TinyTablesProtocolSuite;
+import dk.alexandra.fresco.suite.tinytables.ot.TinyTablesDummyOt;
+import dk.alexandra.fresco.suite.tinytables.prepro.TinyTablesPreproProtocolSuite;
+import dk.alexandra.fresco.suite.tinytables.prepro.TinyTablesPreproResourcePool;
+import dk.alexandra.fresco.suite.tinytables.util.Util;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks an end-to-end run of TinyTables between two parties over an {@link InMemoryNetwork},
+ * see {@link Applications#and(int)}. Each invocation runs the preprocessing, using the OT extension
+ * with dummy base OTs, followed by the online phase, as the TinyTables must not be reused.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TinyTablesBenchmark {
+
+  private static final int NO_OF_PARTIES = 2;
+  private static final int COMPUTATIONAL_SECURITY = 128;
+  private static final int STATISTICAL_SECURITY = 40;
+  private static final int OT_BATCH_SIZE = 1024;
+
+  @Param({"1024"})
+  public int size;
+
+  private Parties parties;
+  private List<InMemoryNetwork> networks;
+  private Path directory;
+
+  /**
+   * Creates the networks and the directory holding the TinyTables.
+   */
+  @Setup
+  public void setup() throws IOException {
+    parties = new Parties(NO_OF_PARTIES);
+    networks = InMemoryNetwork.createNetworks(NO_OF_PARTIES);
+    directory = Files.createTempDirectory("tinytables");
+  }
+
+  /**
+   * Removes the stored TinyTables.
+   */
+  @TearDown
+  public void tearDown() throws IOException {
+    parties.close();
+    for (int id = 1; id <= NO_OF_PARTIES; id++) {
+      Files.deleteIfExists(tinyTablesFile(id).toPath());
+    }
+    Files.deleteIfExists(directory);
+  }
+
+  private File tinyTablesFile(int myId) {
+    return directory.resolve("TinyTables_" + myId).toFile();
+  }
+
+  @Benchmark
+  public List<List<Boolean>> and() {
+    // the online suites register themselves in a static map, so they are created up front
+    List<TinyTablesProtocolSuite> suites = new ArrayList<>(NO_OF_PARTIES);
+    for (int id = 1; id <= NO_OF_PARTIES; id++) {
+      suites.add(new TinyTablesProtocolSuite(id, tinyTablesFile(id)));
+    }
+    return parties.run(id -> () -> {
+      preprocess(id);
+      return online(id, suites.get(id - 1));
+    });
+  }
+
+  private void preprocess(int myId) {
+    InMemoryNetwork network = networks.get(myId - 1);
+    TinyTablesPreproProtocolSuite suite = new TinyTablesPreproProtocolSuite();
+    SecureComputationEngine<TinyTablesPreproResourcePool, ProtocolBuilderBinary> sce =
+        new SecureComputationEngineImpl<>(suite,
+            new BatchedProtocolEvaluator<>(EvaluationStrategy.SEQUENTIAL_BATCHED.getStrategy(),
+                suite));
+    TinyTablesPreproResourcePool resourcePool = new TinyTablesPreproResourcePool(myId,
+        new TinyTablesDummyOt(Util.otherPlayerId(myId)), new AesCtrDrbg(new byte[32]),
+        COMPUTATIONAL_SECURITY, STATISTICAL_SECURITY, OT_BATCH_SIZE, tinyTablesFile(myId),
+        () -> network);
+    try {
+      sce.runApplication(Applications.and(size), resourcePool, network);
+    } finally {
+      sce.shutdownSCE();
+    }
+  }
+
+  private List<Boolean> online(int myId, TinyTablesProtocolSuite suite) {
+    SecureComputationEngine<ResourcePoolImpl, ProtocolBuilderBinary> sce =
+        new SecureComputationEngineImpl<>(suite,
+            new BatchedProtocolEvaluator<>(EvaluationStrategy.SEQUENTIAL_BATCHED.getStrategy(),
+                suite));
+    try {
+      return sce.runApplication(Applications.and(size),
+          new ResourcePoolImpl(myId, NO_OF_PARTIES), networks.get(myId - 1));
+    } finally {
+      sce.shutdownSCE();
+    }
+  }
+}
@@ -0,0 +1,111 @@
+package dk.alexandra.fresco.benchmarks;
+
+import dk.alexandra.fresco.framework.builder.numeric.field.BigIntegerFieldDefinition;
+import dk.alexandra.fresco.framework.builder.numeric.field.FieldDefinition;
+import dk.alexandra.fresco.framework.builder.numeric.field.FieldElement;
+import dk.alexandra.fresco.framework.network.Network;
+import dk.alexandra.fresco.framework.util.AesCtrDrbgFactory;
+import dk.alexandra.fresco.framework.util.Drbg;
+import dk.alexandra.fresco.framework.util.ModulusFinder;
+import dk.alexandra.fresco.tools.mascot.Mascot;
+import dk.alexandra.fresco.tools.mascot.MascotResourcePool;
+import dk.alexandra.fresco.tools.mascot.MascotResourcePoolImpl;
+import dk.alexandra.fresco.tools.mascot.MascotSecurityParameters;
+import dk.alexandra.fresco.tools.mascot.field.MultiplicationTriple;
+import dk.alexandra.fresco.tools.mascot.triple.TripleGeneration;
+import dk.alexandra.fresco.tools.ot.base.DummyOt;
+import dk.alexandra.fresco.tools.ot.base.Ot;
+import dk.alexandra.fresco.tools.ot.otextension.RotList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the MASCOT triple generation ({@link TripleGeneration#triple(int)}) between a number
+ * of parties over an {@link InMemoryNetwork}, using a 128 bit prime field.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TripleGenerationBenchmark {
+
+  private static final int MODULUS_BIT_LENGTH = 128;
+
+  @Param({"2", "3"})
+  public int noOfParties;
+
+  @Param({"1024"})
+  public int noOfTriples;
+
+  private Parties parties;
+  private List<Mascot> mascots;
+
+  /**
+   * Runs the seed OTs and initializes MASCOT for all parties.
+   */
+  @Setup
+  public void setup() {
+    FieldDefinition definition =
+        new BigIntegerFieldDefinition(ModulusFinder.findSuitableModulus(MODULUS_BIT_LENGTH));
+    MascotSecurityParameters securityParameters = new MascotSecurityParameters();
+    parties = new Parties(noOfParties);
+    List<InMemoryNetwork> networks = InMemoryNetwork.createNetworks(noOfParties);
+    mascots = parties.run(id -> () -> {
+      Network network = networks.get(id - 1);
+      MascotResourcePool resourcePool =
+          createResourcePool(id, network, securityParameters, definition);
+      FieldElement macKeyShare = resourcePool.getLocalSampler().getNext();
+      return new Mascot(resourcePool, network, macKeyShare);
+    });
+  }
+
+  private MascotResourcePool createResourcePool(int myId, Network network,
+      MascotSecurityParameters securityParameters, FieldDefinition definition) {
+    byte[] seed = new byte[securityParameters.getPrgSeedLength() / Byte.SIZE];
+    seed[0] = (byte) myId;
+    Drbg drbg = AesCtrDrbgFactory.fromDerivedSeed(seed);
+    Map<Integer, RotList> seedOts = new HashMap<>();
+    for (int otherId = 1; otherId <= noOfParties; otherId++) {
+      if (myId != otherId) {
+        Ot ot = new DummyOt(otherId, network);
+        RotList currentSeedOts = new RotList(drbg, securityParameters.getPrgSeedLength());
+        if (myId < otherId) {
+          currentSeedOts.send(ot);
+          currentSeedOts.receive(ot);
+        } else {
+          currentSeedOts.receive(ot);
+          currentSeedOts.send(ot);
+        }
+        seedOts.put(otherId, currentSeedOts);
+      }
+    }
+    return new MascotResourcePoolImpl(myId, noOfParties, 1, drbg, seedOts, securityParameters,
+        definition);
+  }
+
+  @TearDown
+  public void tearDown() {
+    parties.close();
+  }
+
+  @Benchmark
+  public List<List<MultiplicationTriple>> triple() {
+    return parties.run(id -> () -> mascots.get(id - 1).getTriples(noOfTriples));
+  }
+}
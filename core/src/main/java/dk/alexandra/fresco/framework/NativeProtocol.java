@@ -33,4 +33,18 @@ public interface NativeProtocol<OutputT, ResourcePoolT extends ResourcePool> ext
    */
   EvaluationStatus evaluate(int round, ResourcePoolT resourcePool, Network network);
 
+  /**
+   * Takes the resources needed by a round of the gate that are handed out by the resource pool in
+   * the order they are requested, such as preprocessed material. Strategies evaluating the
+   * protocols of a round in parallel call this for each protocol of the round, in protocol order,
+   * before any of them are evaluated. Other strategies do not call it, so {@link #evaluate(int,
+   * ResourcePool, Network)} must take the resources itself if this has not been called for the
+   * round.
+   *
+   * @param round Number of current round, starting with round 0.
+   * @param resourcePool the resource pool to take the resources from
+   */
+  default void prepare(int round, ResourcePoolT resourcePool) {
+  }
+
 }
@@ -3,6 +3,8 @@ package dk.alexandra.fresco.framework.builder.binary;
 import dk.alexandra.fresco.framework.DRes;
 import dk.alexandra.fresco.framework.builder.ComputationDirectory;
 import dk.alexandra.fresco.framework.value.SBool;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Interface for the basic operations which any binary protocol suite needs to implement.
@@ -77,4 +79,60 @@ public interface Binary extends ComputationDirectory {
    * @return A deferred result computing <code>!in</code>.
    */
   DRes<SBool> not(DRes<SBool> in);
+
+  /**
+   * AND of two lists of bits, element by element.
+   *
+   * <p>The default implementation issues an AND per pair of bits. Protocol suites may override
+   * this to evaluate all the ANDs in a single native protocol, opening the whole list in one
+   * message per party.</p>
+   *
+   * @param lefts The left AND arguments
+   * @param rights The right AND arguments, of the same size as the left arguments
+   * @return A deferred result computing <code>lefts[i] AND rights[i]</code> for each <i>i</i>.
+   */
+  default DRes<List<DRes<SBool>>> and(List<DRes<SBool>> lefts, List<DRes<SBool>> rights) {
+    if (lefts.size() != rights.size()) {
+      throw new IllegalArgumentException("Lists must be of same size but were " + lefts.size()
+          + " and " + rights.size());
+    }
+    List<DRes<SBool>> result = new ArrayList<>(lefts.size());
+    for (int i = 0; i < lefts.size(); i++) {
+      result.add(and(lefts.get(i), rights.get(i)));
+    }
+    return () -> result;
+  }
+
+  /**
+   * XOR of two lists of bits, element by element.
+   *
+   * @param lefts The left XOR arguments
+   * @param rights The right XOR arguments, of the same size as the left arguments
+   * @return A deferred result computing <code>lefts[i] XOR rights[i]</code> for each <i>i</i>.
+   */
+  default DRes<List<DRes<SBool>>> xor(List<DRes<SBool>> lefts, List<DRes<SBool>> rights) {
+    if (lefts.size() != rights.size()) {
+      throw new IllegalArgumentException("Lists must be of same size but were " + lefts.size()
+          + " and " + rights.size());
+    }
+    List<DRes<SBool>> result = new ArrayList<>(lefts.size());
+    for (int i = 0; i < lefts.size(); i++) {
+      result.add(xor(lefts.get(i), rights.get(i)));
+    }
+    return () -> result;
+  }
+
+  /**
+   * NOT of a list of bits, element by element.
+   *
+   * @param in The inputs to be inverted.
+   * @return A deferred result computing <code>!in[i]</code> for each <i>i</i>.
+   */
+  default DRes<List<DRes<SBool>>> not(List<DRes<SBool>> in) {
+    List<DRes<SBool>> result = new ArrayList<>(in.size());
+    for (DRes<SBool> bit : in) {
+      result.add(not(bit));
+    }
+    return () -> result;
+  }
 }
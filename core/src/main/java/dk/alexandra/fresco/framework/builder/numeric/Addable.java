@@ -1,6 +1,5 @@
 package dk.alexandra.fresco.framework.builder.numeric;
 
-import dk.alexandra.fresco.framework.util.TransposeUtils;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Stream;
@@ -27,16 +26,25 @@ public interface Addable<T> {
   }
 
   /**
-   * Adds up elements in each column.
+   * Adds up elements in each column. The rows are accumulated one at a time, so unlike transposing
+   * the rows first no intermediate lists are created.
    *
-   * @param rows rows to be added up
-   * @return sum of rows
+   * @param rows rows to be added up, all of the same size
+   * @return sum of rows, or an empty list if there are no rows
    */
   static <A extends Addable<A>> List<A> sumRows(List<List<A>> rows) {
-    List<List<A>> tilted = TransposeUtils.transpose(rows);
-    List<A> sums = new ArrayList<>(tilted.size());
-    for (List<A> row : tilted) {
-      sums.add(sum(row));
+    if (rows.isEmpty()) {
+      return new ArrayList<>();
+    }
+    List<A> sums = new ArrayList<>(rows.get(0));
+    for (int r = 1; r < rows.size(); r++) {
+      List<A> row = rows.get(r);
+      if (row.size() != sums.size()) {
+        throw new IllegalArgumentException("Rows must have the same size");
+      }
+      for (int i = 0; i < sums.size(); i++) {
+        sums.set(i, sums.get(i).add(row.get(i)));
+      }
     }
     return sums;
   }
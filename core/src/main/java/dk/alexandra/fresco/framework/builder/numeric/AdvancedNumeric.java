@@ -160,7 +160,8 @@ public interface AdvancedNumeric extends ComputationDirectory {
   DRes<SInt> innerProductWithPublicPart(List<BigInteger> vectorA, List<DRes<SInt>> vectorB);
 
   /**
-   * Creates a string of random bits.
+   * Creates a string of random bits along with the value they represent. By default this is an
+   * edaBit from {@link PreprocessedValues#getEdaBit(int)}.
    *
    * @param noOfBits The amount of bits to create - i.e. the bit string length.
    * @return A container holding the bit string once evaluated.
@@ -250,6 +251,42 @@ public interface AdvancedNumeric extends ComputationDirectory {
   DRes<Pair<DRes<SInt>, DRes<SInt>>> swapIf(DRes<SInt> condition, DRes<SInt> left,
       DRes<SInt> right);
 
+  /**
+   * Finds the minimum of a list of values along with a one-hot vector indicating its index. The
+   * values are reduced in a tournament taking a logarithmic number of comparisons in depth. If
+   * several values are minimal the first one is chosen.
+   *
+   * @param xs the values, which must be non-empty
+   * @return A deferred result computing a pair of the index vector and the minimum.
+   */
+  DRes<Pair<List<DRes<SInt>>, SInt>> argMin(List<DRes<SInt>> xs);
+
+  /**
+   * Finds the maximum of a list of values along with a one-hot vector indicating its index, see
+   * {@link #argMin(List)}.
+   *
+   * @param xs the values, which must be non-empty
+   * @return A deferred result computing a pair of the index vector and the maximum.
+   */
+  DRes<Pair<List<DRes<SInt>>, SInt>> argMax(List<DRes<SInt>> xs);
+
+  /**
+   * Finds the minimum of each of a number of independent lists, see {@link #argMin(List)}. The
+   * comparisons of all lists are done in parallel, so this takes the depth of the longest list.
+   *
+   * @param lists the lists, which must be non-empty
+   * @return A deferred result computing a pair of the index vector and the minimum for each list.
+   */
+  DRes<List<Pair<List<DRes<SInt>>, SInt>>> argMinLists(List<List<DRes<SInt>>> lists);
+
+  /**
+   * Finds the maximum of each of a number of independent lists, see {@link #argMinLists(List)}.
+   *
+   * @param lists the lists, which must be non-empty
+   * @return A deferred result computing a pair of the index vector and the maximum for each list.
+   */
+  DRes<List<Pair<List<DRes<SInt>>, SInt>>> argMaxLists(List<List<DRes<SInt>>> lists);
+
   /**
    * Container holding the deferred result and remainder of shifting a number.
    */
@@ -6,6 +6,7 @@ import dk.alexandra.fresco.framework.util.Pair;
 import dk.alexandra.fresco.framework.util.RowPairD;
 import dk.alexandra.fresco.framework.value.SInt;
 import dk.alexandra.fresco.lib.collections.Matrix;
+import dk.alexandra.fresco.lib.collections.lookup.SquareRootOram;
 import java.math.BigInteger;
 import java.util.List;
 
@@ -153,6 +154,21 @@ public interface Collections extends ComputationDirectory {
    */
   DRes<Matrix<DRes<SInt>>> shuffle(DRes<Matrix<DRes<SInt>>> values);
 
+  // Sorting
+
+  /**
+   * Sorts the rows of <code>values</code> in ascending order of the values in column
+   * <code>keyColumn</code>, using an oblivious sorting network. The comparisons of each layer of
+   * the network are run in parallel, so the number of rounds is <i>O(log<sup>2</sup> n)</i> times
+   * the rounds of a comparison for <i>n</i> rows. Rows with equal keys may change order. <br> The
+   * keys must be within the bit length supported by {@link Comparison#compareLEQ(DRes, DRes)}.
+   *
+   * @param values rows to sort
+   * @param keyColumn the column holding the keys to sort by
+   * @return sorted rows
+   */
+  DRes<Matrix<DRes<SInt>>> sort(DRes<Matrix<DRes<SInt>>> values, int keyColumn);
+
   // Relational (SQL-like) operators
 
   /**
@@ -169,4 +185,59 @@ public interface Collections extends ComputationDirectory {
   DRes<Matrix<DRes<SInt>>> leakyAggregateSum(DRes<Matrix<DRes<SInt>>> values,
       int groupColIdx, int aggColIdx);
 
+  // Oblivious lookup
+
+  /**
+   * Reads the element at a secret index of a list without revealing the index. Uses a single inner
+   * product of the equality indicators of the index and the list, so the number of rounds does not
+   * depend on the size of the list. <br> For repeated accesses to large lists, see
+   * {@link #oram(DRes)}.
+   *
+   * @param values list to read from
+   * @param index secret index in the range <code>0, ..., size - 1</code>
+   * @return the element at the index
+   */
+  DRes<SInt> read(DRes<List<DRes<SInt>>> values, DRes<SInt> index);
+
+  /**
+   * Writes a value at a secret index of a list without revealing the index. Returns the result as
+   * a new list.
+   *
+   * @param values list to write to
+   * @param index secret index in the range <code>0, ..., size - 1</code>
+   * @param value value to write
+   * @return the updated list
+   */
+  DRes<List<DRes<SInt>>> write(DRes<List<DRes<SInt>>> values, DRes<SInt> index,
+      DRes<SInt> value);
+
+  /**
+   * Creates a square-root ORAM holding the given list, supporting repeated reads and writes at
+   * secret indices at a cost sub-linear in the size of the list. <br> Accesses to the ORAM must be
+   * sequenced one after the other.
+   *
+   * @param values initial values
+   * @return ORAM holding the values
+   */
+  DRes<SquareRootOram> oram(DRes<List<DRes<SInt>>> values);
+
+  /**
+   * Reads the element at a secret index of an ORAM.
+   *
+   * @param oram ORAM to read from
+   * @param index secret index in the range <code>0, ..., size - 1</code>
+   * @return the element at the index
+   */
+  DRes<SInt> oramRead(DRes<SquareRootOram> oram, DRes<SInt> index);
+
+  /**
+   * Writes a value at a secret index of an ORAM.
+   *
+   * @param oram ORAM to write to
+   * @param index secret index in the range <code>0, ..., size - 1</code>
+   * @param value value to write
+   * @return the old value at the index
+   */
+  DRes<SInt> oramWrite(DRes<SquareRootOram> oram, DRes<SInt> index, DRes<SInt> value);
+
 }
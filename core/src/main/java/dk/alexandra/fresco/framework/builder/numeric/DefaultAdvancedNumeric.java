@@ -6,6 +6,7 @@ import dk.alexandra.fresco.framework.value.SInt;
 import dk.alexandra.fresco.lib.conditional.ConditionalSelect;
 import dk.alexandra.fresco.lib.conditional.SwapIf;
 import dk.alexandra.fresco.lib.conversion.IntegerToBitsByShift;
+import dk.alexandra.fresco.lib.conversion.IntegerToBitsLogRounds;
 import dk.alexandra.fresco.lib.math.integer.ProductSIntList;
 import dk.alexandra.fresco.lib.math.integer.SumSIntList;
 import dk.alexandra.fresco.lib.math.integer.binary.BitLength;
@@ -20,8 +21,10 @@ import dk.alexandra.fresco.lib.math.integer.inv.Inversion;
 import dk.alexandra.fresco.lib.math.integer.linalg.InnerProduct;
 import dk.alexandra.fresco.lib.math.integer.linalg.InnerProductOpen;
 import dk.alexandra.fresco.lib.math.integer.log.Logarithm;
+import dk.alexandra.fresco.lib.math.integer.min.ArgMin;
 import dk.alexandra.fresco.lib.math.integer.sqrt.SquareRoot;
 import java.math.BigInteger;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -31,6 +34,12 @@ import java.util.List;
  */
 public class DefaultAdvancedNumeric implements AdvancedNumeric {
 
+  /**
+   * The statistical security parameter of protocols opening values masked by edaBits, i.e., the
+   * number of random bits by which the mask exceeds the masked value.
+   */
+  private static final int STATISTICAL_SECURITY_PARAMETER = 60;
+
   private final BuilderFactoryNumeric factoryNumeric;
   private final ProtocolBuilderNumeric builder;
 
@@ -67,6 +76,12 @@ public class DefaultAdvancedNumeric implements AdvancedNumeric {
 
   @Override
   public DRes<List<SInt>> toBits(DRes<SInt> in, int maxInputLength) {
+    int modulusBitLength = factoryNumeric.getBasicNumericContext().getModulus().bitLength();
+    if (maxInputLength + STATISTICAL_SECURITY_PARAMETER + 1 < modulusBitLength) {
+      return builder.seq(
+          new IntegerToBitsLogRounds(in, maxInputLength, STATISTICAL_SECURITY_PARAMETER));
+    }
+    // the masked input would overflow the field, so fall back to one shift per bit
     return builder.seq(new IntegerToBitsByShift(in, maxInputLength));
   }
 
@@ -107,7 +122,7 @@ public class DefaultAdvancedNumeric implements AdvancedNumeric {
 
   @Override
   public DRes<RandomAdditiveMask> additiveMask(int noOfBits) {
-    return builder.seq(new dk.alexandra.fresco.lib.compare.RandomAdditiveMask(noOfBits));
+    return builder.preprocessedValues().getEdaBit(noOfBits);
   }
 
   @Override
@@ -162,4 +177,28 @@ public class DefaultAdvancedNumeric implements AdvancedNumeric {
       DRes<SInt> right) {
     return builder.par(new SwapIf(condition, left, right));
   }
+
+  @Override
+  public DRes<Pair<List<DRes<SInt>>, SInt>> argMin(List<DRes<SInt>> xs) {
+    return builder.seq(seq ->
+        seq.seq(new ArgMin(Collections.singletonList(xs), false))
+    ).seq((seq, minimums) -> () -> minimums.get(0));
+  }
+
+  @Override
+  public DRes<Pair<List<DRes<SInt>>, SInt>> argMax(List<DRes<SInt>> xs) {
+    return builder.seq(seq ->
+        seq.seq(new ArgMin(Collections.singletonList(xs), true))
+    ).seq((seq, maximums) -> () -> maximums.get(0));
+  }
+
+  @Override
+  public DRes<List<Pair<List<DRes<SInt>>, SInt>>> argMinLists(List<List<DRes<SInt>>> lists) {
+    return builder.seq(new ArgMin(lists, false));
+  }
+
+  @Override
+  public DRes<List<Pair<List<DRes<SInt>>, SInt>>> argMaxLists(List<List<DRes<SInt>>> lists) {
+    return builder.seq(new ArgMin(lists, true));
+  }
 }
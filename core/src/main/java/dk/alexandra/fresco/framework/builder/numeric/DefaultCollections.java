@@ -11,9 +11,13 @@ import dk.alexandra.fresco.lib.collections.io.OpenList;
 import dk.alexandra.fresco.lib.collections.io.OpenMatrix;
 import dk.alexandra.fresco.lib.collections.io.OpenPair;
 import dk.alexandra.fresco.lib.collections.io.OpenRowPair;
+import dk.alexandra.fresco.lib.collections.lookup.ObliviousRead;
+import dk.alexandra.fresco.lib.collections.lookup.ObliviousWrite;
+import dk.alexandra.fresco.lib.collections.lookup.SquareRootOram;
 import dk.alexandra.fresco.lib.collections.permute.PermuteRows;
 import dk.alexandra.fresco.lib.collections.relational.MiMCAggregation;
 import dk.alexandra.fresco.lib.collections.shuffle.ShuffleRows;
+import dk.alexandra.fresco.lib.collections.sort.SortRows;
 import dk.alexandra.fresco.lib.conditional.ConditionalSelectRow;
 import dk.alexandra.fresco.lib.conditional.SwapNeighborsIf;
 import dk.alexandra.fresco.lib.conditional.SwapRowsIf;
@@ -106,10 +110,41 @@ public class DefaultCollections implements Collections {
     return builder.seq(new ShuffleRows(values));
   }
 
+  @Override
+  public DRes<Matrix<DRes<SInt>>> sort(DRes<Matrix<DRes<SInt>>> values, int keyColumn) {
+    return builder.seq(new SortRows(values, keyColumn));
+  }
+
   @Override
   public DRes<Matrix<DRes<SInt>>> leakyAggregateSum(DRes<Matrix<DRes<SInt>>> values,
       int groupColIdx, int aggColIdx) {
     return builder.seq(new MiMCAggregation(values, groupColIdx, aggColIdx));
   }
 
+  @Override
+  public DRes<SInt> read(DRes<List<DRes<SInt>>> values, DRes<SInt> index) {
+    return builder.seq(new ObliviousRead(values, index));
+  }
+
+  @Override
+  public DRes<List<DRes<SInt>>> write(DRes<List<DRes<SInt>>> values, DRes<SInt> index,
+      DRes<SInt> value) {
+    return builder.seq(new ObliviousWrite(values, index, value));
+  }
+
+  @Override
+  public DRes<SquareRootOram> oram(DRes<List<DRes<SInt>>> values) {
+    return SquareRootOram.create(builder, values);
+  }
+
+  @Override
+  public DRes<SInt> oramRead(DRes<SquareRootOram> oram, DRes<SInt> index) {
+    return builder.seq(seq -> oram.out().read(seq, index));
+  }
+
+  @Override
+  public DRes<SInt> oramWrite(DRes<SquareRootOram> oram, DRes<SInt> index, DRes<SInt> value) {
+    return builder.seq(seq -> oram.out().write(seq, index, value));
+  }
+
 }
@@ -3,7 +3,7 @@ package dk.alexandra.fresco.framework.builder.numeric;
 import dk.alexandra.fresco.framework.DRes;
 import dk.alexandra.fresco.framework.value.SInt;
 import dk.alexandra.fresco.lib.compare.eq.Equality;
-import dk.alexandra.fresco.lib.compare.gt.LessThanOrEquals;
+import dk.alexandra.fresco.lib.compare.gt.LessThanOrEqualsLogRounds;
 import dk.alexandra.fresco.lib.compare.zerotest.ZeroTest;
 import java.math.BigInteger;
 
@@ -28,7 +28,7 @@ public class DefaultComparison implements Comparison {
   @Override
   public DRes<SInt> compareLEQLong(DRes<SInt> x, DRes<SInt> y) {
     int bitLength = factoryNumeric.getBasicNumericContext().getMaxBitLength() * 2;
-    LessThanOrEquals leqProtocol = new LessThanOrEquals(
+    LessThanOrEqualsLogRounds leqProtocol = new LessThanOrEqualsLogRounds(
         bitLength, magicSecureNumber, x, y);
     return builder.seq(leqProtocol);
 
@@ -49,7 +49,7 @@ public class DefaultComparison implements Comparison {
   public DRes<SInt> compareLEQ(DRes<SInt> x, DRes<SInt> y) {
     int bitLength = factoryNumeric.getBasicNumericContext().getMaxBitLength();
     return builder.seq(
-        new LessThanOrEquals(bitLength, magicSecureNumber, x, y));
+        new LessThanOrEqualsLogRounds(bitLength, magicSecureNumber, x, y));
   }
 
   @Override
@@ -2,7 +2,10 @@ package dk.alexandra.fresco.framework.builder.numeric;
 
 import dk.alexandra.fresco.framework.DRes;
 import dk.alexandra.fresco.framework.builder.BuildStep;
+import dk.alexandra.fresco.framework.builder.numeric.AdvancedNumeric.RandomAdditiveMask;
+import dk.alexandra.fresco.framework.builder.numeric.PreprocessedValues.TruncationPair;
 import dk.alexandra.fresco.framework.value.SInt;
+import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -55,4 +58,27 @@ public class DefaultPreprocessedValues implements PreprocessedValues {
       });
     }
   }
+
+  @Override
+  public DRes<TruncationPair> getTruncationPair(int shifts) {
+    int maxBitLength = builder.getBasicNumericContext().getMaxBitLength();
+    if (shifts < 0 || shifts >= maxBitLength) {
+      throw new IllegalArgumentException(
+          "Shifts must be in the range 0 ... " + (maxBitLength - 1) + " but was " + shifts);
+    }
+    return builder.seq(seq -> seq.advancedNumeric().additiveMask(maxBitLength))
+        .seq((seq, mask) -> {
+          // r is the weighted sum of the top bits of r'
+          List<BigInteger> twoPowers = seq.getBigIntegerHelper()
+              .getTwoPowersList(maxBitLength - shifts);
+          DRes<SInt> r = seq.advancedNumeric().innerProductWithPublicPart(twoPowers,
+              mask.bits.subList(shifts, maxBitLength));
+          return () -> new TruncationPair(mask.random, r.out());
+        });
+  }
+
+  @Override
+  public DRes<RandomAdditiveMask> getEdaBit(int bitLength) {
+    return builder.seq(new dk.alexandra.fresco.lib.compare.RandomAdditiveMask(bitLength));
+  }
 }
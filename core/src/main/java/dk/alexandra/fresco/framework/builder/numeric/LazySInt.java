@@ -0,0 +1,105 @@
+package dk.alexandra.fresco.framework.builder.numeric;
+
+import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.value.SInt;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.function.BinaryOperator;
+import java.util.function.UnaryOperator;
+
+/**
+ * A secret shared value computed locally from one or two other secret shared values, e.g., a sum
+ * of shares or a share multiplied by a public constant.
+ *
+ * <p>Such linear operations need no communication, so rather than being appended to a builder as
+ * native protocols, they can be returned as a lazy value. The value is computed on the first call
+ * to {@link #out()}, at which point its operands must be evaluated, and the result is kept for
+ * later calls. A lazy value never takes up room in a batch of native protocols, and a chain of
+ * linear operations is folded into a single pass when its result is first used.</p>
+ *
+ * <p>Chains of lazy values are evaluated without recursion, so long sums do not exhaust the stack.
+ * Evaluating the same value from several threads at once is safe, as the operations have no side
+ * effects and yield the same result.</p>
+ */
+public final class LazySInt implements DRes<SInt> {
+
+  private final DRes<SInt> left;
+  private final DRes<SInt> right;
+  private final BinaryOperator<SInt> operator;
+  private volatile SInt value;
+
+  private LazySInt(DRes<SInt> left, DRes<SInt> right, BinaryOperator<SInt> operator) {
+    this.left = left;
+    this.right = right;
+    this.operator = operator;
+  }
+
+  /**
+   * Creates a lazy value computed from a single operand, e.g., a product with a public constant.
+   *
+   * @param operand the operand
+   * @param operator the local operation on the value of the operand
+   * @return the lazy value
+   */
+  public static LazySInt of(DRes<SInt> operand, UnaryOperator<SInt> operator) {
+    return new LazySInt(operand, null, (value, ignored) -> operator.apply(value));
+  }
+
+  /**
+   * Creates a lazy value computed from two operands, e.g., a sum of shares.
+   *
+   * @param left the left operand
+   * @param right the right operand
+   * @param operator the local operation on the values of the operands
+   * @return the lazy value
+   */
+  public static LazySInt of(DRes<SInt> left, DRes<SInt> right, BinaryOperator<SInt> operator) {
+    return new LazySInt(left, right, operator);
+  }
+
+  @Override
+  public SInt out() {
+    SInt result = value;
+    if (result == null) {
+      evaluate();
+      result = value;
+    }
+    return result;
+  }
+
+  /**
+   * Evaluates this value and all unevaluated lazy values it depends on, operands first, using an
+   * explicit stack.
+   */
+  private void evaluate() {
+    Deque<LazySInt> pending = new ArrayDeque<>();
+    pending.push(this);
+    while (!pending.isEmpty()) {
+      LazySInt node = pending.peek();
+      if (node.value != null) {
+        pending.pop();
+        continue;
+      }
+      boolean ready = true;
+      if (isPending(node.left)) {
+        pending.push((LazySInt) node.left);
+        ready = false;
+      }
+      if (isPending(node.right)) {
+        pending.push((LazySInt) node.right);
+        ready = false;
+      }
+      if (ready) {
+        SInt rightValue = node.right == null ? null : node.right.out();
+        node.value = Objects.requireNonNull(node.operator.apply(node.left.out(), rightValue),
+            "Lazy value was evaluated before its operands");
+        pending.pop();
+      }
+    }
+  }
+
+  private static boolean isPending(DRes<SInt> operand) {
+    return operand instanceof LazySInt && ((LazySInt) operand).value == null;
+  }
+}
@@ -4,6 +4,8 @@ import dk.alexandra.fresco.framework.DRes;
 import dk.alexandra.fresco.framework.builder.ComputationDirectory;
 import dk.alexandra.fresco.framework.value.SInt;
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Basic interface for numeric applications. This is the interface which an arithmetic protocol
@@ -104,6 +106,29 @@ public interface Numeric extends ComputationDirectory {
     return mult(BigInteger.valueOf(a), b);
   }
 
+  /**
+   * Multiplies two lists of secret values element-wise and returns the list of products.
+   *
+   * <p>The default implementation issues a multiplication per pair of elements. Protocol suites
+   * may override this to evaluate all the products in a single native protocol, which saves the
+   * overhead of handling each product separately.</p>
+   *
+   * @param a Secret values 1
+   * @param b Secret values 2, must have the same size as a
+   * @return A deferred result computing the list of a[i]*b[i]
+   */
+  default DRes<List<DRes<SInt>>> mult(List<DRes<SInt>> a, List<DRes<SInt>> b) {
+    if (a.size() != b.size()) {
+      throw new IllegalArgumentException(
+          "Lists must have the same size, was " + a.size() + " and " + b.size());
+    }
+    List<DRes<SInt>> products = new ArrayList<>(a.size());
+    for (int i = 0; i < a.size(); i++) {
+      products.add(mult(a.get(i), b.get(i)));
+    }
+    return () -> products;
+  }
+
   /**
    * Returns a deferred result which creates a secret shared random bit. (This should be computed
    * beforehand to increase the speed of the application)
@@ -153,6 +178,26 @@ public interface Numeric extends ComputationDirectory {
     return input(BigInteger.valueOf(value), inputParty);
   }
 
+  /**
+   * Closes a list of public values provided by the same party. Parties not providing input give a
+   * list of nulls of the same size as the input.
+   *
+   * <p>The default implementation issues an input per value. Protocol suites may override this to
+   * input all the values in a single native protocol, sending all masked values at once and
+   * validating them together.</p>
+   *
+   * @param values The values to input, or nulls if no input should be given.
+   * @param inputParty The ID of the MPC party.
+   * @return A deferred result computing the closed input values.
+   */
+  default DRes<List<DRes<SInt>>> inputList(List<BigInteger> values, int inputParty) {
+    List<DRes<SInt>> closed = new ArrayList<>(values.size());
+    for (BigInteger value : values) {
+      closed.add(input(value, inputParty));
+    }
+    return () -> closed;
+  }
+
   /**
    * Opens a value to all MPC parties.
    *
@@ -1,6 +1,7 @@
 package dk.alexandra.fresco.framework.builder.numeric;
 
 import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.builder.numeric.AdvancedNumeric.RandomAdditiveMask;
 import dk.alexandra.fresco.framework.value.SInt;
 import java.util.List;
 
@@ -21,4 +22,39 @@ public interface PreprocessedValues {
    */
   DRes<List<DRes<SInt>>> getExponentiationPipe(int pipeLength);
 
+  /**
+   * Returns a truncation pair <i>([r'], [r])</i>, where <i>r'</i> is a random value of {@link
+   * dk.alexandra.fresco.lib.field.integer.BasicNumericContext#getMaxBitLength() maxBitLength} bits
+   * and <i>r = r' >> shifts</i>. Truncation pairs are used for probabilistic truncation, e.g., in
+   * fixed point arithmetic.
+   *
+   * @param shifts The number of positions <i>r'</i> is shifted to obtain <i>r</i>
+   * @return A truncation pair
+   */
+  DRes<TruncationPair> getTruncationPair(int shifts);
+
+  /**
+   * Returns an edaBit, i.e., a random value <i>r</i> of <code>bitLength</code> bits along with
+   * sharings of each of its bits, <i>r = sum<sub>i</sub> 2<sup>i</sup> r<sub>i</sub></i>. EdaBits
+   * are the random masks used for comparisons, shifts and bit decompositions, see {@link
+   * AdvancedNumeric#additiveMask(int)}.
+   *
+   * @param bitLength The number of bits of the random value
+   * @return An edaBit
+   */
+  DRes<RandomAdditiveMask> getEdaBit(int bitLength);
+
+  /**
+   * Container holding a random value and the value shifted a number of positions to the right.
+   */
+  class TruncationPair {
+
+    public final SInt rPrime;
+    public final SInt r;
+
+    public TruncationPair(SInt rPrime, SInt r) {
+      this.rPrime = rPrime;
+      this.r = r;
+    }
+  }
 }
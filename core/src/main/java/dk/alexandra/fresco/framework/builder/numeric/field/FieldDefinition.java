@@ -3,6 +3,9 @@ package dk.alexandra.fresco.framework.builder.numeric.field;
 import dk.alexandra.fresco.framework.network.serializers.ByteSerializer;
 import dk.alexandra.fresco.framework.util.StrictBitVector;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Describes a finite field.
@@ -85,5 +88,36 @@ public interface FieldDefinition extends ByteSerializer<FieldElement> {
    *     close to modulus
    */
   BigInteger convertToSigned(BigInteger asUnsigned);
-}
 
+  /**
+   * Creates a vector holding the supplied elements.
+   * <p>
+   * The default implementation keeps the elements as objects. Field definitions with a primitive
+   * representation of their elements override this to pack the elements in primitive arrays.
+   * </p>
+   *
+   * @param elements the elements of the vector
+   * @return the created vector
+   */
+  default FieldElementVector createVector(List<FieldElement> elements) {
+    return new FieldElementArrayVector(this, elements);
+  }
+
+  /**
+   * Reads a vector of serialized elements from a buffer, as written by {@link
+   * FieldElementVector#serialize(ByteBuffer)} or {@link #serialize(List)}.
+   *
+   * @param buffer the buffer to read from
+   * @param size the number of elements to read
+   * @return the vector of elements
+   */
+  default FieldElementVector deserializeVector(ByteBuffer buffer, int size) {
+    byte[] bytes = new byte[1 + (getBitLength() - 1) / Byte.SIZE];
+    List<FieldElement> elements = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      buffer.get(bytes);
+      elements.add(deserialize(bytes));
+    }
+    return createVector(elements);
+  }
+}
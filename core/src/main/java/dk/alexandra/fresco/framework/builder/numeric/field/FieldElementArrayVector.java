@@ -0,0 +1,121 @@
+package dk.alexandra.fresco.framework.builder.numeric.field;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A {@link FieldElementVector} keeping the elements as objects, used for field definitions without
+ * a primitive representation of their elements.
+ */
+final class FieldElementArrayVector implements FieldElementVector {
+
+  private final FieldDefinition definition;
+  private final FieldElement[] elements;
+
+  private FieldElementArrayVector(FieldDefinition definition, FieldElement[] elements) {
+    this.definition = definition;
+    this.elements = elements;
+  }
+
+  FieldElementArrayVector(FieldDefinition definition, List<FieldElement> elements) {
+    this(definition, elements.toArray(new FieldElement[0]));
+  }
+
+  @Override
+  public int size() {
+    return elements.length;
+  }
+
+  @Override
+  public FieldElement get(int index) {
+    return elements[index];
+  }
+
+  @Override
+  public List<FieldElement> asList() {
+    return new ArrayList<>(Arrays.asList(elements));
+  }
+
+  @Override
+  public FieldElementVector add(FieldElementVector other) {
+    checkSize(other);
+    FieldElement[] result = new FieldElement[elements.length];
+    for (int i = 0; i < elements.length; i++) {
+      result[i] = elements[i].add(other.get(i));
+    }
+    return new FieldElementArrayVector(definition, result);
+  }
+
+  @Override
+  public FieldElementVector subtract(FieldElementVector other) {
+    checkSize(other);
+    FieldElement[] result = new FieldElement[elements.length];
+    for (int i = 0; i < elements.length; i++) {
+      result[i] = elements[i].subtract(other.get(i));
+    }
+    return new FieldElementArrayVector(definition, result);
+  }
+
+  @Override
+  public FieldElementVector multiply(FieldElementVector other) {
+    checkSize(other);
+    FieldElement[] result = new FieldElement[elements.length];
+    for (int i = 0; i < elements.length; i++) {
+      result[i] = elements[i].multiply(other.get(i));
+    }
+    return new FieldElementArrayVector(definition, result);
+  }
+
+  @Override
+  public FieldElementVector multiply(FieldElement scalar) {
+    FieldElement[] result = new FieldElement[elements.length];
+    for (int i = 0; i < elements.length; i++) {
+      result[i] = elements[i].multiply(scalar);
+    }
+    return new FieldElementArrayVector(definition, result);
+  }
+
+  @Override
+  public FieldElement innerProduct(FieldElementVector other) {
+    checkSize(other);
+    FieldElement result = definition.createElement(0);
+    for (int i = 0; i < elements.length; i++) {
+      result = result.add(elements[i].multiply(other.get(i)));
+    }
+    return result;
+  }
+
+  @Override
+  public FieldElement sum() {
+    FieldElement result = definition.createElement(0);
+    for (FieldElement element : elements) {
+      result = result.add(element);
+    }
+    return result;
+  }
+
+  @Override
+  public FieldElementVector stretch(int stretchBy) {
+    FieldElement[] result = new FieldElement[elements.length * stretchBy];
+    for (int i = 0; i < elements.length; i++) {
+      Arrays.fill(result, i * stretchBy, (i + 1) * stretchBy, elements[i]);
+    }
+    return new FieldElementArrayVector(definition, result);
+  }
+
+  @Override
+  public void serialize(ByteBuffer buffer) {
+    for (FieldElement element : elements) {
+      buffer.put(definition.serialize(element));
+    }
+  }
+
+  private void checkSize(FieldElementVector other) {
+    if (other.size() != elements.length) {
+      throw new IllegalArgumentException(
+          "Vectors must have the same size, was " + elements.length + " and " + other.size());
+    }
+  }
+}
@@ -0,0 +1,97 @@
+package dk.alexandra.fresco.framework.builder.numeric.field;
+
+import dk.alexandra.fresco.framework.builder.numeric.Addable;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * An immutable vector of elements of a finite field, created by {@link
+ * FieldDefinition#createVector(List)} or {@link FieldDefinition#deserializeVector(ByteBuffer,
+ * int)}.
+ *
+ * <p>Implementations may store the elements packed in primitive arrays, in which case bulk
+ * operations avoid creating an object per element. Operations between vectors require the vectors
+ * to have the same size and to be created by the same field definition.</p>
+ *
+ * <p>Since vectors are {@link Addable}, {@link Addable#sum(List)} sums a list of vectors
+ * element-wise.</p>
+ */
+public interface FieldElementVector extends Addable<FieldElementVector> {
+
+  /**
+   * Gets the number of elements of this vector.
+   *
+   * @return the size
+   */
+  int size();
+
+  /**
+   * Gets an element of this vector.
+   *
+   * @param index the index of the element
+   * @return the element
+   */
+  FieldElement get(int index);
+
+  /**
+   * Gets the elements of this vector as a list.
+   *
+   * @return a new list holding the elements
+   */
+  List<FieldElement> asList();
+
+  /**
+   * Computes the element-wise difference between this vector and another vector.
+   *
+   * @param other the vector to subtract
+   * @return <code>this - other</code>
+   */
+  FieldElementVector subtract(FieldElementVector other);
+
+  /**
+   * Computes the element-wise product of this vector and another vector.
+   *
+   * @param other the other factors
+   * @return the pair-wise products
+   */
+  FieldElementVector multiply(FieldElementVector other);
+
+  /**
+   * Multiplies each element of this vector by a scalar.
+   *
+   * @param scalar the scalar
+   * @return the products
+   */
+  FieldElementVector multiply(FieldElement scalar);
+
+  /**
+   * Computes the inner product of this vector and another vector.
+   *
+   * @param other the other factors
+   * @return the sum of the pair-wise products
+   */
+  FieldElement innerProduct(FieldElementVector other);
+
+  /**
+   * Computes the sum of the elements of this vector.
+   *
+   * @return the sum
+   */
+  FieldElement sum();
+
+  /**
+   * Duplicates each element <code>stretchBy</code> times. For instance, stretching <i>[e0, e1,
+   * e2]</i> by 2 results in <i>[e0, e0, e1, e1, e2, e2]</i>.
+   *
+   * @param stretchBy the number of copies of each element
+   * @return the stretched vector
+   */
+  FieldElementVector stretch(int stretchBy);
+
+  /**
+   * Writes the elements to a buffer in the same format as {@link FieldDefinition#serialize(List)}.
+   *
+   * @param buffer the buffer to write to, which must have room for the serialized elements
+   */
+  void serialize(ByteBuffer buffer);
+}
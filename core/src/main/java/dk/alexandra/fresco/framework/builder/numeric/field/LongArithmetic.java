@@ -0,0 +1,74 @@
+package dk.alexandra.fresco.framework.builder.numeric.field;
+
+/**
+ * Unsigned 64-bit helpers for the <code>long</code> based field implementations.
+ */
+final class LongArithmetic {
+
+  private static final long LOW_MASK = 0xFFFFFFFFL;
+
+  private LongArithmetic() {
+    // Should not be instantiated
+  }
+
+  /**
+   * Computes the most significant 64 bits of the 128-bit product of two unsigned 64-bit values.
+   *
+   * <p>This is the unsigned counterpart of <code>Math.multiplyHigh</code>, which is not available
+   * on Java 8.</p>
+   *
+   * @param x the first factor interpreted as unsigned
+   * @param y the second factor interpreted as unsigned
+   * @return the high 64 bits of <code>x * y</code>
+   */
+  static long multiplyHigh(long x, long y) {
+    long x0 = x & LOW_MASK;
+    long x1 = x >>> 32;
+    long y0 = y & LOW_MASK;
+    long y1 = y >>> 32;
+    long p00 = x0 * y0;
+    long p01 = x0 * y1;
+    long p10 = x1 * y0;
+    long middle = (p00 >>> 32) + (p01 & LOW_MASK) + (p10 & LOW_MASK);
+    return x1 * y1 + (p01 >>> 32) + (p10 >>> 32) + (middle >>> 32);
+  }
+
+  /**
+   * Computes the inverse of an odd value modulo 2<sup>64</sup> using Newton iteration.
+   *
+   * @param value an odd value
+   * @return <code>value<sup>-1</sup> mod 2<sup>64</sup></code>
+   */
+  static long inverse(long value) {
+    if ((value & 1) == 0) {
+      throw new IllegalArgumentException("Only odd values are invertible modulo 2^64");
+    }
+    // correct to 3 bits, each iteration doubles the number of correct bits
+    long inverse = value;
+    for (int i = 0; i < 5; i++) {
+      inverse *= 2 - value * inverse;
+    }
+    return inverse;
+  }
+
+  /**
+   * Writes the <code>length</code> least significant bytes of a value in big-endian order.
+   */
+  static void toBytes(long value, byte[] bytes, int offset, int length) {
+    for (int i = length - 1; i >= 0; i--) {
+      bytes[offset + i] = (byte) value;
+      value >>>= Byte.SIZE;
+    }
+  }
+
+  /**
+   * Reads <code>length</code> bytes in big-endian order as an unsigned value.
+   */
+  static long fromBytes(byte[] bytes, int offset, int length) {
+    long value = 0;
+    for (int i = 0; i < length; i++) {
+      value = (value << Byte.SIZE) | (bytes[offset + i] & 0xFF);
+    }
+    return value;
+  }
+}
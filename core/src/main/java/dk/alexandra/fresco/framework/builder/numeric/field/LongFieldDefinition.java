@@ -0,0 +1,123 @@
+package dk.alexandra.fresco.framework.builder.numeric.field;
+
+import dk.alexandra.fresco.framework.util.StrictBitVector;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A finite field where the modulus fits in a <code>long</code>, i.e., is less than
+ * <code>2<sup>63</sup></code>. Elements are backed by a single <code>long</code>, so addition and
+ * multiplication are done on primitive values without allocating {@link BigInteger}s. Mersenne
+ * primes such as <code>2<sup>61</sup> - 1</code> use a dedicated reduction, see {@link
+ * LongModulus}.
+ *
+ * <p>Elements are serialized in the same fixed length big-endian format as {@link
+ * BigIntegerFieldDefinition}.</p>
+ */
+public final class LongFieldDefinition implements FieldDefinition {
+
+  private final LongModulus modulus;
+  private final BigInteger bigModulus;
+  private final BigInteger modulusHalf;
+  private final int byteLength;
+
+  /**
+   * Construct a new field definition for a specified modulus.
+   *
+   * @param modulus the modulus, must be odd and larger than 1
+   */
+  public LongFieldDefinition(long modulus) {
+    this.modulus = new LongModulus(modulus);
+    this.bigModulus = BigInteger.valueOf(modulus);
+    this.modulusHalf = bigModulus.shiftRight(1);
+    this.byteLength = 1 + ((this.modulus.getBitLength() - 1) / Byte.SIZE);
+  }
+
+  @Override
+  public FieldElement createElement(long value) {
+    return LongFieldElement.create(value, modulus);
+  }
+
+  @Override
+  public FieldElement createElement(String value) {
+    return LongFieldElement.create(value, modulus);
+  }
+
+  @Override
+  public FieldElement createElement(BigInteger value) {
+    return LongFieldElement.create(value, modulus);
+  }
+
+  @Override
+  public BigInteger getModulus() {
+    return bigModulus;
+  }
+
+  @Override
+  public int getBitLength() {
+    return modulus.getBitLength();
+  }
+
+  @Override
+  public StrictBitVector convertToBitVector(FieldElement fieldElement) {
+    return new StrictBitVector(serialize(fieldElement));
+  }
+
+  @Override
+  public BigInteger convertToUnsigned(FieldElement value) {
+    return LongFieldElement.extractValue(value);
+  }
+
+  @Override
+  public BigInteger convertToSigned(BigInteger asUnsigned) {
+    return FieldUtils.convertRepresentation(asUnsigned, bigModulus, modulusHalf);
+  }
+
+  @Override
+  public byte[] serialize(FieldElement fieldElement) {
+    byte[] bytes = new byte[byteLength];
+    LongArithmetic.toBytes(LongFieldElement.extractLong(fieldElement), bytes, 0, byteLength);
+    return bytes;
+  }
+
+  @Override
+  public byte[] serialize(List<FieldElement> fieldElements) {
+    byte[] bytes = new byte[byteLength * fieldElements.size()];
+    for (int i = 0; i < fieldElements.size(); i++) {
+      LongArithmetic.toBytes(LongFieldElement.extractLong(fieldElements.get(i)), bytes,
+          i * byteLength, byteLength);
+    }
+    return bytes;
+  }
+
+  @Override
+  public FieldElement deserialize(byte[] bytes) {
+    return deserializeWithOffset(bytes, 0);
+  }
+
+  @Override
+  public List<FieldElement> deserializeList(byte[] bytes) {
+    List<FieldElement> elements = new ArrayList<>(bytes.length / byteLength);
+    for (int i = 0; i < bytes.length; i += byteLength) {
+      elements.add(deserializeWithOffset(bytes, i));
+    }
+    return elements;
+  }
+
+  private FieldElement deserializeWithOffset(byte[] bytes, int offset) {
+    return LongFieldElement.createUnsigned(
+        LongArithmetic.fromBytes(bytes, offset, byteLength), modulus);
+  }
+
+  @Override
+  public FieldElementVector createVector(List<FieldElement> elements) {
+    return LongFieldElementVector.create(elements, modulus, byteLength);
+  }
+
+  @Override
+  public FieldElementVector deserializeVector(ByteBuffer buffer, int size) {
+    return LongFieldElementVector.deserialize(buffer, size, modulus, byteLength);
+  }
+}
@@ -0,0 +1,111 @@
+package dk.alexandra.fresco.framework.builder.numeric.field;
+
+import dk.alexandra.fresco.framework.util.MathUtils;
+import java.math.BigInteger;
+
+/**
+ * An element in a field defined by a {@link LongModulus}. The value is stored in the internal
+ * representation of the modulus.
+ */
+final class LongFieldElement implements FieldElement {
+
+  private static final long serialVersionUID = 2393594462281538545L;
+
+  private final long value;
+  private final LongModulus modulus;
+
+  private LongFieldElement(long value, LongModulus modulus) {
+    this.value = value;
+    this.modulus = modulus;
+  }
+
+  private FieldElement create(long value) {
+    return new LongFieldElement(value, modulus);
+  }
+
+  static FieldElement create(long value, LongModulus modulus) {
+    long canonical = Math.floorMod(value, modulus.getPrime());
+    return new LongFieldElement(modulus.toInternal(canonical), modulus);
+  }
+
+  static FieldElement create(BigInteger value, LongModulus modulus) {
+    long canonical = value.mod(BigInteger.valueOf(modulus.getPrime())).longValue();
+    return new LongFieldElement(modulus.toInternal(canonical), modulus);
+  }
+
+  static FieldElement create(String string, LongModulus modulus) {
+    return create(new BigInteger(string), modulus);
+  }
+
+  /**
+   * Creates an element from an unsigned value, which is reduced modulo the modulus.
+   */
+  static FieldElement createUnsigned(long value, LongModulus modulus) {
+    return new LongFieldElement(modulus.toInternal(modulus.reduce(value)), modulus);
+  }
+
+  /**
+   * Creates an element from a value in the internal representation of the modulus.
+   */
+  static FieldElement fromInternal(long value, LongModulus modulus) {
+    return new LongFieldElement(value, modulus);
+  }
+
+  @Override
+  public FieldElement add(FieldElement operand) {
+    return create(modulus.add(value, extractInternal(operand)));
+  }
+
+  @Override
+  public FieldElement subtract(FieldElement operand) {
+    return create(modulus.subtract(value, extractInternal(operand)));
+  }
+
+  @Override
+  public FieldElement negate() {
+    return create(modulus.negate(value));
+  }
+
+  @Override
+  public FieldElement multiply(FieldElement operand) {
+    return create(modulus.multiply(value, extractInternal(operand)));
+  }
+
+  @Override
+  public FieldElement sqrt() {
+    return create(MathUtils.modularSqrt(extractValue(this), getModulus()), modulus);
+  }
+
+  @Override
+  public FieldElement modInverse() {
+    return create(extractValue(this).modInverse(getModulus()), modulus);
+  }
+
+  /**
+   * Gets the value in the internal representation of the modulus.
+   */
+  static long extractInternal(FieldElement element) {
+    return ((LongFieldElement) element).value;
+  }
+
+  static long extractLong(FieldElement element) {
+    LongFieldElement longElement = (LongFieldElement) element;
+    return longElement.modulus.toCanonical(longElement.value);
+  }
+
+  static BigInteger extractValue(FieldElement element) {
+    return BigInteger.valueOf(extractLong(element));
+  }
+
+  private BigInteger getModulus() {
+    return BigInteger.valueOf(modulus.getPrime());
+  }
+
+  @Override
+  public String toString() {
+    return "LongFieldElement{"
+        + "value=" + extractLong(this)
+        + ", modulus=" + modulus
+        + '}';
+  }
+}
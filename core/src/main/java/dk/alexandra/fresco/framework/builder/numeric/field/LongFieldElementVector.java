@@ -0,0 +1,151 @@
+package dk.alexandra.fresco.framework.builder.numeric.field;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A {@link FieldElementVector} for a {@link LongFieldDefinition}, packing the elements in a single
+ * <code>long[]</code> in the internal representation of the modulus.
+ */
+final class LongFieldElementVector extends PackedFieldElementVector {
+
+  private final long[] values;
+  private final LongModulus modulus;
+
+  private LongFieldElementVector(long[] values, LongModulus modulus, int byteLength) {
+    super(byteLength);
+    this.values = values;
+    this.modulus = modulus;
+  }
+
+  static FieldElementVector create(List<FieldElement> elements, LongModulus modulus,
+      int byteLength) {
+    long[] values = new long[elements.size()];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = LongFieldElement.extractInternal(elements.get(i));
+    }
+    return new LongFieldElementVector(values, modulus, byteLength);
+  }
+
+  static FieldElementVector deserialize(ByteBuffer buffer, int size, LongModulus modulus,
+      int byteLength) {
+    long[] values = read(buffer, size * byteLength, (bytes, offset) -> {
+      long[] result = new long[size];
+      for (int i = 0; i < size; i++) {
+        long value = LongArithmetic.fromBytes(bytes, offset + i * byteLength, byteLength);
+        result[i] = modulus.toInternal(modulus.reduce(value));
+      }
+      return result;
+    });
+    return new LongFieldElementVector(values, modulus, byteLength);
+  }
+
+  private FieldElementVector create(long[] values) {
+    return new LongFieldElementVector(values, modulus, byteLength);
+  }
+
+  @Override
+  public int size() {
+    return values.length;
+  }
+
+  @Override
+  public FieldElement get(int index) {
+    return LongFieldElement.fromInternal(values[index], modulus);
+  }
+
+  @Override
+  public List<FieldElement> asList() {
+    List<FieldElement> elements = new ArrayList<>(values.length);
+    for (long value : values) {
+      elements.add(LongFieldElement.fromInternal(value, modulus));
+    }
+    return elements;
+  }
+
+  @Override
+  public FieldElementVector add(FieldElementVector other) {
+    long[] otherValues = values(other);
+    long[] result = new long[values.length];
+    for (int i = 0; i < values.length; i++) {
+      result[i] = modulus.add(values[i], otherValues[i]);
+    }
+    return create(result);
+  }
+
+  @Override
+  public FieldElementVector subtract(FieldElementVector other) {
+    long[] otherValues = values(other);
+    long[] result = new long[values.length];
+    for (int i = 0; i < values.length; i++) {
+      result[i] = modulus.subtract(values[i], otherValues[i]);
+    }
+    return create(result);
+  }
+
+  @Override
+  public FieldElementVector multiply(FieldElementVector other) {
+    long[] otherValues = values(other);
+    long[] result = new long[values.length];
+    for (int i = 0; i < values.length; i++) {
+      result[i] = modulus.multiply(values[i], otherValues[i]);
+    }
+    return create(result);
+  }
+
+  @Override
+  public FieldElementVector multiply(FieldElement scalar) {
+    long factor = LongFieldElement.extractInternal(scalar);
+    long[] result = new long[values.length];
+    for (int i = 0; i < values.length; i++) {
+      result[i] = modulus.multiply(values[i], factor);
+    }
+    return create(result);
+  }
+
+  @Override
+  public FieldElement innerProduct(FieldElementVector other) {
+    long[] otherValues = values(other);
+    long result = 0;
+    for (int i = 0; i < values.length; i++) {
+      result = modulus.add(result, modulus.multiply(values[i], otherValues[i]));
+    }
+    return LongFieldElement.fromInternal(result, modulus);
+  }
+
+  @Override
+  public FieldElement sum() {
+    long result = 0;
+    for (long value : values) {
+      result = modulus.add(result, value);
+    }
+    return LongFieldElement.fromInternal(result, modulus);
+  }
+
+  @Override
+  public FieldElementVector stretch(int stretchBy) {
+    long[] result = new long[values.length * stretchBy];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = values[i / stretchBy];
+    }
+    return create(result);
+  }
+
+  @Override
+  void serialize(byte[] bytes, int offset) {
+    for (int i = 0; i < values.length; i++) {
+      LongArithmetic.toBytes(modulus.toCanonical(values[i]), bytes, offset + i * byteLength,
+          byteLength);
+    }
+  }
+
+  private long[] values(FieldElementVector other) {
+    long[] otherValues = ((LongFieldElementVector) other).values;
+    if (otherValues.length != values.length) {
+      throw new IllegalArgumentException(
+          "Vectors must have the same size, was " + values.length + " and " + otherValues.length);
+    }
+    return otherValues;
+  }
+}
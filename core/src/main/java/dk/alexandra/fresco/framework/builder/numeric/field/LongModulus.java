@@ -0,0 +1,130 @@
+package dk.alexandra.fresco.framework.builder.numeric.field;
+
+import java.io.Serializable;
+import java.math.BigInteger;
+
+/**
+ * A modulus that fits in a <code>long</code>, i.e., an odd modulus less than
+ * <code>2<sup>63</sup></code>, implementing the field arithmetic on primitive values.
+ *
+ * <p>If the modulus is a Mersenne prime <code>2<sup>k</sup> - 1</code> with <code>k &le; 62</code>
+ * (e.g. <code>2<sup>61</sup> - 1</code>) values are kept in their canonical representation and a
+ * product is reduced by adding its high and low <code>k</code> bits. For any other modulus values
+ * are kept in Montgomery representation, <code>x R mod p</code> for <code>R =
+ * 2<sup>64</sup></code>, and products are reduced by Montgomery reduction. In both cases the
+ * arithmetic does not allocate.</p>
+ */
+final class LongModulus implements Serializable {
+
+  private static final long serialVersionUID = -3154227014296580183L;
+  private static final int MAX_MERSENNE_BIT_LENGTH = 62;
+
+  private final long prime;
+  private final int bitLength;
+  private final boolean mersenne;
+  private final long negatedInverse;
+  private final long montgomerySquare;
+
+  /**
+   * Creates a new modulus.
+   *
+   * @param prime the modulus, must be odd and larger than 1
+   */
+  LongModulus(long prime) {
+    if (prime <= 1) {
+      throw new IllegalArgumentException("Only positive modulus larger than 1 is acceptable");
+    }
+    if ((prime & 1) == 0) {
+      throw new IllegalArgumentException("Only odd modulus is acceptable");
+    }
+    this.prime = prime;
+    this.bitLength = Long.SIZE - Long.numberOfLeadingZeros(prime);
+    this.mersenne = bitLength <= MAX_MERSENNE_BIT_LENGTH && ((prime + 1) & prime) == 0;
+    this.negatedInverse = -LongArithmetic.inverse(prime);
+    this.montgomerySquare = BigInteger.ONE.shiftLeft(2 * Long.SIZE)
+        .mod(BigInteger.valueOf(prime)).longValue();
+  }
+
+  long getPrime() {
+    return prime;
+  }
+
+  int getBitLength() {
+    return bitLength;
+  }
+
+  /**
+   * Reduces an unsigned value modulo this.
+   *
+   * @param value the value interpreted as unsigned
+   * @return <code>value mod this</code> in canonical representation
+   */
+  long reduce(long value) {
+    return Long.compareUnsigned(value, prime) < 0 ? value : Long.remainderUnsigned(value, prime);
+  }
+
+  /**
+   * Converts a value in <i>0, ..., p - 1</i> to the internal representation.
+   */
+  long toInternal(long canonical) {
+    if (mersenne) {
+      return canonical;
+    }
+    return montgomeryReduce(LongArithmetic.multiplyHigh(canonical, montgomerySquare),
+        canonical * montgomerySquare);
+  }
+
+  /**
+   * Converts a value in internal representation to <i>0, ..., p - 1</i>.
+   */
+  long toCanonical(long internal) {
+    if (mersenne) {
+      return internal;
+    }
+    return montgomeryReduce(0, internal);
+  }
+
+  long add(long left, long right) {
+    // both values are less than 2^63, so the sum can be compared as unsigned
+    long sum = left + right;
+    return Long.compareUnsigned(sum, prime) >= 0 ? sum - prime : sum;
+  }
+
+  long subtract(long left, long right) {
+    long difference = left - right;
+    return difference < 0 ? difference + prime : difference;
+  }
+
+  long negate(long value) {
+    return value == 0 ? 0 : prime - value;
+  }
+
+  long multiply(long left, long right) {
+    long high = LongArithmetic.multiplyHigh(left, right);
+    long low = left * right;
+    if (mersenne) {
+      // p = 2^k - 1 so 2^k = 1 mod p, i.e. the high part can be added to the low part
+      long result = (low & prime) + ((high << (Long.SIZE - bitLength)) | (low >>> bitLength));
+      return result >= prime ? result - prime : result;
+    }
+    return montgomeryReduce(high, low);
+  }
+
+  /**
+   * Computes <code>(high * 2<sup>64</sup> + low) / R mod p</code> for a value less than <code>p
+   * R</code>.
+   */
+  private long montgomeryReduce(long high, long low) {
+    long m = low * negatedInverse;
+    // the low word of low + m * p is zero, so it only carries if low is non-zero
+    long result = high + LongArithmetic.multiplyHigh(m, prime) + (low != 0 ? 1 : 0);
+    return Long.compareUnsigned(result, prime) >= 0 ? result - prime : result;
+  }
+
+  @Override
+  public String toString() {
+    return "LongModulus{"
+        + "value=" + prime
+        + '}';
+  }
+}
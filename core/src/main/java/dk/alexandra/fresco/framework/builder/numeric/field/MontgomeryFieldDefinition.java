@@ -0,0 +1,142 @@
+package dk.alexandra.fresco.framework.builder.numeric.field;
+
+import dk.alexandra.fresco.framework.util.StrictBitVector;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A finite field for an odd modulus where elements are backed by a fixed number of 64-bit limbs
+ * in Montgomery representation, e.g. two limbs for a 128-bit prime and four for a 256-bit prime.
+ * Addition and multiplication work directly on the limbs without allocating {@link BigInteger}s,
+ * see {@link MontgomeryModulus}.
+ *
+ * <p>Elements are serialized in the same fixed length big-endian format as {@link
+ * BigIntegerFieldDefinition}.</p>
+ */
+public final class MontgomeryFieldDefinition implements FieldDefinition {
+
+  private final MontgomeryModulus modulus;
+  private final BigInteger modulusHalf;
+  private final int modulusBitLength;
+  private final int byteLength;
+
+  /**
+   * Construct a new field definition for a specified modulus.
+   *
+   * @param modulus the modulus, must be odd and larger than 1
+   */
+  public MontgomeryFieldDefinition(BigInteger modulus) {
+    this.modulus = new MontgomeryModulus(modulus);
+    this.modulusHalf = modulus.shiftRight(1);
+    this.modulusBitLength = modulus.bitLength();
+    this.byteLength = 1 + ((modulusBitLength - 1) / Byte.SIZE);
+  }
+
+  /**
+   * Construct a new field definition for a specified modulus.
+   *
+   * @param modulus the modulus as a string.
+   */
+  public MontgomeryFieldDefinition(String modulus) {
+    this(new BigInteger(modulus));
+  }
+
+  @Override
+  public FieldElement createElement(long value) {
+    return MontgomeryFieldElement.create(value, modulus);
+  }
+
+  @Override
+  public FieldElement createElement(String value) {
+    return MontgomeryFieldElement.create(value, modulus);
+  }
+
+  @Override
+  public FieldElement createElement(BigInteger value) {
+    return MontgomeryFieldElement.create(value, modulus);
+  }
+
+  @Override
+  public BigInteger getModulus() {
+    return modulus.getPrime();
+  }
+
+  @Override
+  public int getBitLength() {
+    return modulusBitLength;
+  }
+
+  @Override
+  public StrictBitVector convertToBitVector(FieldElement fieldElement) {
+    return new StrictBitVector(serialize(fieldElement));
+  }
+
+  @Override
+  public BigInteger convertToUnsigned(FieldElement value) {
+    return MontgomeryFieldElement.extractValue(value);
+  }
+
+  @Override
+  public BigInteger convertToSigned(BigInteger asUnsigned) {
+    return FieldUtils.convertRepresentation(asUnsigned, getModulus(), modulusHalf);
+  }
+
+  @Override
+  public byte[] serialize(FieldElement fieldElement) {
+    byte[] bytes = new byte[byteLength];
+    serializeWithOffset(fieldElement, bytes, 0);
+    return bytes;
+  }
+
+  @Override
+  public byte[] serialize(List<FieldElement> fieldElements) {
+    byte[] bytes = new byte[byteLength * fieldElements.size()];
+    for (int i = 0; i < fieldElements.size(); i++) {
+      serializeWithOffset(fieldElements.get(i), bytes, i * byteLength);
+    }
+    return bytes;
+  }
+
+  private void serializeWithOffset(FieldElement fieldElement, byte[] bytes, int offset) {
+    long[] limbs = MontgomeryFieldElement.extractLimbs(fieldElement);
+    for (int i = 0; i < byteLength; i++) {
+      bytes[offset + byteLength - 1 - i] =
+          (byte) (limbs[i / Long.BYTES] >>> (Byte.SIZE * (i % Long.BYTES)));
+    }
+  }
+
+  @Override
+  public FieldElement deserialize(byte[] bytes) {
+    return deserializeWithOffset(bytes, 0);
+  }
+
+  @Override
+  public List<FieldElement> deserializeList(byte[] bytes) {
+    List<FieldElement> elements = new ArrayList<>(bytes.length / byteLength);
+    for (int i = 0; i < bytes.length; i += byteLength) {
+      elements.add(deserializeWithOffset(bytes, i));
+    }
+    return elements;
+  }
+
+  private FieldElement deserializeWithOffset(byte[] bytes, int offset) {
+    long[] limbs = new long[modulus.getSize()];
+    for (int i = 0; i < byteLength; i++) {
+      limbs[i / Long.BYTES] |=
+          (bytes[offset + byteLength - 1 - i] & 0xFFL) << (Byte.SIZE * (i % Long.BYTES));
+    }
+    return MontgomeryFieldElement.createFromLimbs(limbs, modulus);
+  }
+
+  @Override
+  public FieldElementVector createVector(List<FieldElement> elements) {
+    return MontgomeryFieldElementVector.create(elements, modulus, byteLength);
+  }
+
+  @Override
+  public FieldElementVector deserializeVector(ByteBuffer buffer, int size) {
+    return MontgomeryFieldElementVector.deserialize(buffer, size, modulus, byteLength);
+  }
+}
@@ -0,0 +1,113 @@
+package dk.alexandra.fresco.framework.builder.numeric.field;
+
+import dk.alexandra.fresco.framework.util.MathUtils;
+import java.math.BigInteger;
+
+/**
+ * An element in a field defined by a {@link MontgomeryModulus}. The value is stored as limbs in
+ * Montgomery representation and is never modified after construction.
+ */
+final class MontgomeryFieldElement implements FieldElement {
+
+  private static final long serialVersionUID = -1843365472532364530L;
+
+  private final long[] value;
+  private final MontgomeryModulus modulus;
+
+  private MontgomeryFieldElement(long[] value, MontgomeryModulus modulus) {
+    this.value = value;
+    this.modulus = modulus;
+  }
+
+  private FieldElement create(long[] value) {
+    return new MontgomeryFieldElement(value, modulus);
+  }
+
+  static FieldElement create(BigInteger value, MontgomeryModulus modulus) {
+    return new MontgomeryFieldElement(modulus.toInternal(value), modulus);
+  }
+
+  static FieldElement create(long value, MontgomeryModulus modulus) {
+    return create(BigInteger.valueOf(value), modulus);
+  }
+
+  static FieldElement create(String string, MontgomeryModulus modulus) {
+    return create(new BigInteger(string), modulus);
+  }
+
+  /**
+   * Creates an element from limbs of a value less than <code>R</code>, which is reduced modulo the
+   * modulus.
+   */
+  static FieldElement createFromLimbs(long[] limbs, MontgomeryModulus modulus) {
+    return new MontgomeryFieldElement(modulus.toInternal(limbs), modulus);
+  }
+
+  /**
+   * Creates an element from a value in the internal representation of the modulus.
+   */
+  static FieldElement fromInternal(long[] value, MontgomeryModulus modulus) {
+    return new MontgomeryFieldElement(value, modulus);
+  }
+
+  @Override
+  public FieldElement add(FieldElement operand) {
+    return create(modulus.add(value, extractInternal(operand)));
+  }
+
+  @Override
+  public FieldElement subtract(FieldElement operand) {
+    return create(modulus.subtract(value, extractInternal(operand)));
+  }
+
+  @Override
+  public FieldElement negate() {
+    return create(modulus.negate(value));
+  }
+
+  @Override
+  public FieldElement multiply(FieldElement operand) {
+    return create(modulus.multiply(value, extractInternal(operand)));
+  }
+
+  @Override
+  public FieldElement sqrt() {
+    return create(MathUtils.modularSqrt(extractValue(this), getModulus()), modulus);
+  }
+
+  @Override
+  public FieldElement modInverse() {
+    return create(extractValue(this).modInverse(getModulus()), modulus);
+  }
+
+  /**
+   * Gets the value in the internal representation of the modulus.
+   */
+  static long[] extractInternal(FieldElement element) {
+    return ((MontgomeryFieldElement) element).value;
+  }
+
+  /**
+   * Gets the limbs of the value in <i>0, ..., p - 1</i>, least significant limb first.
+   */
+  static long[] extractLimbs(FieldElement element) {
+    MontgomeryFieldElement montgomeryElement = (MontgomeryFieldElement) element;
+    return montgomeryElement.modulus.toCanonical(montgomeryElement.value);
+  }
+
+  static BigInteger extractValue(FieldElement element) {
+    return MontgomeryModulus.fromLimbs(extractLimbs(element));
+  }
+
+  private BigInteger getModulus() {
+    return modulus.getPrime();
+  }
+
+  @Override
+  public String toString() {
+    return "MontgomeryFieldElement{"
+        + "value=" + extractValue(this)
+        + ", modulus=" + modulus
+        + '}';
+  }
+}
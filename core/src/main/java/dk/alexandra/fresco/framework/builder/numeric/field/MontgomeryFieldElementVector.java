@@ -0,0 +1,181 @@
+package dk.alexandra.fresco.framework.builder.numeric.field;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A {@link FieldElementVector} for a {@link MontgomeryFieldDefinition}, packing the limbs of all
+ * elements in a single <code>long[]</code> in Montgomery representation. The operations work on
+ * the packed limbs and only allocate the array of the result.
+ */
+final class MontgomeryFieldElementVector extends PackedFieldElementVector {
+
+  private final long[] limbs;
+  private final int size;
+  private final MontgomeryModulus modulus;
+
+  private MontgomeryFieldElementVector(long[] limbs, MontgomeryModulus modulus, int byteLength) {
+    super(byteLength);
+    this.limbs = limbs;
+    this.size = limbs.length / modulus.getSize();
+    this.modulus = modulus;
+  }
+
+  static FieldElementVector create(List<FieldElement> elements, MontgomeryModulus modulus,
+      int byteLength) {
+    int width = modulus.getSize();
+    long[] limbs = new long[elements.size() * width];
+    for (int i = 0; i < elements.size(); i++) {
+      System.arraycopy(MontgomeryFieldElement.extractInternal(elements.get(i)), 0, limbs,
+          i * width, width);
+    }
+    return new MontgomeryFieldElementVector(limbs, modulus, byteLength);
+  }
+
+  static FieldElementVector deserialize(ByteBuffer buffer, int size, MontgomeryModulus modulus,
+      int byteLength) {
+    int width = modulus.getSize();
+    long[] limbs = read(buffer, size * byteLength, (bytes, offset) -> {
+      long[] result = new long[size * width];
+      long[] value = new long[width];
+      for (int i = 0; i < size; i++) {
+        // the bytes are big-endian, the limbs least significant first
+        int end = offset + (i + 1) * byteLength;
+        for (int j = 0; j < width; j++) {
+          int length = Math.min(Long.BYTES, byteLength - j * Long.BYTES);
+          value[j] = LongArithmetic.fromBytes(bytes, end - j * Long.BYTES - length, length);
+        }
+        modulus.toInternal(value, 0, result, i * width);
+      }
+      return result;
+    });
+    return new MontgomeryFieldElementVector(limbs, modulus, byteLength);
+  }
+
+  private FieldElementVector create(long[] limbs) {
+    return new MontgomeryFieldElementVector(limbs, modulus, byteLength);
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public FieldElement get(int index) {
+    int width = modulus.getSize();
+    long[] value = new long[width];
+    System.arraycopy(limbs, index * width, value, 0, width);
+    return MontgomeryFieldElement.fromInternal(value, modulus);
+  }
+
+  @Override
+  public List<FieldElement> asList() {
+    List<FieldElement> elements = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      elements.add(get(i));
+    }
+    return elements;
+  }
+
+  @Override
+  public FieldElementVector add(FieldElementVector other) {
+    long[] otherLimbs = limbs(other);
+    long[] result = new long[limbs.length];
+    int width = modulus.getSize();
+    for (int offset = 0; offset < limbs.length; offset += width) {
+      modulus.add(limbs, offset, otherLimbs, offset, result, offset);
+    }
+    return create(result);
+  }
+
+  @Override
+  public FieldElementVector subtract(FieldElementVector other) {
+    long[] otherLimbs = limbs(other);
+    long[] result = new long[limbs.length];
+    int width = modulus.getSize();
+    for (int offset = 0; offset < limbs.length; offset += width) {
+      modulus.subtract(limbs, offset, otherLimbs, offset, result, offset);
+    }
+    return create(result);
+  }
+
+  @Override
+  public FieldElementVector multiply(FieldElementVector other) {
+    long[] otherLimbs = limbs(other);
+    long[] result = new long[limbs.length];
+    int width = modulus.getSize();
+    for (int offset = 0; offset < limbs.length; offset += width) {
+      modulus.multiply(limbs, offset, otherLimbs, offset, result, offset);
+    }
+    return create(result);
+  }
+
+  @Override
+  public FieldElementVector multiply(FieldElement scalar) {
+    long[] factor = MontgomeryFieldElement.extractInternal(scalar);
+    long[] result = new long[limbs.length];
+    int width = modulus.getSize();
+    for (int offset = 0; offset < limbs.length; offset += width) {
+      modulus.multiply(limbs, offset, factor, 0, result, offset);
+    }
+    return create(result);
+  }
+
+  @Override
+  public FieldElement innerProduct(FieldElementVector other) {
+    long[] otherLimbs = limbs(other);
+    int width = modulus.getSize();
+    long[] result = new long[width];
+    long[] product = new long[width];
+    for (int offset = 0; offset < limbs.length; offset += width) {
+      modulus.multiply(limbs, offset, otherLimbs, offset, product, 0);
+      modulus.add(result, 0, product, 0, result, 0);
+    }
+    return MontgomeryFieldElement.fromInternal(result, modulus);
+  }
+
+  @Override
+  public FieldElement sum() {
+    int width = modulus.getSize();
+    long[] result = new long[width];
+    for (int offset = 0; offset < limbs.length; offset += width) {
+      modulus.add(result, 0, limbs, offset, result, 0);
+    }
+    return MontgomeryFieldElement.fromInternal(result, modulus);
+  }
+
+  @Override
+  public FieldElementVector stretch(int stretchBy) {
+    int width = modulus.getSize();
+    long[] result = new long[limbs.length * stretchBy];
+    for (int i = 0; i < size * stretchBy; i++) {
+      System.arraycopy(limbs, (i / stretchBy) * width, result, i * width, width);
+    }
+    return create(result);
+  }
+
+  @Override
+  void serialize(byte[] bytes, int offset) {
+    int width = modulus.getSize();
+    long[] canonical = new long[width];
+    for (int i = 0; i < size; i++) {
+      modulus.toCanonical(limbs, i * width, canonical, 0);
+      int end = offset + (i + 1) * byteLength;
+      for (int j = 0; j < width; j++) {
+        int length = Math.min(Long.BYTES, byteLength - j * Long.BYTES);
+        LongArithmetic.toBytes(canonical[j], bytes, end - j * Long.BYTES - length, length);
+      }
+    }
+  }
+
+  private long[] limbs(FieldElementVector other) {
+    MontgomeryFieldElementVector otherVector = (MontgomeryFieldElementVector) other;
+    if (otherVector.size != size) {
+      throw new IllegalArgumentException(
+          "Vectors must have the same size, was " + size + " and " + otherVector.size);
+    }
+    return otherVector.limbs;
+  }
+}
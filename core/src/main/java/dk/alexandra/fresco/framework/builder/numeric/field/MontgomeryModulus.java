@@ -0,0 +1,296 @@
+package dk.alexandra.fresco.framework.builder.numeric.field;
+
+import java.io.Serializable;
+import java.math.BigInteger;
+
+/**
+ * An odd modulus of a fixed number of 64-bit limbs, implementing the field arithmetic on
+ * <code>long[]</code> values in Montgomery representation, i.e., <code>x R mod p</code> for <code>R
+ * = 2<sup>64 n</sup></code> where <code>n</code> is the number of limbs.
+ *
+ * <p>Values are stored as <code>n</code> limbs with the least significant limb first, either in an
+ * array of their own or packed at an offset of a larger array. The offset based operations do not
+ * allocate; multiplication uses the coarsely integrated operand scanning (CIOS) method with the two
+ * extra words of the intermediate result kept in local variables. A 128-bit modulus uses two limbs
+ * and a 256-bit modulus four.</p>
+ */
+final class MontgomeryModulus implements Serializable {
+
+  private static final long serialVersionUID = -4628120983358735017L;
+
+  private final BigInteger prime;
+  private final long[] limbs;
+  private final long negatedInverse;
+  private final long[] montgomerySquare;
+  private final long[] one;
+
+  /**
+   * Creates a new modulus.
+   *
+   * @param prime the modulus, must be odd and larger than 1
+   */
+  MontgomeryModulus(BigInteger prime) {
+    if (prime.compareTo(BigInteger.ONE) <= 0) {
+      throw new IllegalArgumentException("Only positive modulus larger than 1 is acceptable");
+    }
+    if (!prime.testBit(0)) {
+      throw new IllegalArgumentException("Only odd modulus is acceptable");
+    }
+    this.prime = prime;
+    int size = 1 + (prime.bitLength() - 1) / Long.SIZE;
+    this.limbs = toLimbs(prime, size);
+    this.negatedInverse = -LongArithmetic.inverse(limbs[0]);
+    this.montgomerySquare = toLimbs(BigInteger.ONE.shiftLeft(2 * Long.SIZE * size).mod(prime),
+        size);
+    this.one = new long[size];
+    this.one[0] = 1;
+  }
+
+  BigInteger getPrime() {
+    return prime;
+  }
+
+  /**
+   * Gets the number of 64-bit limbs of a value.
+   */
+  int getSize() {
+    return limbs.length;
+  }
+
+  /**
+   * Converts a value to the internal representation.
+   *
+   * @param value the value to convert, which is reduced modulo this
+   * @return the value in Montgomery representation
+   */
+  long[] toInternal(BigInteger value) {
+    return toInternal(toLimbs(value.mod(prime), limbs.length));
+  }
+
+  /**
+   * Converts a value less than <code>R</code> to the internal representation, reducing it modulo
+   * this.
+   */
+  long[] toInternal(long[] value) {
+    return multiply(value, montgomerySquare);
+  }
+
+  /**
+   * Converts a value in internal representation to <i>0, ..., p - 1</i>.
+   */
+  long[] toCanonical(long[] internal) {
+    return multiply(internal, one);
+  }
+
+  /**
+   * Converts a value less than <code>R</code> at the given offset to the internal representation,
+   * storing it at the result offset.
+   */
+  void toInternal(long[] value, int offset, long[] result, int resultOffset) {
+    multiply(value, offset, montgomerySquare, 0, result, resultOffset);
+  }
+
+  /**
+   * Converts a value in internal representation at the given offset to <i>0, ..., p - 1</i>,
+   * storing it at the result offset.
+   */
+  void toCanonical(long[] internal, int offset, long[] result, int resultOffset) {
+    multiply(internal, offset, one, 0, result, resultOffset);
+  }
+
+  long[] add(long[] left, long[] right) {
+    long[] result = new long[limbs.length];
+    add(left, 0, right, 0, result, 0);
+    return result;
+  }
+
+  long[] subtract(long[] left, long[] right) {
+    long[] result = new long[limbs.length];
+    subtract(left, 0, right, 0, result, 0);
+    return result;
+  }
+
+  long[] negate(long[] value) {
+    return subtract(new long[limbs.length], value);
+  }
+
+  /**
+   * Computes the Montgomery product <code>left * right / R mod p</code>. The left operand may be
+   * any value less than <code>R</code>, the right operand must be less than <code>p</code>.
+   */
+  long[] multiply(long[] left, long[] right) {
+    long[] result = new long[limbs.length];
+    multiply(left, 0, right, 0, result, 0);
+    return result;
+  }
+
+  /**
+   * Adds the values at the given offsets and stores the sum at the result offset. The result may
+   * overlap either operand.
+   */
+  void add(long[] left, int leftOffset, long[] right, int rightOffset, long[] result,
+      int resultOffset) {
+    long carry = 0;
+    for (int i = 0; i < limbs.length; i++) {
+      long l = left[leftOffset + i];
+      long sum = l + right[rightOffset + i];
+      long overflow = Long.compareUnsigned(sum, l) < 0 ? 1 : 0;
+      long withCarry = sum + carry;
+      carry = overflow | (Long.compareUnsigned(withCarry, sum) < 0 ? 1 : 0);
+      result[resultOffset + i] = withCarry;
+    }
+    if (carry != 0 || !lessThanPrime(result, resultOffset)) {
+      subtractPrime(result, resultOffset);
+    }
+  }
+
+  /**
+   * Subtracts the values at the given offsets and stores the difference at the result offset. The
+   * result may overlap either operand.
+   */
+  void subtract(long[] left, int leftOffset, long[] right, int rightOffset, long[] result,
+      int resultOffset) {
+    long borrow = 0;
+    for (int i = 0; i < limbs.length; i++) {
+      long l = left[leftOffset + i];
+      long r = right[rightOffset + i];
+      long difference = l - r;
+      long underflow = Long.compareUnsigned(l, r) < 0 ? 1 : 0;
+      result[resultOffset + i] = difference - borrow;
+      borrow = underflow | (Long.compareUnsigned(difference, borrow) < 0 ? 1 : 0);
+    }
+    if (borrow != 0) {
+      addPrime(result, resultOffset);
+    }
+  }
+
+  /**
+   * Computes the Montgomery product of the values at the given offsets and stores it at the result
+   * offset. The result must not overlap either operand.
+   */
+  void multiply(long[] left, int leftOffset, long[] right, int rightOffset, long[] result,
+      int resultOffset) {
+    final int size = limbs.length;
+    for (int j = 0; j < size; j++) {
+      result[resultOffset + j] = 0;
+    }
+    // the two most significant words of the intermediate result
+    long top = 0;
+    for (int i = 0; i < size; i++) {
+      // result += left * right[i]
+      long factor = right[rightOffset + i];
+      long carry = 0;
+      for (int j = 0; j < size; j++) {
+        long l = left[leftOffset + j];
+        long t = result[resultOffset + j];
+        long high = LongArithmetic.multiplyHigh(l, factor);
+        long low = l * factor;
+        low += t;
+        if (Long.compareUnsigned(low, t) < 0) {
+          high++;
+        }
+        low += carry;
+        if (Long.compareUnsigned(low, carry) < 0) {
+          high++;
+        }
+        result[resultOffset + j] = low;
+        carry = high;
+      }
+      long sum = top + carry;
+      long topCarry = Long.compareUnsigned(sum, carry) < 0 ? 1 : 0;
+      top = sum;
+      // result = (result + m * p) / 2^64, where m is chosen to make the low word zero
+      long t = result[resultOffset];
+      long m = t * negatedInverse;
+      long high = LongArithmetic.multiplyHigh(m, limbs[0]);
+      long low = m * limbs[0] + t;
+      if (Long.compareUnsigned(low, t) < 0) {
+        high++;
+      }
+      carry = high;
+      for (int j = 1; j < size; j++) {
+        t = result[resultOffset + j];
+        high = LongArithmetic.multiplyHigh(m, limbs[j]);
+        low = m * limbs[j];
+        low += t;
+        if (Long.compareUnsigned(low, t) < 0) {
+          high++;
+        }
+        low += carry;
+        if (Long.compareUnsigned(low, carry) < 0) {
+          high++;
+        }
+        result[resultOffset + j - 1] = low;
+        carry = high;
+      }
+      sum = top + carry;
+      result[resultOffset + size - 1] = sum;
+      top = topCarry + (Long.compareUnsigned(sum, carry) < 0 ? 1 : 0);
+    }
+    if (top != 0 || !lessThanPrime(result, resultOffset)) {
+      subtractPrime(result, resultOffset);
+    }
+  }
+
+  private boolean lessThanPrime(long[] value, int offset) {
+    for (int i = limbs.length - 1; i >= 0; i--) {
+      int comparison = Long.compareUnsigned(value[offset + i], limbs[i]);
+      if (comparison != 0) {
+        return comparison < 0;
+      }
+    }
+    return false;
+  }
+
+  private void subtractPrime(long[] value, int offset) {
+    long borrow = 0;
+    for (int i = 0; i < limbs.length; i++) {
+      long v = value[offset + i];
+      long difference = v - limbs[i];
+      long underflow = Long.compareUnsigned(v, limbs[i]) < 0 ? 1 : 0;
+      value[offset + i] = difference - borrow;
+      borrow = underflow | (Long.compareUnsigned(difference, borrow) < 0 ? 1 : 0);
+    }
+  }
+
+  private void addPrime(long[] value, int offset) {
+    long carry = 0;
+    for (int i = 0; i < limbs.length; i++) {
+      long v = value[offset + i];
+      long sum = v + limbs[i];
+      long overflow = Long.compareUnsigned(sum, v) < 0 ? 1 : 0;
+      long withCarry = sum + carry;
+      carry = overflow | (Long.compareUnsigned(withCarry, sum) < 0 ? 1 : 0);
+      value[offset + i] = withCarry;
+    }
+  }
+
+  /**
+   * Splits a non-negative value into limbs, least significant limb first.
+   */
+  static long[] toLimbs(BigInteger value, int size) {
+    long[] result = new long[size];
+    for (int i = 0; i < size; i++) {
+      result[i] = value.shiftRight(i * Long.SIZE).longValue();
+    }
+    return result;
+  }
+
+  /**
+   * Combines limbs, least significant limb first, into a non-negative value.
+   */
+  static BigInteger fromLimbs(long[] value) {
+    byte[] bytes = new byte[value.length * Long.BYTES];
+    for (int i = 0; i < value.length; i++) {
+      LongArithmetic.toBytes(value[i], bytes, (value.length - 1 - i) * Long.BYTES, Long.BYTES);
+    }
+    return new BigInteger(1, bytes);
+  }
+
+  @Override
+  public String toString() {
+    return "MontgomeryModulus{"
+        + "value=" + prime
+        + '}';
+  }
+}
@@ -0,0 +1,66 @@
+package dk.alexandra.fresco.framework.builder.numeric.field;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.function.BiFunction;
+
+/**
+ * Base class of the vectors packing their elements in primitive arrays. Elements are serialized
+ * in the fixed length big-endian format of the field definitions. A buffer backed by an array is
+ * written and read in place, any other buffer through a single temporary array.
+ */
+abstract class PackedFieldElementVector implements FieldElementVector {
+
+  final int byteLength;
+
+  PackedFieldElementVector(int byteLength) {
+    this.byteLength = byteLength;
+  }
+
+  /**
+   * Writes the serialized elements to an array.
+   *
+   * @param bytes the array to write to
+   * @param offset the offset of the first element
+   */
+  abstract void serialize(byte[] bytes, int offset);
+
+  @Override
+  public final void serialize(ByteBuffer buffer) {
+    int length = size() * byteLength;
+    if (buffer.remaining() < length) {
+      throw new BufferOverflowException();
+    }
+    if (buffer.hasArray()) {
+      serialize(buffer.array(), buffer.arrayOffset() + buffer.position());
+      buffer.position(buffer.position() + length);
+    } else {
+      byte[] bytes = new byte[length];
+      serialize(bytes, 0);
+      buffer.put(bytes);
+    }
+  }
+
+  /**
+   * Reads serialized elements from a buffer.
+   *
+   * @param buffer the buffer to read from
+   * @param length the number of bytes to read
+   * @param reader reads the elements from an array, given the offset of the first element
+   * @return the result of the reader
+   */
+  static <T> T read(ByteBuffer buffer, int length, BiFunction<byte[], Integer, T> reader) {
+    if (buffer.remaining() < length) {
+      throw new BufferUnderflowException();
+    }
+    if (buffer.hasArray()) {
+      T result = reader.apply(buffer.array(), buffer.arrayOffset() + buffer.position());
+      buffer.position(buffer.position() + length);
+      return result;
+    }
+    byte[] bytes = new byte[length];
+    buffer.get(bytes);
+    return reader.apply(bytes, 0);
+  }
+}
@@ -1,6 +1,7 @@
 package dk.alexandra.fresco.framework.network;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -63,4 +64,68 @@ public interface Network {
     }
   }
 
+  /**
+   * Gets the largest number of bytes a single message may contain.
+   *
+   * @return the maximum message length, {@link Integer#MAX_VALUE} unless the network limits it
+   */
+  default int getMaxMessageLength() {
+    return Integer.MAX_VALUE;
+  }
+
+  /**
+   * Queues up a sequence of fixed length elements to be send to all parties (yourself included).
+   * The elements are split into as few messages as {@link #getMaxMessageLength()} allows, never
+   * splitting a single element across two messages. The data must be received using {@link
+   * #receiveElements(int, int, int)}.
+   *
+   * @param data the serialized elements, of total length a multiple of elementLength
+   * @param elementLength the length of a single serialized element
+   */
+  default void sendElementsToAll(byte[] data, int elementLength) {
+    int chunkLength = getElementChunkLength(elementLength);
+    if (data.length <= chunkLength) {
+      sendToAll(data);
+      return;
+    }
+    for (int offset = 0; offset < data.length; offset += chunkLength) {
+      sendToAll(Arrays.copyOfRange(data, offset, Math.min(data.length, offset + chunkLength)));
+    }
+  }
+
+  /**
+   * Receives a sequence of fixed length elements send using {@link #sendElementsToAll(byte[],
+   * int)}.
+   *
+   * @param partyId the party to receive from
+   * @param noOfElements the number of elements to receive
+   * @param elementLength the length of a single serialized element
+   * @return the serialized elements in a single contiguous array
+   */
+  default byte[] receiveElements(int partyId, int noOfElements, int elementLength) {
+    int totalLength = noOfElements * elementLength;
+    int chunkLength = getElementChunkLength(elementLength);
+    if (totalLength <= chunkLength) {
+      return receive(partyId);
+    }
+    byte[] data = new byte[totalLength];
+    for (int offset = 0; offset < totalLength; offset += chunkLength) {
+      byte[] chunk = receive(partyId);
+      System.arraycopy(chunk, 0, data, offset, chunk.length);
+    }
+    return data;
+  }
+
+  /**
+   * Computes the length of the largest whole number of elements fitting in a single message.
+   */
+  default int getElementChunkLength(int elementLength) {
+    int maxLength = getMaxMessageLength();
+    if (elementLength > maxLength) {
+      throw new IllegalArgumentException(
+          "Element length " + elementLength + " exceeds maximum message length " + maxLength);
+    }
+    return maxLength - maxLength % elementLength;
+  }
+
 }
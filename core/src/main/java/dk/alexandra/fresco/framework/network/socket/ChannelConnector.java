@@ -0,0 +1,152 @@
+package dk.alexandra.fresco.framework.network.socket;
+
+import dk.alexandra.fresco.framework.Party;
+import dk.alexandra.fresco.framework.configuration.NetworkConfiguration;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Connects a network using {@link SocketChannel}s, for use with the {@link NioNetwork}.
+ *
+ * <p>
+ * Uses the same handshake as the {@link Connector}, i.e., each party listens for connections from
+ * parties with lower id's and connects to parties with higher id's, sending its own id in a single
+ * byte once connected. The channels are returned in blocking mode.
+ * </p>
+ */
+public class ChannelConnector {
+
+  private static final int PARTY_ID_BYTES = 1;
+  private static final Logger logger = LoggerFactory.getLogger(ChannelConnector.class);
+  private final Map<Integer, SocketChannel> channelMap;
+
+  /**
+   * Connects the network described by the given configuration.
+   *
+   * @param conf the configuration defining the network to connect
+   * @param timeout duration to wait until timeout
+   */
+  public ChannelConnector(NetworkConfiguration conf, Duration timeout) {
+    this.channelMap = connectNetwork(conf, timeout);
+  }
+
+  /**
+   * Gets a mapping from a party id to a channel connected to the given party.
+   *
+   * @return map from party id to channel
+   */
+  public Map<Integer, SocketChannel> getChannelMap() {
+    return channelMap;
+  }
+
+  private Map<Integer, SocketChannel> connectNetwork(final NetworkConfiguration conf,
+      final Duration timeout) {
+    Map<Integer, SocketChannel> channelMap = new HashMap<>(conf.noOfParties());
+    final int connectionThreads = 2;
+    ExecutorService connectionExecutor = Executors.newFixedThreadPool(connectionThreads);
+    CompletionService<Map<Integer, SocketChannel>> connectionService =
+        new ExecutorCompletionService<>(connectionExecutor);
+    connectionService.submit(() -> connectClient(conf));
+    connectionService.submit(() -> connectServer(conf));
+    Duration remainingTime = timeout;
+    try {
+      Instant start = Instant.now();
+      for (int i = 0; i < connectionThreads; i++) {
+        remainingTime = remainingTime.minus(Duration.between(start, Instant.now()));
+        Future<Map<Integer, SocketChannel>> completed =
+            connectionService.poll(remainingTime.toMillis(), TimeUnit.MILLISECONDS);
+        if (completed == null) {
+          throw new TimeoutException("Timed out waiting for client connections");
+        } else {
+          channelMap.putAll(completed.get());
+        }
+      }
+    } catch (ExecutionException e) {
+      throw new RuntimeException("Failed to connect network", e.getCause());
+    } catch (Exception e) {
+      throw new RuntimeException("Failed to connect network", e);
+    } finally {
+      connectionExecutor.shutdownNow();
+    }
+    return channelMap;
+  }
+
+  private Map<Integer, SocketChannel> connectClient(final NetworkConfiguration conf)
+      throws InterruptedException, IOException {
+    Map<Integer, SocketChannel> channelMap =
+        new HashMap<>(conf.noOfParties() - conf.getMyId());
+    for (int i = conf.getMyId() + 1; i <= conf.noOfParties(); i++) {
+      Party p = conf.getParty(i);
+      boolean connectionMade = false;
+      int attempts = 0;
+      while (!connectionMade) {
+        SocketChannel channel = SocketChannel.open();
+        try {
+          channel.connect(new InetSocketAddress(p.getHostname(), p.getPort()));
+          ByteBuffer id = ByteBuffer.allocate(PARTY_ID_BYTES);
+          for (int j = 0; j < PARTY_ID_BYTES; j++) {
+            id.put((byte) (conf.getMyId() >>> j * Byte.SIZE));
+          }
+          id.flip();
+          while (id.hasRemaining()) {
+            channel.write(id);
+          }
+          connectionMade = true;
+          channelMap.put(i, channel);
+          logger.info("P{}: connected to {}", conf.getMyId(), p);
+        } catch (ConnectException e) {
+          // A connect exception is expected if the opposing side is not listening for our
+          // connection attempt yet. We ignore this and try again.
+          channel.close();
+          Thread.sleep(1 << ++attempts);
+        }
+      }
+    }
+    return channelMap;
+  }
+
+  private Map<Integer, SocketChannel> connectServer(final NetworkConfiguration conf)
+      throws IOException {
+    Map<Integer, SocketChannel> channelMap = new HashMap<>(conf.getMyId() - 1);
+    if (conf.getMyId() > 1) {
+      try (ServerSocketChannel server = ServerSocketChannel.open()) {
+        server.bind(new InetSocketAddress(conf.getMe().getPort()));
+        logger.info("P{}: bound at port {}", conf.getMyId(), conf.getMe().getPort());
+        for (int i = 1; i < conf.getMyId(); i++) {
+          SocketChannel channel = server.accept();
+          ByteBuffer idBuffer = ByteBuffer.allocate(PARTY_ID_BYTES);
+          while (idBuffer.hasRemaining()) {
+            if (channel.read(idBuffer) < 0) {
+              throw new IOException("Connection closed during handshake");
+            }
+          }
+          int id = 0;
+          for (int j = 0; j < PARTY_ID_BYTES; j++) {
+            id ^= (idBuffer.get(j) & 0xFF) << j * Byte.SIZE;
+          }
+          channelMap.put(id, channel);
+          logger.info("P{}: accepted connection from P{}", conf.getMyId(), id);
+        }
+      }
+    }
+    return channelMap;
+  }
+}
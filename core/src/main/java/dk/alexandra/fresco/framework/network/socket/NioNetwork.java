@@ -0,0 +1,502 @@
+package dk.alexandra.fresco.framework.network.socket;
+
+import dk.alexandra.fresco.framework.configuration.NetworkConfiguration;
+import dk.alexandra.fresco.framework.network.CloseableNetwork;
+import dk.alexandra.fresco.framework.util.ExceptionConverter;
+import java.io.IOException;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link CloseableNetwork} implementation based on Java's nio API.
+ *
+ * <p>
+ * All communication with the other parties is handled by a single selector thread, regardless of
+ * the number of parties. Outgoing messages are handed to the selector thread through a lock-free
+ * queue per party and written using gathering writes, so all messages queued for a party since
+ * its last write go out in as few system calls as possible. Incoming data is read into a reused
+ * buffer per party (or directly into the message being received, for messages exceeding that
+ * buffer) and handed to the receiving thread through another lock-free queue.
+ * </p>
+ * <p>
+ * The message format is the same as that of {@link SocketNetwork}: each message is prefixed by an
+ * integer indicating the byte length of the message, and a length of -1 signals that the sending
+ * party closed its network.
+ * </p>
+ * <p>
+ * As the queues only support a single producer and a single consumer, a network must only be used
+ * by one thread at a time, including the call to {@link #close()}.
+ * </p>
+ */
+public class NioNetwork implements CloseableNetwork {
+
+  private static final Logger logger = LoggerFactory.getLogger(NioNetwork.class);
+  private static final int READ_BUFFER_SIZE = 1 << 16;
+  private static final int MAX_GATHERED_MESSAGES = 64;
+  private static final byte[] CLOSE_MARKER = new byte[0];
+  private final NetworkConfiguration conf;
+  private final BlockingQueue<byte[]> selfQueue;
+  private final Peer[] peers;
+  private final AtomicBoolean wakeupRequested;
+  private final Selector selector;
+  private final Thread selectorThread;
+  private volatile boolean closing;
+  private boolean alive;
+
+  /**
+   * Creates a network with the given configuration and a mapping from party ids to channels.
+   *
+   * <p>
+   * The mapping of party ids to channels must be consistent with the network configuration. I.e.,
+   * there should be exactly one mapping for each opposing party (but not for the local party).
+   * Also, the channels must be connected and open. The network takes ownership of the channels and
+   * switches them to non-blocking mode.
+   * </p>
+   *
+   * @param conf the network configuration
+   * @param channelMap a mapping from party ids to the channel to be used for communicating with
+   *     the given party.
+   * @throws IllegalArgumentException if {@code channelMap} and {@code conf} are inconsistent or
+   *     the channels are not open and connected.
+   */
+  public NioNetwork(NetworkConfiguration conf, Map<Integer, SocketChannel> channelMap) {
+    Objects.requireNonNull(conf);
+    Objects.requireNonNull(channelMap);
+    for (int i = 1; i < conf.noOfParties() + 1; i++) {
+      if (i == conf.getMyId()) {
+        continue;
+      }
+      if (!channelMap.containsKey(i)) {
+        throw new IllegalArgumentException("Missing channel for P" + i);
+      }
+      SocketChannel channel = channelMap.get(i);
+      if (!channel.isOpen()) {
+        throw new IllegalArgumentException("Closed channel for P" + i);
+      }
+      if (!channel.isConnected()) {
+        throw new IllegalArgumentException("Unconnected channel for P" + i);
+      }
+    }
+    for (int id : channelMap.keySet()) {
+      if (id == conf.getMyId() || !(0 < id && id < conf.noOfParties() + 1)) {
+        throw new IllegalArgumentException("Unexpected channel for P" + id);
+      }
+    }
+    this.conf = conf;
+    this.selfQueue = new LinkedBlockingQueue<>();
+    this.peers = new Peer[conf.noOfParties() + 1];
+    this.wakeupRequested = new AtomicBoolean();
+    this.alive = true;
+    if (conf.noOfParties() > 1) {
+      this.selector = ExceptionConverter.safe(Selector::open, "Unable to open selector");
+      for (Map.Entry<Integer, SocketChannel> entry : channelMap.entrySet()) {
+        SocketChannel channel = entry.getValue();
+        Peer peer = new Peer(entry.getKey(), channel);
+        peer.key = ExceptionConverter.safe(() -> {
+          channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+          channel.configureBlocking(false);
+          return channel.register(selector, SelectionKey.OP_READ, peer);
+        }, "Unable to register channel for P" + peer.id);
+        peers[peer.id] = peer;
+      }
+      this.selectorThread = new Thread(this::run);
+      this.selectorThread.setDaemon(true);
+      this.selectorThread.setName("NioNetwork-P" + conf.getMyId());
+      this.selectorThread.start();
+    } else {
+      this.selector = null;
+      this.selectorThread = null;
+    }
+  }
+
+  /**
+   * Default constructor using one minute timeout.
+   *
+   * @param conf the configuration to load the network from.
+   */
+  public NioNetwork(NetworkConfiguration conf) {
+    this(conf, Duration.of(1, ChronoUnit.MINUTES));
+  }
+
+  /**
+   * Creates a network connecting to the other parties using the {@link ChannelConnector}.
+   *
+   * @param conf the configuration to load the network from.
+   * @param timeout duration to wait for the network to connect
+   */
+  public NioNetwork(NetworkConfiguration conf, Duration timeout) {
+    this(conf, new ChannelConnector(conf, timeout).getChannelMap());
+  }
+
+  @Override
+  public void send(int partyId, byte[] data) {
+    if (partyId == conf.getMyId()) {
+      this.selfQueue.add(data);
+      return;
+    }
+    inRange(partyId);
+    Peer peer = peers[partyId];
+    if (!alive || peer.outputClosed) {
+      throw new RuntimeException(
+          "P" + conf.getMyId() + ": Unable to send to P" + partyId + ". Sender not running");
+    }
+    peer.outbound.offer(data);
+    requestWrite(peer);
+  }
+
+  @Override
+  public byte[] receive(int partyId) {
+    if (partyId == conf.getMyId()) {
+      return ExceptionConverter.safe(selfQueue::take, "Receiving from self failed");
+    }
+    inRange(partyId);
+    Peer peer = peers[partyId];
+    if (!alive) {
+      throw new RuntimeException(
+          "P" + conf.getMyId() + ": Unable to receive from P" + partyId + ". Network closed");
+    }
+    byte[] data = peer.inbound.poll();
+    if (data != null) {
+      return data;
+    }
+    peer.waiter = Thread.currentThread();
+    try {
+      while ((data = peer.inbound.poll()) == null) {
+        if (!peer.receiving) {
+          // The last message may have been delivered just before the receiver stopped
+          data = peer.inbound.poll();
+          if (data != null) {
+            return data;
+          }
+          throw new RuntimeException("P" + conf.getMyId() + ": Unable to receive from P"
+              + partyId + ". Receiver not running");
+        }
+        LockSupport.park(this);
+        if (Thread.interrupted()) {
+          throw new RuntimeException("Receive interrupted");
+        }
+      }
+    } finally {
+      peer.waiter = null;
+    }
+    return data;
+  }
+
+  @Override
+  public int getNoOfParties() {
+    return conf.noOfParties();
+  }
+
+  /**
+   * Flushes all queued messages, signals the other parties that this party is closing, and
+   * releases the channels and the selector thread.
+   */
+  @Override
+  public void close() {
+    if (alive) {
+      alive = false;
+      if (conf.noOfParties() < 2) {
+        logger.info("P{}: Network closed", conf.getMyId());
+        return;
+      }
+      closing = true;
+      for (int i = 1; i < peers.length; i++) {
+        Peer peer = peers[i];
+        if (peer != null && !peer.outputClosed) {
+          peer.outbound.offer(CLOSE_MARKER);
+          peer.writeRequested.set(true);
+        }
+      }
+      selector.wakeup();
+      ExceptionConverter.safe(() -> {
+        selectorThread.join();
+        return null;
+      }, "Interrupted while closing network");
+      logger.info("P{}: Network closed", conf.getMyId());
+    } else {
+      logger.info("P{}: Network already closed", conf.getMyId());
+    }
+  }
+
+  private void inRange(final int partyId) {
+    if (!(0 < partyId && partyId < getNoOfParties() + 1)) {
+      throw new IllegalArgumentException(
+          "Party id " + partyId + " not in range 1 ... " + getNoOfParties());
+    }
+  }
+
+  private void requestWrite(Peer peer) {
+    peer.writeRequested.set(true);
+    if (wakeupRequested.compareAndSet(false, true)) {
+      selector.wakeup();
+    }
+  }
+
+  private void run() {
+    try {
+      while (!(closing && allOutputClosed())) {
+        selector.select();
+        wakeupRequested.set(false);
+        for (int i = 1; i < peers.length; i++) {
+          Peer peer = peers[i];
+          if (peer != null && peer.writeRequested.getAndSet(false)) {
+            handleWrite(peer);
+          }
+        }
+        Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+        while (keys.hasNext()) {
+          SelectionKey key = keys.next();
+          keys.remove();
+          Peer peer = (Peer) key.attachment();
+          if (key.isValid() && key.isReadable()) {
+            handleRead(peer);
+          }
+          if (key.isValid() && key.isWritable()) {
+            handleWrite(peer);
+          }
+        }
+      }
+    } catch (IOException | RuntimeException e) {
+      logger.error("P" + conf.getMyId() + ": Selector failed unexpectedly", e);
+    } finally {
+      for (int i = 1; i < peers.length; i++) {
+        Peer peer = peers[i];
+        if (peer != null) {
+          stopPeer(peer);
+          ExceptionConverter.safe(() -> {
+            peer.channel.close();
+            return null;
+          }, "Unable to properly close channel");
+        }
+      }
+      ExceptionConverter.safe(() -> {
+        selector.close();
+        return null;
+      }, "Unable to properly close selector");
+    }
+  }
+
+  private boolean allOutputClosed() {
+    for (int i = 1; i < peers.length; i++) {
+      if (peers[i] != null && !peers[i].outputClosed) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void handleRead(Peer peer) {
+    try {
+      long read;
+      do {
+        if (peer.message != null) {
+          read = peer.channel.read(peer.scatter);
+        } else {
+          read = peer.channel.read(peer.readBuffer);
+        }
+        if (read < 0) {
+          stopReceiving(peer);
+          return;
+        }
+        parse(peer);
+      } while (read > 0 && peer.receiving);
+    } catch (IOException e) {
+      if (!closing) {
+        logger.error("P" + conf.getMyId() + ": Receiving from P" + peer.id + " failed", e);
+      }
+      stopPeer(peer);
+    }
+  }
+
+  /**
+   * Parses the data received so far into messages. Data of the message currently being received
+   * may have been scattered directly into the message, the rest is in the read buffer.
+   */
+  private void parse(Peer peer) {
+    if (peer.message != null && !peer.messageView.hasRemaining()) {
+      deliver(peer);
+    }
+    ByteBuffer buffer = peer.readBuffer;
+    buffer.flip();
+    while (peer.receiving) {
+      if (peer.message == null) {
+        if (buffer.remaining() < Integer.BYTES) {
+          break;
+        }
+        int length = buffer.getInt();
+        if (length < 0) {
+          stopReceiving(peer);
+          break;
+        }
+        peer.message = new byte[length];
+        peer.messageView = ByteBuffer.wrap(peer.message);
+        peer.scatter[0] = peer.messageView;
+      }
+      int count = Math.min(buffer.remaining(), peer.messageView.remaining());
+      buffer.get(peer.message, peer.messageView.position(), count);
+      peer.messageView.position(peer.messageView.position() + count);
+      if (peer.messageView.hasRemaining()) {
+        break;
+      }
+      deliver(peer);
+    }
+    buffer.compact();
+  }
+
+  private void deliver(Peer peer) {
+    peer.inbound.offer(peer.message);
+    peer.message = null;
+    peer.messageView = null;
+    peer.scatter[0] = null;
+    Thread waiter = peer.waiter;
+    if (waiter != null) {
+      LockSupport.unpark(waiter);
+    }
+  }
+
+  private void handleWrite(Peer peer) {
+    if (peer.outputClosed) {
+      return;
+    }
+    try {
+      while (true) {
+        if (peer.gatherOffset == peer.gatherLength && !gather(peer)) {
+          setInterest(peer, SelectionKey.OP_WRITE, false);
+          return;
+        }
+        peer.channel.write(peer.gathered, peer.gatherOffset,
+            peer.gatherLength - peer.gatherOffset);
+        while (peer.gatherOffset < peer.gatherLength
+            && !peer.gathered[peer.gatherOffset].hasRemaining()) {
+          peer.gathered[peer.gatherOffset++] = null;
+        }
+        if (peer.gatherOffset < peer.gatherLength) {
+          // The socket buffer is full, continue when the channel becomes writable
+          setInterest(peer, SelectionKey.OP_WRITE, true);
+          return;
+        }
+        if (peer.closeGathered) {
+          peer.outputClosed = true;
+          return;
+        }
+      }
+    } catch (IOException e) {
+      if (!closing) {
+        logger.error("P" + conf.getMyId() + ": Sending to P" + peer.id + " failed", e);
+      }
+      stopPeer(peer);
+    }
+  }
+
+  /**
+   * Collects the next queued messages of a peer, and their length prefixes, for a gathering
+   * write.
+   *
+   * @return false if no messages were queued
+   */
+  private boolean gather(Peer peer) {
+    peer.gatherOffset = 0;
+    peer.gatherLength = 0;
+    for (int i = 0; i < MAX_GATHERED_MESSAGES && !peer.closeGathered; i++) {
+      byte[] message = peer.outbound.poll();
+      if (message == null) {
+        break;
+      }
+      ByteBuffer header = peer.headers[i];
+      header.clear();
+      if (message == CLOSE_MARKER) {
+        header.putInt(-1);
+        peer.closeGathered = true;
+      } else {
+        header.putInt(message.length);
+      }
+      header.flip();
+      peer.gathered[peer.gatherLength++] = header;
+      if (message.length > 0) {
+        peer.gathered[peer.gatherLength++] = ByteBuffer.wrap(message);
+      }
+    }
+    return peer.gatherLength > 0;
+  }
+
+  private void setInterest(Peer peer, int operation, boolean enabled) {
+    if (peer.key.isValid()) {
+      int ops = peer.key.interestOps();
+      peer.key.interestOps(enabled ? ops | operation : ops & ~operation);
+    }
+  }
+
+  private void stopReceiving(Peer peer) {
+    setInterest(peer, SelectionKey.OP_READ, false);
+    peer.receiving = false;
+    Thread waiter = peer.waiter;
+    if (waiter != null) {
+      LockSupport.unpark(waiter);
+    }
+  }
+
+  private void stopPeer(Peer peer) {
+    peer.outputClosed = true;
+    stopReceiving(peer);
+    peer.key.cancel();
+  }
+
+  /**
+   * The state of the connection to a single other party. Apart from the queues and the flags
+   * shared with the thread using the network, the state is owned by the selector thread.
+   */
+  private static class Peer {
+
+    private final int id;
+    private final SocketChannel channel;
+    private SelectionKey key;
+    private final SpscQueue<byte[]> outbound;
+    private final AtomicBoolean writeRequested;
+    private final ByteBuffer[] headers;
+    private final ByteBuffer[] gathered;
+    private int gatherOffset;
+    private int gatherLength;
+    private boolean closeGathered;
+    private volatile boolean outputClosed;
+    private final SpscQueue<byte[]> inbound;
+    private final ByteBuffer readBuffer;
+    private final ByteBuffer[] scatter;
+    private byte[] message;
+    private ByteBuffer messageView;
+    private volatile boolean receiving;
+    private volatile Thread waiter;
+
+    private Peer(int id, SocketChannel channel) {
+      this.id = id;
+      this.channel = channel;
+      this.outbound = new SpscQueue<>();
+      this.writeRequested = new AtomicBoolean();
+      this.headers = new ByteBuffer[MAX_GATHERED_MESSAGES];
+      ByteBuffer headerBlock = ByteBuffer.allocateDirect(MAX_GATHERED_MESSAGES * Integer.BYTES);
+      for (int i = 0; i < MAX_GATHERED_MESSAGES; i++) {
+        headerBlock.limit((i + 1) * Integer.BYTES);
+        headerBlock.position(i * Integer.BYTES);
+        headers[i] = headerBlock.slice();
+      }
+      this.gathered = new ByteBuffer[2 * MAX_GATHERED_MESSAGES];
+      this.inbound = new SpscQueue<>();
+      this.readBuffer = ByteBuffer.allocateDirect(READ_BUFFER_SIZE);
+      this.scatter = new ByteBuffer[] {null, readBuffer};
+      this.receiving = true;
+    }
+  }
+}
@@ -0,0 +1,70 @@
+package dk.alexandra.fresco.framework.network.socket;
+
+/**
+ * An unbounded, lock-free queue for handing elements from exactly one producer thread to exactly
+ * one consumer thread.
+ *
+ * <p>
+ * The queue is a singly linked list with a dummy head node. Only the producer touches the tail
+ * and only the consumer touches the head, so the two threads only synchronize through the
+ * volatile link between consecutive nodes.
+ * </p>
+ *
+ * @param <T> the type of the elements
+ */
+class SpscQueue<T> {
+
+  private Node<T> head;
+  private Node<T> tail;
+
+  SpscQueue() {
+    this.head = new Node<>(null);
+    this.tail = head;
+  }
+
+  /**
+   * Appends an element to the queue. Must only be called by the producer thread.
+   *
+   * @param element the element, must not be null
+   */
+  void offer(T element) {
+    Node<T> node = new Node<>(element);
+    tail.next = node;
+    tail = node;
+  }
+
+  /**
+   * Removes the first element of the queue. Must only be called by the consumer thread.
+   *
+   * @return the first element or null if the queue is empty
+   */
+  T poll() {
+    Node<T> next = head.next;
+    if (next == null) {
+      return null;
+    }
+    T element = next.element;
+    next.element = null;
+    head = next;
+    return element;
+  }
+
+  /**
+   * Tests if the queue is empty. Must only be called by the consumer thread.
+   *
+   * @return true if the queue is empty
+   */
+  boolean isEmpty() {
+    return head.next == null;
+  }
+
+  private static class Node<T> {
+
+    private T element;
+    private volatile Node<T> next;
+
+    private Node(T element) {
+      this.element = element;
+    }
+  }
+}
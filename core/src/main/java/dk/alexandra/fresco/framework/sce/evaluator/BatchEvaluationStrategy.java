@@ -2,6 +2,7 @@ package dk.alexandra.fresco.framework.sce.evaluator;
 
 import dk.alexandra.fresco.framework.ProtocolCollection;
 import dk.alexandra.fresco.framework.sce.resources.ResourcePool;
+import dk.alexandra.fresco.suite.ProtocolSuite;
 
 /**
  * Interface which knows how to evaluate a "batch" of protocols. A batch is a collection of native
@@ -19,4 +20,15 @@ public interface BatchEvaluationStrategy<ResourcePoolT extends ResourcePool> {
   void processBatch(
       ProtocolCollection<ResourcePoolT> protocols, ResourcePoolT resourcePool,
       NetworkBatchDecorator network);
+
+  /**
+   * Tells if protocols of a batch are evaluated in parallel, in which case the strategy may only
+   * be used with protocol suites that are {@link ProtocolSuite#isOrderIndependent() order
+   * independent}.
+   *
+   * @return true if protocols are evaluated in parallel, false by default
+   */
+  default boolean isParallel() {
+    return false;
+  }
 }
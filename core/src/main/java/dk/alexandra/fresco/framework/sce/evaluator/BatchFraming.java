@@ -0,0 +1,30 @@
+package dk.alexandra.fresco.framework.sce.evaluator;
+
+import dk.alexandra.fresco.framework.network.Network;
+
+/**
+ * The framing used to batch the messages of the native protocols evaluated in a round. All parties
+ * must use the same framing.
+ */
+public enum BatchFraming {
+  SINGLE_BYTE {
+    @Override
+    public NetworkBatchDecorator createDecorator(int noOfParties, Network network) {
+      return new NetworkBatchDecorator(noOfParties, network);
+    }
+  }, VARINT {
+    @Override
+    public NetworkBatchDecorator createDecorator(int noOfParties, Network network) {
+      return new VarintNetworkBatchDecorator(noOfParties, network);
+    }
+  };
+
+  /**
+   * Creates a decorator batching messages sent over the given network using this framing.
+   *
+   * @param noOfParties the number of parties
+   * @param network the network to decorate
+   * @return the decorated network
+   */
+  public abstract NetworkBatchDecorator createDecorator(int noOfParties, Network network);
+}
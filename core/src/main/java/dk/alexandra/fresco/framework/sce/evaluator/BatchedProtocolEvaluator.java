@@ -24,6 +24,7 @@ public class BatchedProtocolEvaluator<ResourcePoolT extends ResourcePool>
   private final BatchEvaluationStrategy<ResourcePoolT> batchEvaluator;
   private final ProtocolSuite<ResourcePoolT, ?> protocolSuite;
   private final int maxBatchSize;
+  private final BatchFraming framing;
 
   public BatchedProtocolEvaluator(
       BatchEvaluationStrategy<ResourcePoolT> batchEvaluator,
@@ -34,9 +35,31 @@ public class BatchedProtocolEvaluator<ResourcePoolT extends ResourcePool>
   public BatchedProtocolEvaluator(
       BatchEvaluationStrategy<ResourcePoolT> batchEvaluator,
       ProtocolSuite<ResourcePoolT, ?> protocolSuite, int maxBatchSize) {
+    this(batchEvaluator, protocolSuite, maxBatchSize, BatchFraming.SINGLE_BYTE);
+  }
+
+  /**
+   * Creates an evaluator which frames the messages of each round using the given framing.
+   *
+   * @param batchEvaluator the strategy for evaluating each batch
+   * @param protocolSuite the protocol suite
+   * @param maxBatchSize the maximum number of native protocols in a batch
+   * @param framing the framing of messages within a round, must be the same for all parties
+   * @throws IllegalArgumentException if the strategy evaluates in parallel and the protocol suite
+   *     is not order independent
+   */
+  public BatchedProtocolEvaluator(
+      BatchEvaluationStrategy<ResourcePoolT> batchEvaluator,
+      ProtocolSuite<ResourcePoolT, ?> protocolSuite, int maxBatchSize, BatchFraming framing) {
+    if (batchEvaluator.isParallel() && !protocolSuite.isOrderIndependent()) {
+      throw new IllegalArgumentException("Protocol suite "
+          + protocolSuite.getClass().getSimpleName()
+          + " depends on the order of evaluation and cannot be evaluated in parallel");
+    }
     this.batchEvaluator = batchEvaluator;
     this.maxBatchSize = maxBatchSize;
     this.protocolSuite = protocolSuite;
+    this.framing = framing;
   }
 
   @Override
@@ -70,6 +93,6 @@ public class BatchedProtocolEvaluator<ResourcePoolT extends ResourcePool>
   }
 
   private NetworkBatchDecorator createSceNetwork(ResourcePool resourcePool, Network network) {
-    return new NetworkBatchDecorator(resourcePool.getNoOfParties(), network);
+    return framing.createDecorator(resourcePool.getNoOfParties(), network);
   }
 }
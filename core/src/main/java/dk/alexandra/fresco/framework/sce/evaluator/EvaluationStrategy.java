@@ -15,6 +15,17 @@ public enum EvaluationStrategy {
         BatchEvaluationStrategy<ResourcePoolT> getStrategy() {
       return new BatchedStrategy<>();
     }
+  },
+  /**
+   * Evaluates the protocols of each round in parallel, see {@link ParallelBatchedStrategy} for the
+   * protocol suites this applies to.
+   */
+  PARALLEL_BATCHED {
+    @Override
+    public <ResourcePoolT extends ResourcePool>
+        BatchEvaluationStrategy<ResourcePoolT> getStrategy() {
+      return new ParallelBatchedStrategy<>();
+    }
   };
 
   public abstract <ResourcePoolT extends ResourcePool>
@@ -3,6 +3,7 @@ package dk.alexandra.fresco.framework.sce.evaluator;
 import dk.alexandra.fresco.framework.network.Network;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -13,6 +14,10 @@ import java.util.Map;
  * on the network.
  * <br/>
  * It is important to call flush to empty all buffers after sending and before receiving data
+ * <br/>
+ * Each message is prefixed by a single length byte, so messages are limited to
+ * {@link Byte#MAX_VALUE} bytes. See {@link VarintNetworkBatchDecorator} for a framing without
+ * this limit.
  */
 public class NetworkBatchDecorator implements Network {
 
@@ -43,6 +48,23 @@ public class NetworkBatchDecorator implements Network {
     return bytes;
   }
 
+  /**
+   * Receives the next message from a party as a read-only buffer. Implementations may return a
+   * view of the received batch rather than a copy, so the buffer is only valid until the next
+   * {@link #flush()}.
+   *
+   * @param id the party to receive from
+   * @return the next message from the party
+   */
+  public ByteBuffer receiveBuffer(int id) {
+    return ByteBuffer.wrap(receive(id)).asReadOnlyBuffer();
+  }
+
+  @Override
+  public int getMaxMessageLength() {
+    return Byte.MAX_VALUE;
+  }
+
   @Override
   public int getNoOfParties() {
     return noOfParties;
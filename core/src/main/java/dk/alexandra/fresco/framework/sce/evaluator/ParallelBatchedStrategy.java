@@ -0,0 +1,309 @@
+package dk.alexandra.fresco.framework.sce.evaluator;
+
+import dk.alexandra.fresco.framework.NativeProtocol;
+import dk.alexandra.fresco.framework.NativeProtocol.EvaluationStatus;
+import dk.alexandra.fresco.framework.ProtocolCollection;
+import dk.alexandra.fresco.framework.network.Network;
+import dk.alexandra.fresco.framework.sce.resources.PartitionedResourcePool;
+import dk.alexandra.fresco.framework.sce.resources.ResourcePool;
+import dk.alexandra.fresco.suite.ProtocolSuite;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A batched strategy evaluating the protocols of each round in parallel. As in {@link
+ * BatchedStrategy} a batch is evaluated round by round, flushing the network between rounds, but
+ * within a round the protocols are split into contiguous partitions which are evaluated by a pool
+ * of worker threads.
+ *
+ * <p>The messages exchanged are exactly those of {@link BatchedStrategy}, so a party using this
+ * strategy can run against parties evaluating sequentially:</p>
+ * <ul>
+ * <li>Each partition buffers the messages sent by its protocols. Once all partitions are done the
+ * buffers are passed on to the network in partition order, i.e., in protocol order.</li>
+ * <li>Messages are received in protocol order: a protocol receiving a message waits until all
+ * protocols before it in the round have been evaluated. Rounds where protocols only compute and
+ * send are therefore fully parallel, while rounds where they receive are parallel only up to the
+ * first receive of each protocol.</li>
+ * </ul>
+ *
+ * <p>The protocols of a round see the resource pool as if they were evaluated in protocol order:</p>
+ * <ul>
+ * <li>Before a round is evaluated in parallel, {@link NativeProtocol#prepare(int, ResourcePool)}
+ * is called for each of its protocols in protocol order on the calling thread, letting them take
+ * e.g. preprocessed material from the resource pool.</li>
+ * <li>If the resource pool is a {@link PartitionedResourcePool}, each partition is evaluated with
+ * its own partition of the resource pool, and the partitions are merged back in partition order,
+ * i.e., in protocol order. Otherwise the resource pool is shared by the worker threads.</li>
+ * </ul>
+ *
+ * <p>This strategy may therefore only be used with protocol suites whose native protocols use the
+ * resource pool in this way, see {@link ProtocolSuite#isOrderIndependent()}. The {@link
+ * BatchedProtocolEvaluator} rejects other suites.</p>
+ *
+ * <p>Rounds with fewer than {@link #MIN_PARTITION_SIZE} protocols per worker are evaluated by
+ * fewer workers, and rounds with a single partition on the calling thread.</p>
+ */
+public class ParallelBatchedStrategy<ResourcePoolT extends ResourcePool>
+    implements BatchEvaluationStrategy<ResourcePoolT> {
+
+  /**
+   * The smallest number of protocols worth handing to a separate worker.
+   */
+  static final int MIN_PARTITION_SIZE = 64;
+  private static final long IDLE_TIMEOUT_SECONDS = 60;
+  private static final AtomicInteger threadCounter = new AtomicInteger(1);
+
+  private final int parallelism;
+  private final ExecutorService executorService;
+
+  /**
+   * Creates a strategy using a worker per available processor.
+   */
+  public ParallelBatchedStrategy() {
+    this(Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Creates a strategy using the given number of workers.
+   *
+   * @param parallelism the number of worker threads, must be positive
+   */
+  public ParallelBatchedStrategy(int parallelism) {
+    if (parallelism < 1) {
+      throw new IllegalArgumentException("Parallelism must be positive, was " + parallelism);
+    }
+    this.parallelism = parallelism;
+    ThreadPoolExecutor executor = new ThreadPoolExecutor(parallelism, parallelism,
+        IDLE_TIMEOUT_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+          Thread thread = new Thread(r, "Evaluator-" + threadCounter.getAndIncrement());
+          thread.setDaemon(true);
+          return thread;
+        });
+    // let idle workers terminate, since strategies are not closed after use
+    executor.allowCoreThreadTimeOut(true);
+    this.executorService = executor;
+  }
+
+  @Override
+  public boolean isParallel() {
+    return true;
+  }
+
+  @Override
+  public void processBatch(
+      ProtocolCollection<ResourcePoolT> protocols, ResourcePoolT resourcePool,
+      NetworkBatchDecorator networkBatchDecorator) {
+    List<NativeProtocol<?, ResourcePoolT>> pending = new ArrayList<>();
+    for (NativeProtocol<?, ResourcePoolT> protocol : protocols) {
+      pending.add(protocol);
+    }
+    int round = 0;
+    while (pending.size() > 0) {
+      pending = evaluateCurrentRound(pending, networkBatchDecorator, resourcePool, round);
+      networkBatchDecorator.flush();
+      round++;
+    }
+  }
+
+  private List<NativeProtocol<?, ResourcePoolT>> evaluateCurrentRound(
+      List<NativeProtocol<?, ResourcePoolT>> protocols, NetworkBatchDecorator network,
+      ResourcePoolT resourcePool, int round) {
+    int size = protocols.size();
+    int noOfPartitions = Math.min(parallelism, Math.max(1, size / MIN_PARTITION_SIZE));
+    if (noOfPartitions == 1) {
+      return evaluateSequentially(protocols, network, resourcePool, round);
+    }
+    for (NativeProtocol<?, ResourcePoolT> protocol : protocols) {
+      protocol.prepare(round, resourcePool);
+    }
+    ReceiveOrder receiveOrder = new ReceiveOrder(size);
+    List<Partition> partitions = new ArrayList<>(noOfPartitions);
+    List<Future<List<NativeProtocol<?, ResourcePoolT>>>> futures = new ArrayList<>();
+    // partitions are submitted in order, so a partition waiting for an earlier one to receive
+    // only waits for a partition that has already been started
+    for (int i = 0; i < noOfPartitions; i++) {
+      int from = (int) ((long) size * i / noOfPartitions);
+      int to = (int) ((long) size * (i + 1) / noOfPartitions);
+      Partition partition =
+          new Partition(network, receiveOrder, from, createPartition(resourcePool));
+      partitions.add(partition);
+      List<NativeProtocol<?, ResourcePoolT>> part = protocols.subList(from, to);
+      futures.add(executorService.submit(() -> partition.evaluate(part, round)));
+    }
+    List<NativeProtocol<?, ResourcePoolT>> remaining = new ArrayList<>();
+    RuntimeException failure = null;
+    for (Future<List<NativeProtocol<?, ResourcePoolT>>> future : futures) {
+      try {
+        remaining.addAll(future.get());
+      } catch (ExecutionException e) {
+        if (failure == null) {
+          failure = e.getCause() instanceof RuntimeException
+              ? (RuntimeException) e.getCause()
+              : new RuntimeException("Failed to evaluate protocols", e.getCause());
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        receiveOrder.abort();
+        throw new RuntimeException("Interrupted while evaluating protocols", e);
+      }
+    }
+    if (failure != null) {
+      throw failure;
+    }
+    for (Partition partition : partitions) {
+      partition.flushTo(network);
+      mergePartition(resourcePool, partition.resourcePool);
+    }
+    return remaining;
+  }
+
+  @SuppressWarnings("unchecked")
+  private ResourcePoolT createPartition(ResourcePoolT resourcePool) {
+    if (resourcePool instanceof PartitionedResourcePool) {
+      return ((PartitionedResourcePool<ResourcePoolT>) resourcePool).createPartition();
+    }
+    return resourcePool;
+  }
+
+  @SuppressWarnings("unchecked")
+  private void mergePartition(ResourcePoolT resourcePool, ResourcePoolT partition) {
+    if (resourcePool instanceof PartitionedResourcePool) {
+      ((PartitionedResourcePool<ResourcePoolT>) resourcePool).mergePartition(partition);
+    }
+  }
+
+  private List<NativeProtocol<?, ResourcePoolT>> evaluateSequentially(
+      List<NativeProtocol<?, ResourcePoolT>> protocols, Network network,
+      ResourcePoolT resourcePool, int round) {
+    List<NativeProtocol<?, ResourcePoolT>> remaining = new ArrayList<>();
+    for (NativeProtocol<?, ResourcePoolT> protocol : protocols) {
+      EvaluationStatus status = protocol.evaluate(round, resourcePool, network);
+      if (status.equals(EvaluationStatus.HAS_MORE_ROUNDS)) {
+        remaining.add(protocol);
+      }
+    }
+    return remaining;
+  }
+
+  /**
+   * Tracks which protocols of a round have been evaluated, letting a protocol receive once all
+   * protocols before it are done.
+   */
+  private static final class ReceiveOrder {
+
+    private final boolean[] done;
+    private int prefix;
+    private boolean aborted;
+
+    private ReceiveOrder(int size) {
+      this.done = new boolean[size];
+    }
+
+    private synchronized void finished(int index) {
+      done[index] = true;
+      while (prefix < done.length && done[prefix]) {
+        prefix++;
+      }
+      notifyAll();
+    }
+
+    private synchronized void awaitTurn(int index) {
+      while (prefix < index && !aborted) {
+        try {
+          wait();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new RuntimeException("Interrupted while waiting to receive", e);
+        }
+      }
+      if (aborted) {
+        throw new IllegalStateException("Evaluation of an earlier protocol failed");
+      }
+    }
+
+    private synchronized void abort() {
+      aborted = true;
+      notifyAll();
+    }
+  }
+
+  /**
+   * A contiguous part of the protocols of a round, serving as the network of its protocols.
+   */
+  private final class Partition implements Network {
+
+    private final NetworkBatchDecorator network;
+    private final ReceiveOrder receiveOrder;
+    private final ResourcePoolT resourcePool;
+    private final List<Integer> receivers;
+    private final List<byte[]> messages;
+    private int current;
+
+    private Partition(NetworkBatchDecorator network, ReceiveOrder receiveOrder, int from,
+        ResourcePoolT resourcePool) {
+      this.network = network;
+      this.receiveOrder = receiveOrder;
+      this.resourcePool = resourcePool;
+      this.receivers = new ArrayList<>();
+      this.messages = new ArrayList<>();
+      this.current = from;
+    }
+
+    private List<NativeProtocol<?, ResourcePoolT>> evaluate(
+        List<NativeProtocol<?, ResourcePoolT>> protocols, int round) {
+      List<NativeProtocol<?, ResourcePoolT>> remaining = new ArrayList<>();
+      try {
+        for (NativeProtocol<?, ResourcePoolT> protocol : protocols) {
+          EvaluationStatus status = protocol.evaluate(round, resourcePool, this);
+          if (status.equals(EvaluationStatus.HAS_MORE_ROUNDS)) {
+            remaining.add(protocol);
+          }
+          receiveOrder.finished(current++);
+        }
+      } catch (RuntimeException e) {
+        receiveOrder.abort();
+        throw e;
+      }
+      return remaining;
+    }
+
+    private void flushTo(Network network) {
+      for (int i = 0; i < messages.size(); i++) {
+        network.send(receivers.get(i), messages.get(i));
+      }
+    }
+
+    @Override
+    public void send(int partyId, byte[] data) {
+      receivers.add(partyId);
+      messages.add(data);
+    }
+
+    @Override
+    public byte[] receive(int partyId) {
+      receiveOrder.awaitTurn(current);
+      // only one protocol at a time gets its turn, the lock publishes the state of the network
+      synchronized (network) {
+        return network.receive(partyId);
+      }
+    }
+
+    @Override
+    public int getNoOfParties() {
+      return network.getNoOfParties();
+    }
+
+    @Override
+    public int getMaxMessageLength() {
+      return network.getMaxMessageLength();
+    }
+  }
+}
@@ -0,0 +1,124 @@
+package dk.alexandra.fresco.framework.sce.evaluator;
+
+import dk.alexandra.fresco.framework.network.Network;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * A {@link NetworkBatchDecorator} which frames each message with a variable length prefix, and
+ * hence supports messages of arbitrary size.
+ *
+ * <p>The length of each message is encoded as an unsigned varint, i.e., in groups of seven bits,
+ * least significant group first, where the most significant bit of each byte signals whether more
+ * bytes follow. Messages shorter than 128 bytes are thus framed exactly as by the
+ * {@link NetworkBatchDecorator}, but the two framings are not compatible in general, so all
+ * parties must use the same.</p>
+ *
+ * <p>Outgoing messages are written into one growable buffer per party which is reused between
+ * flushes. Incoming messages can be read without copying using {@link #receiveBuffer(int)}.</p>
+ */
+public class VarintNetworkBatchDecorator extends NetworkBatchDecorator {
+
+  private static final int INITIAL_BUFFER_SIZE = 1024;
+  private final Network network;
+  private final ByteBuffer[] output;
+  private final ByteBuffer[] input;
+
+  /**
+   * Creates a new decorator.
+   *
+   * @param noOfParties the number of parties
+   * @param network the network to send batches over
+   */
+  public VarintNetworkBatchDecorator(int noOfParties, Network network) {
+    super(noOfParties, network);
+    this.network = network;
+    this.output = new ByteBuffer[noOfParties + 1];
+    this.input = new ByteBuffer[noOfParties + 1];
+  }
+
+  @Override
+  public byte[] receive(int id) {
+    ByteBuffer message = receiveBuffer(id);
+    byte[] bytes = new byte[message.remaining()];
+    message.get(bytes);
+    return bytes;
+  }
+
+  @Override
+  public ByteBuffer receiveBuffer(int id) {
+    ByteBuffer batch = input[id];
+    if (batch == null) {
+      batch = ByteBuffer.wrap(network.receive(id));
+      input[id] = batch;
+    }
+    int length = readLength(batch);
+    ByteBuffer message = batch.slice();
+    message.limit(length);
+    batch.position(batch.position() + length);
+    return message.asReadOnlyBuffer();
+  }
+
+  @Override
+  public int getMaxMessageLength() {
+    return Integer.MAX_VALUE;
+  }
+
+  @Override
+  public void send(int id, byte[] data) {
+    ByteBuffer buffer = ensureCapacity(id, data.length + 5);
+    writeLength(buffer, data.length);
+    buffer.put(data);
+  }
+
+  @Override
+  public void flush() {
+    for (int i = 1; i < output.length; i++) {
+      ByteBuffer buffer = output[i];
+      if (buffer != null && buffer.position() > 0) {
+        network.send(i, Arrays.copyOf(buffer.array(), buffer.position()));
+        buffer.clear();
+      }
+    }
+    Arrays.fill(input, null);
+  }
+
+  private ByteBuffer ensureCapacity(int id, int required) {
+    ByteBuffer buffer = output[id];
+    if (buffer == null) {
+      buffer = ByteBuffer.allocate(Math.max(INITIAL_BUFFER_SIZE, required));
+      output[id] = buffer;
+    } else if (buffer.remaining() < required) {
+      int capacity = Math.max(2 * buffer.capacity(), buffer.position() + required);
+      ByteBuffer grown = ByteBuffer.allocate(capacity);
+      buffer.flip();
+      grown.put(buffer);
+      buffer = grown;
+      output[id] = buffer;
+    }
+    return buffer;
+  }
+
+  static void writeLength(ByteBuffer buffer, int length) {
+    while ((length & ~0x7F) != 0) {
+      buffer.put((byte) ((length & 0x7F) | 0x80));
+      length >>>= 7;
+    }
+    buffer.put((byte) length);
+  }
+
+  static int readLength(ByteBuffer buffer) {
+    int length = 0;
+    int shift = 0;
+    byte current;
+    do {
+      if (shift > 28) {
+        throw new IllegalStateException("Malformed length prefix");
+      }
+      current = buffer.get();
+      length |= (current & 0x7F) << shift;
+      shift += 7;
+    } while ((current & 0x80) != 0);
+    return length;
+  }
+}
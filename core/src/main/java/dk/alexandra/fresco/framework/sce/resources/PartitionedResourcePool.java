@@ -0,0 +1,32 @@
+package dk.alexandra.fresco.framework.sce.resources;
+
+/**
+ * A resource pool holding state that native protocols update during evaluation and which cannot
+ * be shared by protocols evaluated in parallel, such as a store of opened values or a message
+ * digest. A {@link dk.alexandra.fresco.framework.sce.evaluator.ParallelBatchedStrategy} evaluates
+ * each part of a round with its own partition of the resource pool, and merges the partitions back
+ * in protocol order once all parts of the round have been evaluated.
+ *
+ * @param <ResourcePoolT> the type of the partitions, i.e., the type of this resource pool
+ */
+public interface PartitionedResourcePool<ResourcePoolT extends ResourcePool>
+    extends ResourcePool {
+
+  /**
+   * Creates a partition of this resource pool. The partition shares the state of this resource
+   * pool which is not updated by native protocols during evaluation, and has its own copy of the
+   * remaining state.
+   *
+   * @return a new partition
+   */
+  ResourcePoolT createPartition();
+
+  /**
+   * Merges the state of a partition back into this resource pool. Partitions of a round are merged
+   * in the order of the protocols they evaluated.
+   *
+   * @param partition a partition created by {@link #createPartition()}
+   */
+  void mergePartition(ResourcePoolT partition);
+
+}
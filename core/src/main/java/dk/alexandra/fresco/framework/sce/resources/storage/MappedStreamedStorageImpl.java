@@ -0,0 +1,265 @@
+package dk.alexandra.fresco.framework.sce.resources.storage;
+
+import dk.alexandra.fresco.framework.sce.resources.storage.exceptions.NoMoreElementsException;
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Streamed storage keeping stores as files of fixed width binary records.
+ *
+ * <p>A store is read in this format if a {@link RecordFormat} has been registered for its name,
+ * otherwise it is passed on to a fallback storage. Files are memory mapped and records are decoded
+ * as they are fetched, so neither the file nor the decoded records are held on the heap.</p>
+ *
+ * <p>Since records have fixed width, reading may start at any record. This lets several engines
+ * consume disjoint slices of the same file by {@link #slice(String, long, long) slicing} the store
+ * in each their instance of this storage.</p>
+ */
+public class MappedStreamedStorageImpl implements StreamedStorage {
+
+  /**
+   * The largest number of bytes mapped at once. A buffer can hold at most 2GB, so larger files
+   * are mapped in chunks.
+   */
+  static final long MAX_CHUNK_SIZE = Integer.MAX_VALUE;
+
+  private final StreamedStorage fallback;
+  private final long maxChunkSize;
+  private final Map<String, RecordFormat<?>> formats;
+  private final Map<String, MappedRecords> readers;
+  private final Map<String, OutputStream> writers;
+
+  /**
+   * Creates an instance of the memory mapped storage. Stores with no registered format are read
+   * and written using the given storage.
+   *
+   * @param fallback The storage used for stores with no registered format
+   */
+  public MappedStreamedStorageImpl(StreamedStorage fallback) {
+    this(fallback, MAX_CHUNK_SIZE);
+  }
+
+  /**
+   * Creates an instance of the memory mapped storage mapping at most the given number of bytes at
+   * once.
+   *
+   * @param fallback The storage used for stores with no registered format
+   * @param maxChunkSize The largest number of bytes to map at once
+   */
+  MappedStreamedStorageImpl(StreamedStorage fallback, long maxChunkSize) {
+    this.fallback = fallback;
+    this.maxChunkSize = maxChunkSize;
+    this.formats = new HashMap<>();
+    this.readers = new HashMap<>();
+    this.writers = new HashMap<>();
+  }
+
+  /**
+   * Registers the format of the records of a store.
+   *
+   * @param name The name of the store, i.e., the filename
+   * @param format The format of the records of the store
+   */
+  public void registerFormat(String name, RecordFormat<?> format) {
+    if (readers.containsKey(name) || writers.containsKey(name)) {
+      throw new IllegalStateException("Store " + name + " is already in use");
+    }
+    formats.put(name, format);
+  }
+
+  /**
+   * Restricts reading of a store to a slice of its records. Must be called before the first
+   * record of the store is read.
+   *
+   * @param name The name of the store
+   * @param fromRecord The index of the first record of the slice
+   * @param noOfRecords The number of records in the slice
+   */
+  public void slice(String name, long fromRecord, long noOfRecords)
+      throws NoMoreElementsException {
+    if (readers.containsKey(name)) {
+      throw new IllegalStateException("Store " + name + " has already been read from");
+    }
+    MappedRecords records = open(name);
+    if (fromRecord < 0 || noOfRecords < 0 || fromRecord + noOfRecords > records.end) {
+      records.close();
+      throw new IllegalArgumentException("Slice of " + noOfRecords + " records from record "
+          + fromRecord + " exceeds the " + records.end + " records of store " + name);
+    }
+    records.next = fromRecord;
+    records.end = fromRecord + noOfRecords;
+    readers.put(name, records);
+  }
+
+  /**
+   * Gets the number of records of a store which have not yet been read.
+   *
+   * @param name The name of the store
+   * @return the number of remaining records
+   */
+  public long getRemainingRecords(String name) throws NoMoreElementsException {
+    return getReader(name).remaining();
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public <T extends Serializable> T getNext(String name) throws NoMoreElementsException {
+    if (!formats.containsKey(name)) {
+      return fallback.getNext(name);
+    }
+    return (T) getReader(name).next();
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public boolean putNext(String name, Serializable o) {
+    RecordFormat<Serializable> format = (RecordFormat<Serializable>) formats.get(name);
+    if (format == null) {
+      return fallback.putNext(name, o);
+    }
+    if (!writers.containsKey(name)) {
+      try {
+        writers.put(name, new BufferedOutputStream(new FileOutputStream(name)));
+      } catch (IOException e) {
+        throw new RuntimeException("IOException accessing store name: " + name, e);
+      }
+    }
+    ByteBuffer buffer = ByteBuffer.allocate(format.getRecordLength());
+    format.write(o, buffer);
+    if (buffer.hasRemaining()) {
+      throw new IllegalStateException("Format wrote " + buffer.position() + " bytes, expected "
+          + format.getRecordLength());
+    }
+    try {
+      writers.get(name).write(buffer.array());
+    } catch (IOException e) {
+      throw new RuntimeException("IOException writing to store name " + name, e);
+    }
+    return true;
+  }
+
+  @Override
+  public void shutdown() {
+    for (MappedRecords records : readers.values()) {
+      records.close();
+    }
+    readers.clear();
+    for (OutputStream writer : writers.values()) {
+      try {
+        writer.close();
+      } catch (IOException e) {
+        // Do nothing - nothing can be done
+      }
+    }
+    writers.clear();
+    fallback.shutdown();
+  }
+
+  @Override
+  public boolean putObject(String name, String key, Serializable o) {
+    return fallback.putObject(name, key, o);
+  }
+
+  @Override
+  public <T extends Serializable> T getObject(String name, String key) {
+    return fallback.getObject(name, key);
+  }
+
+  private MappedRecords getReader(String name) throws NoMoreElementsException {
+    MappedRecords records = readers.get(name);
+    if (records == null) {
+      records = open(name);
+      readers.put(name, records);
+    }
+    return records;
+  }
+
+  private MappedRecords open(String name) throws NoMoreElementsException {
+    RecordFormat<?> format = formats.get(name);
+    if (format == null) {
+      throw new IllegalArgumentException("No format registered for store " + name);
+    }
+    OutputStream writer = writers.get(name);
+    try {
+      if (writer != null) {
+        writer.flush();
+      }
+      FileChannel channel = FileChannel.open(Paths.get(name), StandardOpenOption.READ);
+      return new MappedRecords(channel, format, maxChunkSize);
+    } catch (IOException e) {
+      throw new NoMoreElementsException(
+          "IOException accessing store name: " + name + ". Likely the file does not exist", e);
+    }
+  }
+
+  /**
+   * The records of a file, mapped a chunk at a time.
+   */
+  private static final class MappedRecords {
+
+    private final FileChannel channel;
+    private final RecordFormat<?> format;
+    private final long recordsPerChunk;
+    private long end;
+    private long next;
+    private MappedByteBuffer chunk;
+    private long chunkStart;
+    private long chunkEnd;
+
+    private MappedRecords(FileChannel channel, RecordFormat<?> format, long maxChunkSize)
+        throws IOException {
+      this.channel = channel;
+      this.format = format;
+      this.recordsPerChunk = Math.max(1, maxChunkSize / format.getRecordLength());
+      this.end = channel.size() / format.getRecordLength();
+    }
+
+    private long remaining() {
+      return end - next;
+    }
+
+    private Serializable next() throws NoMoreElementsException {
+      if (next >= end) {
+        throw new NoMoreElementsException("No more records, " + end + " records were read");
+      }
+      if (chunk == null || next < chunkStart || next >= chunkEnd) {
+        map(next);
+      }
+      chunk.position((int) ((next - chunkStart) * format.getRecordLength()));
+      next++;
+      return format.read(chunk);
+    }
+
+    private void map(long from) throws NoMoreElementsException {
+      long to = Math.min(end, from + recordsPerChunk);
+      long recordLength = format.getRecordLength();
+      try {
+        chunk = channel.map(MapMode.READ_ONLY, from * recordLength, (to - from) * recordLength);
+      } catch (IOException e) {
+        throw new NoMoreElementsException("IOException mapping records " + from + " to " + to, e);
+      }
+      chunkStart = from;
+      chunkEnd = to;
+    }
+
+    private void close() {
+      chunk = null;
+      try {
+        channel.close();
+      } catch (IOException e) {
+        // Do nothing - nothing can be done
+      }
+    }
+  }
+}
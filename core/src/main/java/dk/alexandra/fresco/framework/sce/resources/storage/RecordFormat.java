@@ -0,0 +1,37 @@
+package dk.alexandra.fresco.framework.sce.resources.storage;
+
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+
+/**
+ * A fixed width binary format for the records of a store in a {@link MappedStreamedStorageImpl}.
+ * Since all records have the same length, the i'th record of a store can be found without reading
+ * the records before it.
+ *
+ * @param <T> the type of the records
+ */
+public interface RecordFormat<T extends Serializable> {
+
+  /**
+   * Gets the number of bytes of a record.
+   *
+   * @return the record length
+   */
+  int getRecordLength();
+
+  /**
+   * Writes a record to a buffer. Exactly {@link #getRecordLength()} bytes are written.
+   *
+   * @param record the record to write
+   * @param buffer the buffer to write to
+   */
+  void write(T record, ByteBuffer buffer);
+
+  /**
+   * Reads a record from a buffer. Exactly {@link #getRecordLength()} bytes are read.
+   *
+   * @param buffer the buffer to read from
+   * @return the record
+   */
+  T read(ByteBuffer buffer);
+}
@@ -10,4 +10,8 @@ public class NoMoreElementsException extends Exception {
   public NoMoreElementsException(String s, Exception e) {
     super(s, e);
   }
+
+  public NoMoreElementsException(String s) {
+    super(s);
+  }
 }
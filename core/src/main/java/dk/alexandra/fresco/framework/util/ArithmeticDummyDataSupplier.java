@@ -60,6 +60,34 @@ public class ArithmeticDummyDataSupplier {
     );
   }
 
+  /**
+   * Computes the next truncation pair and this party's shares. <p>A truncation pair consists of a
+   * random value <i>r'</i> of <code>bitLength</code> bits and <i>r = r' >> shifts</i>.</p>
+   */
+  public TruncationPairShares getTruncationPairShares(int shifts, int bitLength) {
+    BigInteger rPrime = new BigInteger(bitLength, random);
+    BigInteger r = rPrime.shiftRight(shifts);
+    return new TruncationPairShares(
+        new Pair<>(rPrime, sharer.share(rPrime, noOfParties).get(myId - 1)),
+        new Pair<>(r, sharer.share(r, noOfParties).get(myId - 1)));
+  }
+
+  /**
+   * Computes the next edaBit and this party's shares. <p>An edaBit consists of a random value
+   * <i>r</i> of <code>bitLength</code> bits along with the bits of <i>r</i>, least significant
+   * first.</p>
+   */
+  public EdaBitShares getEdaBitShares(int bitLength) {
+    BigInteger value = new BigInteger(bitLength, random);
+    List<Pair<BigInteger, BigInteger>> bits = new ArrayList<>(bitLength);
+    for (int i = 0; i < bitLength; i++) {
+      BigInteger bit = value.testBit(i) ? BigInteger.ONE : BigInteger.ZERO;
+      bits.add(new Pair<>(bit, sharer.share(bit, noOfParties).get(myId - 1)));
+    }
+    return new EdaBitShares(
+        new Pair<>(value, sharer.share(value, noOfParties).get(myId - 1)), bits);
+  }
+
   /**
    * Constructs an exponentiation pipe. <p>An exponentiation pipe is a list of numbers in the
    * following format: r^{-1}, r, r^{2}, r^{3}, ..., r^{expPipeLength}, where r is a random element
@@ -0,0 +1,29 @@
+package dk.alexandra.fresco.framework.util;
+
+import java.math.BigInteger;
+import java.util.List;
+
+/**
+ * Generic representation of an edaBit.<p> An edaBit is a random value r of some bit length along
+ * with the bits of r (usually secret-shared). For the value and each of the bits, this class holds
+ * the open value as well as this party's share.</p>
+ */
+public class EdaBitShares {
+
+  private final Pair<BigInteger, BigInteger> value;
+  private final List<Pair<BigInteger, BigInteger>> bits;
+
+  public EdaBitShares(Pair<BigInteger, BigInteger> value,
+      List<Pair<BigInteger, BigInteger>> bits) {
+    this.value = value;
+    this.bits = bits;
+  }
+
+  public Pair<BigInteger, BigInteger> getValue() {
+    return value;
+  }
+
+  public List<Pair<BigInteger, BigInteger>> getBits() {
+    return bits;
+  }
+}
@@ -0,0 +1,118 @@
+package dk.alexandra.fresco.framework.util;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs mac checks in the background, letting the online phase continue while opened values are
+ * checked.
+ *
+ * <p>Checks are run one at a time on a single thread in the order they are submitted, so as long
+ * as all parties submit their checks in the same order the checks of the parties match up. A
+ * check typically communicates over a network of its own, since the network of the online phase
+ * is in use while the check runs.</p>
+ *
+ * <p>A failed check is reported by {@link #checkFailures()} or {@link #awaitChecks()}, rethrowing
+ * the exception of the check, e.g., a {@link dk.alexandra.fresco.framework.MaliciousException}.</p>
+ */
+public class MacCheckExecutor implements Closeable {
+
+  private static final long IDLE_TIMEOUT_SECONDS = 60;
+  private static final AtomicInteger threadCounter = new AtomicInteger(1);
+
+  private final ExecutorService executorService;
+  private final List<Future<?>> outstanding;
+
+  /**
+   * Creates a new executor with a single background thread.
+   */
+  public MacCheckExecutor() {
+    ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, IDLE_TIMEOUT_SECONDS,
+        TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+          Thread thread = new Thread(r, "MacCheck-" + threadCounter.getAndIncrement());
+          thread.setDaemon(true);
+          return thread;
+        });
+    executor.allowCoreThreadTimeOut(true);
+    this.executorService = executor;
+    this.outstanding = new ArrayList<>();
+  }
+
+  /**
+   * Submits a check to run after all previously submitted checks.
+   *
+   * @param check the check, throwing an exception if it fails
+   */
+  public void submit(Runnable check) {
+    outstanding.add(executorService.submit(check));
+  }
+
+  /**
+   * Rethrows the exception of any finished check that failed, without waiting for the checks still
+   * running.
+   */
+  public void checkFailures() {
+    Iterator<Future<?>> iterator = outstanding.iterator();
+    while (iterator.hasNext()) {
+      Future<?> future = iterator.next();
+      if (future.isDone()) {
+        iterator.remove();
+        get(future);
+      }
+    }
+  }
+
+  /**
+   * Waits for all submitted checks to finish, rethrowing the exception of the first one that
+   * failed.
+   */
+  public void awaitChecks() {
+    Iterator<Future<?>> iterator = outstanding.iterator();
+    while (iterator.hasNext()) {
+      Future<?> future = iterator.next();
+      iterator.remove();
+      get(future);
+    }
+  }
+
+  /**
+   * Gets the number of checks that have been submitted but not yet awaited.
+   *
+   * @return the number of outstanding checks
+   */
+  public int getOutstandingChecks() {
+    return outstanding.size();
+  }
+
+  private void get(Future<?> future) {
+    try {
+      future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Interrupted while waiting for mac check", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new RuntimeException("Mac check failed", e.getCause());
+    }
+  }
+
+  /**
+   * Stops the background thread once the submitted checks are done. Checks should be awaited
+   * first, since failures are no longer reported after closing.
+   */
+  @Override
+  public void close() {
+    executorService.shutdown();
+  }
+}
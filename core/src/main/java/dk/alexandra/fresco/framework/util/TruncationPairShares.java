@@ -0,0 +1,28 @@
+package dk.alexandra.fresco.framework.util;
+
+import java.math.BigInteger;
+
+/**
+ * Generic representation of a truncation pair.<p> A truncation pair is a pair of the form r', r
+ * where r = r' >> d for some number of shifts d (usually secret-shared). For each of the two
+ * values, this class holds the open value as well as this party's share.</p>
+ */
+public class TruncationPairShares {
+
+  private final Pair<BigInteger, BigInteger> rPrime;
+  private final Pair<BigInteger, BigInteger> r;
+
+  public TruncationPairShares(Pair<BigInteger, BigInteger> rPrime,
+      Pair<BigInteger, BigInteger> r) {
+    this.rPrime = rPrime;
+    this.r = r;
+  }
+
+  public Pair<BigInteger, BigInteger> getRPrime() {
+    return rPrime;
+  }
+
+  public Pair<BigInteger, BigInteger> getR() {
+    return r;
+  }
+}
@@ -7,8 +7,8 @@ import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
 import dk.alexandra.fresco.framework.value.SInt;
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
 
 public class CloseList implements ComputationParallel<List<DRes<SInt>>, ProtocolBuilderNumeric> {
 
@@ -41,24 +41,12 @@ public class CloseList implements ComputationParallel<List<DRes<SInt>>, Protocol
     this.isInputProvider = false;
   }
 
-  private List<DRes<SInt>> buildAsProvider(Numeric nb) {
-    return openInputs.stream().map(openInput -> nb.input(openInput, inputParty))
-        .collect(Collectors.toList());
-  }
-
-  private List<DRes<SInt>> buildAsReceiver(Numeric nb) {
-    List<DRes<SInt>> closed = new ArrayList<>();
-    for (int i = 0; i < numberOfInputs; i++) {
-      closed.add(nb.input(null, inputParty));
-    }
-    return closed;
-  }
-
   @Override
   public DRes<List<DRes<SInt>>> buildComputation(ProtocolBuilderNumeric builder) {
     Numeric nb = builder.numeric();
-    // for each input value, call input
-    List<DRes<SInt>> closedInputs = isInputProvider ? buildAsProvider(nb) : buildAsReceiver(nb);
-    return () -> closedInputs;
+    // input all values at once, letting the protocol suite batch the inputs
+    List<BigInteger> inputs =
+        isInputProvider ? openInputs : Collections.nCopies(numberOfInputs, null);
+    return nb.inputList(inputs, inputParty);
   }
 }
@@ -2,13 +2,12 @@ package dk.alexandra.fresco.lib.collections.io;
 
 import dk.alexandra.fresco.framework.DRes;
 import dk.alexandra.fresco.framework.builder.ComputationParallel;
-import dk.alexandra.fresco.framework.builder.numeric.Collections;
 import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
 import dk.alexandra.fresco.framework.value.SInt;
 import dk.alexandra.fresco.lib.collections.Matrix;
-import dk.alexandra.fresco.lib.collections.MatrixUtils;
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 public class CloseMatrix
@@ -46,29 +45,25 @@ public class CloseMatrix
     this.isInputProvider = false;
   }
 
-  private List<DRes<List<DRes<SInt>>>> buildAsProvider(Collections collections) {
-    List<DRes<List<DRes<SInt>>>> closedRows = new ArrayList<>();
-    for (List<BigInteger> row : openMatrix.getRows()) {
-      DRes<List<DRes<SInt>>> closedRow = collections.closeList(row, inputParty);
-      closedRows.add(closedRow);
-    }
-    return closedRows;
-  }
-
-  private List<DRes<List<DRes<SInt>>>> buildAsReceiver(Collections collections) {
-    List<DRes<List<DRes<SInt>>>> closedRows = new ArrayList<>();
-    for (int r = 0; r < height; r++) {
-      DRes<List<DRes<SInt>>> closedRow = collections.closeList(width, inputParty);
-      closedRows.add(closedRow);
-    }
-    return closedRows;
-  }
-
   @Override
   public DRes<Matrix<DRes<SInt>>> buildComputation(ProtocolBuilderNumeric builder) {
-    Collections collections = builder.collections();
-    List<DRes<List<DRes<SInt>>>> closed =
-        isInputProvider ? buildAsProvider(collections) : buildAsReceiver(collections);
-    return () -> new MatrixUtils().unwrapRows(closed);
+    // the entries are input as a single list, letting the protocol suite batch all the inputs
+    List<BigInteger> inputs = new ArrayList<>(height * width);
+    if (isInputProvider) {
+      for (List<BigInteger> row : openMatrix.getRows()) {
+        inputs.addAll(row);
+      }
+    } else {
+      inputs.addAll(Collections.nCopies(height * width, null));
+    }
+    DRes<List<DRes<SInt>>> closed = builder.numeric().inputList(inputs, inputParty);
+    return () -> {
+      List<DRes<SInt>> entries = closed.out();
+      ArrayList<ArrayList<DRes<SInt>>> rows = new ArrayList<>(height);
+      for (int r = 0; r < height; r++) {
+        rows.add(new ArrayList<>(entries.subList(r * width, (r + 1) * width)));
+      }
+      return new Matrix<>(height, width, rows);
+    };
   }
 }
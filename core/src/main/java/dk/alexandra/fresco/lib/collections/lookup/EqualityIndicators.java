@@ -0,0 +1,69 @@
+package dk.alexandra.fresco.lib.collections.lookup;
+
+import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.builder.Computation;
+import dk.alexandra.fresco.framework.builder.numeric.Comparison;
+import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
+import dk.alexandra.fresco.framework.value.SInt;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Computes the equality indicators of a key against a list of candidates, i.e., a list holding [1]
+ * at the positions where the candidate equals the key and [0] elsewhere.
+ *
+ * <p>All equality tests are done in parallel, so the number of rounds does not depend on the number
+ * of candidates.</p>
+ */
+public class EqualityIndicators implements Computation<List<DRes<SInt>>, ProtocolBuilderNumeric> {
+
+  private final int bitLength;
+  private final DRes<SInt> key;
+  private final List<DRes<SInt>> candidates;
+
+  /**
+   * Constructs new {@link EqualityIndicators}.
+   *
+   * @param bitLength the maximum bit length of the key and the candidates
+   * @param key the key to compare against
+   * @param candidates the candidates to compare with the key
+   */
+  public EqualityIndicators(int bitLength, DRes<SInt> key, List<DRes<SInt>> candidates) {
+    this.bitLength = bitLength;
+    this.key = key;
+    this.candidates = candidates;
+  }
+
+  @Override
+  public DRes<List<DRes<SInt>>> buildComputation(ProtocolBuilderNumeric builder) {
+    return builder.par(par -> {
+      Comparison comparison = par.comparison();
+      List<DRes<SInt>> indicators = new ArrayList<>(candidates.size());
+      for (DRes<SInt> candidate : candidates) {
+        indicators.add(comparison.equals(bitLength, key, candidate));
+      }
+      return () -> indicators;
+    });
+  }
+
+  /**
+   * Gets the bit length needed to hold the indices of a list of the given size.
+   *
+   * @param size the size of the list
+   * @return the bit length of the largest index, at least 1
+   */
+  static int indexBitLength(int size) {
+    return Math.max(1, Integer.SIZE - Integer.numberOfLeadingZeros(size));
+  }
+
+  /**
+   * Creates a list of the public indices <code>0, ..., size - 1</code> as secret values.
+   */
+  static List<DRes<SInt>> knownIndices(ProtocolBuilderNumeric builder, int size) {
+    List<DRes<SInt>> indices = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      indices.add(builder.numeric().known(i));
+    }
+    return indices;
+  }
+}
@@ -0,0 +1,44 @@
+package dk.alexandra.fresco.lib.collections.lookup;
+
+import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.builder.Computation;
+import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
+import dk.alexandra.fresco.framework.value.SInt;
+import java.util.List;
+
+/**
+ * Reads the element at a secret index of a list of secret values without revealing the index.
+ *
+ * <p>The index is compared to all positions of the list in parallel, and the element is selected
+ * as the inner product of the resulting equality indicators and the list. The number of rounds is
+ * therefore that of a single equality test followed by a single multiplication, independent of the
+ * size of the list, while the amount of work is linear in the size of the list. For large lists
+ * accessed many times, see {@link SquareRootOram}.</p>
+ *
+ * <p>The index must be in the range <code>0, ..., size - 1</code>, otherwise the result is 0.</p>
+ */
+public class ObliviousRead implements Computation<SInt, ProtocolBuilderNumeric> {
+
+  private final DRes<List<DRes<SInt>>> values;
+  private final DRes<SInt> index;
+
+  /**
+   * Constructs new {@link ObliviousRead}.
+   *
+   * @param values the list to read from
+   * @param index the secret index to read
+   */
+  public ObliviousRead(DRes<List<DRes<SInt>>> values, DRes<SInt> index) {
+    this.values = values;
+    this.index = index;
+  }
+
+  @Override
+  public DRes<SInt> buildComputation(ProtocolBuilderNumeric builder) {
+    return builder.seq(seq -> {
+      int size = values.out().size();
+      return seq.seq(new EqualityIndicators(EqualityIndicators.indexBitLength(size), index,
+          EqualityIndicators.knownIndices(seq, size)));
+    }).seq((seq, indicators) -> seq.advancedNumeric().innerProduct(indicators, values.out()));
+  }
+}
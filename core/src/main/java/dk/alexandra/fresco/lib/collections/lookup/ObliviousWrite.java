@@ -0,0 +1,64 @@
+package dk.alexandra.fresco.lib.collections.lookup;
+
+import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.builder.Computation;
+import dk.alexandra.fresco.framework.builder.numeric.Numeric;
+import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
+import dk.alexandra.fresco.framework.value.SInt;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes a secret value at a secret index of a list of secret values without revealing the index.
+ *
+ * <p>The index is compared to all positions of the list in parallel, and each element
+ * <code>v</code> is then replaced by <code>v + e * (value - v)</code>, where <code>e</code> is the
+ * equality indicator of the position. As for {@link ObliviousRead} the number of rounds does not
+ * depend on the size of the list.</p>
+ *
+ * <p>The index must be in the range <code>0, ..., size - 1</code>, otherwise the list is left
+ * unchanged.</p>
+ */
+public class ObliviousWrite implements Computation<List<DRes<SInt>>, ProtocolBuilderNumeric> {
+
+  private final DRes<List<DRes<SInt>>> values;
+  private final DRes<SInt> index;
+  private final DRes<SInt> value;
+
+  /**
+   * Constructs new {@link ObliviousWrite}.
+   *
+   * @param values the list to write to
+   * @param index the secret index to write
+   * @param value the value to write
+   */
+  public ObliviousWrite(DRes<List<DRes<SInt>>> values, DRes<SInt> index, DRes<SInt> value) {
+    this.values = values;
+    this.index = index;
+    this.value = value;
+  }
+
+  @Override
+  public DRes<List<DRes<SInt>>> buildComputation(ProtocolBuilderNumeric builder) {
+    return builder.seq(seq -> {
+      int size = values.out().size();
+      return seq.seq(new EqualityIndicators(EqualityIndicators.indexBitLength(size), index,
+          EqualityIndicators.knownIndices(seq, size)));
+    }).par((par, indicators) -> {
+      Numeric numeric = par.numeric();
+      List<DRes<SInt>> differences = new ArrayList<>(indicators.size());
+      for (DRes<SInt> old : values.out()) {
+        differences.add(numeric.sub(value, old));
+      }
+      return numeric.mult(indicators, differences);
+    }).par((par, updates) -> {
+      Numeric numeric = par.numeric();
+      List<DRes<SInt>> updated = new ArrayList<>(updates.size());
+      List<DRes<SInt>> old = values.out();
+      for (int i = 0; i < updates.size(); i++) {
+        updated.add(numeric.add(old.get(i), updates.get(i)));
+      }
+      return () -> updated;
+    });
+  }
+}
@@ -0,0 +1,244 @@
+package dk.alexandra.fresco.lib.collections.lookup;
+
+import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.builder.numeric.Numeric;
+import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
+import dk.alexandra.fresco.framework.value.SInt;
+import dk.alexandra.fresco.lib.collections.Matrix;
+import dk.alexandra.fresco.lib.crypto.mimc.MiMCEncryption;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A secret-shared array supporting repeated reads and writes at secret indices, based on the
+ * square-root ORAM of Goldreich and Ostrovsky.
+ *
+ * <p>For an array of size <code>n</code> a period of <code>T = ceil(sqrt(n))</code> accesses is
+ * used. The array is stored together with at least <code>T</code> dummy elements as rows of
+ * <code>(index, value)</code>, which are shuffled and tagged with a MiMC encryption of their index
+ * under a fresh secret key. The tags are opened, so an access can locate the physical position of
+ * an element in the clear once its tag is known. Elements accessed during the current period are
+ * kept in a stash which is scanned using {@link EqualityIndicators} at each access. If the element
+ * is found in the stash, the next unused dummy element is accessed instead, so every access touches
+ * a fresh, uniformly random physical position. After <code>T</code> accesses the stash is merged
+ * back into the array and the array is reshuffled and retagged.</p>
+ *
+ * <p>An access thus costs a stash scan of <code>T</code> equality tests and a single MiMC
+ * encryption, plus an amortized <code>(n + T) / T</code> encryptions for the reshuffling. The number
+ * of rounds of an access does not depend on the size of the array.</p>
+ *
+ * <p>The structure is stateful: accesses must be sequenced one after the other (e.g. using
+ * <code>seq</code>), they cannot be run in parallel. Indices must be in the range <code>0, ...,
+ * n - 1</code>.</p>
+ */
+public class SquareRootOram {
+
+  private final int size;
+  private final int period;
+  private final int noOfRows;
+  private final int bitLength;
+  private List<DRes<SInt>> indices;
+  private List<DRes<SInt>> values;
+  private Map<BigInteger, Integer> positions;
+  private DRes<SInt> key;
+  private final List<DRes<SInt>> stashIndices;
+  private final List<DRes<SInt>> stashValues;
+  private final List<Integer> accessed;
+
+  private SquareRootOram(int size) {
+    this.size = size;
+    this.period = Math.max(1, (int) Math.ceil(Math.sqrt(size)));
+    // the shuffle requires the number of rows to be a power of two
+    this.noOfRows = Integer.highestOneBit(size + period - 1) << 1;
+    this.bitLength = EqualityIndicators.indexBitLength(noOfRows);
+    this.stashIndices = new ArrayList<>(period);
+    this.stashValues = new ArrayList<>(period);
+    this.accessed = new ArrayList<>(period);
+  }
+
+  /**
+   * Creates a new {@link SquareRootOram} holding the given values.
+   *
+   * @param builder the builder to append the initial shuffle to
+   * @param values the initial values of the array
+   * @return the initialized structure
+   */
+  public static DRes<SquareRootOram> create(ProtocolBuilderNumeric builder,
+      DRes<List<DRes<SInt>>> values) {
+    return builder.seq(seq -> {
+      List<DRes<SInt>> initial = values.out();
+      SquareRootOram oram = new SquareRootOram(initial.size());
+      oram.indices = EqualityIndicators.knownIndices(seq, oram.noOfRows);
+      oram.values = new ArrayList<>(initial);
+      for (int i = oram.size; i < oram.noOfRows; i++) {
+        oram.values.add(seq.numeric().known(0));
+      }
+      return oram.shuffle(seq);
+    });
+  }
+
+  /**
+   * Gets the size of the array.
+   */
+  public int getSize() {
+    return size;
+  }
+
+  /**
+   * Gets the number of accesses between each reshuffle of the array.
+   */
+  public int getPeriod() {
+    return period;
+  }
+
+  /**
+   * Reads the element at a secret index.
+   *
+   * @param builder the builder to append the access to
+   * @param index the index to read
+   * @return the element at the index
+   */
+  public DRes<SInt> read(ProtocolBuilderNumeric builder, DRes<SInt> index) {
+    return access(builder, index, null);
+  }
+
+  /**
+   * Writes an element at a secret index.
+   *
+   * @param builder the builder to append the access to
+   * @param index the index to write
+   * @param value the new value of the element
+   * @return the old value of the element
+   */
+  public DRes<SInt> write(ProtocolBuilderNumeric builder, DRes<SInt> index, DRes<SInt> value) {
+    return access(builder, index, value);
+  }
+
+  private DRes<SInt> access(ProtocolBuilderNumeric builder, DRes<SInt> index,
+      DRes<SInt> newValue) {
+    return builder.seq(seq ->
+        seq.seq(new EqualityIndicators(bitLength, index, new ArrayList<>(stashIndices)))
+    ).seq((seq, indicators) -> {
+      Numeric numeric = seq.numeric();
+      DRes<SInt> found;
+      DRes<SInt> stashValue;
+      if (indicators.isEmpty()) {
+        found = numeric.known(0);
+        stashValue = numeric.known(0);
+      } else {
+        found = seq.advancedNumeric().sum(indicators);
+        stashValue = seq.advancedNumeric().innerProduct(indicators, stashValues);
+      }
+      // access the next dummy element if the element is already in the stash
+      DRes<SInt> dummy = numeric.known(size + accessed.size());
+      DRes<SInt> target = numeric.add(index,
+          numeric.mult(found, numeric.sub(dummy, index)));
+      DRes<BigInteger> tag = seq.numeric().open(seq.seq(new MiMCEncryption(target, key)));
+      return () -> new AccessState(indicators, found, stashValue, target, tag);
+    }).seq((seq, state) -> {
+      Integer position = positions.get(state.tag.out());
+      if (position == null) {
+        throw new IllegalArgumentException("Index is out of range");
+      }
+      Numeric numeric = seq.numeric();
+      DRes<SInt> memoryValue = values.get(position);
+      DRes<SInt> current = numeric.add(memoryValue,
+          numeric.mult(state.found, numeric.sub(state.stashValue, memoryValue)));
+      DRes<SInt> result = newValue == null ? current : newValue;
+      if (newValue != null) {
+        // update the element in place if it is already in the stash
+        for (int i = 0; i < stashValues.size(); i++) {
+          DRes<SInt> old = stashValues.get(i);
+          stashValues.set(i, numeric.add(old,
+              numeric.mult(state.indicators.get(i), numeric.sub(newValue, old))));
+        }
+      }
+      accessed.add(position);
+      stashIndices.add(state.target);
+      stashValues.add(result);
+      if (accessed.size() == period) {
+        seq.seq(this::refresh);
+      }
+      return current;
+    });
+  }
+
+  /**
+   * Merges the stash back into the array, then reshuffles and retags the array.
+   *
+   * <p>Every accessed physical element has its index in the stash exactly once: either it was a
+   * real element which was appended to the stash when accessed, or it was the dummy element whose
+   * index was appended instead.</p>
+   */
+  private DRes<SquareRootOram> refresh(ProtocolBuilderNumeric builder) {
+    return builder.par(par -> {
+      List<DRes<List<DRes<SInt>>>> indicators = new ArrayList<>(accessed.size());
+      for (int position : accessed) {
+        indicators.add(par.seq(
+            new EqualityIndicators(bitLength, indices.get(position), stashIndices)));
+      }
+      return () -> indicators;
+    }).par((par, indicators) -> {
+      for (int i = 0; i < accessed.size(); i++) {
+        values.set(accessed.get(i),
+            par.advancedNumeric().innerProduct(indicators.get(i).out(), stashValues));
+      }
+      return () -> this;
+    }).seq((seq, oram) -> shuffle(seq));
+  }
+
+  /**
+   * Shuffles the rows with a fresh key, tags them and opens the tags.
+   */
+  private DRes<SquareRootOram> shuffle(ProtocolBuilderNumeric builder) {
+    stashIndices.clear();
+    stashValues.clear();
+    accessed.clear();
+    return builder.seq(seq -> {
+      ArrayList<ArrayList<DRes<SInt>>> rows = new ArrayList<>(indices.size());
+      for (int i = 0; i < indices.size(); i++) {
+        ArrayList<DRes<SInt>> row = new ArrayList<>(2);
+        row.add(indices.get(i));
+        row.add(values.get(i));
+        rows.add(row);
+      }
+      key = seq.numeric().randomElement();
+      return seq.collections().shuffle(() -> new Matrix<>(rows.size(), 2, rows));
+    }).par((par, shuffled) -> {
+      indices = new ArrayList<>(shuffled.getColumn(0));
+      values = new ArrayList<>(shuffled.getColumn(1));
+      List<DRes<BigInteger>> tags = new ArrayList<>(indices.size());
+      for (DRes<SInt> index : indices) {
+        tags.add(par.seq(seq -> seq.numeric().open(seq.seq(new MiMCEncryption(index, key)))));
+      }
+      return () -> tags;
+    }).seq((seq, tags) -> {
+      positions = new HashMap<>();
+      for (int i = 0; i < tags.size(); i++) {
+        positions.put(tags.get(i).out(), i);
+      }
+      return () -> this;
+    });
+  }
+
+  private static class AccessState {
+
+    private final List<DRes<SInt>> indicators;
+    private final DRes<SInt> found;
+    private final DRes<SInt> stashValue;
+    private final DRes<SInt> target;
+    private final DRes<BigInteger> tag;
+
+    private AccessState(List<DRes<SInt>> indicators, DRes<SInt> found, DRes<SInt> stashValue,
+        DRes<SInt> target, DRes<BigInteger> tag) {
+      this.indicators = indicators;
+      this.found = found;
+      this.stashValue = stashValue;
+      this.target = target;
+      this.tag = tag;
+    }
+  }
+}
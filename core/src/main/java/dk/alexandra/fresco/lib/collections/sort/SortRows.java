@@ -0,0 +1,129 @@
+package dk.alexandra.fresco.lib.collections.sort;
+
+import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.builder.Computation;
+import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
+import dk.alexandra.fresco.framework.util.RowPairD;
+import dk.alexandra.fresco.framework.value.SInt;
+import dk.alexandra.fresco.lib.collections.Matrix;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sorts the rows of a matrix in ascending order of a key column, using Batcher's odd-even merge
+ * sorting network.
+ *
+ * <p>The network is evaluated a layer at a time. The comparators of a layer work on disjoint pairs
+ * of rows, so all comparisons and conditional swaps of a layer are run in a single parallel block,
+ * and the number of rounds is <i>O(log<sup>2</sup> n)</i> times the rounds of a comparison and a
+ * swap. Any number of rows is supported. The sort is not stable, i.e., rows with equal keys may
+ * change order.</p>
+ */
+public class SortRows implements Computation<Matrix<DRes<SInt>>, ProtocolBuilderNumeric> {
+
+  private final DRes<Matrix<DRes<SInt>>> values;
+  private final int keyColumn;
+
+  /**
+   * Creates a new sort of the rows of a matrix.
+   *
+   * @param values rows to sort
+   * @param keyColumn the column of the keys to sort by
+   */
+  public SortRows(DRes<Matrix<DRes<SInt>>> values, int keyColumn) {
+    this.values = values;
+    this.keyColumn = keyColumn;
+  }
+
+  @Override
+  public DRes<Matrix<DRes<SInt>>> buildComputation(ProtocolBuilderNumeric builder) {
+    Matrix<DRes<SInt>> matrix = values.out();
+    int height = matrix.getHeight();
+    int width = matrix.getWidth();
+    if (height < 2) {
+      return values;
+    }
+    if (keyColumn < 0 || keyColumn >= width) {
+      throw new IllegalArgumentException(
+          "Key column " + keyColumn + " is not a column of a matrix of width " + width);
+    }
+    List<DRes<List<DRes<SInt>>>> initial = new ArrayList<>(height);
+    for (ArrayList<DRes<SInt>> row : matrix.getRows()) {
+      initial.add(() -> row);
+    }
+    List<List<int[]>> layers = getLayers(height);
+    return builder.seq(
+        seq -> new IterationState(0, initial)
+    ).whileLoop((state) -> state.layer < layers.size(), (seq, state) -> {
+      List<DRes<List<DRes<SInt>>>> rows = state.rows;
+      List<DRes<List<DRes<SInt>>>> sorted = new ArrayList<>(rows);
+      seq.par(par -> {
+        for (int[] comparator : layers.get(state.layer)) {
+          DRes<List<DRes<SInt>>> low = rows.get(comparator[0]);
+          DRes<List<DRes<SInt>>> high = rows.get(comparator[1]);
+          DRes<RowPairD<SInt, SInt>> swapped = par.seq(comp -> {
+            DRes<SInt> inOrder = comp.comparison()
+                .compareLEQ(low.out().get(keyColumn), high.out().get(keyColumn));
+            // swapping (high, low) if in order gives (low, high), and (high, low) otherwise
+            return comp.collections().swapIf(inOrder, high, low);
+          });
+          sorted.set(comparator[0], () -> swapped.out().getFirst().out());
+          sorted.set(comparator[1], () -> swapped.out().getSecond().out());
+        }
+        return null;
+      });
+      return new IterationState(state.layer + 1, sorted);
+    }).seq((seq, state) -> {
+      ArrayList<ArrayList<DRes<SInt>>> sortedRows = new ArrayList<>(height);
+      for (DRes<List<DRes<SInt>>> row : state.rows) {
+        sortedRows.add(new ArrayList<>(row.out()));
+      }
+      return () -> new Matrix<>(height, width, sortedRows);
+    });
+  }
+
+  /**
+   * Computes the layers of Batcher's odd-even merge sorting network on a number of elements. Each
+   * comparator is a pair of indices <i>i &lt; j</i>, putting the smaller element at <i>i</i>. The
+   * comparators of a layer have disjoint indices.
+   *
+   * @param size the number of elements
+   * @return the layers of comparators
+   */
+  static List<List<int[]>> getLayers(int size) {
+    List<List<int[]>> layers = new ArrayList<>();
+    for (int p = 1; p < size; p <<= 1) {
+      for (int k = p; k >= 1; k >>= 1) {
+        List<int[]> layer = new ArrayList<>();
+        for (int j = k % p; j + k < size; j += 2 * k) {
+          for (int i = 0; i < Math.min(k, size - j - k); i++) {
+            // only compare elements within the same pair of merged blocks
+            if ((i + j) / (2 * p) == (i + j + k) / (2 * p)) {
+              layer.add(new int[]{i + j, i + j + k});
+            }
+          }
+        }
+        if (!layer.isEmpty()) {
+          layers.add(layer);
+        }
+      }
+    }
+    return layers;
+  }
+
+  private static final class IterationState implements DRes<IterationState> {
+
+    private final int layer;
+    private final List<DRes<List<DRes<SInt>>>> rows;
+
+    private IterationState(int layer, List<DRes<List<DRes<SInt>>>> rows) {
+      this.layer = layer;
+      this.rows = rows;
+    }
+
+    @Override
+    public IterationState out() {
+      return this;
+    }
+  }
+}
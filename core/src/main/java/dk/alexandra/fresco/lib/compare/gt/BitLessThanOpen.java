@@ -0,0 +1,70 @@
+package dk.alexandra.fresco.lib.compare.gt;
+
+import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.builder.Computation;
+import dk.alexandra.fresco.framework.builder.numeric.Numeric;
+import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
+import dk.alexandra.fresco.framework.value.SInt;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Computation comparing an open value to a secret value given by its bits, i.e., computing the
+ * carry of the two on the bits. <p>The carries of the single bits are local, and are combined
+ * pairwise in a balanced tree, so a comparison of <i>m</i> bits takes <i>ceil(log m)</i> rounds of
+ * at most <i>2m</i> multiplications in total.</p>
+ */
+public class BitLessThanOpen implements Computation<CarryPair, ProtocolBuilderNumeric> {
+
+  private final BigInteger openValue;
+  private final List<DRes<SInt>> secretBits;
+  private final boolean withPropagate;
+
+  /**
+   * Creates new {@link BitLessThanOpen}.
+   *
+   * @param openValue the open value, of which only the lowest bits are compared
+   * @param secretBits the bits of the secret value, least significant first
+   * @param withPropagate whether the propagate bit of the carry is needed, i.e., if the bits are
+   *     not the lowest bits of a larger comparison
+   */
+  public BitLessThanOpen(BigInteger openValue, List<DRes<SInt>> secretBits,
+      boolean withPropagate) {
+    this.openValue = openValue;
+    this.secretBits = secretBits;
+    this.withPropagate = withPropagate;
+  }
+
+  @Override
+  public DRes<CarryPair> buildComputation(ProtocolBuilderNumeric builder) {
+    Numeric numeric = builder.numeric();
+    if (secretBits.isEmpty()) {
+      // all values are equal on an empty range
+      CarryPair empty = new CarryPair(null,
+          withPropagate ? numeric.known(BigInteger.ONE) : null);
+      return () -> empty;
+    }
+    List<CarryPair> leaves = new ArrayList<>(secretBits.size());
+    for (int i = 0; i < secretBits.size(); i++) {
+      leaves.add(CarryPair.leaf(openValue.testBit(i), secretBits.get(i), withPropagate || i > 0,
+          numeric));
+    }
+    return builder.seq(seq ->
+        () -> leaves
+    ).whileLoop(
+        (carries) -> carries.size() > 1,
+        (seq, carries) -> seq.par(par -> {
+          Numeric parNumeric = par.numeric();
+          List<CarryPair> combined = new ArrayList<>((carries.size() + 1) / 2);
+          for (int i = 0; i + 1 < carries.size(); i += 2) {
+            combined.add(CarryPair.combine(carries.get(i + 1), carries.get(i), parNumeric));
+          }
+          if (carries.size() % 2 == 1) {
+            combined.add(carries.get(carries.size() - 1));
+          }
+          return () -> combined;
+        })
+    ).seq((seq, carries) -> () -> carries.get(0));
+  }
+}
@@ -0,0 +1,85 @@
+package dk.alexandra.fresco.lib.compare.gt;
+
+import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.builder.Computation;
+import dk.alexandra.fresco.framework.builder.numeric.Numeric;
+import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
+import dk.alexandra.fresco.framework.value.SInt;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Computation comparing an open value to a secret value given by its bits on every prefix of the
+ * bits, i.e., computing all the borrows of subtracting the secret value from the open value.
+ * <p>The carries are computed with the parallel prefix circuit of Kogge and Stone, so <i>m</i>
+ * bits take <i>ceil(log m)</i> rounds of at most <i>2m log m</i> multiplications in total.</p>
+ */
+public class BitLessThanOpenPrefixes implements
+    Computation<List<DRes<SInt>>, ProtocolBuilderNumeric> {
+
+  private final BigInteger openValue;
+  private final List<DRes<SInt>> secretBits;
+
+  /**
+   * Creates new {@link BitLessThanOpenPrefixes}.
+   *
+   * @param openValue the open value, of which only the lowest bits are compared
+   * @param secretBits the bits of the secret value, least significant first
+   */
+  public BitLessThanOpenPrefixes(BigInteger openValue, List<DRes<SInt>> secretBits) {
+    this.openValue = openValue;
+    this.secretBits = secretBits;
+  }
+
+  /**
+   * Builds the computation. The <i>i</i>'th element of the result tells if the open value is
+   * smaller than the secret value modulo <i>2<sup>i + 1</sup></i>.
+   */
+  @Override
+  public DRes<List<DRes<SInt>>> buildComputation(ProtocolBuilderNumeric builder) {
+    Numeric numeric = builder.numeric();
+    List<CarryPair> leaves = new ArrayList<>(secretBits.size());
+    for (int i = 0; i < secretBits.size(); i++) {
+      leaves.add(CarryPair.leaf(openValue.testBit(i), secretBits.get(i), i > 0, numeric));
+    }
+    return builder.seq(
+        seq -> new IterationState(1, leaves)
+    ).whileLoop((state) -> state.distance < state.carries.size(), (seq, state) -> {
+      List<CarryPair> carries = state.carries;
+      List<CarryPair> combined = new ArrayList<>(carries);
+      seq.par(par -> {
+        Numeric parNumeric = par.numeric();
+        // the carry at i covers the 2 * distance bits up to i, or all bits up to i
+        for (int i = state.distance; i < carries.size(); i++) {
+          combined.set(i,
+              CarryPair.combine(carries.get(i), carries.get(i - state.distance), parNumeric));
+        }
+        return null;
+      });
+      return new IterationState(2 * state.distance, combined);
+    }).seq((seq, state) -> {
+      List<DRes<SInt>> prefixes = new ArrayList<>(state.carries.size());
+      for (CarryPair carry : state.carries) {
+        prefixes.add(carry.lessThan(seq.numeric()));
+      }
+      return () -> prefixes;
+    });
+  }
+
+  private static final class IterationState implements DRes<IterationState> {
+
+    private final int distance;
+    private final List<CarryPair> carries;
+
+    private IterationState(int distance, List<CarryPair> carries) {
+      this.distance = distance;
+      this.carries = carries;
+    }
+
+    @Override
+    public IterationState out() {
+      return this;
+    }
+  }
+}
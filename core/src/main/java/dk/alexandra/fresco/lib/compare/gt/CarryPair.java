@@ -0,0 +1,77 @@
+package dk.alexandra.fresco.lib.compare.gt;
+
+import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.builder.numeric.Numeric;
+import dk.alexandra.fresco.framework.value.SInt;
+import java.math.BigInteger;
+
+/**
+ * The carry of comparing an open value to a secret value, given by its bits, on a range of bit
+ * positions. The generate bit is one if the open value is smaller than the secret value on the
+ * range, and the propagate bit is one if the two are equal on the range, in which case the result
+ * of the comparison is decided by the lower bits.
+ *
+ * <p>Either bit may be <code>null</code>. A missing generate bit is known to be zero. A missing
+ * propagate bit is not needed, which is the case if the range contains the least significant bit,
+ * as there are no lower bits to decide the comparison.</p>
+ */
+public final class CarryPair {
+
+  private final DRes<SInt> generate;
+  private final DRes<SInt> propagate;
+
+  CarryPair(DRes<SInt> generate, DRes<SInt> propagate) {
+    this.generate = generate;
+    this.propagate = propagate;
+  }
+
+  /**
+   * Creates the carry of a single bit position. This is a local computation.
+   *
+   * @param openBit the bit of the open value
+   * @param secretBit the bit of the secret value
+   * @param withPropagate whether the propagate bit is needed
+   * @param numeric builder for the linear operations
+   * @return the carry of the bit position
+   */
+  static CarryPair leaf(boolean openBit, DRes<SInt> secretBit, boolean withPropagate,
+      Numeric numeric) {
+    DRes<SInt> generate = openBit ? null : secretBit;
+    DRes<SInt> propagate = null;
+    if (withPropagate) {
+      propagate = openBit ? secretBit : numeric.sub(BigInteger.ONE, secretBit);
+    }
+    return new CarryPair(generate, propagate);
+  }
+
+  /**
+   * Combines the carries of two adjacent ranges into the carry of their union, using at most two
+   * multiplications in parallel. The generate bits of the two ranges are never both set when the
+   * propagate bit of the high range is set, so their disjunction is a sum.
+   *
+   * @param high the carry of the more significant range, which must have a propagate bit
+   * @param low the carry of the less significant range
+   * @param numeric builder for the multiplications
+   * @return the carry of the union of the ranges
+   */
+  public static CarryPair combine(CarryPair high, CarryPair low, Numeric numeric) {
+    DRes<SInt> propagate =
+        low.propagate == null ? null : numeric.mult(high.propagate, low.propagate);
+    if (low.generate == null) {
+      return new CarryPair(high.generate, propagate);
+    }
+    DRes<SInt> carried = numeric.mult(high.propagate, low.generate);
+    DRes<SInt> generate = high.generate == null ? carried : numeric.add(high.generate, carried);
+    return new CarryPair(generate, propagate);
+  }
+
+  /**
+   * Returns the bit telling if the open value is smaller than the secret value on the range.
+   *
+   * @param numeric builder for a known zero, if the bit is known to be zero
+   * @return the generate bit
+   */
+  public DRes<SInt> lessThan(Numeric numeric) {
+    return generate == null ? numeric.known(BigInteger.ZERO) : generate;
+  }
+}
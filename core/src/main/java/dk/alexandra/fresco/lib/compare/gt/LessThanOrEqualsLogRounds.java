@@ -0,0 +1,76 @@
+package dk.alexandra.fresco.lib.compare.gt;
+
+import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.builder.Computation;
+import dk.alexandra.fresco.framework.builder.numeric.AdvancedNumeric.RandomAdditiveMask;
+import dk.alexandra.fresco.framework.builder.numeric.Numeric;
+import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
+import dk.alexandra.fresco.framework.util.Pair;
+import dk.alexandra.fresco.framework.value.SInt;
+import java.math.BigInteger;
+import java.util.List;
+
+/**
+ * Compares two secret values, giving one if the first is less than or equal to the second, in a
+ * logarithmic number of rounds in the bit length.
+ *
+ * <p>If the difference of the values has less than <i>l</i> bits, <i>z = 2<sup>l</sup> + y -
+ * x</i> is non-negative and less than <i>2<sup>l + 1</sup></i>, so the result is <i>z >> l</i>.
+ * The value <i>z</i> is opened masked by an edaBit <i>r</i> of <i>l + s</i> bits, see {@link
+ * dk.alexandra.fresco.framework.builder.numeric.AdvancedNumeric#additiveMask(int)}, giving <i>c =
+ * z + r</i>. Then <i>z >> l = (c >> l) - (r >> l) - b</i>, where <i>b</i> is one if <i>c mod
+ * 2<sup>l</sup> &lt; r mod 2<sup>l</sup></i>, which is computed by {@link BitLessThanOpen}. Given a
+ * preprocessed edaBit this takes one opening and <i>ceil(log l)</i> rounds of multiplications.
+ * The masked value leaks nothing except with probability <i>2<sup>-s</sup></i>, and the modulus
+ * must be larger than <i>2<sup>l + s + 1</sup></i>.</p>
+ */
+public class LessThanOrEqualsLogRounds implements Computation<SInt, ProtocolBuilderNumeric> {
+
+  private final int bitLength;
+  private final int securityParameter;
+  private final DRes<SInt> x;
+  private final DRes<SInt> y;
+
+  /**
+   * Creates new {@link LessThanOrEqualsLogRounds}.
+   *
+   * @param bitLength the bit length of the values, <i>l</i>
+   * @param securityParameter the statistical security parameter, <i>s</i>
+   * @param x the first value
+   * @param y the second value
+   */
+  public LessThanOrEqualsLogRounds(int bitLength, int securityParameter, DRes<SInt> x,
+      DRes<SInt> y) {
+    this.bitLength = bitLength;
+    this.securityParameter = securityParameter;
+    this.x = x;
+    this.y = y;
+  }
+
+  @Override
+  public DRes<SInt> buildComputation(ProtocolBuilderNumeric builder) {
+    return builder.seq(seq ->
+        seq.advancedNumeric().additiveMask(bitLength + securityParameter)
+    ).seq((seq, mask) -> {
+      Numeric numeric = seq.numeric();
+      DRes<SInt> z = numeric.add(BigInteger.ONE.shiftLeft(bitLength), numeric.sub(y, x));
+      DRes<BigInteger> opened = numeric.open(numeric.add(z, mask.random));
+      return () -> new Pair<>(opened.out(), mask);
+    }).seq((seq, masked) -> {
+      BigInteger opened = masked.getFirst();
+      RandomAdditiveMask mask = masked.getSecond();
+      DRes<CarryPair> borrow = seq.seq(
+          new BitLessThanOpen(opened, mask.bits.subList(0, bitLength), false));
+      return seq.seq(inner -> {
+        Numeric numeric = inner.numeric();
+        DRes<SInt> result = numeric.sub(opened.shiftRight(bitLength),
+            borrow.out().lessThan(numeric));
+        List<DRes<SInt>> topBits = mask.bits.subList(bitLength, mask.bits.size());
+        for (int i = 0; i < topBits.size(); i++) {
+          result = numeric.sub(result, numeric.mult(BigInteger.ONE.shiftLeft(i), topBits.get(i)));
+        }
+        return result;
+      });
+    });
+  }
+}
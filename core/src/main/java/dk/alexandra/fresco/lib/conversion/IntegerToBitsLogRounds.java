@@ -0,0 +1,89 @@
+package dk.alexandra.fresco.lib.conversion;
+
+import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.builder.Computation;
+import dk.alexandra.fresco.framework.builder.numeric.AdvancedNumeric.RandomAdditiveMask;
+import dk.alexandra.fresco.framework.builder.numeric.Numeric;
+import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
+import dk.alexandra.fresco.framework.util.Pair;
+import dk.alexandra.fresco.framework.value.SInt;
+import dk.alexandra.fresco.lib.compare.gt.BitLessThanOpenPrefixes;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Converts a number to its bit representation in a logarithmic number of rounds in the bit length.
+ *
+ * <p>The input <i>x</i> of at most <i>l</i> bits is opened masked by an edaBit <i>r</i> of <i>l +
+ * s</i> bits, see
+ * {@link dk.alexandra.fresco.framework.builder.numeric.AdvancedNumeric#additiveMask(int)}, giving
+ * <i>c = x + r</i>, so the bits of <i>x</i> are those of the subtraction <i>c - r</i>. The
+ * <i>i</i>'th bit is the exclusive or of the <i>i</i>'th bits of <i>c</i> and <i>r</i> and of the
+ * borrow from the lower bits. All borrows are computed by {@link BitLessThanOpenPrefixes}, and the
+ * exclusive ors take a single round. The masked value leaks nothing except with probability
+ * <i>2<sup>-s</sup></i>, and the modulus must be larger than <i>2<sup>l + s + 1</sup></i>.</p>
+ */
+public class IntegerToBitsLogRounds implements Computation<List<SInt>, ProtocolBuilderNumeric> {
+
+  private final DRes<SInt> input;
+  private final int maxInputLength;
+  private final int securityParameter;
+
+  /**
+   * Creates new {@link IntegerToBitsLogRounds}.
+   *
+   * @param input the input, which must be non-negative
+   * @param maxInputLength an upper bound on the bit length of the input, <i>l</i>
+   * @param securityParameter the statistical security parameter, <i>s</i>
+   */
+  public IntegerToBitsLogRounds(DRes<SInt> input, int maxInputLength, int securityParameter) {
+    this.input = input;
+    this.maxInputLength = maxInputLength;
+    this.securityParameter = securityParameter;
+  }
+
+  /**
+   * Builds the computation. The result is the <i>l</i> bits of the input, least significant
+   * first.
+   */
+  @Override
+  public DRes<List<SInt>> buildComputation(ProtocolBuilderNumeric builder) {
+    return builder.seq(seq ->
+        seq.advancedNumeric().additiveMask(maxInputLength + securityParameter)
+    ).seq((seq, mask) -> {
+      DRes<BigInteger> opened = seq.numeric().open(seq.numeric().add(input, mask.random));
+      return () -> new Pair<>(opened.out(), mask);
+    }).seq((seq, masked) -> {
+      BigInteger opened = masked.getFirst();
+      RandomAdditiveMask mask = masked.getSecond();
+      DRes<List<DRes<SInt>>> borrows = seq.seq(
+          new BitLessThanOpenPrefixes(opened, mask.bits.subList(0, maxInputLength - 1)));
+      return seq.par(par -> {
+        Numeric numeric = par.numeric();
+        List<DRes<SInt>> bits = new ArrayList<>(maxInputLength);
+        for (int i = 0; i < maxInputLength; i++) {
+          DRes<SInt> maskBit = mask.bits.get(i);
+          DRes<SInt> difference =
+              opened.testBit(i) ? numeric.sub(BigInteger.ONE, maskBit) : maskBit;
+          if (i == 0) {
+            // there is no borrow into the least significant bit
+            bits.add(difference);
+          } else {
+            DRes<SInt> borrow = borrows.out().get(i - 1);
+            DRes<SInt> product = numeric.mult(difference, borrow);
+            bits.add(numeric.sub(numeric.add(difference, borrow),
+                numeric.mult(BigInteger.valueOf(2), product)));
+          }
+        }
+        return () -> bits;
+      });
+    }).seq((seq, bits) -> {
+      List<SInt> result = new ArrayList<>(bits.size());
+      for (DRes<SInt> bit : bits) {
+        result.add(bit.out());
+      }
+      return () -> result;
+    });
+  }
+}
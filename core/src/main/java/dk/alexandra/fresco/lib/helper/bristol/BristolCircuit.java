@@ -0,0 +1,379 @@
+package dk.alexandra.fresco.lib.helper.bristol;
+
+import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.builder.binary.Binary;
+import dk.alexandra.fresco.framework.value.SBool;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * A parsed circuit in "Bristol" format, see
+ * https://www.cs.bris.ac.uk/Research/CryptographySecurity/MPC/ for a specification of this.
+ *
+ * <p>
+ * The gates are grouped into layers, such that all gates of a layer only depend on gates of
+ * earlier layers and can be evaluated in parallel. The gates are first ordered by multiplicative
+ * depth, i.e., the number of AND gates on the longest path from an input to the gate. Within a
+ * depth, the AND gates come first, followed by the linear gates (XOR and INV) split into as few
+ * layers as their mutual dependencies allow. The number of rounds of communication needed to
+ * evaluate the circuit is therefore the AND depth of the circuit.
+ * </p>
+ *
+ * <p>
+ * A circuit is immutable, so parsed circuits loaded from the class path are cached and shared
+ * between evaluations, see {@link #fromResource(String)}.
+ * </p>
+ */
+public class BristolCircuit {
+
+  static final byte XOR = 0;
+  static final byte AND = 1;
+  static final byte INV = 2;
+  private static final int MAX_LEVEL = 0xFFFF;
+
+  private static final Map<String, BristolCircuit> CACHE = new ConcurrentHashMap<>();
+
+  private final int noWires;
+  private final int noInput1;
+  private final int noInput2;
+  private final int noOutput;
+  private final byte[] types;
+  private final int[] left;
+  private final int[] right;
+  private final int[] out;
+  private final int[] layerStarts;
+  private final int multiplicativeDepth;
+
+  private BristolCircuit(int noWires, int noInput1, int noInput2, int noOutput, byte[] types,
+      int[] left, int[] right, int[] out, int[] layerStarts, int multiplicativeDepth) {
+    this.noWires = noWires;
+    this.noInput1 = noInput1;
+    this.noInput2 = noInput2;
+    this.noOutput = noOutput;
+    this.types = types;
+    this.left = left;
+    this.right = right;
+    this.out = out;
+    this.layerStarts = layerStarts;
+    this.multiplicativeDepth = multiplicativeDepth;
+  }
+
+  /**
+   * Gets the circuit stored at the given path on the class path. The circuit is only parsed the
+   * first time it is requested, later requests return the same instance.
+   *
+   * @param path the path of the circuit resource
+   * @return the parsed circuit
+   */
+  public static BristolCircuit fromResource(String path) {
+    return CACHE.computeIfAbsent(path, BristolCircuit::load);
+  }
+
+  private static BristolCircuit load(String path) {
+    ClassLoader classLoader = BristolCircuit.class.getClassLoader();
+    InputStream is = classLoader.getResourceAsStream(path);
+    if (is == null) {
+      throw new IllegalArgumentException("Couldn't find bristol circuit descritpion at " + path);
+    }
+    try (BufferedReader reader = new BufferedReader(new InputStreamReader(is))) {
+      return parse(reader.lines());
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to read bristol circuit at " + path, e);
+    }
+  }
+
+  /**
+   * Parses a textual circuit description.
+   *
+   * @param lines the lines of the circuit description
+   * @return the parsed circuit
+   */
+  public static BristolCircuit parse(Stream<String> lines) {
+    Iterator<String> linesIter = lines.iterator();
+    // Read first line; this is meta data.
+    String[] meta = linesIter.next().split(" \\s*");
+    int noGates = Integer.parseInt(meta[0]);
+    int noWires = Integer.parseInt(meta[1]);
+    meta = linesIter.next().split(" \\s*");
+    int noInput1 = Integer.parseInt(meta[0]);
+    int noInput2 = Integer.parseInt(meta[1]);
+    int noOutput = Integer.parseInt(meta[2]);
+    linesIter.next(); // 3rd line is always empty line.
+
+    // The gates in the order of the description
+    GateList gates = new GateList(noGates);
+    while (linesIter.hasNext()) {
+      String line = linesIter.next();
+      if (!line.isEmpty()) {
+        gates.add(line, noWires);
+      }
+    }
+    return layer(noWires, noInput1, noInput2, noOutput, gates);
+  }
+
+  /**
+   * Sorts the gates into layers. Each wire is assigned the multiplicative depth at which it is
+   * computed, and the layer within that depth. AND gates form layer 0 of their depth, while a
+   * linear gate is placed in the layer after the latest of its inputs computed at the same depth.
+   */
+  private static BristolCircuit layer(int noWires, int noInput1, int noInput2, int noOutput,
+      GateList gates) {
+    int[] depth = new int[noWires];
+    int[] level = new int[noWires];
+    boolean[] defined = new boolean[noWires];
+    for (int i = 0; i < noInput1 + noInput2; i++) {
+      defined[i] = true;
+    }
+    int maxDepth = 0;
+    long[] keys = new long[gates.size];
+    for (int i = 0; i < gates.size; i++) {
+      byte type = gates.types[i];
+      int l = gates.left[i];
+      int r = type == INV ? l : gates.right[i];
+      checkDefined(defined, l, type, "LEFT");
+      checkDefined(defined, r, type, "RIGHT");
+      int o = gates.out[i];
+      if (type == AND) {
+        depth[o] = Math.max(depth[l], depth[r]) + 1;
+        level[o] = 0;
+      } else {
+        int d = Math.max(depth[l], depth[r]);
+        int levelLeft = depth[l] == d ? level[l] : 0;
+        int levelRight = depth[r] == d ? level[r] : 0;
+        depth[o] = d;
+        level[o] = Math.max(levelLeft, levelRight) + 1;
+      }
+      if (level[o] > MAX_LEVEL) {
+        throw new IllegalArgumentException("Circuit has too long chains of linear gates");
+      }
+      defined[o] = true;
+      maxDepth = Math.max(maxDepth, depth[o]);
+      // Sort key is (depth, level, position) to keep the sort stable
+      keys[i] = ((long) depth[o] << 48) | ((long) level[o] << 32) | i;
+    }
+    Arrays.sort(keys);
+
+    byte[] types = new byte[gates.size];
+    int[] left = new int[gates.size];
+    int[] right = new int[gates.size];
+    int[] out = new int[gates.size];
+    List<Integer> layerStarts = new ArrayList<>();
+    long previousLayer = -1;
+    for (int i = 0; i < keys.length; i++) {
+      long layer = keys[i] >>> 32;
+      if (layer != previousLayer) {
+        layerStarts.add(i);
+        previousLayer = layer;
+      }
+      int gate = (int) keys[i];
+      types[i] = gates.types[gate];
+      left[i] = gates.left[gate];
+      right[i] = gates.right[gate];
+      out[i] = gates.out[gate];
+    }
+    layerStarts.add(gates.size);
+    return new BristolCircuit(noWires, noInput1, noInput2, noOutput, types, left, right, out,
+        layerStarts.stream().mapToInt(Integer::intValue).toArray(), maxDepth);
+  }
+
+  private static void checkDefined(boolean[] defined, int wire, byte type, String side) {
+    if (!defined[wire]) {
+      throw new IllegalArgumentException(
+          gateName(type) + ": " + side + " input wire " + wire + " was not set");
+    }
+  }
+
+  private static String gateName(byte type) {
+    return type == XOR ? "XOR" : type == AND ? "AND" : "INV";
+  }
+
+  /**
+   * Gets the number of layers of the circuit.
+   */
+  public int getNoOfLayers() {
+    return layerStarts.length - 1;
+  }
+
+  /**
+   * Gets the multiplicative depth of the circuit, i.e., the largest number of AND gates on any path
+   * through the circuit.
+   */
+  public int getMultiplicativeDepth() {
+    return multiplicativeDepth;
+  }
+
+  /**
+   * Gets the number of gates of the circuit.
+   */
+  public int getNoOfGates() {
+    return types.length;
+  }
+
+  /**
+   * Gets the number of wires of the circuit.
+   */
+  public int getNoOfWires() {
+    return noWires;
+  }
+
+  /**
+   * Gets the number of bits of the first input.
+   */
+  public int getNoOfInput1() {
+    return noInput1;
+  }
+
+  /**
+   * Gets the number of bits of the second input.
+   */
+  public int getNoOfInput2() {
+    return noInput2;
+  }
+
+  /**
+   * Gets the number of bits of the output. The output is stored on the last wires of the circuit.
+   */
+  public int getNoOfOutput() {
+    return noOutput;
+  }
+
+  /**
+   * Appends the gates of a layer to a builder, reading the input wires from the given array and
+   * storing the output wires in it. The gates of each type are appended as a single list
+   * operation, letting protocol suites evaluate e.g. all AND gates of the layer at once.
+   *
+   * @param layer the layer to evaluate
+   * @param wires the wires of the circuit indexed by wire number
+   * @param binary the builder to append the gates to
+   */
+  void evaluateLayer(int layer, DRes<SBool>[] wires, Binary binary) {
+    List<Integer> andGates = new ArrayList<>();
+    List<DRes<SBool>> andLefts = new ArrayList<>();
+    List<DRes<SBool>> andRights = new ArrayList<>();
+    List<Integer> xorGates = new ArrayList<>();
+    List<DRes<SBool>> xorLefts = new ArrayList<>();
+    List<DRes<SBool>> xorRights = new ArrayList<>();
+    List<Integer> invGates = new ArrayList<>();
+    List<DRes<SBool>> invIns = new ArrayList<>();
+    for (int i = layerStarts[layer]; i < layerStarts[layer + 1]; i++) {
+      DRes<SBool> leftIn = getInput(wires, left[i], types[i], "LEFT");
+      if (types[i] == INV) {
+        invGates.add(i);
+        invIns.add(leftIn);
+      } else {
+        DRes<SBool> rightIn = getInput(wires, right[i], types[i], "RIGHT");
+        if (types[i] == XOR) {
+          xorGates.add(i);
+          xorLefts.add(leftIn);
+          xorRights.add(rightIn);
+        } else {
+          andGates.add(i);
+          andLefts.add(leftIn);
+          andRights.add(rightIn);
+        }
+      }
+    }
+    if (!andGates.isEmpty()) {
+      setOutputs(wires, andGates, binary.and(andLefts, andRights));
+    }
+    if (!xorGates.isEmpty()) {
+      setOutputs(wires, xorGates, binary.xor(xorLefts, xorRights));
+    }
+    if (!invGates.isEmpty()) {
+      setOutputs(wires, invGates, binary.not(invIns));
+    }
+  }
+
+  private void setOutputs(DRes<SBool>[] wires, List<Integer> gates,
+      DRes<List<DRes<SBool>>> outputs) {
+    for (int j = 0; j < gates.size(); j++) {
+      final int index = j;
+      wires[out[gates.get(j)]] = () -> outputs.out().get(index).out();
+    }
+  }
+
+  private DRes<SBool> getInput(DRes<SBool>[] wires, int wire, byte type, String side) {
+    DRes<SBool> in = wires[wire];
+    if (in == null) {
+      throw new IllegalArgumentException(
+          gateName(type) + ": " + side + " input wire " + wire + " was null");
+    }
+    return in;
+  }
+
+  /**
+   * Growable gate arrays used while parsing, in the order of the description.
+   */
+  private static class GateList {
+
+    private byte[] types;
+    private int[] left;
+    private int[] right;
+    private int[] out;
+    private int size;
+
+    private GateList(int capacity) {
+      this.types = new byte[capacity];
+      this.left = new int[capacity];
+      this.right = new int[capacity];
+      this.out = new int[capacity];
+    }
+
+    /**
+     * Convert one line of text file to the corresponding basic boolean gate.
+     */
+    private void add(String line, int noWires) {
+      String[] tokens = line.split(" \\s*");
+      int noInput = Integer.parseInt(tokens[0]);
+      int noOutput = Integer.parseInt(tokens[1]);
+      if (tokens.length != 3 + noInput + noOutput) {
+        throw new IllegalArgumentException("Wrong circuit format for gate: " + line);
+      }
+      String type = tokens[2 + noInput + noOutput];
+      byte gateType;
+      if ("XOR".equals(type)) {
+        gateType = XOR;
+      } else if ("AND".equals(type)) {
+        gateType = AND;
+      } else if ("INV".equals(type)) {
+        gateType = INV;
+      } else {
+        throw new IllegalArgumentException("Unknown gate type: " + type);
+      }
+      int expectedInputs = gateType == INV ? 1 : 2;
+      if (noInput != expectedInputs || noOutput != 1) {
+        throw new IllegalArgumentException("Wrong circuit format for " + type);
+      }
+      if (size == types.length) {
+        int capacity = Math.max(16, 2 * size);
+        types = Arrays.copyOf(types, capacity);
+        left = Arrays.copyOf(left, capacity);
+        right = Arrays.copyOf(right, capacity);
+        out = Arrays.copyOf(out, capacity);
+      }
+      types[size] = gateType;
+      left[size] = parseWire(tokens[2], noWires);
+      right[size] = gateType == INV ? -1 : parseWire(tokens[3], noWires);
+      out[size] = parseWire(tokens[2 + noInput], noWires);
+      size++;
+    }
+
+    private int parseWire(String token, int noWires) {
+      int wire = Integer.parseInt(token);
+      if (wire < 0 || wire >= noWires) {
+        throw new IllegalArgumentException("Wire " + wire + " is out of range");
+      }
+      return wire;
+    }
+  }
+}
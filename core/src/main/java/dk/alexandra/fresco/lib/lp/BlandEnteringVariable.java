@@ -2,7 +2,6 @@ package dk.alexandra.fresco.lib.lp;
 
 import dk.alexandra.fresco.framework.DRes;
 import dk.alexandra.fresco.framework.builder.Computation;
-import dk.alexandra.fresco.framework.builder.numeric.AdvancedNumeric;
 import dk.alexandra.fresco.framework.builder.numeric.Comparison;
 import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
 import dk.alexandra.fresco.framework.util.Pair;
@@ -28,25 +27,9 @@ public class BlandEnteringVariable
       ProtocolBuilderNumeric builder) {
     DRes<SInt> negativeOne = builder.numeric().known(BigInteger.valueOf(-1));
     DRes<SInt> one = builder.numeric().known(BigInteger.ONE);
-    return builder.par(par -> {
-      int updateVectorDimension = updateMatrix.getHeight();
-      int numOfFs = tableau.getF().size();
-      List<DRes<SInt>> updatedF = new ArrayList<>(numOfFs);
-      ArrayList<DRes<SInt>> updateVector = updateMatrix.getRow(updateVectorDimension - 1);
-      for (int i = 0; i < numOfFs; i++) {
-        List<DRes<SInt>> constraintColumn = new ArrayList<>(updateVectorDimension);
-        constraintColumn.addAll(tableau.getC().getColumn(i));
-        constraintColumn.add(tableau.getF().get(i));
-
-        AdvancedNumeric advancedNumericBuilder = par.advancedNumeric();
-        updatedF.add(
-            advancedNumericBuilder.innerProduct(
-                constraintColumn,
-                updateVector)
-        );
-      }
-      return () -> updatedF;
-    }).seq((seq, updatedF) ->
+    return builder.seq(
+        new ReducedCosts(tableau, updateMatrix)
+    ).seq((seq, updatedF) ->
         seq.par(par -> {
           ArrayList<DRes<SInt>> signs = new ArrayList<>(updatedF.size());
           for (DRes<SInt> f : updatedF) {
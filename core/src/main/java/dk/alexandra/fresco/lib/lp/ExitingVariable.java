@@ -2,7 +2,6 @@ package dk.alexandra.fresco.lib.lp;
 
 import dk.alexandra.fresco.framework.DRes;
 import dk.alexandra.fresco.framework.builder.Computation;
-import dk.alexandra.fresco.framework.builder.numeric.AdvancedNumeric;
 import dk.alexandra.fresco.framework.builder.numeric.Comparison;
 import dk.alexandra.fresco.framework.builder.numeric.Numeric;
 import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
@@ -10,12 +9,12 @@ import dk.alexandra.fresco.framework.util.Pair;
 import dk.alexandra.fresco.framework.value.SInt;
 import dk.alexandra.fresco.lib.collections.Matrix;
 import dk.alexandra.fresco.lib.compare.eq.FracEq;
-import dk.alexandra.fresco.lib.conditional.ConditionalSelect;
 import dk.alexandra.fresco.lib.lp.ExitingVariable.ExitingVariableOutput;
+import dk.alexandra.fresco.lib.math.integer.linalg.InnerProducts;
 import dk.alexandra.fresco.lib.math.integer.min.MinInfFrac;
-import dk.alexandra.fresco.lib.math.integer.min.Minimum;
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -41,41 +40,28 @@ public class ExitingVariable implements
     int tableauHeight = tableau.getC().getHeight() + 1;
     DRes<SInt> zero = builder.numeric().known(BigInteger.ZERO);
     DRes<SInt> one = builder.numeric().known(BigInteger.ONE);
-    return builder.par((par) -> {
-      ArrayList<DRes<SInt>> enteringColumn = new ArrayList<>(tableauHeight);
+    return builder.seq((seq) -> {
       // Extract entering column
-      AdvancedNumeric advanced = par.advancedNumeric();
-      for (int i = 0; i < tableauHeight - 1; i++) {
-        ArrayList<DRes<SInt>> tableauRow = tableau.getC().getRow(i);
-        enteringColumn.add(
-            advanced.innerProduct(enteringIndex, tableauRow)
-        );
-      }
-      ArrayList<DRes<SInt>> tableauRow = tableau.getF();
-      enteringColumn.add(
-          advanced.innerProduct(enteringIndex, tableauRow)
-      );
-      return () -> enteringColumn;
-    }).par((par, enteringColumn) -> {
-      // Apply update matrix to entering column
-      ArrayList<DRes<SInt>> updatedEnteringColumn = new ArrayList<>(tableauHeight);
-      AdvancedNumeric advanced = par.advancedNumeric();
+      List<List<DRes<SInt>>> tableauRows = new ArrayList<>(tableau.getC().getRows());
+      tableauRows.add(tableau.getF());
+      return seq.seq(new InnerProducts(tableauRows,
+          Collections.nCopies(tableauHeight, enteringIndex)));
+    }).seq((seq, enteringColumn) -> {
+      // Apply update matrix to the entering column and the B vector in a single batch
+      List<List<DRes<SInt>>> updateRows = new ArrayList<>(2 * tableauHeight - 1);
+      List<List<DRes<SInt>>> columns = new ArrayList<>(2 * tableauHeight - 1);
       for (int i = 0; i < tableauHeight; i++) {
-        ArrayList<DRes<SInt>> updateRow = updateMatrix.getRow(i);
-        updatedEnteringColumn.add(
-            advanced.innerProduct(updateRow, enteringColumn)
-        );
+        updateRows.add(updateMatrix.getRow(i));
+        columns.add(enteringColumn);
       }
-
-      // Apply update matrix to the B vector
-      ArrayList<DRes<SInt>> updatedB = new ArrayList<>(tableauHeight - 1);
       for (int i = 0; i < tableauHeight - 1; i++) {
-        List<DRes<SInt>> updateRow = updateMatrix.getRow(i).subList(0, tableauHeight - 1);
-        updatedB.add(
-            advanced.innerProduct(updateRow, tableau.getB())
-        );
+        updateRows.add(updateMatrix.getRow(i).subList(0, tableauHeight - 1));
+        columns.add(tableau.getB());
       }
-      return Pair.lazy(updatedEnteringColumn, updatedB);
+      DRes<List<DRes<SInt>>> products = seq.seq(new InnerProducts(updateRows, columns));
+      return () -> new Pair<>(
+          new ArrayList<>(products.out().subList(0, tableauHeight)),
+          new ArrayList<>(products.out().subList(tableauHeight, 2 * tableauHeight - 1)));
     }).par((par, pair) -> {
       ArrayList<DRes<SInt>> updatedEnteringColumn = pair.getFirst();
       ArrayList<DRes<SInt>> updatedB = pair.getSecond();
@@ -148,70 +134,24 @@ public class ExitingVariable implements
           return () -> updatedTies;
         }).seq((seq3, finalTies) -> {
           // Break ties for exiting index by taking the minimal variable index
-          DRes<Pair<List<DRes<SInt>>, SInt>> minOut = new Minimum(finalTies)
-              .buildComputation(seq3);
-          return () -> new Pair<>(minOut.out().getFirst(), updatedEnteringColumn);
+          DRes<Pair<List<DRes<SInt>>, SInt>> minOut = seq3.advancedNumeric().argMin(finalTies);
+          return () -> new ExitingVariableOutput(new ArrayList<>(minOut.out().getFirst()),
+              updatedEnteringColumn);
         });
       });
-    }).par((par, pair) -> {
-      List<DRes<SInt>> exitingIndex = pair.getFirst();
-      ArrayList<DRes<SInt>> updatedEnteringColumn = pair.getSecond();
-      // Compute column for the new update matrix
-
-      ArrayList<DRes<SInt>> updateColumn = new ArrayList<>(tableauHeight);
-      for (int i = 0; i < tableauHeight - 1; i++) {
-        int finalI = i;
-        updateColumn.add(
-            par.seq((seq) -> {
-              Numeric numeric = seq.numeric();
-              DRes<SInt> negativeEntering =
-                  numeric.sub(zero, updatedEnteringColumn.get(finalI));
-              return seq
-                  .seq(new ConditionalSelect(exitingIndex.get(finalI), one, negativeEntering));
-            }));
-      }
-      updateColumn.add(par.numeric().sub(zero, updatedEnteringColumn.get(tableauHeight - 1)));
-      return Pair.lazy(exitingIndex, new Pair<>(updatedEnteringColumn, updateColumn));
-    }).pairInPar(
-        (seq, pair) -> {
-          List<DRes<SInt>> updatedEnteringColumn = pair.getSecond().getFirst();
-          DRes<SInt> sum = seq.advancedNumeric().sum(
-              updatedEnteringColumn.subList(0, tableauHeight - 1));
-          //Propagate exiting variable forward
-          return Pair.lazy(pair.getFirst(), sum);
-        },
-        (seq, pair) -> {
-          ArrayList<DRes<SInt>> updateColumn = pair.getSecond().getSecond();
-          DRes<SInt> sum = seq.advancedNumeric()
-              .sum(updateColumn.subList(0, tableauHeight - 1));
-          return Pair.lazy(updateColumn, sum);
-        }
-    ).seq((seq, pair) -> {
-      // Determine pivot
-      DRes<SInt> sumEnteringColumn = pair.getFirst().getSecond();
-      DRes<SInt> sumUpdateColumn = pair.getSecond().getSecond();
-      Numeric numeric = seq.numeric();
-      DRes<SInt> finalSum = numeric.add(sumEnteringColumn, sumUpdateColumn);
-      DRes<SInt> pivot = numeric.sub(finalSum, one);
-      ArrayList<DRes<SInt>> exitingIndex = new ArrayList<>(pair.getFirst().getFirst());
-      ArrayList<DRes<SInt>> updateColumn = new ArrayList<>(pair.getSecond().getFirst());
-      return () -> new ExitingVariableOutput(exitingIndex, updateColumn, pivot);
     });
   }
 
   public static class ExitingVariableOutput {
 
     final ArrayList<DRes<SInt>> exitingIndex;
-    final ArrayList<DRes<SInt>> updateColumn;
-    final DRes<SInt> pivot;
+    final ArrayList<DRes<SInt>> enteringColumn;
 
     public ExitingVariableOutput(
         ArrayList<DRes<SInt>> exitingIndex,
-        ArrayList<DRes<SInt>> updateColumn,
-        DRes<SInt> pivot) {
+        ArrayList<DRes<SInt>> enteringColumn) {
       this.exitingIndex = exitingIndex;
-      this.updateColumn = updateColumn;
-      this.pivot = pivot;
+      this.enteringColumn = enteringColumn;
     }
   }
 }
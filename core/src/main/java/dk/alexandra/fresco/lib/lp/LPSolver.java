@@ -7,6 +7,7 @@ import dk.alexandra.fresco.framework.util.Pair;
 import dk.alexandra.fresco.framework.value.SInt;
 import dk.alexandra.fresco.lib.collections.Matrix;
 import dk.alexandra.fresco.lib.conditional.ConditionalSelect;
+import dk.alexandra.fresco.lib.lp.ExitingVariable.ExitingVariableOutput;
 import dk.alexandra.fresco.lib.lp.LPSolver.LPOutput;
 import java.io.PrintStream;
 import java.math.BigInteger;
@@ -76,6 +77,20 @@ public class LPSolver implements Computation<LPOutput, ProtocolBuilderNumeric> {
     }
   }
 
+  /**
+   * Creates a new LPSolver warm started from the output of a previous solver on the same tableau,
+   * e.g., one that was aborted after its maximum number of iterations. The solver continues from
+   * the basis, update matrix and pivot reached by the previous solver.
+   *
+   * @param pivotRule the pivot rule to apply
+   * @param previous the output of the previous solver
+   * @param maxNumberOfIterations we might not terminate, the solver stops after this iteration
+   */
+  public LPSolver(PivotRule pivotRule, LPOutput previous, int maxNumberOfIterations) {
+    this(pivotRule, previous.tableau, previous.updateMatrix, previous.pivot, previous.basis,
+        maxNumberOfIterations);
+  }
+
   private boolean checkDimensions(LPTableau tableau, Matrix<DRes<SInt>> updateMatrix) {
     int updateHeight = updateMatrix.getHeight();
     int updateWidth = updateMatrix.getWidth();
@@ -128,7 +143,7 @@ public class LPSolver implements Computation<LPOutput, ProtocolBuilderNumeric> {
         }
       });
     }).seq((seq, whileState) -> () -> new LPOutput(whileState.tableau, whileState.updateMatrix,
-        whileState.basis, whileState.pivot));
+        whileState.basis, whileState.pivot, whileState.aborted));
   }
 
   /**
@@ -138,7 +153,8 @@ public class LPSolver implements Computation<LPOutput, ProtocolBuilderNumeric> {
    * This finds the exiting variable index by finding the most constraining constraint on the
    * entering variable. Having the exiting variable index also gives us the pivot. Having the
    * entering and exiting indices and the pivot allows us to compute the new update matrix for the
-   * next iteration.
+   * next iteration as a rank one update of the update matrix scaled by the previous pivot, see
+   * {@link UpdateMatrix}.
    *
    * Additionally, having the entering and exiting variables we can update the basis of the current
    * solution.
@@ -146,31 +162,39 @@ public class LPSolver implements Computation<LPOutput, ProtocolBuilderNumeric> {
    */
   private DRes<LpState> phaseTwoProtocol(ProtocolBuilderNumeric builder, LpState state,
       List<DRes<SInt>> entering) {
-    return builder.seq((seq) -> seq.seq(
-        new ExitingVariable(state.tableau, state.updateMatrix, entering, state.basis)))
-        .pairInPar((seq, exitingVariable) -> {
-          ArrayList<DRes<SInt>> exitingIndex = exitingVariable.exitingIndex;
-          // Update Basis
-          DRes<SInt> ent =
-              seq.advancedNumeric().innerProductWithPublicPart(state.enumeratedVariables,
-                  entering);
-          return seq.par((par) -> {
-            ArrayList<DRes<SInt>> nextBasis = new ArrayList<>(noConstraints);
-            for (int i = 0; i < noConstraints; i++) {
-              nextBasis.add(
-                  par.seq(new ConditionalSelect(exitingIndex.get(i), ent, state.basis.get(i))));
-            }
-            return Pair.lazy(exitingVariable.pivot, nextBasis);
-          });
-        }, (seq, exitingVariable) -> seq
-            .seq(new UpdateMatrix(state.updateMatrix, exitingVariable.exitingIndex,
-                exitingVariable.updateColumn, exitingVariable.pivot, state.prevPivot)))
-        .seq((seq, pair) -> {
-          Matrix<DRes<SInt>> updateMatrix = pair.getSecond();
-          List<DRes<SInt>> basis = pair.getFirst().getSecond();
-          DRes<SInt> pivot = pair.getFirst().getFirst();
-          return () -> state.createNextState(basis, updateMatrix, pivot);
-        });
+    return builder.par((par) -> {
+      // The scaled update matrix only depends on the state, so it is computed while the exiting
+      // variable is found
+      DRes<Pair<DRes<SInt>, Matrix<DRes<SInt>>>> scaled =
+          par.seq(UpdateMatrix.scale(state.updateMatrix, state.prevPivot));
+      DRes<ExitingVariableOutput> exiting = par.seq(
+          new ExitingVariable(state.tableau, state.updateMatrix, entering, state.basis));
+      return () -> new Pair<>(exiting.out(), scaled.out());
+    }).pairInPar((seq, exitingAndScaled) -> {
+      ArrayList<DRes<SInt>> exitingIndex = exitingAndScaled.getFirst().exitingIndex;
+      // Update Basis
+      DRes<SInt> ent =
+          seq.advancedNumeric().innerProductWithPublicPart(state.enumeratedVariables,
+              entering);
+      return seq.par((par) -> {
+        ArrayList<DRes<SInt>> nextBasis = new ArrayList<>(noConstraints);
+        for (int i = 0; i < noConstraints; i++) {
+          nextBasis.add(
+              par.seq(new ConditionalSelect(exitingIndex.get(i), ent, state.basis.get(i))));
+        }
+        return () -> nextBasis;
+      });
+    }, (seq, exitingAndScaled) -> {
+      ExitingVariableOutput exitingVariable = exitingAndScaled.getFirst();
+      Pair<DRes<SInt>, Matrix<DRes<SInt>>> scaled = exitingAndScaled.getSecond();
+      return seq.seq(new UpdateMatrix(state.updateMatrix, scaled.getSecond(),
+          scaled.getFirst(), exitingVariable.exitingIndex, exitingVariable.enteringColumn));
+    }).seq((seq, pair) -> {
+      List<DRes<SInt>> basis = pair.getFirst();
+      Matrix<DRes<SInt>> updateMatrix = pair.getSecond().getFirst();
+      DRes<SInt> pivot = pair.getSecond().getSecond();
+      return () -> state.createNextState(basis, updateMatrix, pivot);
+    });
   }
 
   /**
@@ -283,17 +307,34 @@ public class LPSolver implements Computation<LPOutput, ProtocolBuilderNumeric> {
     public final Matrix<DRes<SInt>> updateMatrix;
     public final List<DRes<SInt>> basis;
     public final DRes<SInt> pivot;
+    private final boolean aborted;
 
     public LPOutput(LPTableau tableau, Matrix<DRes<SInt>> updateMatrix, List<DRes<SInt>> basis,
         DRes<SInt> pivot) {
+      this(tableau, updateMatrix, basis, pivot, false);
+    }
+
+    /**
+     * Creates the output of a solver. The output of an aborted solver holds the state reached
+     * when it was aborted, which can be used to warm start a new solver.
+     *
+     * @param tableau the tableau
+     * @param updateMatrix the final update matrix
+     * @param basis the final basis
+     * @param pivot the final pivot
+     * @param aborted true if the solver was aborted before an optimal solution was found
+     */
+    public LPOutput(LPTableau tableau, Matrix<DRes<SInt>> updateMatrix, List<DRes<SInt>> basis,
+        DRes<SInt> pivot, boolean aborted) {
       this.tableau = tableau;
       this.updateMatrix = updateMatrix;
       this.basis = basis;
       this.pivot = pivot;
+      this.aborted = aborted;
     }
 
     public boolean isAborted() {
-      return pivot == null;
+      return aborted || pivot == null;
     }
   }
 
@@ -307,13 +348,22 @@ public class LPSolver implements Computation<LPOutput, ProtocolBuilderNumeric> {
     private final List<BigInteger> enumeratedVariables;
     private final List<DRes<SInt>> basis;
     private final DRes<SInt> prevPivot;
+    private final boolean aborted;
 
     private LpState(LPTableau tableau, List<DRes<SInt>> basis, Matrix<DRes<SInt>> updateMatrix,
         DRes<SInt> pivot, DRes<SInt> prevPivot, List<BigInteger> enumeratedVariables, int iteration,
         boolean terminated) {
+      this(tableau, basis, updateMatrix, pivot, prevPivot, enumeratedVariables, iteration,
+          terminated, false);
+    }
+
+    private LpState(LPTableau tableau, List<DRes<SInt>> basis, Matrix<DRes<SInt>> updateMatrix,
+        DRes<SInt> pivot, DRes<SInt> prevPivot, List<BigInteger> enumeratedVariables, int iteration,
+        boolean terminated, boolean aborted) {
       // Phase two protocol
       this.iteration = iteration;
       this.terminated = terminated;
+      this.aborted = aborted;
       this.tableau = tableau;
       this.enumeratedVariables = enumeratedVariables;
       this.pivot = pivot;
@@ -342,7 +392,8 @@ public class LPSolver implements Computation<LPOutput, ProtocolBuilderNumeric> {
     }
 
     public LpState createAbortState() {
-      return new LpState(null, null, null, null, null, null, iteration + 1, true);
+      return new LpState(tableau, basis, updateMatrix, pivot, pivot, null, iteration + 1, true,
+          true);
     }
 
     public boolean terminated() {
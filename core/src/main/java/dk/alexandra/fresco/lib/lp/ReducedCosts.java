@@ -0,0 +1,43 @@
+package dk.alexandra.fresco.lib.lp;
+
+import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.builder.Computation;
+import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
+import dk.alexandra.fresco.framework.value.SInt;
+import dk.alexandra.fresco.lib.collections.Matrix;
+import dk.alexandra.fresco.lib.math.integer.linalg.InnerProducts;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Computes the current <i>F</i> vector, i.e., the reduced costs of all columns of the tableau, as
+ * the product of the last row of the update matrix and the tableau without its last column. All
+ * columns are done in a single batch of multiplications.
+ */
+class ReducedCosts implements Computation<List<DRes<SInt>>, ProtocolBuilderNumeric> {
+
+  private final LPTableau tableau;
+  private final Matrix<DRes<SInt>> updateMatrix;
+
+  ReducedCosts(LPTableau tableau, Matrix<DRes<SInt>> updateMatrix) {
+    this.tableau = tableau;
+    this.updateMatrix = updateMatrix;
+  }
+
+  @Override
+  public DRes<List<DRes<SInt>>> buildComputation(ProtocolBuilderNumeric builder) {
+    int updateVectorDimension = updateMatrix.getHeight();
+    int numOfFs = tableau.getF().size();
+    List<DRes<SInt>> updateVector = updateMatrix.getRow(updateVectorDimension - 1);
+    List<List<DRes<SInt>>> constraintColumns = new ArrayList<>(numOfFs);
+    for (int i = 0; i < numOfFs; i++) {
+      List<DRes<SInt>> constraintColumn = new ArrayList<>(updateVectorDimension);
+      constraintColumn.addAll(tableau.getC().getColumn(i));
+      constraintColumn.add(tableau.getF().get(i));
+      constraintColumns.add(constraintColumn);
+    }
+    return builder.seq(
+        new InnerProducts(constraintColumns, Collections.nCopies(numOfFs, updateVector)));
+  }
+}
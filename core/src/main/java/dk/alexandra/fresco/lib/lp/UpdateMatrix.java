@@ -1,9 +1,5 @@
 package dk.alexandra.fresco.lib.lp;
 
-import java.math.BigInteger;
-import java.util.ArrayList;
-import java.util.List;
-
 import dk.alexandra.fresco.framework.DRes;
 import dk.alexandra.fresco.framework.builder.Computation;
 import dk.alexandra.fresco.framework.builder.numeric.Numeric;
@@ -11,148 +7,140 @@ import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
 import dk.alexandra.fresco.framework.util.Pair;
 import dk.alexandra.fresco.framework.value.SInt;
 import dk.alexandra.fresco.lib.collections.Matrix;
-import dk.alexandra.fresco.lib.conditional.ConditionalSelect;
+import dk.alexandra.fresco.lib.math.integer.linalg.InnerProducts;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
+/**
+ * Computes the update matrix and pivot of the next iteration of the revised simplex method.
+ *
+ * <p>Let <i>U</i> be the current update matrix, <i>p'</i> the previous pivot, <i>L</i> the one-hot
+ * exiting index and <i>e</i> the updated entering column. The new pivot is <i>p = e<sub>r</sub></i>
+ * where <i>r</i> is the exiting row, and with integer pivoting the new update matrix is the rank
+ * one update <i>U' = p V + d U<sub>r</sub></i>, where <i>V = U / p'</i>, <i>U<sub>r</sub></i> is
+ * the exiting row of <i>U</i> and <i>d<sub>j</sub> = L<sub>j</sub> - e<sub>j</sub> / p'</i>. The
+ * scaled matrix <i>V</i> only depends on the state at the start of the iteration, see {@link
+ * #scale(Matrix, DRes)}, so it can be computed while the exiting variable is found.
+ * Given the exiting index the update then takes two batches of multiplications.</p>
+ */
 public class UpdateMatrix implements
-    Computation<Matrix<DRes<SInt>>, ProtocolBuilderNumeric> {
+    Computation<Pair<Matrix<DRes<SInt>>, DRes<SInt>>, ProtocolBuilderNumeric> {
 
-  private Matrix<DRes<SInt>> oldUpdateMatrix;
-  private List<DRes<SInt>> L;
-  private List<DRes<SInt>> C;
-  private DRes<SInt> p, p_prime;
+  private final Matrix<DRes<SInt>> oldUpdateMatrix;
+  private final Matrix<DRes<SInt>> scaledUpdateMatrix;
+  private final DRes<SInt> prevPivotInverse;
+  private final List<DRes<SInt>> exitingIndex;
+  private final List<DRes<SInt>> enteringColumn;
 
-  UpdateMatrix(Matrix<DRes<SInt>> oldUpdateMatrix, List<DRes<SInt>> L,
-      List<DRes<SInt>> C, DRes<SInt> p,
-      DRes<SInt> p_prime) {
+  /**
+   * Creates a computation of the next update matrix.
+   *
+   * @param oldUpdateMatrix the current update matrix <i>U</i>
+   * @param scaledUpdateMatrix the current update matrix divided by the previous pivot
+   * @param prevPivotInverse the inverse of the previous pivot
+   * @param exitingIndex the one-hot exiting index
+   * @param enteringColumn the entering column with the current update matrix applied
+   */
+  UpdateMatrix(Matrix<DRes<SInt>> oldUpdateMatrix, Matrix<DRes<SInt>> scaledUpdateMatrix,
+      DRes<SInt> prevPivotInverse, List<DRes<SInt>> exitingIndex,
+      List<DRes<SInt>> enteringColumn) {
     this.oldUpdateMatrix = oldUpdateMatrix;
-    this.L = L;
-    this.C = C;
-    this.p = p;
-    this.p_prime = p_prime;
+    this.scaledUpdateMatrix = scaledUpdateMatrix;
+    this.prevPivotInverse = prevPivotInverse;
+    this.exitingIndex = exitingIndex;
+    this.enteringColumn = enteringColumn;
   }
 
-
+  /**
+   * Builds the computation. The result is the new update matrix and the new pivot.
+   */
   @Override
-  public DRes<Matrix<DRes<SInt>>> buildComputation(ProtocolBuilderNumeric builder) {
+  public DRes<Pair<Matrix<DRes<SInt>>, DRes<SInt>>> buildComputation(
+      ProtocolBuilderNumeric builder) {
     int height = oldUpdateMatrix.getHeight();
     int width = oldUpdateMatrix.getWidth();
-    DRes<SInt> one = builder.numeric().known(BigInteger.ONE);
-
-    return builder.seq((seq2) -> seq2.par(par1 -> {
-      Numeric numeric = par1.numeric();
-      Matrix<DRes<SInt>> lampdas = new Matrix<>(
-          height, width,
-          (j) -> {
-            ArrayList<DRes<SInt>> newRow = new ArrayList<>(width);
-            List<DRes<SInt>> oldRow = oldUpdateMatrix.getRow(j);
-            for (int i = 0; i < width; i++) {
-              if (j < width - 1) {
-                newRow.add(
-                    numeric.mult(L.get(j), oldRow.get(i))
-                );
-              } else {
-                newRow.add(numeric.known(BigInteger.ZERO));
-              }
-            }
-            return newRow;
-          }
-      );
-      DRes<Pair<List<DRes<SInt>>, DRes<SInt>>> scaledCAndPP =
-          par1.seq(seq_pp -> {
-            DRes<SInt> pp_inv = seq_pp.advancedNumeric().invert(p_prime);
-            DRes<SInt> pp = seq_pp.numeric().mult(p, pp_inv);
-            return seq_pp.par((par) -> {
-              List<DRes<SInt>> scaledC = new ArrayList<>(C.size());
-              for (int j = 0; j < C.size() - 1; j++) {
-                int finalJ = j;
-                scaledC.add(par.seq((scaleSeq) -> {
-                  DRes<SInt> scaling;
-                  scaling = scaleSeq.seq(new ConditionalSelect(L.get(finalJ), one, pp_inv));
-                  return scaleSeq.numeric().mult(C.get(finalJ), scaling);
-                }));
-              }
-              scaledC.add(
-                  par.numeric().mult(C.get(C.size() - 1), pp_inv)
-              );
-              return Pair.lazy(scaledC, pp);
-            });
-          });
-      return () -> new Pair<>(lampdas, scaledCAndPP.out());
-    }).par((gpAddAndSub, input) -> {
-      Matrix<DRes<SInt>> lambdas_i_jOuts = input.getFirst();
-      List<DRes<SInt>> scaledC = input.getSecond().getFirst();
-      DRes<SInt> pp = input.getSecond().getSecond();
-      Numeric numeric = gpAddAndSub.numeric();
-
-      List<DRes<SInt>> lambdas_i = new ArrayList<>(height);
-      Matrix<DRes<SInt>> subOuts = new Matrix<>(height, width,
-          (j) -> {
-            ArrayList<DRes<SInt>> newRow = new ArrayList<>(width);
-            List<DRes<SInt>> oldRow = oldUpdateMatrix.getRow(j);
-            List<DRes<SInt>> lambdaRow = lambdas_i_jOuts.getRow(j);
-            for (int i = 0; i < width; i++) {
-              newRow.add(numeric.sub(
-                  oldRow.get(i),
-                  lambdaRow.get(i)
-              ));
-            }
-            return newRow;
-          });
+    int noConstraints = exitingIndex.size();
+    return builder.par(par -> {
+      // The exiting row of the update matrix and the pivot are selected by the exiting index
+      List<List<DRes<SInt>>> vectors = new ArrayList<>(width + 1);
       for (int i = 0; i < width; i++) {
-        lambdas_i.add(gpAddAndSub.advancedNumeric().sum(lambdas_i_jOuts.getColumn(i)));
+        vectors.add(oldUpdateMatrix.getColumn(i).subList(0, noConstraints));
       }
-      return () -> new Pair<>(
-          new Pair<>(scaledC, pp), new Pair<>(subOuts, lambdas_i));
-    })).par(
-        (gpMults, input) -> {
-          List<DRes<SInt>> scaledC = input.getFirst().getFirst();
-          DRes<SInt> pp = input.getFirst().getSecond();
-          Matrix<DRes<SInt>> subOuts = input.getSecond().getFirst();
-          List<DRes<SInt>> lambdas_i = input.getSecond().getSecond();
-          Numeric numeric = gpMults.numeric();
-          Matrix<DRes<SInt>> mults_cAndLambda_iOuts =
-              new Matrix<>(height, width,
-                  (j) -> {
-                    ArrayList<DRes<SInt>> mults_cAndLambda_iOuts_row = new ArrayList<>(
-                        width);
-                    for (int i = 0; i < width; i++) {
-                      mults_cAndLambda_iOuts_row
-                          .add(numeric.mult(scaledC.get(j), lambdas_i.get(i)));
-                    }
-                    return mults_cAndLambda_iOuts_row;
-                  });
-          Matrix<DRes<SInt>> mults_sub_and_ppOuts = new Matrix<>(height, width,
-              (j) -> {
-                ArrayList<DRes<SInt>> mults_sub_and_ppOuts_row = new ArrayList<>(width);
-                ArrayList<DRes<SInt>> subRow = subOuts.getRow(j);
-                for (int i = 0; i < width; i++) {
-                  mults_sub_and_ppOuts_row.add(numeric.mult(subRow.get(i), pp));
-                }
-                return mults_sub_and_ppOuts_row;
-              });
-
-          return Pair.lazy(mults_cAndLambda_iOuts, mults_sub_and_ppOuts);
+      vectors.add(enteringColumn.subList(0, noConstraints));
+      DRes<List<DRes<SInt>>> exitingRowAndPivot = par.seq(
+          new InnerProducts(vectors, Collections.nCopies(width + 1, exitingIndex)));
+      DRes<List<DRes<SInt>>> scaledColumn = par.numeric()
+          .mult(enteringColumn, Collections.nCopies(height, prevPivotInverse));
+      return () -> new Pair<>(exitingRowAndPivot.out(), scaledColumn.out());
+    }).par((par, pair) -> {
+      List<DRes<SInt>> scaledColumn = pair.getSecond();
+      Numeric numeric = par.numeric();
+      List<DRes<SInt>> coefficients = new ArrayList<>(height);
+      for (int j = 0; j < height; j++) {
+        coefficients.add(j < noConstraints
+            ? numeric.sub(exitingIndex.get(j), scaledColumn.get(j))
+            : numeric.sub(BigInteger.ZERO, scaledColumn.get(j)));
+      }
+      return () -> new Pair<>(pair.getFirst(), coefficients);
+    }).seq((seq, pair) -> {
+      List<DRes<SInt>> exitingRow = pair.getFirst().subList(0, width);
+      DRes<SInt> pivot = pair.getFirst().get(width);
+      List<DRes<SInt>> coefficients = pair.getSecond();
+      List<DRes<SInt>> left = new ArrayList<>(2 * height * width);
+      List<DRes<SInt>> right = new ArrayList<>(2 * height * width);
+      for (int j = 0; j < height; j++) {
+        List<DRes<SInt>> scaledRow = scaledUpdateMatrix.getRow(j);
+        for (int i = 0; i < width; i++) {
+          left.add(pivot);
+          right.add(scaledRow.get(i));
+          left.add(coefficients.get(j));
+          right.add(exitingRow.get(i));
+        }
+      }
+      DRes<List<DRes<SInt>>> products = seq.numeric().mult(left, right);
+      return () -> new Pair<>(products.out(), pivot);
+    }).par((par, pair) -> {
+      List<DRes<SInt>> products = pair.getFirst();
+      Numeric numeric = par.numeric();
+      Matrix<DRes<SInt>> updateMatrix = new Matrix<>(height, width, j -> {
+        ArrayList<DRes<SInt>> row = new ArrayList<>(width);
+        for (int i = 0; i < width; i++) {
+          int k = 2 * (j * width + i);
+          row.add(numeric.add(products.get(k), products.get(k + 1)));
         }
-    ).par((adds, pair) -> {
-      Matrix<DRes<SInt>> mults_cAndLambda_iOuts = pair.getFirst();
-      Matrix<DRes<SInt>> mults_sub_and_ppOuts = pair.getSecond();
-      Numeric numeric = adds.numeric();
-      Matrix<DRes<SInt>> resultMatrix = new Matrix<>(height, width,
-          (j) -> {
-            ArrayList<DRes<SInt>> row = new ArrayList<>(width);
-            ArrayList<DRes<SInt>> mults_cAndLambdaRow = mults_cAndLambda_iOuts.getRow(j);
-            ArrayList<DRes<SInt>> mult_sub_and_pp_row = mults_sub_and_ppOuts.getRow(j);
-            for (int i = 0; i < width; i++) {
-              row.add(
-                  numeric.add(
-                      mults_cAndLambdaRow.get(i),
-                      mult_sub_and_pp_row.get(i))
-              );
-            }
-            return row;
-          });
-      return () -> resultMatrix;
+        return row;
+      });
+      return () -> new Pair<>(updateMatrix, pair.getSecond());
     });
   }
 
+  /**
+   * Creates a computation of the inverse of a pivot and an update matrix divided by the pivot.
+   *
+   * @param updateMatrix the update matrix
+   * @param pivot the pivot
+   * @return the computation of the inverse and the scaled update matrix
+   */
+  static Computation<Pair<DRes<SInt>, Matrix<DRes<SInt>>>, ProtocolBuilderNumeric> scale(
+      Matrix<DRes<SInt>> updateMatrix, DRes<SInt> pivot) {
+    int height = updateMatrix.getHeight();
+    int width = updateMatrix.getWidth();
+    return builder -> builder.seq(seq ->
+        seq.advancedNumeric().invert(pivot)
+    ).seq((seq, inverse) -> {
+      List<DRes<SInt>> entries = new ArrayList<>(height * width);
+      for (List<DRes<SInt>> row : updateMatrix.getRows()) {
+        entries.addAll(row);
+      }
+      DRes<List<DRes<SInt>>> products = seq.numeric()
+          .mult(entries, Collections.<DRes<SInt>>nCopies(entries.size(), inverse));
+      return () -> {
+        Matrix<DRes<SInt>> scaled = new Matrix<>(height, width,
+            j -> new ArrayList<>(products.out().subList(j * width, (j + 1) * width)));
+        return new Pair<DRes<SInt>, Matrix<DRes<SInt>>>(inverse, scaled);
+      };
+    });
+  }
 }
@@ -6,13 +6,17 @@ import dk.alexandra.fresco.framework.builder.binary.ProtocolBuilderBinary;
 import dk.alexandra.fresco.framework.util.Pair;
 import dk.alexandra.fresco.framework.value.SBool;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 
 /**
  * This class implements a Full Adder protocol for Binary protocols.
- * It takes the naive approach of linking 1-Bit-Full Adders together to implement
- * a generic length adder.
+ * It takes the naive approach of rippling the carry through the bits, as when linking 1-Bit-Full
+ * Adders together to implement a generic length adder. The XORs and ANDs of the input bits do not
+ * depend on the carry, so they are computed for all bits at once using the list operations of
+ * {@link dk.alexandra.fresco.framework.builder.binary.Binary}, leaving a single AND per bit in the
+ * carry chain.
  */
 public class FullAdder implements Computation<List<DRes<SBool>>, ProtocolBuilderBinary> {
 
@@ -35,46 +39,28 @@ public class FullAdder implements Computation<List<DRes<SBool>>, ProtocolBuilder
 
   @Override
   public DRes<List<DRes<SBool>>> buildComputation(ProtocolBuilderBinary builder) {
-
-    List<DRes<SBool>> result = new ArrayList<DRes<SBool>>(); 
-
-    return builder.seq(seq -> {
-      int idx = this.lefts.size() - 1;
-      IterationState is = new IterationState(idx,
-          seq.advancedBinary().oneBitFullAdder(lefts.get(idx), rights.get(idx), inCarry));
-      return is;
-    }).whileLoop(
-        (state) -> state.round >= 1,
-        (seq, state) -> {
-          int idx = state.round - 1;
-
-          result.add(0, state.value.out().getFirst());
-          IterationState is = new IterationState(idx, seq.advancedBinary()
-              .oneBitFullAdder(lefts.get(idx), rights.get(idx), state.value.out().getSecond()));
-          return is;
-        }
-        ).seq((seq, state) -> {
-          result.add(0, state.value.out().getFirst());
-          result.add(0, state.value.out().getSecond());
-          return () -> result;
-        }
-            );
-  }
-
-  private static final class IterationState implements DRes<IterationState> {
-
-    private int round;
-    private final DRes<Pair<SBool, SBool>> value;
-
-    private IterationState(int round,
-        DRes<Pair<SBool, SBool>> value) {
-      this.round = round;
-      this.value = value;
-    }
-
-    @Override
-    public IterationState out() {
-      return this;
-    }
+    return builder.par(par -> {
+      DRes<List<DRes<SBool>>> xors = par.binary().xor(lefts, rights);
+      DRes<List<DRes<SBool>>> ands = par.binary().and(lefts, rights);
+      return () -> new Pair<>(xors.out(), ands.out());
+    }).seq((seq, xorsAndAnds) -> {
+      List<DRes<SBool>> xors = xorsAndAnds.getFirst();
+      List<DRes<SBool>> ands = xorsAndAnds.getSecond();
+      // The least significant bit is the last one, so the carry ripples from the end of the lists
+      List<DRes<SBool>> carries = new ArrayList<>(Collections.nCopies(xors.size(), null));
+      DRes<SBool> carry = inCarry;
+      for (int i = xors.size() - 1; i >= 0; i--) {
+        carries.set(i, carry);
+        carry = seq.binary().xor(ands.get(i), seq.binary().and(xors.get(i), carry));
+      }
+      DRes<SBool> outCarry = carry;
+      DRes<List<DRes<SBool>>> sums = seq.binary().xor(xors, carries);
+      return () -> {
+        List<DRes<SBool>> result = new ArrayList<>(xors.size() + 1);
+        result.add(outCarry);
+        result.addAll(sums.out());
+        return result;
+      };
+    });
   }
 }
@@ -6,10 +6,13 @@ import dk.alexandra.fresco.framework.builder.numeric.Numeric;
 import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
 import dk.alexandra.fresco.framework.value.SInt;
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Finds the bit length of an integer. This is done by finding the bit representation of the integer
- * and then returning the index of the highest set bit.
+ * and then returning the index of the highest set bit. The highest set bit is found by computing
+ * the disjunctions of all suffixes of the bits in a logarithmic number of rounds.
  */
 public class BitLength implements Computation<SInt, ProtocolBuilderNumeric> {
 
@@ -35,24 +38,47 @@ public class BitLength implements Computation<SInt, ProtocolBuilderNumeric> {
       //Find the bit representation of the input
       return seq.advancedNumeric().toBits(input, maxBitLength);
     }).seq((seq, bits) -> {
-      DRes<SInt> mostSignificantBitIndex = null;
-      Numeric numeric = seq.numeric();
-      for (int n = 0; n < maxBitLength; n++) {
-        // If bits[n] == 1 we let mostSignificantIndex be current index.
-        // Otherwise we leave it be.
-        SInt remainderResult = bits.get(n);
-        if (mostSignificantBitIndex == null) {
-          mostSignificantBitIndex = numeric.mult(BigInteger.valueOf(n), () -> remainderResult);
-        } else {
-          DRes<SInt> sub = numeric.sub(BigInteger.valueOf(n), mostSignificantBitIndex);
-          DRes<SInt> mult = numeric.mult(() -> remainderResult, sub);
-          mostSignificantBitIndex = numeric.add(mult, mostSignificantBitIndex);
+      List<DRes<SInt>> suffixes = new ArrayList<>(bits);
+      return new IterationState(1, suffixes);
+    }).whileLoop((state) -> state.distance < state.suffixes.size(), (seq, state) -> {
+      // the element at n is the disjunction of the 2 * distance bits from n, or all bits from n
+      List<DRes<SInt>> suffixes = state.suffixes;
+      List<DRes<SInt>> combined = new ArrayList<>(suffixes);
+      seq.par(par -> {
+        Numeric numeric = par.numeric();
+        for (int n = 0; n + state.distance < suffixes.size(); n++) {
+          DRes<SInt> low = suffixes.get(n);
+          DRes<SInt> high = suffixes.get(n + state.distance);
+          combined.set(n, numeric.sub(numeric.add(low, high), numeric.mult(low, high)));
         }
+        return null;
+      });
+      return new IterationState(2 * state.distance, combined);
+    }).seq((seq, state) -> {
+      // The element at n is one if some bit from n is set, so their sum is the index of the most
+      // significant bit plus one. As before, an input of zero has bit length one.
+      Numeric numeric = seq.numeric();
+      DRes<SInt> result = numeric.sub(BigInteger.ONE, state.suffixes.get(0));
+      for (DRes<SInt> suffix : state.suffixes) {
+        result = numeric.add(result, suffix);
       }
-      // We are interested in the bit length of the input, so we add one to
-      // the index of the most significant bit since the indices are counte from 0
-      return numeric.add(BigInteger.ONE, mostSignificantBitIndex);
+      return result;
     });
   }
 
+  private static final class IterationState implements DRes<IterationState> {
+
+    private final int distance;
+    private final List<DRes<SInt>> suffixes;
+
+    private IterationState(int distance, List<DRes<SInt>> suffixes) {
+      this.distance = distance;
+      this.suffixes = suffixes;
+    }
+
+    @Override
+    public IterationState out() {
+      return this;
+    }
+  }
 }
@@ -0,0 +1,64 @@
+package dk.alexandra.fresco.lib.math.integer.linalg;
+
+import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.builder.Computation;
+import dk.alexandra.fresco.framework.builder.numeric.Numeric;
+import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
+import dk.alexandra.fresco.framework.value.SInt;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Computes a number of inner products at once, e.g., the product of a matrix and a vector. The
+ * products of all pairs of vectors are computed by a single batched multiplication, see {@link
+ * Numeric#mult(List, List)}, and then summed up.
+ */
+public class InnerProducts implements Computation<List<DRes<SInt>>, ProtocolBuilderNumeric> {
+
+  private final List<? extends List<DRes<SInt>>> vectorsA;
+  private final List<? extends List<DRes<SInt>>> vectorsB;
+
+  /**
+   * Creates a computation of the inner products of <code>vectorsA.get(i)</code> and
+   * <code>vectorsB.get(i)</code> for all <i>i</i>.
+   *
+   * @param vectorsA the first vectors
+   * @param vectorsB the second vectors, each of the same size as the corresponding first vector
+   */
+  public InnerProducts(List<? extends List<DRes<SInt>>> vectorsA,
+      List<? extends List<DRes<SInt>>> vectorsB) {
+    if (vectorsA.size() != vectorsB.size()) {
+      throw new IllegalArgumentException(
+          "Number of vectors must match, was " + vectorsA.size() + " and " + vectorsB.size());
+    }
+    for (int i = 0; i < vectorsA.size(); i++) {
+      if (vectorsA.get(i).size() != vectorsB.get(i).size()) {
+        throw new IllegalArgumentException("Vectors must have the same size, was "
+            + vectorsA.get(i).size() + " and " + vectorsB.get(i).size());
+      }
+    }
+    this.vectorsA = vectorsA;
+    this.vectorsB = vectorsB;
+  }
+
+  @Override
+  public DRes<List<DRes<SInt>>> buildComputation(ProtocolBuilderNumeric builder) {
+    List<DRes<SInt>> left = new ArrayList<>();
+    List<DRes<SInt>> right = new ArrayList<>();
+    for (int i = 0; i < vectorsA.size(); i++) {
+      left.addAll(vectorsA.get(i));
+      right.addAll(vectorsB.get(i));
+    }
+    return builder.seq(seq ->
+        seq.numeric().mult(left, right)
+    ).par((par, products) -> {
+      List<DRes<SInt>> sums = new ArrayList<>(vectorsA.size());
+      int offset = 0;
+      for (List<DRes<SInt>> vector : vectorsA) {
+        sums.add(par.advancedNumeric().sum(products.subList(offset, offset + vector.size())));
+        offset += vector.size();
+      }
+      return () -> sums;
+    });
+  }
+}
@@ -0,0 +1,159 @@
+package dk.alexandra.fresco.lib.math.integer.min;
+
+import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.builder.Computation;
+import dk.alexandra.fresco.framework.builder.numeric.Numeric;
+import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
+import dk.alexandra.fresco.framework.util.Pair;
+import dk.alexandra.fresco.framework.value.SInt;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Finds the minimum or maximum element of each of a number of lists, along with a one-hot vector
+ * indicating its index.
+ *
+ * <p>The elements of each list are reduced in a tournament tree. All comparisons of one level of
+ * the trees of all lists are done in parallel, followed by a single round selecting the winners
+ * and updating the index vectors, so lists of at most <i>k</i> elements take <i>ceil(log k)</i>
+ * comparisons in depth. If several elements are minimal (maximal) the first one is chosen.</p>
+ */
+public class ArgMin implements
+    Computation<List<Pair<List<DRes<SInt>>, SInt>>, ProtocolBuilderNumeric> {
+
+  private final List<List<DRes<SInt>>> lists;
+  private final boolean maximum;
+
+  /**
+   * Constructs a computation finding the minimum or maximum of each of the given lists.
+   *
+   * @param lists the lists, which must be non-empty
+   * @param maximum true to find the maximum rather than the minimum
+   */
+  public ArgMin(List<List<DRes<SInt>>> lists, boolean maximum) {
+    for (List<DRes<SInt>> list : lists) {
+      if (list.isEmpty()) {
+        throw new IllegalArgumentException("Cannot find the minimum of an empty list");
+      }
+    }
+    this.lists = lists;
+    this.maximum = maximum;
+  }
+
+  /**
+   * Builds the computation. For each list the result is the one-hot index vector and the value of
+   * the minimum (maximum).
+   */
+  @Override
+  public DRes<List<Pair<List<DRes<SInt>>, SInt>>> buildComputation(
+      ProtocolBuilderNumeric builder) {
+    List<List<Candidate>> leaves = new ArrayList<>(lists.size());
+    for (List<DRes<SInt>> list : lists) {
+      List<Candidate> candidates = new ArrayList<>(list.size());
+      for (DRes<SInt> value : list) {
+        candidates.add(new Candidate(value, Collections.singletonList(null)));
+      }
+      leaves.add(candidates);
+    }
+    return builder.seq(seq ->
+        () -> leaves
+    ).whileLoop(
+        (candidates) -> candidates.stream().anyMatch(list -> list.size() > 1),
+        (seq, candidates) -> seq.par(par -> {
+          List<List<DRes<Candidate>>> winners = new ArrayList<>(candidates.size());
+          for (List<Candidate> list : candidates) {
+            List<DRes<Candidate>> listWinners = new ArrayList<>((list.size() + 1) / 2);
+            for (int i = 0; i + 1 < list.size(); i += 2) {
+              listWinners.add(par.seq(play(list.get(i), list.get(i + 1))));
+            }
+            if (list.size() % 2 == 1) {
+              listWinners.add(list.get(list.size() - 1));
+            }
+            winners.add(listWinners);
+          }
+          return () -> {
+            List<List<Candidate>> next = new ArrayList<>(winners.size());
+            for (List<DRes<Candidate>> listWinners : winners) {
+              List<Candidate> nextList = new ArrayList<>(listWinners.size());
+              for (DRes<Candidate> winner : listWinners) {
+                nextList.add(winner.out());
+              }
+              next.add(nextList);
+            }
+            return next;
+          };
+        })
+    ).seq((seq, candidates) -> {
+      List<Pair<List<DRes<SInt>>, SInt>> result = new ArrayList<>(candidates.size());
+      for (List<Candidate> list : candidates) {
+        Candidate winner = list.get(0);
+        List<DRes<SInt>> indexes = winner.indexes;
+        if (indexes.get(0) == null) {
+          // a list of a single element
+          indexes = Collections.singletonList(seq.numeric().known(BigInteger.ONE));
+        }
+        result.add(new Pair<>(indexes, winner.value.out()));
+      }
+      return () -> result;
+    });
+  }
+
+  /**
+   * Compares two candidates and selects the winner. The index vector of the winner is the
+   * concatenation of the index vectors of the two candidates, each multiplied by whether that
+   * candidate won.
+   */
+  private Computation<Candidate, ProtocolBuilderNumeric> play(Candidate first, Candidate second) {
+    return builder -> builder.seq(seq -> maximum
+        ? seq.comparison().compareLEQ(second.value, first.value)
+        : seq.comparison().compareLEQ(first.value, second.value)
+    ).par((par, firstWins) -> {
+      DRes<SInt> value = par.advancedNumeric().condSelect(firstWins, first.value, second.value);
+      List<DRes<SInt>> indexes = mergeIndexes(par.numeric(), firstWins, first.indexes,
+          second.indexes);
+      return new Candidate(value, indexes);
+    });
+  }
+
+  /**
+   * Merges the one-hot index vectors of two ranges given the bit telling if the first range holds
+   * the chosen element. An index vector of a single <code>null</code> is the vector of a single
+   * element, i.e., a known one, which saves the multiplications of the first level.
+   *
+   * @param numeric builder for the multiplications
+   * @param firstChosen one if the element is in the first range and zero otherwise
+   * @param first the index vector of the first range
+   * @param second the index vector of the second range
+   * @return the index vector of the concatenation of the ranges
+   */
+  static List<DRes<SInt>> mergeIndexes(Numeric numeric, DRes<SInt> firstChosen,
+      List<DRes<SInt>> first, List<DRes<SInt>> second) {
+    DRes<SInt> secondChosen = numeric.sub(BigInteger.ONE, firstChosen);
+    List<DRes<SInt>> indexes = new ArrayList<>(first.size() + second.size());
+    for (DRes<SInt> index : first) {
+      indexes.add(index == null ? firstChosen : numeric.mult(firstChosen, index));
+    }
+    for (DRes<SInt> index : second) {
+      indexes.add(index == null ? secondChosen : numeric.mult(secondChosen, index));
+    }
+    return indexes;
+  }
+
+  private static final class Candidate implements DRes<Candidate> {
+
+    private final DRes<SInt> value;
+    private final List<DRes<SInt>> indexes;
+
+    private Candidate(DRes<SInt> value, List<DRes<SInt>> indexes) {
+      this.value = value;
+      this.indexes = indexes;
+    }
+
+    @Override
+    public Candidate out() {
+      return this;
+    }
+  }
+}
@@ -4,11 +4,13 @@ import dk.alexandra.fresco.framework.DRes;
 import dk.alexandra.fresco.framework.builder.Computation;
 import dk.alexandra.fresco.framework.builder.numeric.Numeric;
 import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
+import dk.alexandra.fresco.framework.util.Pair;
 import dk.alexandra.fresco.framework.value.SInt;
-import dk.alexandra.fresco.lib.conditional.ConditionalSelect;
 import dk.alexandra.fresco.lib.math.integer.min.MinInfFrac.MinInfOutput;
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -52,7 +54,8 @@ public class MinInfFrac implements Computation<MinInfOutput, ProtocolBuilderNume
       Iterator<DRes<SInt>> dsIterator = ds.iterator();
       Iterator<DRes<SInt>> infsIterator = infs.iterator();
       while (nsIterator.hasNext()) {
-        fs.add(new Frac(nsIterator.next(), dsIterator.next(), infsIterator.next()));
+        fs.add(new Frac(nsIterator.next(), dsIterator.next(), infsIterator.next(),
+            Collections.singletonList(null)));
       }
     } else {
       throw new IllegalArgumentException("Sizes of input arrays does not match");
@@ -61,8 +64,8 @@ public class MinInfFrac implements Computation<MinInfOutput, ProtocolBuilderNume
 
   @Override
   public DRes<MinInfOutput> buildComputation(ProtocolBuilderNumeric builder) {
-    DRes<SInt> one = builder.numeric().known(BigInteger.ONE);
     if (fs.size() == 1) { // The trivial case
+      DRes<SInt> one = builder.numeric().known(BigInteger.ONE);
       return () -> {
         ArrayList<DRes<SInt>> result = new ArrayList<>();
         result.add(one);
@@ -70,148 +73,79 @@ public class MinInfFrac implements Computation<MinInfOutput, ProtocolBuilderNume
         return new MinInfOutput(frac.numerator, frac.denominator, frac.inf, result);
       };
     }
-    ArrayList<DRes<SInt>> cs = new ArrayList<>(fs.size());
-    for (@SuppressWarnings("unused") Frac f : fs) {
-      cs.add(null);
-    }
-    return builder.seq(seq -> () -> new IterationState(fs, 0))
+    List<Frac> leaves = fs;
+    return builder.seq(seq -> () -> leaves)
         .whileLoop(
-            state -> (state.fs.size() > 1),
-            (seq, state) -> {
-              //TODO Clean up method
-              final List<Frac> fs = state.fs;
-              //Find min
-              int sizeOfTmpC = fs.size() / 2;
-              int nextLength = sizeOfTmpC + (fs.size() % 2);
-              List<DRes<Frac>> tmpFs = new ArrayList<>(nextLength);
-              List<DRes<SInt>> tmpCs = new ArrayList<>(sizeOfTmpC);
-              for (int i = 0; i < sizeOfTmpC; i++) {
-                tmpCs.add(null);
-              }
-              for (int i = 0; i < sizeOfTmpC; i++) {
-                tmpFs.add(null);
-              }
-              seq.par((par) -> {
-                for (int i = 0; i < sizeOfTmpC; i++) {
-                  int finalI = i;
-                  tmpFs.set(i,
-                      par.seq((innerSeq) -> innerSeq.seq(seq1 ->
-                      null
-                          ).pairInPar(
-                              (seq11, ignored) -> seq11
-                              .numeric().mult(fs.get(finalI * 2).numerator, 
-                                  fs.get(finalI * 2 + 1).denominator),
-                              (seq12, ignored) -> seq12
-                              .numeric().mult(fs.get(finalI * 2 + 1).numerator, 
-                                  fs.get(finalI * 2).denominator)
-                              ).seq((seq13, pair) -> {
-                                SInt p1 = pair.getFirst();
-                                SInt p2 = pair.getSecond();
-                                Numeric numeric = seq13.numeric();
-                                DRes<SInt> tmpC = seq13.comparison()
-                                    .compareLEQLong(() -> p1, () -> p2);
-                                DRes<SInt> notInf0 = numeric
-                                    .sub(BigInteger.ONE, fs.get(finalI * 2).inf);
-                                tmpC = numeric.mult(notInf0, tmpC);
-                                tmpC = seq13
-                                    .seq(new ConditionalSelect(fs.get(finalI * 2 + 1).inf,
-                                        fs.get(finalI * 2 + 1).inf, tmpC));
-                                DRes<SInt> c = tmpC;
-                                tmpCs.set(finalI, c);
-                                DRes<SInt> rn = seq13
-                                    .seq(
-                                        new ConditionalSelect(c, fs.get(finalI * 2).numerator,
-                                            fs.get(finalI * 2 + 1).numerator));
-                                DRes<SInt> rd = seq13
-                                    .seq(
-                                        new ConditionalSelect(c, fs.get(finalI * 2).denominator,
-                                            fs.get(finalI * 2 + 1).denominator));
-                                DRes<SInt> rinf = numeric.mult(
-                                    fs.get(finalI * 2).inf, fs.get(finalI * 2 + 1).inf);
-                                return () -> new Frac(rn, rd, rinf);
-                              })
-                          )
-                  );
-                }
-                return null;
-              });
-
-              if (fs.size() % 2 == 1) {
-                tmpFs.add(fs.get(fs.size() - 1));
+            fracs -> fracs.size() > 1,
+            (seq, fracs) -> seq.par(par -> {
+              // All comparisons of a layer of the tournament are done in parallel
+              List<DRes<Frac>> winners = new ArrayList<>((fracs.size() + 1) / 2);
+              for (int i = 0; i + 1 < fracs.size(); i += 2) {
+                winners.add(par.seq(play(fracs.get(i), fracs.get(i + 1))));
               }
-
-              int layer = state.layer;
-
-              // Updated Cs
-              int offset = 1 << (layer + 1);
-              if (layer == 0) {
-                seq.par((par) -> {
-                  for (int i = 0; i < sizeOfTmpC; i++) {
-                    int finalI = i;
-                    par.seq((innerSeq) -> {
-                      DRes<SInt> c = tmpCs.get(finalI);
-                      DRes<SInt> notC = innerSeq.numeric().sub(BigInteger.ONE, c);
-
-                      cs.set(finalI * 2, c);
-                      cs.set(finalI * 2 + 1, notC);
-                      return null;
-                    });
-                  }
-                  if (cs.size() % 2 == 1) {
-                    cs.set(cs.size() - 1, one);
-                  }
-                  return null;
-                });
-              } else {
-                seq.par((par) -> {
-                  for (int i = 0; i < sizeOfTmpC; i++) {
-                    DRes<SInt> c = tmpCs.get(i);
-                    for (int j = i * offset; j < i * offset + offset / 2; j++) {
-                      cs.set(j, par.numeric().mult(c, cs.get(j)));
-                    }
-                    int finalI = i;
-                    par.seq((innerSeq) -> {
-                      DRes<SInt> notC = innerSeq.numeric().sub(BigInteger.ONE, c);
-                      innerSeq.par((innerPar) -> {
-                        int limit =
-                            (finalI + 1) * offset > cs.size() ? cs.size() : (finalI + 1) * offset;
-                        for (int j = finalI * offset + offset / 2; j < limit; j++) {
-                          cs.set(j, innerPar.numeric().mult(notC, cs.get(j)));
-                        }
-                        return null;
-                      });
-                      return null;
-                    });
-                  }
-                  return null;
-                });
+              if (fracs.size() % 2 == 1) {
+                winners.add(fracs.get(fracs.size() - 1));
               }
+              return () -> winners.stream().map(DRes::out).collect(Collectors.toList());
+            })
+        ).seq((seq, fracs) -> {
+          Frac frac = fracs.get(0);
+          return () -> new MinInfOutput(frac.numerator, frac.denominator, frac.inf,
+              new ArrayList<>(frac.indexes));
+        });
+  }
 
-              return () -> new IterationState(
-                  tmpFs.stream().map(DRes::out).collect(Collectors.toList()),
-                  layer + 1);
-            }).seq((sequentialProtocolBuilder, iterationState) -> {
-              Frac frac = iterationState.fs.get(0);
-              return () -> new MinInfOutput(frac.numerator, frac.denominator, frac.inf, cs);
-            });
-
+  /**
+   * Selects the smaller of two fractions. The first fraction is chosen if the second is infinite,
+   * or if neither is infinite and the first is less than or equal to the second, i.e., the choice
+   * bit is <i>inf<sub>1</sub> + (1 - inf<sub>0</sub>)(1 - inf<sub>1</sub>)c</i> where <i>c</i> is
+   * the comparison of the cross products. The products not depending on <i>c</i> are computed in
+   * the same round as the cross products.
+   */
+  private static Computation<Frac, ProtocolBuilderNumeric> play(Frac first, Frac second) {
+    return builder -> builder.par(par -> {
+      Numeric numeric = par.numeric();
+      List<DRes<SInt>> products = Arrays.asList(
+          numeric.mult(first.numerator, second.denominator),
+          numeric.mult(second.numerator, first.denominator),
+          numeric.mult(numeric.sub(BigInteger.ONE, first.inf),
+              numeric.sub(BigInteger.ONE, second.inf)),
+          numeric.mult(first.inf, second.inf));
+      return () -> products;
+    }).seq((seq, products) -> {
+      Numeric numeric = seq.numeric();
+      DRes<SInt> compare = seq.comparison().compareLEQLong(products.get(0), products.get(1));
+      DRes<SInt> firstChosen = numeric.add(second.inf, numeric.mult(products.get(2), compare));
+      return () -> new Pair<>(firstChosen, products.get(3));
+    }).par((par, chosenAndInf) -> {
+      DRes<SInt> firstChosen = chosenAndInf.getFirst();
+      DRes<SInt> numerator = par.advancedNumeric()
+          .condSelect(firstChosen, first.numerator, second.numerator);
+      DRes<SInt> denominator = par.advancedNumeric()
+          .condSelect(firstChosen, first.denominator, second.denominator);
+      List<DRes<SInt>> indexes = ArgMin.mergeIndexes(par.numeric(), firstChosen,
+          first.indexes, second.indexes);
+      return new Frac(numerator, denominator, chosenAndInf.getSecond(), indexes);
+    });
   }
 
   /**
    * Helper class to represent a fraction consisting of a numerator denominator
    * and an infinity indicator.
    */
-  private class Frac implements DRes<Frac> {
+  private static class Frac implements DRes<Frac> {
 
     DRes<SInt> numerator;
     DRes<SInt> denominator;
     DRes<SInt> inf;
+    List<DRes<SInt>> indexes;
 
-    Frac(DRes<SInt> valueN, DRes<SInt> d, DRes<SInt> inf) {
+    Frac(DRes<SInt> valueN, DRes<SInt> d, DRes<SInt> inf, List<DRes<SInt>> indexes) {
       super();
       this.numerator = valueN;
       this.denominator = d;
       this.inf = inf;
+      this.indexes = indexes;
     }
 
     @Override
@@ -238,15 +172,4 @@ public class MinInfFrac implements Computation<MinInfOutput, ProtocolBuilderNume
       this.cs = cs;
     }
   }
-
-  private static class IterationState {
-
-    private final List<Frac> fs;
-    private final int layer;
-
-    private IterationState(List<Frac> fs, int layer) {
-      this.fs = fs;
-      this.layer = layer;
-    }
-  }
 }
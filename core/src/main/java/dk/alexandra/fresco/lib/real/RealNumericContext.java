@@ -3,12 +3,23 @@ package dk.alexandra.fresco.lib.real;
 public class RealNumericContext {
 
   private final int precision;
+  private final boolean useTruncationPairs;
 
   /**
    * @param precision the number of bits used for the fractional part in fixed number arithmetic.
    */
   public RealNumericContext(int precision) {
+    this(precision, false);
+  }
+
+  /**
+   * @param precision the number of bits used for the fractional part in fixed number arithmetic.
+   * @param useTruncationPairs whether fixed number arithmetic truncates using preprocessed
+   *     truncation pairs rather than random bits.
+   */
+  public RealNumericContext(int precision, boolean useTruncationPairs) {
     this.precision = precision;
+    this.useTruncationPairs = useTruncationPairs;
   }
 
   /**
@@ -21,4 +32,14 @@ public class RealNumericContext {
     return precision;
   }
 
+  /**
+   * Returns whether fixed number arithmetic truncates using truncation pairs, see {@link
+   * dk.alexandra.fresco.framework.builder.numeric.PreprocessedValues#getTruncationPair(int)}.
+   *
+   * @return true if truncation pairs are used
+   */
+  public boolean isUsingTruncationPairs() {
+    return useTruncationPairs;
+  }
+
 }
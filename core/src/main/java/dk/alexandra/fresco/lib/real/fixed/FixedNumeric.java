@@ -7,6 +7,7 @@ import dk.alexandra.fresco.framework.value.SInt;
 import dk.alexandra.fresco.lib.real.RealNumeric;
 import dk.alexandra.fresco.lib.real.SReal;
 import dk.alexandra.fresco.lib.real.fixed.utils.Truncate;
+import dk.alexandra.fresco.lib.real.fixed.utils.TruncateFromPair;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.RoundingMode;
@@ -21,6 +22,7 @@ public class FixedNumeric implements RealNumeric {
   private static final BigInteger BASE = BigInteger.valueOf(2);
   private final int defaultPrecision;
   private final int maxPrecision;
+  private final boolean useTruncationPairs;
   private final ProtocolBuilderNumeric builder;
 
   /**
@@ -32,8 +34,24 @@ public class FixedNumeric implements RealNumeric {
    *     range <i>0 ... <code>builder.getMaxBitLength</code> / 4</i>.
    */
   public FixedNumeric(ProtocolBuilderNumeric builder, int precision) {
+    this(builder, precision, false);
+  }
+
+  /**
+   * Creates a new fixed point based RealNumeric ComputationDirectory
+   *
+   * @param builder a ProtocolBuilder for the numeric computations which will be used to implement
+   *     the fixed point operations.
+   * @param precision the precision used for the fixed point numbers. The precision must be in the
+   *     range <i>0 ... <code>builder.getMaxBitLength</code> / 4</i>.
+   * @param useTruncationPairs whether products are truncated using preprocessed truncation pairs,
+   *     see {@link TruncateFromPair}, instead of {@link Truncate}.
+   */
+  public FixedNumeric(ProtocolBuilderNumeric builder, int precision,
+      boolean useTruncationPairs) {
     this.builder = builder;
     this.defaultPrecision = precision;
+    this.useTruncationPairs = useTruncationPairs;
     /*
      * We reserve as many bits the integer part as for the fractional part and to be able to
      * represent products, we need to be able to hold twice that under the max bit length.
@@ -47,7 +65,8 @@ public class FixedNumeric implements RealNumeric {
   }
 
   public FixedNumeric(ProtocolBuilderNumeric builder) {
-    this(builder, builder.getRealNumericContext().getPrecision());
+    this(builder, builder.getRealNumericContext().getPrecision(),
+        builder.getRealNumericContext().isUsingTruncationPairs());
   }
 
   private BigInteger unscaled(BigDecimal value, int scale) {
@@ -88,7 +107,11 @@ public class FixedNumeric implements RealNumeric {
     if (scale > 0) {
       n = scope.numeric().mult(BigInteger.ONE.shiftLeft(scale), n);
     } else if (scale < 0) {
-      n = scope.seq(new Truncate(n, -scale));
+      if (useTruncationPairs) {
+        n = scope.seq(new TruncateFromPair(n, -scale));
+      } else {
+        n = scope.seq(new Truncate(n, -scale));
+      }
     }
     return n;
   }
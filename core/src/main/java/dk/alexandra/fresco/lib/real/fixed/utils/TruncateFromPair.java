@@ -0,0 +1,42 @@
+package dk.alexandra.fresco.lib.real.fixed.utils;
+
+import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.builder.Computation;
+import dk.alexandra.fresco.framework.builder.numeric.PreprocessedValues.TruncationPair;
+import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
+import dk.alexandra.fresco.framework.util.Pair;
+import dk.alexandra.fresco.framework.value.SInt;
+import java.math.BigInteger;
+
+/**
+ * Returns a number which is approximately the input shifted a number of positions to the right,
+ * using a preprocessed {@link TruncationPair}. As for {@link Truncate} the result may be one
+ * larger than the exact result with some non-negligible probability.
+ *
+ * <p>Given a truncation pair <i>([r'], [r' >> shifts])</i> the input is masked with <i>r'</i> and
+ * opened, so if the protocol suite preprocesses truncation pairs the truncation takes a single
+ * round.</p>
+ */
+public class TruncateFromPair implements Computation<SInt, ProtocolBuilderNumeric> {
+
+  private final DRes<SInt> input;
+  private final int shifts;
+
+  public TruncateFromPair(DRes<SInt> input, int shifts) {
+    this.input = input;
+    this.shifts = shifts;
+  }
+
+  @Override
+  public DRes<SInt> buildComputation(ProtocolBuilderNumeric builder) {
+    return builder.seq(seq -> seq.preprocessedValues().getTruncationPair(shifts))
+        .seq((seq, truncationPair) -> {
+          DRes<SInt> masked = seq.numeric().add(input, () -> truncationPair.rPrime);
+          DRes<BigInteger> open = seq.numeric().open(masked);
+          return () -> new Pair<>(open.out(), truncationPair);
+        }).seq((seq, maskedAndPair) -> {
+          BigInteger mShifted = maskedAndPair.getFirst().shiftRight(shifts);
+          return seq.numeric().sub(mShifted, () -> maskedAndPair.getSecond().r);
+        });
+  }
+}
@@ -42,6 +42,11 @@ public class BatchEvaluationLoggingDecorator<ResourcePoolT extends ResourcePool>
     delegate.processBatch(protocols, resourcePool, network);
   }
 
+  @Override
+  public boolean isParallel() {
+    return delegate.isParallel();
+  }
+
   @Override
   public void reset() {
     counter = 0;
@@ -61,6 +61,11 @@ public class BinarySuiteLogging<ResourcePoolT extends ResourcePool>
     return delegateSuite.createRoundSynchronization();
   }
 
+  @Override
+  public boolean isOrderIndependent() {
+    return delegateSuite.isOrderIndependent();
+  }
+
   @Override
   public void reset() {
     aggregate.reset();
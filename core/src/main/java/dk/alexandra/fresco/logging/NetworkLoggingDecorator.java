@@ -5,6 +5,7 @@ import java.io.Closeable;
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class NetworkLoggingDecorator implements Network, PerformanceLogger, Closeable {
 
@@ -13,7 +14,7 @@ public class NetworkLoggingDecorator implements Network, PerformanceLogger, Clos
   public static final String NETWORK_TOTAL_BATCHES = "Total amount of batches received";
 
   private Network delegate;
-  private Map<Integer, PartyStats> partyStatsMap = new HashMap<>();
+  private Map<Integer, PartyStats> partyStatsMap = new ConcurrentHashMap<>();
   
   public NetworkLoggingDecorator(Network network) {
     this.delegate = network;
@@ -32,6 +33,11 @@ public class NetworkLoggingDecorator implements Network, PerformanceLogger, Clos
     return delegate.getNoOfParties();
   }
 
+  @Override
+  public int getMaxMessageLength() {
+    return delegate.getMaxMessageLength();
+  }
+
   @Override
   public void send(int partyId, byte[] data) {
     this.delegate.send(partyId, data);
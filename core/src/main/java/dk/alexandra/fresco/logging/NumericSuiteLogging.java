@@ -4,6 +4,7 @@ import dk.alexandra.fresco.framework.builder.numeric.BuilderFactoryNumeric;
 import dk.alexandra.fresco.framework.builder.numeric.Comparison;
 import dk.alexandra.fresco.framework.builder.numeric.Numeric;
 import dk.alexandra.fresco.framework.builder.numeric.NumericResourcePool;
+import dk.alexandra.fresco.framework.builder.numeric.PreprocessedValues;
 import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
 import dk.alexandra.fresco.lib.compare.MiscBigIntegerGenerators;
 import dk.alexandra.fresco.lib.field.integer.BasicNumericContext;
@@ -65,6 +66,11 @@ public class NumericSuiteLogging<ResourcePoolT extends NumericResourcePool>
         return comparisonLoggerDecorator;
       }
 
+      @Override
+      public PreprocessedValues createPreprocessedValues(ProtocolBuilderNumeric builder) {
+        return delegateFactory.createPreprocessedValues(builder);
+      }
+
       @Override
       public RealNumericContext getRealNumericContext() {
         return delegateFactory.getRealNumericContext();
@@ -77,6 +83,11 @@ public class NumericSuiteLogging<ResourcePoolT extends NumericResourcePool>
     return delegateSuite.createRoundSynchronization();
   }
 
+  @Override
+  public boolean isOrderIndependent() {
+    return delegateSuite.isOrderIndependent();
+  }
+
   @Override
   public void reset() {
     aggregate.reset();
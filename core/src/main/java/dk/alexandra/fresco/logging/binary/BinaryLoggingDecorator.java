@@ -5,6 +5,7 @@ import dk.alexandra.fresco.framework.builder.binary.Binary;
 import dk.alexandra.fresco.framework.value.SBool;
 import dk.alexandra.fresco.logging.PerformanceLogger;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 public class BinaryLoggingDecorator implements PerformanceLogger, Binary {
@@ -64,6 +65,23 @@ public class BinaryLoggingDecorator implements PerformanceLogger, Binary {
     return this.delegate.not(in);
   }
 
+  @Override
+  public DRes<List<DRes<SBool>>> and(List<DRes<SBool>> lefts, List<DRes<SBool>> rights) {
+    this.andCount += lefts.size();
+    return this.delegate.and(lefts, rights);
+  }
+
+  @Override
+  public DRes<List<DRes<SBool>>> xor(List<DRes<SBool>> lefts, List<DRes<SBool>> rights) {
+    this.xorCount += lefts.size();
+    return this.delegate.xor(lefts, rights);
+  }
+
+  @Override
+  public DRes<List<DRes<SBool>>> not(List<DRes<SBool>> in) {
+    return this.delegate.not(in);
+  }
+
   @Override
   public void reset() {
     this.andCount = 0;
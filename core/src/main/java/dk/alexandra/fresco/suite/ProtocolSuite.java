@@ -27,6 +27,21 @@ public interface ProtocolSuite<ResourcePoolT extends ResourcePool,
    */
   RoundSynchronization<ResourcePoolT> createRoundSynchronization();
 
+  /**
+   * Tells if the native protocols of this suite may be evaluated in any order within a round. This
+   * holds if they only take resources handed out in request order, such as preprocessed material,
+   * in {@link dk.alexandra.fresco.framework.NativeProtocol#prepare(int, ResourcePool)}, and only
+   * update other state of the resource pool if it is a {@link
+   * dk.alexandra.fresco.framework.sce.resources.PartitionedResourcePool}. Only such suites can be
+   * evaluated by a {@link dk.alexandra.fresco.framework.sce.evaluator.BatchEvaluationStrategy}
+   * evaluating in parallel.
+   *
+   * @return true if the order of evaluation does not matter, false by default
+   */
+  default boolean isOrderIndependent() {
+    return false;
+  }
+
   interface RoundSynchronization<ResourcePoolT extends ResourcePool> {
 
     /**
@@ -1,9 +1,13 @@
 package dk.alexandra.fresco.suite.dummy.arithmetic;
 
 import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.builder.numeric.AdvancedNumeric.RandomAdditiveMask;
 import dk.alexandra.fresco.framework.builder.numeric.BuilderFactoryNumeric;
+import dk.alexandra.fresco.framework.builder.numeric.DefaultPreprocessedValues;
 import dk.alexandra.fresco.framework.builder.numeric.Numeric;
+import dk.alexandra.fresco.framework.builder.numeric.PreprocessedValues;
 import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
+import dk.alexandra.fresco.framework.builder.numeric.field.FieldDefinition;
 import dk.alexandra.fresco.framework.builder.numeric.field.FieldElement;
 import dk.alexandra.fresco.framework.network.Network;
 import dk.alexandra.fresco.framework.value.SInt;
@@ -11,6 +15,8 @@ import dk.alexandra.fresco.lib.compare.MiscBigIntegerGenerators;
 import dk.alexandra.fresco.lib.field.integer.BasicNumericContext;
 import dk.alexandra.fresco.lib.real.RealNumericContext;
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
 
 /**
@@ -23,6 +29,7 @@ public class DummyArithmeticBuilderFactory implements BuilderFactoryNumeric {
   private BasicNumericContext basicNumericContext;
   private RealNumericContext realNumericContext;
   private MiscBigIntegerGenerators mog;
+  // randomness is drawn when protocols are built, which is independent of the order of evaluation
   private Random rand;
 
   /**
@@ -79,19 +86,17 @@ public class DummyArithmeticBuilderFactory implements BuilderFactoryNumeric {
 
       @Override
       public DRes<SInt> randomElement() {
+        BigInteger r;
+        BigInteger modulus = basicNumericContext.getModulus();
+        do {
+          r = new BigInteger(modulus.bitLength(), rand);
+        } while (r.compareTo(modulus) >= 0);
+        DummyArithmeticSInt elm = createSIntFromConstant(r);
         DummyArithmeticNativeProtocol<SInt> c = new DummyArithmeticNativeProtocol<SInt>() {
 
-          DummyArithmeticSInt elm;
-
           @Override
           public EvaluationStatus evaluate(int round, DummyArithmeticResourcePool resourcePool,
               Network network) {
-            BigInteger r;
-            BigInteger modulus = basicNumericContext.getModulus();
-            do {
-              r = new BigInteger(modulus.bitLength(), rand);
-            } while (r.compareTo(modulus) >= 0);
-            elm = createSIntFromConstant(r);
             return EvaluationStatus.IS_DONE;
           }
 
@@ -105,14 +110,12 @@ public class DummyArithmeticBuilderFactory implements BuilderFactoryNumeric {
 
       @Override
       public DRes<SInt> randomBit() {
+        DummyArithmeticSInt bit = createSIntFromConstant(BigInteger.valueOf(rand.nextInt(2)));
         DummyArithmeticNativeProtocol<SInt> c = new DummyArithmeticNativeProtocol<SInt>() {
 
-          DummyArithmeticSInt bit;
-
           @Override
           public EvaluationStatus evaluate(int round, DummyArithmeticResourcePool resourcePool,
               Network network) {
-            bit = createSIntFromConstant(BigInteger.valueOf(rand.nextInt(2)));
             return EvaluationStatus.IS_DONE;
           }
 
@@ -193,6 +196,74 @@ public class DummyArithmeticBuilderFactory implements BuilderFactoryNumeric {
     };
   }
 
+  @Override
+  public PreprocessedValues createPreprocessedValues(ProtocolBuilderNumeric builder) {
+    return new PreprocessedValues() {
+
+      @Override
+      public DRes<List<DRes<SInt>>> getExponentiationPipe(int pipeLength) {
+        return new DefaultPreprocessedValues(builder).getExponentiationPipe(pipeLength);
+      }
+
+      @Override
+      public DRes<TruncationPair> getTruncationPair(int shifts) {
+        int maxBitLength = basicNumericContext.getMaxBitLength();
+        if (shifts < 0 || shifts >= maxBitLength) {
+          throw new IllegalArgumentException(
+              "Shifts must be in the range 0 ... " + (maxBitLength - 1) + " but was " + shifts);
+        }
+        BigInteger rPrime = new BigInteger(maxBitLength, rand);
+        FieldDefinition fieldDefinition = basicNumericContext.getFieldDefinition();
+        TruncationPair pair = new TruncationPair(
+            new DummyArithmeticSInt(fieldDefinition.createElement(rPrime)),
+            new DummyArithmeticSInt(fieldDefinition.createElement(rPrime.shiftRight(shifts))));
+        DummyArithmeticNativeProtocol<TruncationPair> c =
+            new DummyArithmeticNativeProtocol<TruncationPair>() {
+
+              @Override
+              public EvaluationStatus evaluate(int round,
+                  DummyArithmeticResourcePool resourcePool, Network network) {
+                return EvaluationStatus.IS_DONE;
+              }
+
+              @Override
+              public TruncationPair out() {
+                return pair;
+              }
+            };
+        return builder.append(c);
+      }
+
+      @Override
+      public DRes<RandomAdditiveMask> getEdaBit(int bitLength) {
+        BigInteger random = new BigInteger(bitLength, rand);
+        FieldDefinition fieldDefinition = basicNumericContext.getFieldDefinition();
+        List<DRes<SInt>> bits = new ArrayList<>(bitLength);
+        for (int i = 0; i < bitLength; i++) {
+          BigInteger bit = random.testBit(i) ? BigInteger.ONE : BigInteger.ZERO;
+          bits.add(new DummyArithmeticSInt(fieldDefinition.createElement(bit)));
+        }
+        RandomAdditiveMask mask = new RandomAdditiveMask(bits,
+            new DummyArithmeticSInt(fieldDefinition.createElement(random)));
+        DummyArithmeticNativeProtocol<RandomAdditiveMask> c =
+            new DummyArithmeticNativeProtocol<RandomAdditiveMask>() {
+
+              @Override
+              public EvaluationStatus evaluate(int round,
+                  DummyArithmeticResourcePool resourcePool, Network network) {
+                return EvaluationStatus.IS_DONE;
+              }
+
+              @Override
+              public RandomAdditiveMask out() {
+                return mask;
+              }
+            };
+        return builder.append(c);
+      }
+    };
+  }
+
   @Override
   public MiscBigIntegerGenerators getBigIntegerHelper() {
     if (mog == null) {
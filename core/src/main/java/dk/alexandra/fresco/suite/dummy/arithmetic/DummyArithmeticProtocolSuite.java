@@ -57,4 +57,9 @@ public class DummyArithmeticProtocolSuite
       }
     };
   }
+
+  @Override
+  public boolean isOrderIndependent() {
+    return true;
+  }
 }
@@ -19,6 +19,7 @@ import java.util.Random;
  */
 public class DummyBooleanBuilderFactory implements BuilderFactoryBinary {
 
+  // randomness is drawn when protocols are built, which is independent of the order of evaluation
   private final Random rand;
 
   public DummyBooleanBuilderFactory() {
@@ -48,14 +49,12 @@ public class DummyBooleanBuilderFactory implements BuilderFactoryBinary {
 
       @Override
       public DRes<SBool> randomBit() {
+        DummyBooleanSBool bit = new DummyBooleanSBool(rand.nextBoolean());
         DummyBooleanNativeProtocol<SBool> c = new DummyBooleanNativeProtocol<SBool>() {
 
-          DummyBooleanSBool bit;
-
           @Override
           public EvaluationStatus evaluate(int round, ResourcePool resourcePool,
               Network network) {
-            bit = new DummyBooleanSBool(rand.nextBoolean());
             return EvaluationStatus.IS_DONE;
           }
 
@@ -0,0 +1,78 @@
+package dk.alexandra.fresco.framework.builder.numeric;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.value.SInt;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+public class TestLazySInt {
+
+  private static SInt add(SInt left, SInt right) {
+    return new MockSInt(((MockSInt) left).value + ((MockSInt) right).value);
+  }
+
+  private static long valueOf(DRes<SInt> value) {
+    return ((MockSInt) value.out()).value;
+  }
+
+  @Test
+  public void testOperators() {
+    DRes<SInt> sum = LazySInt.of(new MockSInt(2), new MockSInt(3), TestLazySInt::add);
+    DRes<SInt> product = LazySInt.of(sum, value -> new MockSInt(((MockSInt) value).value * 7));
+    assertEquals(5, valueOf(sum));
+    assertEquals(35, valueOf(product));
+  }
+
+  @Test
+  public void testEvaluatedOnce() {
+    AtomicInteger evaluations = new AtomicInteger();
+    DRes<SInt> sum = LazySInt.of(new MockSInt(1), new MockSInt(1), (left, right) -> {
+      evaluations.incrementAndGet();
+      return add(left, right);
+    });
+    DRes<SInt> doubled = LazySInt.of(sum, sum, TestLazySInt::add);
+    assertEquals(0, evaluations.get());
+    assertEquals(4, valueOf(doubled));
+    assertSame(sum.out(), sum.out());
+    assertEquals(1, evaluations.get());
+  }
+
+  @Test
+  public void testDeepChain() {
+    DRes<SInt> sum = new MockSInt(0);
+    for (int i = 1; i <= 1000000; i++) {
+      sum = LazySInt.of(sum, new MockSInt(i), TestLazySInt::add);
+    }
+    assertEquals(500000500000L, valueOf(sum));
+  }
+
+  @Test
+  public void testDeferredOperand() {
+    MockSInt[] operand = new MockSInt[1];
+    DRes<SInt> sum = LazySInt.of(() -> operand[0], new MockSInt(1), TestLazySInt::add);
+    operand[0] = new MockSInt(41);
+    assertEquals(42, valueOf(sum));
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void testUnevaluatedOperand() {
+    LazySInt.of(() -> null, value -> value).out();
+  }
+
+  private static class MockSInt implements SInt {
+
+    private final long value;
+
+    MockSInt(long value) {
+      this.value = value;
+    }
+
+    @Override
+    public SInt out() {
+      return this;
+    }
+  }
+}
@@ -0,0 +1,137 @@
+package dk.alexandra.fresco.framework.builder.numeric.field;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertThat;
+
+import dk.alexandra.fresco.framework.builder.numeric.Addable;
+import dk.alexandra.fresco.framework.util.ModulusFinder;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.hamcrest.core.Is;
+import org.junit.Test;
+
+public class FieldElementVectorTest {
+
+  private static final int SIZE = 37;
+
+  private final Random random = new Random(42);
+
+  private List<FieldDefinition> definitions() {
+    return Arrays.asList(
+        new BigIntegerFieldDefinition(ModulusFinder.findSuitableModulus(128)),
+        new MersennePrimeFieldDefinition(127, 1),
+        new MontgomeryFieldDefinition(ModulusFinder.findSuitableModulus(128)),
+        new MontgomeryFieldDefinition(
+            BigInteger.ONE.shiftLeft(256).subtract(BigInteger.valueOf(189))),
+        new LongFieldDefinition((1L << 61) - 1),
+        new LongFieldDefinition(ModulusFinder.findSuitableModulus(56).longValue()),
+        new LongFieldDefinition(251));
+  }
+
+  private List<FieldElement> randomElements(FieldDefinition definition) {
+    List<FieldElement> elements = new ArrayList<>(SIZE);
+    for (int i = 0; i < SIZE; i++) {
+      elements.add(definition.createElement(
+          new BigInteger(definition.getBitLength() + 8, random)));
+    }
+    return elements;
+  }
+
+  private List<BigInteger> unsigned(FieldDefinition definition, List<FieldElement> elements) {
+    List<BigInteger> values = new ArrayList<>(elements.size());
+    for (FieldElement element : elements) {
+      values.add(definition.convertToUnsigned(element));
+    }
+    return values;
+  }
+
+  private void assertEquals(FieldDefinition definition, List<FieldElement> expected,
+      FieldElementVector actual) {
+    assertThat(actual.size(), Is.is(expected.size()));
+    assertThat(unsigned(definition, actual.asList()), Is.is(unsigned(definition, expected)));
+  }
+
+  @Test
+  public void elementWiseOperations() {
+    for (FieldDefinition definition : definitions()) {
+      List<FieldElement> left = randomElements(definition);
+      List<FieldElement> right = randomElements(definition);
+      FieldElementVector leftVector = definition.createVector(left);
+      FieldElementVector rightVector = definition.createVector(right);
+      List<FieldElement> sums = new ArrayList<>();
+      List<FieldElement> differences = new ArrayList<>();
+      List<FieldElement> products = new ArrayList<>();
+      List<FieldElement> scaled = new ArrayList<>();
+      FieldElement innerProduct = definition.createElement(0);
+      FieldElement sum = definition.createElement(0);
+      for (int i = 0; i < SIZE; i++) {
+        sums.add(left.get(i).add(right.get(i)));
+        differences.add(left.get(i).subtract(right.get(i)));
+        products.add(left.get(i).multiply(right.get(i)));
+        scaled.add(left.get(i).multiply(right.get(0)));
+        innerProduct = innerProduct.add(left.get(i).multiply(right.get(i)));
+        sum = sum.add(left.get(i));
+      }
+      assertEquals(definition, left, leftVector);
+      assertEquals(definition, sums, leftVector.add(rightVector));
+      assertEquals(definition, differences, leftVector.subtract(rightVector));
+      assertEquals(definition, products, leftVector.multiply(rightVector));
+      assertEquals(definition, scaled, leftVector.multiply(right.get(0)));
+      assertThat(definition.convertToUnsigned(leftVector.innerProduct(rightVector)),
+          Is.is(definition.convertToUnsigned(innerProduct)));
+      assertThat(definition.convertToUnsigned(leftVector.sum()),
+          Is.is(definition.convertToUnsigned(sum)));
+      assertThat(definition.convertToUnsigned(leftVector.get(5)),
+          Is.is(definition.convertToUnsigned(left.get(5))));
+      assertEquals(definition, sums, Addable.sum(Arrays.asList(leftVector, rightVector)));
+    }
+  }
+
+  @Test
+  public void stretch() {
+    for (FieldDefinition definition : definitions()) {
+      List<FieldElement> elements = randomElements(definition);
+      List<FieldElement> stretched = new ArrayList<>();
+      for (FieldElement element : elements) {
+        stretched.addAll(Collections.nCopies(3, element));
+      }
+      assertEquals(definition, stretched, definition.createVector(elements).stretch(3));
+    }
+  }
+
+  @Test
+  public void serialization() {
+    for (FieldDefinition definition : definitions()) {
+      List<FieldElement> elements = randomElements(definition);
+      byte[] expected = definition.serialize(elements);
+      ByteBuffer buffer = ByteBuffer.allocate(expected.length);
+      definition.createVector(elements).serialize(buffer);
+      assertArrayEquals(expected, buffer.array());
+      buffer.flip();
+      assertEquals(definition, elements, definition.deserializeVector(buffer, SIZE));
+      assertThat(buffer.remaining(), Is.is(0));
+    }
+  }
+
+  @Test
+  public void emptyVector() {
+    for (FieldDefinition definition : definitions()) {
+      FieldElementVector empty = definition.createVector(Collections.emptyList());
+      assertThat(empty.size(), Is.is(0));
+      assertThat(definition.convertToUnsigned(empty.innerProduct(empty)), Is.is(BigInteger.ZERO));
+      assertThat(definition.convertToUnsigned(empty.sum()), Is.is(BigInteger.ZERO));
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void differentSizes() {
+    FieldDefinition definition = new LongFieldDefinition(251);
+    definition.createVector(randomElements(definition))
+        .add(definition.createVector(Collections.singletonList(definition.createElement(1))));
+  }
+}
@@ -0,0 +1,150 @@
+package dk.alexandra.fresco.framework.builder.numeric.field;
+
+import static org.junit.Assert.assertThat;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.hamcrest.core.Is;
+import org.junit.Test;
+
+public class LongFieldDefinitionTest {
+
+  private static final long MERSENNE_61 = (1L << 61) - 1;
+  // the largest prime below 2^63
+  private static final long LARGE_PRIME = Long.MAX_VALUE - 24;
+  private static final long SMALL_PRIME = 251;
+
+  private final Random random = new Random(42);
+
+  @Test(expected = IllegalArgumentException.class)
+  public void evenModulus() {
+    new LongFieldDefinition(1L << 61);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void nonPositiveModulus() {
+    new LongFieldDefinition(-7);
+  }
+
+  @Test
+  public void multiplyHigh() {
+    BigInteger mask = BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE);
+    long[] values = {0, 1, -1, Long.MAX_VALUE, Long.MIN_VALUE, 0xFFFFFFFFL, random.nextLong()};
+    for (long x : values) {
+      for (long y : values) {
+        BigInteger expected = new BigInteger(Long.toUnsignedString(x))
+            .multiply(new BigInteger(Long.toUnsignedString(y))).shiftRight(64).and(mask);
+        assertThat(Long.toUnsignedString(LongArithmetic.multiplyHigh(x, y)),
+            Is.is(expected.toString()));
+      }
+    }
+  }
+
+  @Test
+  public void arithmetic() {
+    testArithmetic(MERSENNE_61);
+    testArithmetic(LARGE_PRIME);
+    testArithmetic(SMALL_PRIME);
+    testArithmetic((1L << 31) - 1);
+  }
+
+  private void testArithmetic(long modulus) {
+    LongFieldDefinition definition = new LongFieldDefinition(modulus);
+    BigInteger prime = BigInteger.valueOf(modulus);
+    List<BigInteger> values = values(prime);
+    for (BigInteger left : values) {
+      FieldElement leftElement = definition.createElement(left);
+      assertThat(definition.convertToUnsigned(leftElement), Is.is(left.mod(prime)));
+      assertThat(definition.convertToUnsigned(leftElement.negate()),
+          Is.is(left.negate().mod(prime)));
+      for (BigInteger right : values) {
+        FieldElement rightElement = definition.createElement(right);
+        assertThat(definition.convertToUnsigned(leftElement.add(rightElement)),
+            Is.is(left.add(right).mod(prime)));
+        assertThat(definition.convertToUnsigned(leftElement.subtract(rightElement)),
+            Is.is(left.subtract(right).mod(prime)));
+        assertThat(definition.convertToUnsigned(leftElement.multiply(rightElement)),
+            Is.is(left.multiply(right).mod(prime)));
+      }
+    }
+  }
+
+  @Test
+  public void createElement() {
+    LongFieldDefinition definition = new LongFieldDefinition(SMALL_PRIME);
+    assertThat(definition.convertToUnsigned(definition.createElement(-1)),
+        Is.is(BigInteger.valueOf(250)));
+    assertThat(definition.convertToUnsigned(definition.createElement("502")),
+        Is.is(BigInteger.ZERO));
+    assertThat(definition.convertToUnsigned(definition.createElement(BigInteger.valueOf(-252))),
+        Is.is(BigInteger.valueOf(250)));
+    assertThat(definition.convertToSigned(BigInteger.valueOf(250)), Is.is(BigInteger.ONE.negate()));
+  }
+
+  @Test
+  public void modInverseAndSqrt() {
+    LongFieldDefinition definition = new LongFieldDefinition(MERSENNE_61);
+    FieldElement element = definition.createElement(123456789);
+    assertThat(definition.convertToUnsigned(element.multiply(element.modInverse())),
+        Is.is(BigInteger.ONE));
+    FieldElement square = element.multiply(element);
+    FieldElement sqrt = square.sqrt();
+    assertThat(definition.convertToUnsigned(sqrt.multiply(sqrt)),
+        Is.is(definition.convertToUnsigned(square)));
+  }
+
+  @Test
+  public void serialization() {
+    testSerialization(MERSENNE_61);
+    testSerialization(LARGE_PRIME);
+    testSerialization(SMALL_PRIME);
+  }
+
+  private void testSerialization(long modulus) {
+    LongFieldDefinition definition = new LongFieldDefinition(modulus);
+    BigIntegerFieldDefinition reference = new BigIntegerFieldDefinition(BigInteger.valueOf(modulus));
+    List<FieldElement> elements = new ArrayList<>();
+    List<FieldElement> referenceElements = new ArrayList<>();
+    for (BigInteger value : values(BigInteger.valueOf(modulus))) {
+      FieldElement element = definition.createElement(value);
+      FieldElement referenceElement = reference.createElement(value);
+      elements.add(element);
+      referenceElements.add(referenceElement);
+      assertThat(definition.serialize(element), Is.is(reference.serialize(referenceElement)));
+      assertThat(definition.convertToBitVector(element),
+          Is.is(reference.convertToBitVector(referenceElement)));
+      assertThat(definition.convertToUnsigned(definition.deserialize(definition.serialize(element))),
+          Is.is(definition.convertToUnsigned(element)));
+    }
+    byte[] bytes = definition.serialize(elements);
+    assertThat(bytes, Is.is(reference.serialize(referenceElements)));
+    List<FieldElement> deserialized = definition.deserializeList(bytes);
+    for (int i = 0; i < elements.size(); i++) {
+      assertThat(definition.convertToUnsigned(deserialized.get(i)),
+          Is.is(definition.convertToUnsigned(elements.get(i))));
+    }
+  }
+
+  @Test
+  public void deserializeReduces() {
+    LongFieldDefinition definition = new LongFieldDefinition(MERSENNE_61);
+    byte[] bytes = {-1, -1, -1, -1, -1, -1, -1, -1};
+    assertThat(definition.convertToUnsigned(definition.deserialize(bytes)),
+        Is.is(BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE)
+            .mod(BigInteger.valueOf(MERSENNE_61))));
+  }
+
+  private List<BigInteger> values(BigInteger prime) {
+    List<BigInteger> values = new ArrayList<>();
+    values.add(BigInteger.ZERO);
+    values.add(BigInteger.ONE);
+    values.add(prime.subtract(BigInteger.ONE));
+    values.add(prime.shiftRight(1));
+    for (int i = 0; i < 20; i++) {
+      values.add(new BigInteger(prime.bitLength() + 8, random).mod(prime));
+    }
+    return values;
+  }
+}
@@ -0,0 +1,133 @@
+package dk.alexandra.fresco.framework.builder.numeric.field;
+
+import static org.junit.Assert.assertThat;
+
+import dk.alexandra.fresco.framework.util.ModulusFinder;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.hamcrest.core.Is;
+import org.junit.Test;
+
+public class MontgomeryFieldDefinitionTest {
+
+  private final Random random = new Random(42);
+
+  @Test(expected = IllegalArgumentException.class)
+  public void evenModulus() {
+    new MontgomeryFieldDefinition(BigInteger.ONE.shiftLeft(128));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void nonPositiveModulus() {
+    new MontgomeryFieldDefinition(BigInteger.valueOf(-7));
+  }
+
+  @Test
+  public void arithmetic() {
+    testArithmetic(ModulusFinder.findSuitableModulus(128));
+    testArithmetic(ModulusFinder.findSuitableModulus(256));
+    testArithmetic(ModulusFinder.findSuitableModulus(64));
+    testArithmetic(BigInteger.valueOf(251));
+    // the top limb is close to full, so intermediate results use the extra words
+    testArithmetic(BigInteger.ONE.shiftLeft(127).subtract(BigInteger.ONE));
+    testArithmetic(BigInteger.ONE.shiftLeft(256).subtract(BigInteger.valueOf(189)));
+  }
+
+  private void testArithmetic(BigInteger prime) {
+    MontgomeryFieldDefinition definition = new MontgomeryFieldDefinition(prime);
+    List<BigInteger> values = values(prime);
+    for (BigInteger left : values) {
+      FieldElement leftElement = definition.createElement(left);
+      assertThat(definition.convertToUnsigned(leftElement), Is.is(left.mod(prime)));
+      assertThat(definition.convertToUnsigned(leftElement.negate()),
+          Is.is(left.negate().mod(prime)));
+      for (BigInteger right : values) {
+        FieldElement rightElement = definition.createElement(right);
+        assertThat(definition.convertToUnsigned(leftElement.add(rightElement)),
+            Is.is(left.add(right).mod(prime)));
+        assertThat(definition.convertToUnsigned(leftElement.subtract(rightElement)),
+            Is.is(left.subtract(right).mod(prime)));
+        assertThat(definition.convertToUnsigned(leftElement.multiply(rightElement)),
+            Is.is(left.multiply(right).mod(prime)));
+      }
+    }
+  }
+
+  @Test
+  public void createElement() {
+    MontgomeryFieldDefinition definition = new MontgomeryFieldDefinition("251");
+    assertThat(definition.convertToUnsigned(definition.createElement(-1)),
+        Is.is(BigInteger.valueOf(250)));
+    assertThat(definition.convertToUnsigned(definition.createElement("502")),
+        Is.is(BigInteger.ZERO));
+    assertThat(definition.convertToSigned(BigInteger.valueOf(250)), Is.is(BigInteger.ONE.negate()));
+  }
+
+  @Test
+  public void modInverseAndSqrt() {
+    MontgomeryFieldDefinition definition =
+        new MontgomeryFieldDefinition(ModulusFinder.findSuitableModulus(128));
+    FieldElement element = definition.createElement(123456789);
+    assertThat(definition.convertToUnsigned(element.multiply(element.modInverse())),
+        Is.is(BigInteger.ONE));
+    FieldElement square = element.multiply(element);
+    FieldElement sqrt = square.sqrt();
+    assertThat(definition.convertToUnsigned(sqrt.multiply(sqrt)),
+        Is.is(definition.convertToUnsigned(square)));
+  }
+
+  @Test
+  public void serialization() {
+    testSerialization(ModulusFinder.findSuitableModulus(128));
+    testSerialization(ModulusFinder.findSuitableModulus(104));
+    testSerialization(BigInteger.ONE.shiftLeft(256).subtract(BigInteger.valueOf(189)));
+  }
+
+  private void testSerialization(BigInteger prime) {
+    MontgomeryFieldDefinition definition = new MontgomeryFieldDefinition(prime);
+    BigIntegerFieldDefinition reference = new BigIntegerFieldDefinition(prime);
+    List<FieldElement> elements = new ArrayList<>();
+    List<FieldElement> referenceElements = new ArrayList<>();
+    for (BigInteger value : values(prime)) {
+      FieldElement element = definition.createElement(value);
+      FieldElement referenceElement = reference.createElement(value);
+      elements.add(element);
+      referenceElements.add(referenceElement);
+      assertThat(definition.serialize(element), Is.is(reference.serialize(referenceElement)));
+      assertThat(definition.convertToUnsigned(definition.deserialize(definition.serialize(element))),
+          Is.is(definition.convertToUnsigned(element)));
+    }
+    byte[] bytes = definition.serialize(elements);
+    assertThat(bytes, Is.is(reference.serialize(referenceElements)));
+    List<FieldElement> deserialized = definition.deserializeList(bytes);
+    for (int i = 0; i < elements.size(); i++) {
+      assertThat(definition.convertToUnsigned(deserialized.get(i)),
+          Is.is(definition.convertToUnsigned(elements.get(i))));
+    }
+  }
+
+  @Test
+  public void deserializeReduces() {
+    BigInteger prime = ModulusFinder.findSuitableModulus(128);
+    MontgomeryFieldDefinition definition = new MontgomeryFieldDefinition(prime);
+    byte[] bytes = new byte[16];
+    Arrays.fill(bytes, (byte) -1);
+    assertThat(definition.convertToUnsigned(definition.deserialize(bytes)),
+        Is.is(new BigInteger(1, bytes).mod(prime)));
+  }
+
+  private List<BigInteger> values(BigInteger prime) {
+    List<BigInteger> values = new ArrayList<>();
+    values.add(BigInteger.ZERO);
+    values.add(BigInteger.ONE);
+    values.add(prime.subtract(BigInteger.ONE));
+    values.add(prime.shiftRight(1));
+    for (int i = 0; i < 20; i++) {
+      values.add(new BigInteger(prime.bitLength() + 8, random).mod(prime));
+    }
+    return values;
+  }
+}
@@ -86,6 +86,25 @@ public class NetworkBatchDecoratorTest {
 
   }
 
+  @Test
+  public void sendElementsInChunks() throws Exception {
+    byte[] elements = new byte[300];
+    for (int i = 0; i < elements.length; i++) {
+      elements[i] = (byte) i;
+    }
+    // 25 elements of 4 bytes fit in a single message of at most 127 bytes
+    Assert.assertEquals(124, networkBatchDecorator.getElementChunkLength(4));
+    networkBatchDecorator.sendElementsToAll(elements, 4);
+    networkBatchDecorator.flush();
+    Assert.assertEquals(1 + 124 + 1 + 124 + 1 + 52, transmissions.get(2).length);
+    Assert.assertArrayEquals(elements, networkBatchDecorator.receiveElements(2, 75, 4));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void sendTooLargeElements() throws Exception {
+    networkBatchDecorator.sendElementsToAll(new byte[256], 128);
+  }
+
   private class DummyNetwork implements Network {
 
 
@@ -0,0 +1,120 @@
+package dk.alexandra.fresco.framework.network;
+
+import dk.alexandra.fresco.framework.sce.evaluator.BatchFraming;
+import dk.alexandra.fresco.framework.sce.evaluator.NetworkBatchDecorator;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class VarintNetworkBatchDecoratorTest {
+
+  private NetworkBatchDecorator networkBatchDecorator;
+  private Map<Integer, byte[]> transmissions = new HashMap<>();
+
+  @Before
+  public void setUp() throws Exception {
+    DummyNetwork network = new DummyNetwork();
+    networkBatchDecorator = BatchFraming.VARINT.createDecorator(3, network);
+  }
+
+  @Test
+  public void receive() throws Exception {
+    transmissions.put(1, new byte[]{4, 2, 2, 23, 3, 3, 22, 0, 0});
+    transmissions.put(2, new byte[]{0});
+    Assert.assertArrayEquals(new byte[]{2, 2, 23, 3}, networkBatchDecorator.receive(1));
+    Assert.assertArrayEquals(new byte[]{}, networkBatchDecorator.receive(2));
+    Assert.assertArrayEquals(new byte[]{22, 0, 0}, networkBatchDecorator.receive(1));
+  }
+
+  @Test
+  public void receiveBuffer() throws Exception {
+    transmissions.put(1, new byte[]{2, 7, 8, 1, 9});
+    ByteBuffer first = networkBatchDecorator.receiveBuffer(1);
+    Assert.assertEquals(2, first.remaining());
+    Assert.assertEquals(7, first.get());
+    Assert.assertEquals(8, first.get());
+    ByteBuffer second = networkBatchDecorator.receiveBuffer(1);
+    Assert.assertEquals(1, second.remaining());
+    Assert.assertEquals(9, second.get());
+    Assert.assertTrue(second.isReadOnly());
+  }
+
+  @Test
+  public void receiveFromAll() throws Exception {
+    transmissions.put(1, new byte[]{4, 2, 2, 23, 3, 42});
+    transmissions.put(2, new byte[]{4, 2, 2, 23, 3, 42});
+    transmissions.put(3, new byte[]{4, 2, 2, 23, 3, 42});
+    List<byte[]> receiveAll = networkBatchDecorator.receiveFromAll();
+    for (byte[] receive : receiveAll) {
+      Assert.assertArrayEquals(new byte[]{2, 2, 23, 3}, receive);
+    }
+  }
+
+  @Test
+  public void send() throws Exception {
+    networkBatchDecorator.send(1, new byte[]{123});
+    Assert.assertTrue(transmissions.isEmpty());
+    networkBatchDecorator.flush();
+    Assert.assertEquals(1, transmissions.size());
+    Assert.assertArrayEquals(new byte[]{1, 123}, transmissions.get(1));
+  }
+
+  @Test
+  public void sendToAll() throws Exception {
+    networkBatchDecorator.sendToAll(new byte[]{123});
+    networkBatchDecorator.flush();
+    Assert.assertEquals(3, transmissions.size());
+    Assert.assertArrayEquals(new byte[]{1, 123}, transmissions.get(1));
+    Assert.assertArrayEquals(new byte[]{1, 123}, transmissions.get(2));
+    Assert.assertArrayEquals(new byte[]{1, 123}, transmissions.get(3));
+  }
+
+  @Test
+  public void sendAfterFlushReusesBuffer() throws Exception {
+    networkBatchDecorator.send(2, new byte[]{1, 2});
+    networkBatchDecorator.flush();
+    networkBatchDecorator.send(2, new byte[]{3});
+    networkBatchDecorator.flush();
+    Assert.assertArrayEquals(new byte[]{1, 3}, transmissions.get(2));
+  }
+
+  @Test
+  public void bigPackets() throws Exception {
+    byte[] big = new byte[100000];
+    Arrays.fill(big, (byte) 123);
+    byte[] small = new byte[]{42};
+    networkBatchDecorator.send(1, big);
+    networkBatchDecorator.send(1, small);
+    networkBatchDecorator.flush();
+    byte[] sent = transmissions.get(1);
+    // 100000 = 0b110_0001101_0100000 is encoded in three bytes
+    Assert.assertEquals(3 + big.length + 1 + small.length, sent.length);
+    Assert.assertArrayEquals(new byte[]{(byte) 0xA0, (byte) 0x8D, 0x06},
+        Arrays.copyOf(sent, 3));
+    Assert.assertArrayEquals(big, networkBatchDecorator.receive(1));
+    Assert.assertArrayEquals(small, networkBatchDecorator.receive(1));
+  }
+
+  private class DummyNetwork implements Network {
+
+    @Override
+    public void send(int partyId, byte[] data) {
+      transmissions.put(partyId, data);
+    }
+
+    @Override
+    public byte[] receive(int partyId) {
+      return transmissions.get(partyId);
+    }
+
+    @Override
+    public int getNoOfParties() {
+      return 3;
+    }
+  }
+}
@@ -0,0 +1,118 @@
+package dk.alexandra.fresco.framework.network.socket;
+
+import static dk.alexandra.fresco.framework.network.socket.Connector.DEFAULT_CONNECTION_TIMEOUT;
+import static org.junit.Assert.assertArrayEquals;
+
+import dk.alexandra.fresco.framework.configuration.NetworkConfiguration;
+import dk.alexandra.fresco.framework.network.AbstractCloseableNetworkTest;
+import dk.alexandra.fresco.framework.network.CloseableNetwork;
+import java.io.IOException;
+import java.nio.channels.SocketChannel;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.Test;
+
+public class TestNioNetwork extends AbstractCloseableNetworkTest {
+
+  @Override
+  protected CloseableNetwork newCloseableNetwork(NetworkConfiguration conf) {
+    return newCloseableNetwork(conf, DEFAULT_CONNECTION_TIMEOUT);
+  }
+
+  @Override
+  protected CloseableNetwork newCloseableNetwork(NetworkConfiguration conf, Duration timeout) {
+    return new NioNetwork(conf, timeout);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testMissingParty() throws InterruptedException, ExecutionException, IOException {
+    final int numParties = 3;
+    List<NetworkConfiguration> confs = getNetConfs(numParties);
+    List<Future<ChannelConnector>> fs = connect(confs);
+    try {
+      Map<Integer, SocketChannel> missingPartyMap = new HashMap<>(fs.get(0).get().getChannelMap());
+      missingPartyMap.remove(2);
+      new NioNetwork(confs.get(0), missingPartyMap);
+    } finally {
+      closeChannels(fs);
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testClosedChannels() throws InterruptedException, ExecutionException, IOException {
+    final int numParties = 3;
+    List<NetworkConfiguration> confs = getNetConfs(numParties);
+    List<Future<ChannelConnector>> fs = connect(confs);
+    try {
+      Map<Integer, SocketChannel> channelMap = fs.get(0).get().getChannelMap();
+      channelMap.get(numParties).close();
+      new NioNetwork(confs.get(0), channelMap);
+    } finally {
+      closeChannels(fs);
+    }
+  }
+
+  @Test(expected = RuntimeException.class)
+  public void testReceiveFromClosedParty() {
+    networks = createNetworks(2);
+    closeNetwork(networks.get(2));
+    networks.get(1).receive(2);
+  }
+
+  @Test
+  public void testReceiveQueuedBeforeClose() {
+    networks = createNetworks(2);
+    byte[] data = new byte[] {1, 2, 3};
+    networks.get(2).send(1, data);
+    closeNetwork(networks.get(2));
+    assertArrayEquals(data, networks.get(1).receive(2));
+  }
+
+  @Test
+  public void testManySmallMessagesInterleaved() {
+    networks = createNetworks(3);
+    int numMessages = 10000;
+    for (int i = 0; i < numMessages; i++) {
+      networks.get(1).send(2, new byte[] {(byte) i});
+      networks.get(1).send(3, new byte[] {(byte) i, (byte) (i >>> 8)});
+    }
+    for (int i = 0; i < numMessages; i++) {
+      assertArrayEquals(new byte[] {(byte) i}, networks.get(2).receive(1));
+      assertArrayEquals(new byte[] {(byte) i, (byte) (i >>> 8)}, networks.get(3).receive(1));
+    }
+  }
+
+  private List<Future<ChannelConnector>> connect(List<NetworkConfiguration> confs) {
+    ExecutorService es = Executors.newFixedThreadPool(confs.size());
+    List<Future<ChannelConnector>> fs = new ArrayList<>(confs.size());
+    for (NetworkConfiguration conf : confs) {
+      fs.add(es.submit(() -> new ChannelConnector(conf, DEFAULT_CONNECTION_TIMEOUT)));
+    }
+    es.shutdown();
+    return fs;
+  }
+
+  private void closeChannels(List<Future<ChannelConnector>> fs)
+      throws InterruptedException, ExecutionException, IOException {
+    for (Future<ChannelConnector> futureConn : fs) {
+      for (SocketChannel channel : futureConn.get().getChannelMap().values()) {
+        channel.close();
+      }
+    }
+  }
+
+  private void closeNetwork(CloseableNetwork network) {
+    try {
+      network.close();
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+}
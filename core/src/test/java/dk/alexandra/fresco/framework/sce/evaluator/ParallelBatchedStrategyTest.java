@@ -0,0 +1,286 @@
+package dk.alexandra.fresco.framework.sce.evaluator;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertThat;
+
+import dk.alexandra.fresco.framework.BuilderFactory;
+import dk.alexandra.fresco.framework.NativeProtocol;
+import dk.alexandra.fresco.framework.builder.binary.ProtocolBuilderBinary;
+import dk.alexandra.fresco.framework.network.Network;
+import dk.alexandra.fresco.framework.sce.resources.PartitionedResourcePool;
+import dk.alexandra.fresco.framework.sce.resources.ResourcePool;
+import dk.alexandra.fresco.framework.sce.resources.ResourcePoolImpl;
+import dk.alexandra.fresco.logging.BatchEvaluationLoggingDecorator;
+import dk.alexandra.fresco.logging.BinarySuiteLogging;
+import dk.alexandra.fresco.suite.ProtocolSuite;
+import dk.alexandra.fresco.suite.dummy.bool.DummyBooleanProtocolSuite;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import org.junit.Test;
+
+public class ParallelBatchedStrategyTest {
+
+  private static final int NO_OF_PARTIES = 2;
+
+  @Test
+  public void sameMessagesAsSequential() {
+    int size = 1000;
+    LoopbackNetwork sequentialNetwork = new LoopbackNetwork();
+    List<MessageProtocol> sequential =
+        evaluate(new BatchedStrategy<>(), sequentialNetwork, size);
+    LoopbackNetwork parallelNetwork = new LoopbackNetwork();
+    List<MessageProtocol> parallel =
+        evaluate(new ParallelBatchedStrategy<>(4), parallelNetwork, size);
+
+    for (int partyId = 1; partyId <= NO_OF_PARTIES; partyId++) {
+      List<byte[]> expected = sequentialNetwork.sent.get(partyId);
+      List<byte[]> actual = parallelNetwork.sent.get(partyId);
+      assertThat(actual.size(), is(expected.size()));
+      for (int i = 0; i < expected.size(); i++) {
+        assertArrayEquals(expected.get(i), actual.get(i));
+      }
+    }
+    for (int i = 0; i < size; i++) {
+      assertThat(parallel.get(i).out(), is(sequential.get(i).out()));
+      assertThat(parallel.get(i).out(), is(expectedReceived(i)));
+    }
+  }
+
+  @Test
+  public void smallBatch() {
+    List<MessageProtocol> protocols =
+        evaluate(new ParallelBatchedStrategy<>(4), new LoopbackNetwork(), 10);
+    for (int i = 0; i < protocols.size(); i++) {
+      assertThat(protocols.get(i).out(), is(expectedReceived(i)));
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void failingProtocol() {
+    ProtocolCollectionList<ResourcePool> protocols = new ProtocolCollectionList<>(1000);
+    for (int i = 0; i < 1000; i++) {
+      protocols.addProtocol(new MessageProtocol(i));
+    }
+    protocols.addProtocol(new NativeProtocol<Void, ResourcePool>() {
+      @Override
+      public EvaluationStatus evaluate(int round, ResourcePool resourcePool, Network network) {
+        throw new IllegalStateException("Failing on purpose");
+      }
+
+      @Override
+      public Void out() {
+        return null;
+      }
+    });
+    new ParallelBatchedStrategy<>(4).processBatch(protocols, new ResourcePoolImpl(1,
+        NO_OF_PARTIES), new NetworkBatchDecorator(NO_OF_PARTIES, new LoopbackNetwork()));
+  }
+
+  @Test
+  public void resourcesTakenAndMergedInProtocolOrder() {
+    int size = 1000;
+    ProtocolCollectionList<CountingResourcePool> protocols = new ProtocolCollectionList<>(size);
+    List<CountingProtocol> list = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      CountingProtocol protocol = new CountingProtocol(i);
+      list.add(protocol);
+      protocols.addProtocol(protocol);
+    }
+    CountingResourcePool resourcePool = new CountingResourcePool();
+    new ParallelBatchedStrategy<CountingResourcePool>(4).processBatch(protocols, resourcePool,
+        new NetworkBatchDecorator(NO_OF_PARTIES, new LoopbackNetwork()));
+    for (int i = 0; i < size; i++) {
+      assertThat(list.get(i).out(), is(i));
+      assertThat(resourcePool.evaluated.get(i), is(i));
+    }
+    assertThat(resourcePool.evaluated.size(), is(size));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void nonPositiveParallelism() {
+    new ParallelBatchedStrategy<>(0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void orderDependentSuiteRejected() {
+    ProtocolSuite<ResourcePool, ProtocolBuilderBinary> suite =
+        new ProtocolSuite<ResourcePool, ProtocolBuilderBinary>() {
+          @Override
+          public BuilderFactory<ProtocolBuilderBinary> init(ResourcePool resourcePool) {
+            return null;
+          }
+
+          @Override
+          public RoundSynchronization<ResourcePool> createRoundSynchronization() {
+            return new DummyRoundSynchronization<>();
+          }
+        };
+    new BatchedProtocolEvaluator<>(new ParallelBatchedStrategy<>(4), suite);
+  }
+
+  @Test
+  public void orderIndependentSuiteAccepted() {
+    BatchEvaluationStrategy<ResourcePoolImpl> strategy =
+        new BatchEvaluationLoggingDecorator<>(new ParallelBatchedStrategy<>(4));
+    assertThat(strategy.isParallel(), is(true));
+    new BatchedProtocolEvaluator<>(strategy,
+        new BinarySuiteLogging<>(new DummyBooleanProtocolSuite()));
+  }
+
+  private List<MessageProtocol> evaluate(BatchEvaluationStrategy<ResourcePool> strategy,
+      Network network, int size) {
+    List<MessageProtocol> list = new ArrayList<>(size);
+    ProtocolCollectionList<ResourcePool> protocols = new ProtocolCollectionList<>(size);
+    for (int i = 0; i < size; i++) {
+      MessageProtocol protocol = new MessageProtocol(i);
+      list.add(protocol);
+      protocols.addProtocol(protocol);
+    }
+    strategy.processBatch(protocols, new ResourcePoolImpl(1, NO_OF_PARTIES),
+        new NetworkBatchDecorator(NO_OF_PARTIES, network));
+    return list;
+  }
+
+  private static List<Integer> expectedReceived(int index) {
+    List<Integer> received = new ArrayList<>();
+    for (int round = 0; round < 2; round++) {
+      for (int partyId = 1; partyId <= NO_OF_PARTIES; partyId++) {
+        for (int j = 0; j < index % 3; j++) {
+          received.add(message(index, round, partyId, j));
+        }
+      }
+    }
+    return received;
+  }
+
+  private static int message(int index, int round, int partyId, int j) {
+    return (index * 7 + round * 5 + partyId * 3 + j) % 128;
+  }
+
+  /**
+   * Sends a varying number of messages to each party in two rounds, and receives them back in the
+   * following rounds.
+   */
+  private static class MessageProtocol implements NativeProtocol<List<Integer>, ResourcePool> {
+
+    private final int index;
+    private final List<Integer> received = new ArrayList<>();
+
+    private MessageProtocol(int index) {
+      this.index = index;
+    }
+
+    @Override
+    public EvaluationStatus evaluate(int round, ResourcePool resourcePool, Network network) {
+      if (round > 0) {
+        for (int partyId = 1; partyId <= NO_OF_PARTIES; partyId++) {
+          for (int j = 0; j < index % 3; j++) {
+            received.add((int) network.receive(partyId)[0]);
+          }
+        }
+      }
+      if (round < 2) {
+        for (int partyId = 1; partyId <= NO_OF_PARTIES; partyId++) {
+          for (int j = 0; j < index % 3; j++) {
+            network.send(partyId, new byte[]{(byte) message(index, round, partyId, j)});
+          }
+        }
+        return EvaluationStatus.HAS_MORE_ROUNDS;
+      }
+      return EvaluationStatus.IS_DONE;
+    }
+
+    @Override
+    public List<Integer> out() {
+      return received;
+    }
+  }
+
+  /**
+   * Hands out consecutive numbers in request order, and records the protocols evaluated with each
+   * partition.
+   */
+  private static class CountingResourcePool extends ResourcePoolImpl
+      implements PartitionedResourcePool<CountingResourcePool> {
+
+    private final List<Integer> evaluated = new ArrayList<>();
+    private int next;
+
+    private CountingResourcePool() {
+      super(1, NO_OF_PARTIES);
+    }
+
+    @Override
+    public CountingResourcePool createPartition() {
+      return new CountingResourcePool();
+    }
+
+    @Override
+    public void mergePartition(CountingResourcePool partition) {
+      evaluated.addAll(partition.evaluated);
+    }
+  }
+
+  /**
+   * Takes a number from the resource pool and records its index when evaluated.
+   */
+  private static class CountingProtocol implements NativeProtocol<Integer, CountingResourcePool> {
+
+    private final int index;
+    private Integer number;
+
+    private CountingProtocol(int index) {
+      this.index = index;
+    }
+
+    @Override
+    public void prepare(int round, CountingResourcePool resourcePool) {
+      if (number == null) {
+        number = resourcePool.next++;
+      }
+    }
+
+    @Override
+    public EvaluationStatus evaluate(int round, CountingResourcePool resourcePool,
+        Network network) {
+      prepare(round, resourcePool);
+      resourcePool.evaluated.add(index);
+      return EvaluationStatus.IS_DONE;
+    }
+
+    @Override
+    public Integer out() {
+      return number;
+    }
+  }
+
+  /**
+   * Records the batches sent and receives them back from the same party.
+   */
+  private static class LoopbackNetwork implements Network {
+
+    private final Map<Integer, List<byte[]>> sent = new HashMap<>();
+    private final Map<Integer, Queue<byte[]>> pending = new HashMap<>();
+
+    @Override
+    public void send(int partyId, byte[] data) {
+      sent.computeIfAbsent(partyId, id -> new ArrayList<>()).add(data);
+      pending.computeIfAbsent(partyId, id -> new ArrayDeque<>()).add(data);
+    }
+
+    @Override
+    public byte[] receive(int partyId) {
+      return pending.get(partyId).remove();
+    }
+
+    @Override
+    public int getNoOfParties() {
+      return NO_OF_PARTIES;
+    }
+  }
+}
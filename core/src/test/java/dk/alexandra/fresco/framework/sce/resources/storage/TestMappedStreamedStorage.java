@@ -0,0 +1,153 @@
+package dk.alexandra.fresco.framework.sce.resources.storage;
+
+import static org.junit.Assert.assertEquals;
+
+import dk.alexandra.fresco.framework.sce.resources.storage.exceptions.NoMoreElementsException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import org.junit.After;
+import org.junit.Test;
+
+public class TestMappedStreamedStorage {
+
+  private static final String STORE = "mapped-test-store";
+  private static final String OTHER_STORE = "mapped-test-other";
+
+  private static final RecordFormat<Long> LONG_FORMAT = new RecordFormat<Long>() {
+    @Override
+    public int getRecordLength() {
+      return Long.BYTES;
+    }
+
+    @Override
+    public void write(Long record, ByteBuffer buffer) {
+      buffer.putLong(record);
+    }
+
+    @Override
+    public Long read(ByteBuffer buffer) {
+      return buffer.getLong();
+    }
+  };
+
+  /**
+   * Removes the files written by the tests.
+   */
+  @After
+  public void removeFiles() throws IOException {
+    Files.deleteIfExists(Paths.get(STORE));
+    Files.deleteIfExists(Paths.get(OTHER_STORE));
+  }
+
+  private void writeRecords(int noOfRecords) {
+    MappedStreamedStorageImpl storage =
+        new MappedStreamedStorageImpl(new FilebasedStreamedStorageImpl(new InMemoryStorage()));
+    storage.registerFormat(STORE, LONG_FORMAT);
+    for (long i = 0; i < noOfRecords; i++) {
+      storage.putNext(STORE, i * i);
+    }
+    storage.shutdown();
+  }
+
+  @Test
+  public void testPutAndGetNext() throws NoMoreElementsException {
+    writeRecords(100);
+    MappedStreamedStorageImpl storage =
+        new MappedStreamedStorageImpl(new FilebasedStreamedStorageImpl(new InMemoryStorage()));
+    storage.registerFormat(STORE, LONG_FORMAT);
+    assertEquals(100, storage.getRemainingRecords(STORE));
+    for (long i = 0; i < 100; i++) {
+      Long next = storage.getNext(STORE);
+      assertEquals(i * i, next.longValue());
+    }
+    assertEquals(0, storage.getRemainingRecords(STORE));
+    storage.shutdown();
+  }
+
+  @Test
+  public void testReadInChunks() throws NoMoreElementsException {
+    writeRecords(100);
+    // chunks of three records
+    MappedStreamedStorageImpl storage = new MappedStreamedStorageImpl(
+        new FilebasedStreamedStorageImpl(new InMemoryStorage()), 3 * Long.BYTES + 1);
+    storage.registerFormat(STORE, LONG_FORMAT);
+    for (long i = 0; i < 100; i++) {
+      Long next = storage.getNext(STORE);
+      assertEquals(i * i, next.longValue());
+    }
+    storage.shutdown();
+  }
+
+  @Test
+  public void testSlices() throws NoMoreElementsException {
+    writeRecords(100);
+    for (int from = 0; from < 100; from += 25) {
+      MappedStreamedStorageImpl storage =
+          new MappedStreamedStorageImpl(new FilebasedStreamedStorageImpl(new InMemoryStorage()));
+      storage.registerFormat(STORE, LONG_FORMAT);
+      storage.slice(STORE, from, 25);
+      for (long i = from; i < from + 25; i++) {
+        Long next = storage.getNext(STORE);
+        assertEquals(i * i, next.longValue());
+      }
+      assertEquals(0, storage.getRemainingRecords(STORE));
+      storage.shutdown();
+    }
+  }
+
+  @Test(expected = NoMoreElementsException.class)
+  public void testGetPastSlice() throws NoMoreElementsException {
+    writeRecords(10);
+    MappedStreamedStorageImpl storage =
+        new MappedStreamedStorageImpl(new FilebasedStreamedStorageImpl(new InMemoryStorage()));
+    storage.registerFormat(STORE, LONG_FORMAT);
+    storage.slice(STORE, 5, 2);
+    storage.getNext(STORE);
+    storage.getNext(STORE);
+    storage.getNext(STORE);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testSliceTooLarge() throws NoMoreElementsException {
+    writeRecords(10);
+    MappedStreamedStorageImpl storage =
+        new MappedStreamedStorageImpl(new FilebasedStreamedStorageImpl(new InMemoryStorage()));
+    storage.registerFormat(STORE, LONG_FORMAT);
+    storage.slice(STORE, 5, 6);
+  }
+
+  @Test(expected = NoMoreElementsException.class)
+  public void testGetNextNoFile() throws NoMoreElementsException {
+    MappedStreamedStorageImpl storage =
+        new MappedStreamedStorageImpl(new FilebasedStreamedStorageImpl(new InMemoryStorage()));
+    storage.registerFormat(STORE, LONG_FORMAT);
+    storage.getNext(STORE);
+  }
+
+  @Test
+  public void testFallback() throws NoMoreElementsException {
+    MappedStreamedStorageImpl storage =
+        new MappedStreamedStorageImpl(new FilebasedStreamedStorageImpl(new InMemoryStorage()));
+    storage.putNext(OTHER_STORE, "This is a test");
+    storage.putObject("name", "key", "object");
+    String next = storage.getNext(OTHER_STORE);
+    assertEquals("This is a test", next);
+    assertEquals("object", storage.getObject("name", "key"));
+    storage.shutdown();
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testRegisterFormatInUse() {
+    MappedStreamedStorageImpl storage =
+        new MappedStreamedStorageImpl(new FilebasedStreamedStorageImpl(new InMemoryStorage()));
+    storage.registerFormat(STORE, LONG_FORMAT);
+    storage.putNext(STORE, 1L);
+    try {
+      storage.registerFormat(STORE, LONG_FORMAT);
+    } finally {
+      storage.shutdown();
+    }
+  }
+}
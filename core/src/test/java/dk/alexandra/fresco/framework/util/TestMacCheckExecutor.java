@@ -0,0 +1,73 @@
+package dk.alexandra.fresco.framework.util;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+import dk.alexandra.fresco.framework.MaliciousException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import org.junit.Test;
+
+public class TestMacCheckExecutor {
+
+  @Test
+  public void testChecksRunInOrder() {
+    List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+    MacCheckExecutor executor = new MacCheckExecutor();
+    for (int i = 0; i < 10; i++) {
+      int index = i;
+      executor.submit(() -> order.add(index));
+    }
+    assertThat(executor.getOutstandingChecks(), is(10));
+    executor.awaitChecks();
+    assertThat(executor.getOutstandingChecks(), is(0));
+    assertThat(order, is(Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9)));
+    executor.close();
+  }
+
+  @Test
+  public void testCheckFailuresDoesNotWait() throws InterruptedException {
+    CountDownLatch latch = new CountDownLatch(1);
+    MacCheckExecutor executor = new MacCheckExecutor();
+    executor.submit(() -> {
+      try {
+        latch.await();
+      } catch (InterruptedException e) {
+        throw new RuntimeException(e);
+      }
+    });
+    executor.checkFailures();
+    assertThat(executor.getOutstandingChecks(), is(1));
+    latch.countDown();
+    executor.awaitChecks();
+    executor.close();
+  }
+
+  @Test(expected = MaliciousException.class)
+  public void testAwaitRethrowsFailure() {
+    MacCheckExecutor executor = new MacCheckExecutor();
+    executor.submit(() -> {
+      throw new MaliciousException("Mac check failed");
+    });
+    executor.awaitChecks();
+  }
+
+  @Test(expected = MaliciousException.class)
+  public void testCheckFailuresRethrowsFinishedFailure() throws InterruptedException {
+    CountDownLatch latch = new CountDownLatch(1);
+    MacCheckExecutor executor = new MacCheckExecutor();
+    executor.submit(() -> {
+      latch.countDown();
+      throw new MaliciousException("Mac check failed");
+    });
+    latch.await();
+    // the check may still be finishing after counting down
+    while (executor.getOutstandingChecks() > 0) {
+      executor.checkFailures();
+      Thread.sleep(1);
+    }
+  }
+}
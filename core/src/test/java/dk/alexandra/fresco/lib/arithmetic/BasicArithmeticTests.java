@@ -526,6 +526,52 @@ public class BasicArithmeticTests {
     }
   }
 
+  /**
+   * Test element-wise multiplication of two lists. The lists are long enough for the serialized
+   * shares to exceed the length of a single message on the default network.
+   */
+  public static class TestMultiplyLists<ResourcePoolT extends ResourcePool>
+      extends TestThreadFactory<ResourcePoolT, ProtocolBuilderNumeric> {
+
+    @Override
+    public TestThread<ResourcePoolT, ProtocolBuilderNumeric> next() {
+      final int size = 500;
+      List<BigInteger> leftInputs = new ArrayList<>(size);
+      List<BigInteger> rightInputs = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        leftInputs.add(BigInteger.valueOf(i));
+        rightInputs.add(BigInteger.valueOf(3 * i + 7));
+      }
+      return new TestThread<ResourcePoolT, ProtocolBuilderNumeric>() {
+        @Override
+        public void test() {
+          Application<List<BigInteger>, ProtocolBuilderNumeric> app =
+              producer -> producer.par(par -> {
+                Numeric numeric = par.numeric();
+                List<DRes<SInt>> left =
+                    leftInputs.stream().map(v -> numeric.input(v, 1)).collect(Collectors.toList());
+                List<DRes<SInt>> right =
+                    rightInputs.stream().map(numeric::known).collect(Collectors.toList());
+                return Pair.lazy(left, right);
+              }).par((par, pair) ->
+                  par.numeric().mult(pair.getFirst(), pair.getSecond())
+              ).par((par, products) -> {
+                Numeric numeric = par.numeric();
+                List<DRes<BigInteger>> opened =
+                    products.stream().map(numeric::open).collect(Collectors.toList());
+                return () -> opened.stream().map(DRes::out).collect(Collectors.toList());
+              });
+          List<BigInteger> output = runApplication(app);
+
+          Assert.assertThat(output.size(), Is.is(size));
+          for (int i = 0; i < size; i++) {
+            Assert.assertEquals(leftInputs.get(i).multiply(rightInputs.get(i)), output.get(i));
+          }
+        }
+      };
+    }
+  }
+
   public static class TestSimpleMultAndAdd<ResourcePoolT extends ResourcePool>
       extends TestThreadFactory<ResourcePoolT, ProtocolBuilderNumeric> {
 
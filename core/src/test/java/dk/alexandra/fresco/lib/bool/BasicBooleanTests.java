@@ -347,4 +347,59 @@ public class BasicBooleanTests {
       };
     }
   }
+
+  /**
+   * Tests the list operations of {@link Binary}. Computes all variants of: NOT((i1 XOR i2) AND i1)
+   * as a single list operation per step.
+   */
+  public static class TestListOperations<ResourcePoolT extends ResourcePool>
+      extends TestThreadFactory<ResourcePoolT, ProtocolBuilderBinary> {
+
+    private boolean doAsserts;
+
+    public TestListOperations(boolean doAsserts) {
+      this.doAsserts = doAsserts;
+    }
+
+    @Override
+    public TestThread<ResourcePoolT, ProtocolBuilderBinary> next() {
+      return new TestThread<ResourcePoolT, ProtocolBuilderBinary>() {
+        @Override
+        public void test() throws Exception {
+          boolean[] rawLefts = {false, false, true, true};
+          boolean[] rawRights = {false, true, false, true};
+          List<DRes<SBool>> lefts = new ArrayList<>();
+          Application<List<Boolean>, ProtocolBuilderBinary> app = producer -> producer.seq(seq -> {
+            Binary builder = seq.binary();
+            List<DRes<SBool>> rights = new ArrayList<>();
+            for (int i = 0; i < rawLefts.length; i++) {
+              lefts.add(builder.input(rawLefts[i], 1));
+              rights.add(builder.input(rawRights[i], 1));
+            }
+            return builder.xor(lefts, rights);
+          }).seq((seq, xors) -> {
+            return seq.binary().and(xors, lefts);
+          }).seq((seq, ands) -> {
+            return seq.binary().not(ands);
+          }).seq((seq, nots) -> {
+            List<DRes<Boolean>> list = new ArrayList<>();
+            for (DRes<SBool> not : nots) {
+              list.add(seq.binary().open(not));
+            }
+            return () -> list.stream().map(DRes::out).collect(Collectors.toList());
+          });
+
+          List<Boolean> outs = runApplication(app);
+
+          if (doAsserts) {
+            Assert.assertEquals(4, outs.size());
+            Assert.assertEquals(true, outs.get(0));
+            Assert.assertEquals(true, outs.get(1));
+            Assert.assertEquals(false, outs.get(2));
+            Assert.assertEquals(true, outs.get(3));
+          }
+        }
+      };
+    }
+  }
 }
@@ -88,4 +88,53 @@ public class CloseListTests {
       };
     }
   }
+
+  /**
+   * Closes a list from each party and opens them all. Checks that each opened list is the same as
+   * the input of the party.
+   */
+  public static class TestCloseListsFromAllParties<ResourcePoolT extends ResourcePool>
+      extends TestThreadFactory<ResourcePoolT, ProtocolBuilderNumeric> {
+
+    @Override
+    public TestThread<ResourcePoolT, ProtocolBuilderNumeric> next() {
+      return new TestThread<ResourcePoolT, ProtocolBuilderNumeric>() {
+
+        @Override
+        public void test() throws Exception {
+          int numInputs = 250;
+          int noOfParties = conf.getResourcePool().getNoOfParties();
+          List<List<BigInteger>> inputs = new ArrayList<>();
+          for (int partyId = 1; partyId <= noOfParties; partyId++) {
+            List<BigInteger> input = new ArrayList<>();
+            for (int i = 0; i < numInputs; i++) {
+              input.add(BigInteger.valueOf(partyId * 1000 + i));
+            }
+            inputs.add(input);
+          }
+          Application<List<List<BigInteger>>, ProtocolBuilderNumeric> testApplication =
+              root -> root.par(par -> {
+                Collections collections = par.collections();
+                int myId = par.getBasicNumericContext().getMyId();
+                List<DRes<List<DRes<SInt>>>> closed = new ArrayList<>();
+                for (int partyId = 1; partyId <= noOfParties; partyId++) {
+                  closed.add(partyId == myId
+                      ? collections.closeList(inputs.get(partyId - 1), partyId)
+                      : collections.closeList(numInputs, partyId));
+                }
+                return () -> closed;
+              }).par((par, closed) -> {
+                List<DRes<List<DRes<BigInteger>>>> opened = closed.stream()
+                    .map(list -> par.collections().openList(list))
+                    .collect(Collectors.toList());
+                return () -> opened.stream()
+                    .map(list -> list.out().stream().map(DRes::out).collect(Collectors.toList()))
+                    .collect(Collectors.toList());
+              });
+          List<List<BigInteger>> output = runApplication(testApplication);
+          assertThat(output, is(inputs));
+        }
+      };
+    }
+  }
 }
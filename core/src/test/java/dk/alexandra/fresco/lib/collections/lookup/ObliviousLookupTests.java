@@ -0,0 +1,153 @@
+package dk.alexandra.fresco.lib.collections.lookup;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import dk.alexandra.fresco.framework.Application;
+import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.TestThreadRunner.TestThread;
+import dk.alexandra.fresco.framework.TestThreadRunner.TestThreadFactory;
+import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
+import dk.alexandra.fresco.framework.sce.resources.ResourcePool;
+import dk.alexandra.fresco.framework.value.SInt;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+/**
+ * Test class for the oblivious lookup protocols.
+ */
+public class ObliviousLookupTests {
+
+  private static List<BigInteger> input(int size) {
+    List<BigInteger> input = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      input.add(BigInteger.valueOf(100 + i));
+    }
+    return input;
+  }
+
+  /**
+   * Reads every index of a list using secret indices.
+   */
+  public static class TestObliviousRead<ResourcePoolT extends ResourcePool>
+      extends TestThreadFactory<ResourcePoolT, ProtocolBuilderNumeric> {
+
+    @Override
+    public TestThread<ResourcePoolT, ProtocolBuilderNumeric> next() {
+      return new TestThread<ResourcePoolT, ProtocolBuilderNumeric>() {
+
+        @Override
+        public void test() throws Exception {
+          List<BigInteger> input = input(10);
+          Application<List<BigInteger>, ProtocolBuilderNumeric> testApplication = root -> {
+            DRes<List<DRes<SInt>>> closed = root.collections().closeList(input, 1);
+            List<DRes<BigInteger>> opened = new ArrayList<>();
+            for (int i = 0; i < input.size(); i++) {
+              DRes<SInt> index = root.numeric().input(BigInteger.valueOf(i), 1);
+              opened.add(root.numeric().open(root.collections().read(closed, index)));
+            }
+            return () -> opened.stream().map(DRes::out).collect(Collectors.toList());
+          };
+          assertThat(runApplication(testApplication), is(input));
+        }
+      };
+    }
+  }
+
+  /**
+   * Writes a value at a secret index and checks that only that index changed.
+   */
+  public static class TestObliviousWrite<ResourcePoolT extends ResourcePool>
+      extends TestThreadFactory<ResourcePoolT, ProtocolBuilderNumeric> {
+
+    @Override
+    public TestThread<ResourcePoolT, ProtocolBuilderNumeric> next() {
+      return new TestThread<ResourcePoolT, ProtocolBuilderNumeric>() {
+
+        @Override
+        public void test() throws Exception {
+          List<BigInteger> input = input(10);
+          Application<List<BigInteger>, ProtocolBuilderNumeric> testApplication = root -> {
+            DRes<List<DRes<SInt>>> closed = root.collections().closeList(input, 1);
+            DRes<SInt> index = root.numeric().input(BigInteger.valueOf(7), 1);
+            DRes<SInt> value = root.numeric().input(BigInteger.valueOf(42), 2);
+            DRes<List<DRes<SInt>>> written = root.collections().write(closed, index, value);
+            DRes<List<DRes<BigInteger>>> opened = root.collections().openList(written);
+            return () -> opened.out().stream().map(DRes::out).collect(Collectors.toList());
+          };
+          List<BigInteger> expected = new ArrayList<>(input);
+          expected.set(7, BigInteger.valueOf(42));
+          assertThat(runApplication(testApplication), is(expected));
+        }
+      };
+    }
+  }
+
+  /**
+   * Performs a random sequence of reads and writes spanning several reshuffles of a
+   * {@link SquareRootOram} and compares the results to a plain list.
+   */
+  public static class TestSquareRootOram<ResourcePoolT extends ResourcePool>
+      extends TestThreadFactory<ResourcePoolT, ProtocolBuilderNumeric> {
+
+    private final int size;
+    private final int noOfAccesses;
+
+    public TestSquareRootOram(int size, int noOfAccesses) {
+      this.size = size;
+      this.noOfAccesses = noOfAccesses;
+    }
+
+    @Override
+    public TestThread<ResourcePoolT, ProtocolBuilderNumeric> next() {
+      return new TestThread<ResourcePoolT, ProtocolBuilderNumeric>() {
+
+        @Override
+        public void test() throws Exception {
+          List<BigInteger> input = input(size);
+          Random random = new Random(42);
+          int[] indices = new int[noOfAccesses];
+          Integer[] writes = new Integer[noOfAccesses];
+          List<BigInteger> plain = new ArrayList<>(input);
+          List<BigInteger> expected = new ArrayList<>();
+          for (int i = 0; i < noOfAccesses; i++) {
+            // reuse a few indices often to exercise the stash
+            indices[i] = random.nextBoolean() ? random.nextInt(3) : random.nextInt(size);
+            expected.add(plain.get(indices[i]));
+            if (random.nextBoolean()) {
+              writes[i] = i;
+              plain.set(indices[i], BigInteger.valueOf(i));
+            }
+          }
+          Application<List<BigInteger>, ProtocolBuilderNumeric> testApplication = root -> {
+            DRes<List<DRes<SInt>>> closed = root.collections().closeList(input, 1);
+            DRes<SquareRootOram> oram = root.collections().oram(closed);
+            List<DRes<BigInteger>> opened = new ArrayList<>();
+            for (int i = 0; i < noOfAccesses; i++) {
+              final int access = i;
+              root.seq(seq -> {
+                DRes<SInt> index = seq.numeric().known(indices[access]);
+                DRes<SInt> result;
+                if (writes[access] == null) {
+                  result = seq.collections().oramRead(oram, index);
+                } else {
+                  result = seq.collections().oramWrite(oram, index,
+                      seq.numeric().known(writes[access]));
+                }
+                DRes<BigInteger> open = seq.numeric().open(result);
+                opened.add(open);
+                return open;
+              });
+            }
+            return () -> opened.stream().map(DRes::out).collect(Collectors.toList());
+          };
+          assertThat(runApplication(testApplication), is(expected));
+        }
+      };
+    }
+  }
+
+}
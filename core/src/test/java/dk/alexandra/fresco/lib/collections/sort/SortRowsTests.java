@@ -0,0 +1,97 @@
+package dk.alexandra.fresco.lib.collections.sort;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import dk.alexandra.fresco.framework.Application;
+import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.TestThreadRunner.TestThread;
+import dk.alexandra.fresco.framework.TestThreadRunner.TestThreadFactory;
+import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
+import dk.alexandra.fresco.framework.builder.numeric.field.FieldDefinition;
+import dk.alexandra.fresco.framework.sce.resources.ResourcePool;
+import dk.alexandra.fresco.framework.value.SInt;
+import dk.alexandra.fresco.lib.collections.Matrix;
+import dk.alexandra.fresco.lib.collections.MatrixTestUtils;
+import dk.alexandra.fresco.lib.collections.MatrixUtils;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Comparator;
+
+public class SortRowsTests {
+
+  public static class TestSortRowsGeneric<ResourcePoolT extends ResourcePool>
+      extends TestThreadFactory<ResourcePoolT, ProtocolBuilderNumeric> {
+
+    final Matrix<BigInteger> input;
+    final int keyColumn;
+    final Matrix<BigInteger> expected;
+
+    TestSortRowsGeneric(Matrix<BigInteger> input, int keyColumn) {
+      this.input = input;
+      this.keyColumn = keyColumn;
+      ArrayList<ArrayList<BigInteger>> rows = new ArrayList<>(input.getRows());
+      rows.sort(Comparator.comparing(row -> row.get(keyColumn)));
+      this.expected = new Matrix<>(input.getHeight(), input.getWidth(), rows);
+    }
+
+    @Override
+    public TestThread<ResourcePoolT, ProtocolBuilderNumeric> next() {
+      return new TestThread<ResourcePoolT, ProtocolBuilderNumeric>() {
+
+        @Override
+        public void test() throws Exception {
+          Application<Matrix<BigInteger>, ProtocolBuilderNumeric> testApplication = root -> {
+            DRes<Matrix<DRes<SInt>>> closed = root.collections().closeMatrix(input, 1);
+            DRes<Matrix<DRes<SInt>>> sorted = root.collections().sort(closed, keyColumn);
+            DRes<Matrix<DRes<BigInteger>>> opened = root.collections().openMatrix(sorted);
+            FieldDefinition definition = root.getBasicNumericContext().getFieldDefinition();
+            return () -> {
+              Matrix<BigInteger> unwrapped = new MatrixUtils().unwrapMatrix(opened);
+              // keys may be negative
+              for (ArrayList<BigInteger> row : unwrapped.getRows()) {
+                row.replaceAll(definition::convertToSigned);
+              }
+              return unwrapped;
+            };
+          };
+          Matrix<BigInteger> actual = runApplication(testApplication);
+          assertThat(actual.getRows(), is(expected.getRows()));
+        }
+      };
+    }
+  }
+
+  /**
+   * Sorts rows with distinct keys, including negative ones, by a column which is not the first.
+   */
+  public static <ResourcePoolT extends ResourcePool> TestSortRowsGeneric<ResourcePoolT> sortRows() {
+    int[] keys = {7, -3, 12, 0, 5, 42, -17, 9, 1, 30, 2};
+    BigInteger[][] rows = new BigInteger[keys.length][];
+    for (int i = 0; i < keys.length; i++) {
+      rows[i] = new BigInteger[]{BigInteger.valueOf(i), BigInteger.valueOf(keys[i]),
+          BigInteger.valueOf(100 + i)};
+    }
+    return new TestSortRowsGeneric<>(new MatrixTestUtils().getInputMatrix(rows), 1);
+  }
+
+  /**
+   * Sorts rows which are already sorted in descending order.
+   */
+  public static <ResourcePoolT extends ResourcePool> TestSortRowsGeneric<ResourcePoolT> sortRowsReversed() {
+    int size = 8;
+    BigInteger[][] rows = new BigInteger[size][];
+    for (int i = 0; i < size; i++) {
+      rows[i] = new BigInteger[]{BigInteger.valueOf(size - i), BigInteger.valueOf(i)};
+    }
+    return new TestSortRowsGeneric<>(new MatrixTestUtils().getInputMatrix(rows), 0);
+  }
+
+  public static <ResourcePoolT extends ResourcePool> TestSortRowsGeneric<ResourcePoolT> sortRowsEmpty() {
+    return new TestSortRowsGeneric<>(new MatrixTestUtils().getInputMatrix(0, 0), 0);
+  }
+
+  public static <ResourcePoolT extends ResourcePool> TestSortRowsGeneric<ResourcePoolT> sortSingleRow() {
+    return new TestSortRowsGeneric<>(new MatrixTestUtils().getInputMatrix(1, 3), 2);
+  }
+}
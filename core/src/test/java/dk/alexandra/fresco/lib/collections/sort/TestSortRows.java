@@ -0,0 +1,61 @@
+package dk.alexandra.fresco.lib.collections.sort;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.Test;
+
+public class TestSortRows {
+
+  @Test
+  public void testLayersSortAllZeroOneInputs() {
+    // by the 0-1 principle a comparator network sorts all inputs if it sorts all 0-1 inputs
+    for (int size = 0; size <= 13; size++) {
+      List<List<int[]>> layers = SortRows.getLayers(size);
+      for (int input = 0; input < (1 << size); input++) {
+        int[] values = new int[size];
+        for (int i = 0; i < size; i++) {
+          values[i] = (input >>> i) & 1;
+        }
+        for (List<int[]> layer : layers) {
+          for (int[] comparator : layer) {
+            if (values[comparator[0]] > values[comparator[1]]) {
+              int tmp = values[comparator[0]];
+              values[comparator[0]] = values[comparator[1]];
+              values[comparator[1]] = tmp;
+            }
+          }
+        }
+        for (int i = 1; i < size; i++) {
+          assertTrue(values[i - 1] <= values[i]);
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testLayersAreDisjoint() {
+    for (int size = 2; size <= 100; size++) {
+      for (List<int[]> layer : SortRows.getLayers(size)) {
+        Set<Integer> indices = new HashSet<>();
+        for (int[] comparator : layer) {
+          assertTrue(comparator[0] < comparator[1]);
+          assertTrue(indices.add(comparator[0]));
+          assertTrue(indices.add(comparator[1]));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testNumberOfLayers() {
+    // log n (log n + 1) / 2 layers for n a power of two
+    assertEquals(0, SortRows.getLayers(1).size());
+    assertEquals(1, SortRows.getLayers(2).size());
+    assertEquals(6, SortRows.getLayers(8).size());
+    assertEquals(15, SortRows.getLayers(32).size());
+  }
+}
@@ -5,6 +5,7 @@ import dk.alexandra.fresco.framework.DRes;
 import dk.alexandra.fresco.framework.TestThreadRunner.TestThread;
 import dk.alexandra.fresco.framework.TestThreadRunner.TestThreadFactory;
 import dk.alexandra.fresco.framework.builder.binary.ProtocolBuilderBinary;
+import dk.alexandra.fresco.framework.builder.numeric.AdvancedNumeric;
 import dk.alexandra.fresco.framework.builder.numeric.Comparison;
 import dk.alexandra.fresco.framework.builder.numeric.Numeric;
 import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
@@ -110,6 +111,56 @@ public class CompareTests {
     }
   }
 
+  /**
+   * Draws edaBits of a few bit lengths and checks that the bits are the bits of the random value.
+   */
+  public static class TestEdaBit<ResourcePoolT extends ResourcePool>
+      extends TestThreadFactory<ResourcePoolT, ProtocolBuilderNumeric> {
+
+    @Override
+    public TestThread<ResourcePoolT, ProtocolBuilderNumeric> next() {
+      List<Integer> bitLengths = Arrays.asList(1, 2, 8, 32, 32, 60);
+      return new TestThread<ResourcePoolT, ProtocolBuilderNumeric>() {
+
+        @Override
+        public void test() throws Exception {
+          Application<List<Pair<BigInteger, List<BigInteger>>>, ProtocolBuilderNumeric> app =
+              builder -> builder.par(par -> {
+                List<DRes<AdvancedNumeric.RandomAdditiveMask>> edaBits = new ArrayList<>();
+                for (int bitLength : bitLengths) {
+                  edaBits.add(par.preprocessedValues().getEdaBit(bitLength));
+                }
+                return () -> edaBits;
+              }).seq((seq, edaBits) -> {
+                Numeric numeric = seq.numeric();
+                List<Pair<DRes<BigInteger>, List<DRes<BigInteger>>>> opened = new ArrayList<>();
+                for (DRes<AdvancedNumeric.RandomAdditiveMask> edaBit : edaBits) {
+                  List<DRes<BigInteger>> bits = edaBit.out().bits.stream()
+                      .map(numeric::open)
+                      .collect(Collectors.toList());
+                  opened.add(new Pair<>(numeric.open(edaBit.out().random), bits));
+                }
+                return () -> opened.stream()
+                    .map(pair -> new Pair<>(pair.getFirst().out(), pair.getSecond().stream()
+                        .map(DRes::out).collect(Collectors.toList())))
+                    .collect(Collectors.toList());
+              });
+          List<Pair<BigInteger, List<BigInteger>>> output = runApplication(app);
+          for (int i = 0; i < bitLengths.size(); i++) {
+            BigInteger value = output.get(i).getFirst();
+            List<BigInteger> bits = output.get(i).getSecond();
+            Assert.assertEquals(bitLengths.get(i).intValue(), bits.size());
+            Assert.assertTrue(value.bitLength() <= bitLengths.get(i));
+            for (int j = 0; j < bits.size(); j++) {
+              BigInteger expected = value.testBit(j) ? BigInteger.ONE : BigInteger.ZERO;
+              Assert.assertEquals(expected, bits.get(j));
+            }
+          }
+        }
+      };
+    }
+  }
+
   /**
    * Compares the two numbers 3 and 5 and checks that 3 == 3. Also checks that 3 != 5
    */
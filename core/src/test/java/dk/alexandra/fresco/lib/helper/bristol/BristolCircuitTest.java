@@ -0,0 +1,68 @@
+package dk.alexandra.fresco.lib.helper.bristol;
+
+import java.util.stream.Stream;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BristolCircuitTest {
+
+  @Test
+  public void testLayering() {
+    // out = ((a AND b) XOR c) AND (NOT c), where a, b and c are wires 0, 1 and 2
+    BristolCircuit circuit = BristolCircuit.parse(Stream.of(
+        "4 7",
+        "2 1 1",
+        "",
+        "1 1 2 3 INV",
+        "2 1 0 1 4 AND",
+        "2 1 4 2 5 XOR",
+        "2 1 5 3 6 AND"));
+    Assert.assertEquals(4, circuit.getNoOfGates());
+    Assert.assertEquals(7, circuit.getNoOfWires());
+    // INV at depth 0, AND at depth 1, XOR at depth 1 after the AND, AND at depth 2
+    Assert.assertEquals(4, circuit.getNoOfLayers());
+    Assert.assertEquals(2, circuit.getMultiplicativeDepth());
+  }
+
+  @Test
+  public void testIndependentGatesShareLayer() {
+    BristolCircuit circuit = BristolCircuit.parse(Stream.of(
+        "4 8",
+        "2 2 4",
+        "",
+        "2 1 0 2 4 AND",
+        "2 1 1 3 5 AND",
+        "2 1 0 1 6 XOR",
+        "2 1 2 3 7 XOR"));
+    // The linear gates only depend on inputs, so they form a single layer before the ANDs
+    Assert.assertEquals(2, circuit.getNoOfLayers());
+  }
+
+  @Test
+  public void testAesDepth() {
+    BristolCircuit circuit = BristolCircuit.fromResource("circuits/AES-non-expanded.txt");
+    Assert.assertEquals(33616, circuit.getNoOfGates());
+    Assert.assertEquals(40, circuit.getMultiplicativeDepth());
+    Assert.assertEquals(311, circuit.getNoOfLayers());
+  }
+
+  @Test
+  public void testCache() {
+    Assert.assertSame(BristolCircuit.fromResource("circuits/mult_32x32.txt"),
+        BristolCircuit.fromResource("circuits/mult_32x32.txt"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testUndefinedWire() {
+    BristolCircuit.parse(Stream.of(
+        "1 4",
+        "1 1 1",
+        "",
+        "2 1 0 2 3 AND"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testMissingResource() {
+    BristolCircuit.fromResource("circuits/No-Circuit.txt");
+  }
+}
@@ -2,6 +2,7 @@ package dk.alexandra.fresco.lib.lp;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import dk.alexandra.fresco.framework.Application;
 import dk.alexandra.fresco.framework.DRes;
@@ -173,12 +174,22 @@ public class LpBuildingBlockTests {
   private abstract static class LpSolverTester extends LpTester<BigInteger> {
 
     BigInteger expectedOptimal;
+    boolean firstAborted;
 
     public BigInteger getExpectedOptimal() {
       return expectedOptimal;
     }
 
     DRes<BigInteger> setup(ProtocolBuilderNumeric builder, LPSolver.PivotRule rule) {
+      return setup(builder, rule, 50, false);
+    }
+
+    /**
+     * Sets up the linear program, optionally solving it by a first solver limited to the given
+     * number of iterations followed by a second solver warm started from the first.
+     */
+    DRes<BigInteger> setup(ProtocolBuilderNumeric builder, LPSolver.PivotRule rule,
+        int iterations, boolean warmStart) {
       /*
        *
        * Sets up the following linear program
@@ -227,8 +238,15 @@ public class LpBuildingBlockTests {
                 seq.numeric().known(BigInteger.valueOf(5)),
                 seq.numeric().known(BigInteger.valueOf(6))));
         LPSolver solver = new LPSolver(rule, secretTableau, secretUpdateMatrix,
-            pivot, initialBasis, 50);
+            pivot, initialBasis, iterations);
         return solver.buildComputation(seq);
+      }).seq((seq, lpOutput) -> {
+        firstAborted = lpOutput.isAborted();
+        if (warmStart) {
+          return new LPSolver(rule, lpOutput, 50).buildComputation(seq);
+        } else {
+          return () -> lpOutput;
+        }
       }).seq((seq2, lpOutput) -> {
         OptimalValue ov = new OptimalValue(lpOutput.updateMatrix, lpOutput.tableau, lpOutput.pivot);
         return ov.buildComputation(seq2);
@@ -370,6 +388,36 @@ public class LpBuildingBlockTests {
     }
   }
 
+  public static class TestLpSolverWarmStart<ResourcePoolT extends ResourcePool>
+      extends TestThreadFactory<ResourcePoolT, ProtocolBuilderNumeric> {
+
+    private LPSolver.PivotRule pivotRule;
+
+    public TestLpSolverWarmStart(LPSolver.PivotRule pivotRule) {
+      this.pivotRule = pivotRule;
+    }
+
+    @Override
+    public TestThread<ResourcePoolT, ProtocolBuilderNumeric> next() {
+      return new TestThread<ResourcePoolT, ProtocolBuilderNumeric>() {
+
+        @Override
+        public void test() {
+          LpSolverTester app = new LpSolverTester() {
+
+            @Override
+            public DRes<BigInteger> buildComputation(ProtocolBuilderNumeric builder) {
+              return setup(builder, pivotRule, 1, true);
+            }
+          };
+          BigInteger out = runApplication(app);
+          assertTrue(app.firstAborted);
+          assertEquals(app.getExpectedOptimal(), out);
+        }
+      };
+    }
+  }
+
   public static class TestLpSolverDebug<ResourcePoolT extends ResourcePool>
       extends TestThreadFactory<ResourcePoolT, ProtocolBuilderNumeric> {
 
@@ -193,4 +193,84 @@ public class MinTests {
       };
     }
   }
+
+  public static class TestArgMinMax<ResourcePoolT extends ResourcePool>
+      extends TestThreadFactory<ResourcePoolT, ProtocolBuilderNumeric> {
+
+    @Override
+    public TestThread<ResourcePoolT, ProtocolBuilderNumeric> next() {
+
+      return new TestThread<ResourcePoolT, ProtocolBuilderNumeric>() {
+        private final List<List<Integer>> data = Arrays.asList(
+            Arrays.asList(200, 144, 99, 211, 930, 543, 520, 532, 497, 450, 432),
+            Collections.singletonList(7),
+            Arrays.asList(5, 3),
+            Arrays.asList(4, 1, 9, 1, 9, 4, 2),
+            Arrays.asList(3, 3, 3),
+            // odd sizes with the minimum last, so it is carried over in every layer
+            Arrays.asList(8, 6, 9, 7, 2),
+            Arrays.asList(4, 6, 5, 8, 9, 7, 1));
+
+        @Override
+        public void test() throws Exception {
+          Application<List<Pair<BigInteger, List<BigInteger>>>, ProtocolBuilderNumeric> app =
+              builder -> {
+                Numeric numeric = builder.numeric();
+                List<List<DRes<SInt>>> inputs = data.stream()
+                    .map(list -> list.stream().map(BigInteger::valueOf).map(numeric::known)
+                        .collect(Collectors.toList()))
+                    .collect(Collectors.toList());
+                DRes<List<Pair<List<DRes<SInt>>, SInt>>> minimums =
+                    builder.advancedNumeric().argMinLists(inputs);
+                DRes<List<Pair<List<DRes<SInt>>, SInt>>> maximums =
+                    builder.advancedNumeric().argMaxLists(inputs);
+                DRes<Pair<List<DRes<SInt>>, SInt>> minimum =
+                    builder.advancedNumeric().argMin(inputs.get(0));
+                DRes<Pair<List<DRes<SInt>>, SInt>> maximum =
+                    builder.advancedNumeric().argMax(inputs.get(0));
+                return builder.par(par -> {
+                  List<Pair<List<DRes<SInt>>, SInt>> all = new ArrayList<>(minimums.out());
+                  all.addAll(maximums.out());
+                  all.add(minimum.out());
+                  all.add(maximum.out());
+                  List<Pair<DRes<BigInteger>, List<DRes<BigInteger>>>> opened =
+                      new ArrayList<>(all.size());
+                  for (Pair<List<DRes<SInt>>, SInt> result : all) {
+                    List<DRes<BigInteger>> indexes = result.getFirst().stream()
+                        .map(par.numeric()::open).collect(Collectors.toList());
+                    opened.add(new Pair<>(par.numeric().open(result.getSecond()), indexes));
+                  }
+                  return () -> opened.stream()
+                      .map(pair -> new Pair<>(pair.getFirst().out(),
+                          pair.getSecond().stream().map(DRes::out).collect(Collectors.toList())))
+                      .collect(Collectors.toList());
+                });
+              };
+          List<Pair<BigInteger, List<BigInteger>>> results = runApplication(app);
+          Assert.assertThat(results.size(), Is.is(2 * data.size() + 2));
+          for (int i = 0; i < data.size(); i++) {
+            List<Integer> list = data.get(i);
+            int min = Collections.min(list);
+            int max = Collections.max(list);
+            assertArgResult(list.size(), list.indexOf(min), min, results.get(i));
+            assertArgResult(list.size(), list.indexOf(max), max, results.get(data.size() + i));
+          }
+          List<Integer> first = data.get(0);
+          assertArgResult(first.size(), 2, Collections.min(first), results.get(2 * data.size()));
+          assertArgResult(first.size(), 4, Collections.max(first),
+              results.get(2 * data.size() + 1));
+        }
+
+        private void assertArgResult(int size, int index, int value,
+            Pair<BigInteger, List<BigInteger>> result) {
+          Assert.assertThat(result.getFirst(), Is.is(BigInteger.valueOf(value)));
+          Assert.assertThat(result.getSecond().size(), Is.is(size));
+          for (int j = 0; j < result.getSecond().size(); j++) {
+            Assert.assertThat(result.getSecond().get(j),
+                Is.is(j == index ? BigInteger.ONE : BigInteger.ZERO));
+          }
+        }
+      };
+    }
+  }
 }
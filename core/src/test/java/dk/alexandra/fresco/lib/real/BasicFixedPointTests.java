@@ -9,6 +9,7 @@ import dk.alexandra.fresco.framework.TestThreadRunner.TestThreadFactory;
 import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
 import dk.alexandra.fresco.framework.sce.resources.ResourcePool;
 import dk.alexandra.fresco.framework.value.SInt;
+import dk.alexandra.fresco.lib.real.fixed.FixedNumeric;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.RoundingMode;
@@ -472,6 +473,49 @@ public class BasicFixedPointTests {
     }
   }
 
+  public static class TestMultWithTruncationPairs<ResourcePoolT extends ResourcePool>
+      extends TestThreadFactory<ResourcePoolT, ProtocolBuilderNumeric> {
+
+    @Override
+    public TestThread<ResourcePoolT, ProtocolBuilderNumeric> next() {
+      List<BigDecimal> openInputs = Stream
+          .of(1.223, 222.23, 5.59703, 0.004, 5.90, 6.0, 0.0007, 0.1298, -3.71)
+          .map(BigDecimal::valueOf).collect(Collectors.toList());
+      List<BigDecimal> openInputs2 = Stream
+          .of(1.000, 1.0000, 0.22211, 100.1, 11.0, .07, 0.0005, 10.0012, 2.5)
+          .map(BigDecimal::valueOf).collect(Collectors.toList());
+      return new TestThread<ResourcePoolT, ProtocolBuilderNumeric>() {
+        @Override
+        public void test() {
+          Application<List<BigDecimal>, ProtocolBuilderNumeric> app = producer -> {
+            RealNumeric fixed = new FixedNumeric(producer, DEFAULT_PRECISION, true);
+            List<DRes<SReal>> result = new ArrayList<>();
+            for (int i = 0; i < openInputs.size(); i++) {
+              result.add(fixed.mult(fixed.known(openInputs.get(i)),
+                  fixed.known(openInputs2.get(i))));
+            }
+
+            List<DRes<BigDecimal>> opened =
+                result.stream().map(fixed::open).collect(Collectors.toList());
+            return () -> opened.stream().map(DRes::out).collect(Collectors.toList());
+          };
+          List<BigDecimal> output = runApplication(app);
+
+          for (int i = 0; i < output.size(); i++) {
+            BigDecimal a = openInputs.get(i);
+            BigDecimal b = openInputs2.get(i);
+
+            // Products may be truncated to the default precision, so even small products are
+            // only correct up to a few units in the last place
+            int precision = DEFAULT_PRECISION - 2 - Math.max(0, Math
+                .max(RealTestUtils.floorLog2(a.abs()), RealTestUtils.floorLog2(b.abs())));
+            RealTestUtils.assertEqual(a.multiply(b), output.get(i), precision);
+          }
+        }
+      };
+    }
+  }
+
   public static class TestAdd<ResourcePoolT extends ResourcePool>
       extends TestThreadFactory<ResourcePoolT, ProtocolBuilderNumeric> {
 
@@ -4,10 +4,13 @@ import dk.alexandra.fresco.framework.Application;
 import dk.alexandra.fresco.framework.DRes;
 import dk.alexandra.fresco.framework.TestThreadRunner.TestThread;
 import dk.alexandra.fresco.framework.TestThreadRunner.TestThreadFactory;
+import dk.alexandra.fresco.framework.builder.numeric.PreprocessedValues.TruncationPair;
 import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
 import dk.alexandra.fresco.framework.sce.resources.ResourcePool;
+import dk.alexandra.fresco.framework.util.Pair;
 import dk.alexandra.fresco.framework.value.SInt;
 import dk.alexandra.fresco.lib.real.fixed.utils.Truncate;
+import dk.alexandra.fresco.lib.real.fixed.utils.TruncateFromPair;
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.List;
@@ -54,4 +57,81 @@ public class TruncationTests {
       };
     }
   }
+
+  public static class TestTruncationFromPair<ResourcePoolT extends ResourcePool>
+      extends TestThreadFactory<ResourcePoolT, ProtocolBuilderNumeric> {
+
+    @Override
+    public TestThread<ResourcePoolT, ProtocolBuilderNumeric> next() {
+      List<BigInteger> openInputs = Stream.of(123, 1234, 12345, 123456, 1234567, 12345678)
+          .map(BigInteger::valueOf).collect(Collectors.toList());
+      int shifts = 5;
+      return new TestThread<ResourcePoolT, ProtocolBuilderNumeric>() {
+        @Override
+        public void test() throws Exception {
+          Application<List<BigInteger>, ProtocolBuilderNumeric> app = producer -> {
+
+            List<DRes<SInt>> closed1 =
+                openInputs.stream().map(producer.numeric()::known).collect(Collectors.toList());
+
+            List<DRes<SInt>> result = new ArrayList<>();
+            for (DRes<SInt> inputX : closed1) {
+              result.add(producer.seq(new TruncateFromPair(inputX, shifts)));
+            }
+
+            List<DRes<BigInteger>> opened =
+                result.stream().map(producer.numeric()::open).collect(Collectors.toList());
+            return () -> opened.stream().map(DRes::out).collect(Collectors.toList());
+          };
+          List<BigInteger> output = runApplication(app);
+
+          for (int i = 0; i < output.size(); i++) {
+            BigInteger expected = openInputs.get(i).shiftRight(shifts);
+            BigInteger difference = output.get(i).subtract(expected);
+            Assert.assertTrue(difference.equals(BigInteger.ONE)
+                || difference.equals(BigInteger.ZERO));
+          }
+        }
+      };
+    }
+  }
+
+  public static class TestTruncationPair<ResourcePoolT extends ResourcePool>
+      extends TestThreadFactory<ResourcePoolT, ProtocolBuilderNumeric> {
+
+    @Override
+    public TestThread<ResourcePoolT, ProtocolBuilderNumeric> next() {
+      int shifts = 7;
+      int noOfPairs = 10;
+      return new TestThread<ResourcePoolT, ProtocolBuilderNumeric>() {
+        @Override
+        public void test() throws Exception {
+          Application<List<Pair<BigInteger, BigInteger>>, ProtocolBuilderNumeric> app =
+              producer -> producer.par(par -> {
+                List<DRes<TruncationPair>> pairs = new ArrayList<>(noOfPairs);
+                for (int i = 0; i < noOfPairs; i++) {
+                  pairs.add(par.preprocessedValues().getTruncationPair(shifts));
+                }
+                return () -> pairs;
+              }).par((par, pairs) -> {
+                List<Pair<DRes<BigInteger>, DRes<BigInteger>>> opened =
+                    new ArrayList<>(noOfPairs);
+                for (DRes<TruncationPair> pair : pairs) {
+                  opened.add(new Pair<>(
+                      par.numeric().open(pair.out().rPrime),
+                      par.numeric().open(pair.out().r)));
+                }
+                return () -> opened.stream()
+                    .map(pair -> new Pair<>(pair.getFirst().out(), pair.getSecond().out()))
+                    .collect(Collectors.toList());
+              });
+          List<Pair<BigInteger, BigInteger>> output = runApplication(app);
+
+          for (Pair<BigInteger, BigInteger> pair : output) {
+            Assert.assertEquals(pair.getFirst().shiftRight(shifts), pair.getSecond());
+          }
+        }
+      };
+    }
+  }
 }
@@ -7,6 +7,9 @@ import dk.alexandra.fresco.framework.DRes;
 import dk.alexandra.fresco.framework.builder.numeric.ExponentiationPipeTests;
 import dk.alexandra.fresco.framework.builder.numeric.field.BigIntegerFieldDefinition;
 import dk.alexandra.fresco.framework.builder.numeric.field.FieldDefinition;
+import dk.alexandra.fresco.framework.builder.numeric.field.LongFieldDefinition;
+import dk.alexandra.fresco.framework.builder.numeric.field.MontgomeryFieldDefinition;
+import dk.alexandra.fresco.framework.sce.evaluator.EvaluationStrategy;
 import dk.alexandra.fresco.framework.util.ModulusFinder;
 import dk.alexandra.fresco.framework.value.SInt;
 import dk.alexandra.fresco.lib.arithmetic.AdvancedNumericTests.TestMinInfFrac;
@@ -18,10 +21,12 @@ import dk.alexandra.fresco.lib.arithmetic.SortingTests;
 import dk.alexandra.fresco.lib.collections.Matrix;
 import dk.alexandra.fresco.lib.collections.io.CloseListTests;
 import dk.alexandra.fresco.lib.collections.io.CloseMatrixTests;
+import dk.alexandra.fresco.lib.collections.lookup.ObliviousLookupTests;
 import dk.alexandra.fresco.lib.collections.permute.PermuteRows;
 import dk.alexandra.fresco.lib.collections.permute.PermuteRowsTests;
 import dk.alexandra.fresco.lib.collections.relational.LeakyAggregationTests;
 import dk.alexandra.fresco.lib.collections.shuffle.ShuffleRowsTests;
+import dk.alexandra.fresco.lib.collections.sort.SortRowsTests;
 import dk.alexandra.fresco.lib.compare.CompareTests;
 import dk.alexandra.fresco.lib.conditional.ConditionalSelectTests;
 import dk.alexandra.fresco.lib.conditional.ConditionalSwapNeighborsTests;
@@ -92,6 +97,24 @@ public class TestDummyArithmeticProtocolSuite extends AbstractDummyArithmeticTes
     runTest(new BasicArithmeticTests.TestSimpleMultAndAdd<>(), new TestParameters());
   }
 
+  @Test
+  public void testMultiplyLists() {
+    runTest(new BasicArithmeticTests.TestMultiplyLists<>(), new TestParameters());
+  }
+
+  @Test
+  public void testMultAndAddLongField() {
+    runTest(new BasicArithmeticTests.TestSimpleMultAndAdd<>(), new TestParameters()
+        .field(new LongFieldDefinition((1L << 61) - 1))
+        .maxBitLength(30));
+  }
+
+  @Test
+  public void testMultiplyListsMontgomeryField() {
+    runTest(new BasicArithmeticTests.TestMultiplyLists<>(), new TestParameters()
+        .field(new MontgomeryFieldDefinition(ModulusFinder.findSuitableModulus(256))));
+  }
+
   @Test
   public void testSumAndOutputSequential() {
     runTest(new BasicArithmeticTests.TestSumAndMult<>(), new TestParameters());
@@ -102,6 +125,12 @@ public class TestDummyArithmeticProtocolSuite extends AbstractDummyArithmeticTes
     runTest(new TestSumAndProduct<>(), new TestParameters());
   }
 
+  @Test
+  public void testSumAndProductParallelBatched() {
+    runTest(new TestSumAndProduct<>(), new TestParameters()
+        .evaluationStrategy(EvaluationStrategy.PARALLEL_BATCHED));
+  }
+
   @Test
   public void test_MinInfFrac_Sequential() {
     runTest(new TestMinInfFrac<>(), new TestParameters());
@@ -122,6 +151,11 @@ public class TestDummyArithmeticProtocolSuite extends AbstractDummyArithmeticTes
     runTest(new CompareTests.TestCompareLTEdgeCases<>(), new TestParameters());
   }
 
+  @Test
+  public void test_edaBit() {
+    runTest(new CompareTests.TestEdaBit<>(), new TestParameters().numParties(2));
+  }
+
   @Test
   public void test_compareEQ_Sequential() {
     runTest(new CompareTests.TestCompareEQ<>(), new TestParameters());
@@ -137,6 +171,12 @@ public class TestDummyArithmeticProtocolSuite extends AbstractDummyArithmeticTes
     runTest(new SortingTests.TestIsSorted<>(), new TestParameters());
   }
 
+  @Test
+  public void test_isSortedParallelBatched() {
+    runTest(new SortingTests.TestIsSorted<>(), new TestParameters()
+        .evaluationStrategy(EvaluationStrategy.PARALLEL_BATCHED));
+  }
+
   @Test
   public void test_compareAndSwap() {
     runTest(new SortingTests.TestCompareAndSwap<>(), new TestParameters());
@@ -285,6 +325,12 @@ public class TestDummyArithmeticProtocolSuite extends AbstractDummyArithmeticTes
     runTest(new CloseListTests.TestCloseEmptyList<>(), new TestParameters().numParties(2));
   }
 
+  @Test
+  public void test_close_lists_from_all_parties() {
+    runTest(new CloseListTests.TestCloseListsFromAllParties<>(),
+        new TestParameters().numParties(3));
+  }
+
   @Test
   public void test_close_empty_matrix() {
     runTest(new CloseMatrixTests.TestCloseEmptyMatrix<>(), new TestParameters().numParties(2));
@@ -332,6 +378,26 @@ public class TestDummyArithmeticProtocolSuite extends AbstractDummyArithmeticTes
     runTest(ShuffleRowsTests.shuffleRowsEmpty(), new TestParameters().numParties(2));
   }
 
+  @Test
+  public void test_sort_rows() {
+    runTest(SortRowsTests.sortRows(), new TestParameters().numParties(2));
+  }
+
+  @Test
+  public void test_sort_rows_reversed_three_parties() {
+    runTest(SortRowsTests.sortRowsReversed(), new TestParameters().numParties(3));
+  }
+
+  @Test
+  public void test_sort_rows_empty() {
+    runTest(SortRowsTests.sortRowsEmpty(), new TestParameters().numParties(2));
+  }
+
+  @Test
+  public void test_sort_single_row() {
+    runTest(SortRowsTests.sortSingleRow(), new TestParameters().numParties(2));
+  }
+
   @Test
   public void test_leaky_aggregate_two() {
     runTest(LeakyAggregationTests.aggregate(), new TestParameters().numParties(2));
@@ -352,6 +418,28 @@ public class TestDummyArithmeticProtocolSuite extends AbstractDummyArithmeticTes
     runTest(LeakyAggregationTests.aggregateEmpty(), new TestParameters().numParties(2));
   }
 
+  @Test
+  public void test_oblivious_read() {
+    runTest(new ObliviousLookupTests.TestObliviousRead<>(), new TestParameters().numParties(2));
+  }
+
+  @Test
+  public void test_oblivious_write() {
+    runTest(new ObliviousLookupTests.TestObliviousWrite<>(), new TestParameters().numParties(2));
+  }
+
+  @Test
+  public void test_square_root_oram() {
+    runTest(new ObliviousLookupTests.TestSquareRootOram<>(10, 30),
+        new TestParameters().numParties(2));
+  }
+
+  @Test
+  public void test_square_root_oram_three_parties() {
+    runTest(new ObliviousLookupTests.TestSquareRootOram<>(5, 12),
+        new TestParameters().numParties(3));
+  }
+
   //
 
   @Test
@@ -422,6 +510,12 @@ public class TestDummyArithmeticProtocolSuite extends AbstractDummyArithmeticTes
         new TestParameters().numParties(2));
   }
 
+  @Test
+  public void test_LpSolverWarmStart() {
+    runTest(new LpBuildingBlockTests.TestLpSolverWarmStart<>(LPSolver.PivotRule.DANZIG),
+        new TestParameters().numParties(2));
+  }
+
   @Test
   public void test_LpSolverDanzigSmallerMod() {
     runTest(new LpBuildingBlockTests.TestLpSolver<>(LPSolver.PivotRule.DANZIG),
@@ -497,7 +591,7 @@ public class TestDummyArithmeticProtocolSuite extends AbstractDummyArithmeticTes
   public void test_ss_division() {
     runTest(new DivisionTests.TestDivision<>(), new TestParameters().performanceLogging(true));
     assertThat(performanceLoggers.get(1).getLoggedValues()
-        .get(ComparisonLoggerDecorator.ARITHMETIC_COMPARISON_COMP0), is((long) 80));
+        .get(ComparisonLoggerDecorator.ARITHMETIC_COMPARISON_COMP0), is((long) 0));
   }
 
   @Test
@@ -505,7 +599,7 @@ public class TestDummyArithmeticProtocolSuite extends AbstractDummyArithmeticTes
     runTest(new ExponentiationTests.TestExponentiation<>(),
         new TestParameters().numParties(2).performanceLogging(true));
     assertThat(performanceLoggers.get(1).getLoggedValues()
-        .get(NumericLoggingDecorator.ARITHMETIC_BASIC_SUB), is((long) 19));
+        .get(NumericLoggingDecorator.ARITHMETIC_BASIC_SUB), is((long) 8));
   }
 
   @Test
@@ -551,6 +645,11 @@ public class TestDummyArithmeticProtocolSuite extends AbstractDummyArithmeticTes
         .get(ComparisonLoggerDecorator.ARITHMETIC_COMPARISON_LEQ), is((long) 10));
   }
 
+  @Test
+  public void test_ArgMin_ArgMax_2_parties() {
+    runTest(new MinTests.TestArgMinMax<>(), new TestParameters().numParties(2));
+  }
+
   @Test
   public void test_Min_Inf_Frac_2_parties() {
     runTest(new MinTests.TestMinInfFraction<>(),
@@ -652,6 +751,12 @@ public class TestDummyArithmeticProtocolSuite extends AbstractDummyArithmeticTes
     runTest(new BasicFixedPointTests.TestMult<>(), new TestParameters().numParties(2));
   }
 
+  @Test
+  public void test_Real_Mults_With_Truncation_Pairs() {
+    runTest(new BasicFixedPointTests.TestMultWithTruncationPairs<>(),
+        new TestParameters().numParties(2));
+  }
+
   @Test
   public void test_Real_Repeated_Multiplication() {
     runTest(new BasicFixedPointTests.TestRepeatedMultiplication<>(),
@@ -796,4 +901,14 @@ public class TestDummyArithmeticProtocolSuite extends AbstractDummyArithmeticTes
   public void test_trunctation() {
     runTest(new TruncationTests.TestTruncation<>(), new TestParameters().numParties(2));
   }
+
+  @Test
+  public void test_truncation_from_pair() {
+    runTest(new TruncationTests.TestTruncationFromPair<>(), new TestParameters().numParties(2));
+  }
+
+  @Test
+  public void test_truncation_pair() {
+    runTest(new TruncationTests.TestTruncationPair<>(), new TestParameters().numParties(2));
+  }
 }
@@ -36,10 +36,13 @@ public class TestDummyProtocolSuite extends AbstractDummyBooleanTest {
     runTest(new BasicBooleanTests.TestAND<>(true), EvaluationStrategy.SEQUENTIAL, true);
     runTest(new BasicBooleanTests.TestNOT<>(true), EvaluationStrategy.SEQUENTIAL, true);
     runTest(new BasicBooleanTests.TestRandomBit<>(true), EvaluationStrategy.SEQUENTIAL, true);
+    runTest(new BasicBooleanTests.TestListOperations<>(true), EvaluationStrategy.SEQUENTIAL, true);
     
     assertThat(performanceLoggers.get(1).get(2).getLoggedValues().get(BinaryLoggingDecorator.BINARY_BASIC_XOR), is((long)4));
     assertThat(performanceLoggers.get(1).get(3).getLoggedValues().get(BinaryLoggingDecorator.BINARY_BASIC_AND), is((long)4));
     assertThat(performanceLoggers.get(1).get(5).getLoggedValues().get(BinaryLoggingDecorator.BINARY_BASIC_RANDOM), is((long)1));
+    assertThat(performanceLoggers.get(1).get(6).getLoggedValues().get(BinaryLoggingDecorator.BINARY_BASIC_XOR), is((long)4));
+    assertThat(performanceLoggers.get(1).get(6).getLoggedValues().get(BinaryLoggingDecorator.BINARY_BASIC_AND), is((long)4));
   }
 
   // lib.field.bool.generic
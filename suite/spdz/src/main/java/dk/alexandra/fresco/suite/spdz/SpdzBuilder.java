@@ -1,40 +1,65 @@
 package dk.alexandra.fresco.suite.spdz;
 
 import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.builder.numeric.AdvancedNumeric.RandomAdditiveMask;
 import dk.alexandra.fresco.framework.builder.numeric.BuilderFactoryNumeric;
+import dk.alexandra.fresco.framework.builder.numeric.LazySInt;
 import dk.alexandra.fresco.framework.builder.numeric.Numeric;
 import dk.alexandra.fresco.framework.builder.numeric.PreprocessedValues;
 import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
+import dk.alexandra.fresco.framework.builder.numeric.field.FieldElement;
 import dk.alexandra.fresco.framework.value.SInt;
 import dk.alexandra.fresco.lib.compare.MiscBigIntegerGenerators;
 import dk.alexandra.fresco.lib.field.integer.BasicNumericContext;
 import dk.alexandra.fresco.lib.real.RealNumericContext;
-import dk.alexandra.fresco.suite.spdz.gates.SpdzAddProtocol;
+import dk.alexandra.fresco.suite.spdz.datatypes.SpdzSInt;
 import dk.alexandra.fresco.suite.spdz.gates.SpdzAddProtocolKnownLeft;
+import dk.alexandra.fresco.suite.spdz.gates.SpdzEdaBitProtocol;
+import dk.alexandra.fresco.suite.spdz.gates.SpdzInputListProtocol;
 import dk.alexandra.fresco.suite.spdz.gates.SpdzInputProtocol;
 import dk.alexandra.fresco.suite.spdz.gates.SpdzKnownSIntProtocol;
+import dk.alexandra.fresco.suite.spdz.gates.SpdzMultListProtocol;
 import dk.alexandra.fresco.suite.spdz.gates.SpdzMultProtocol;
-import dk.alexandra.fresco.suite.spdz.gates.SpdzMultProtocolKnownLeft;
 import dk.alexandra.fresco.suite.spdz.gates.SpdzOutputSingleProtocol;
 import dk.alexandra.fresco.suite.spdz.gates.SpdzOutputToAllProtocol;
 import dk.alexandra.fresco.suite.spdz.gates.SpdzRandomProtocol;
-import dk.alexandra.fresco.suite.spdz.gates.SpdzSubtractProtocol;
 import dk.alexandra.fresco.suite.spdz.gates.SpdzSubtractProtocolKnownLeft;
 import dk.alexandra.fresco.suite.spdz.gates.SpdzSubtractProtocolKnownRight;
+import dk.alexandra.fresco.suite.spdz.gates.SpdzTruncationPairProtocol;
 import java.math.BigInteger;
+import java.util.List;
 
 /**
  * Basic native builder for the SPDZ protocol suite.
+ *
+ * <p>Additions, subtractions and multiplications by public constants are local, so they are
+ * returned as {@link LazySInt} values rather than appended as native protocols, and do not count
+ * towards the batch size of the evaluator. Public constants need the share of the mac key, so
+ * unless the builder is given a resource pool, operations on constants are native protocols.</p>
  */
 class SpdzBuilder implements BuilderFactoryNumeric {
 
   private BasicNumericContext basicNumericContext;
   private MiscBigIntegerGenerators miscOIntGenerators;
   private RealNumericContext realNumericContext;
+  private final SpdzResourcePool resourcePool;
 
   SpdzBuilder(BasicNumericContext basicNumericContext, RealNumericContext realNumericContext) {
+    this(basicNumericContext, realNumericContext, null);
+  }
+
+  /**
+   * Creates a builder which also evaluates operations on public constants locally.
+   *
+   * @param basicNumericContext the numeric context
+   * @param realNumericContext the context of fixed point numbers
+   * @param resourcePool the resource pool of the party, giving the share of the mac key
+   */
+  SpdzBuilder(BasicNumericContext basicNumericContext, RealNumericContext realNumericContext,
+      SpdzResourcePool resourcePool) {
     this.basicNumericContext = basicNumericContext;
     this.realNumericContext = realNumericContext;
+    this.resourcePool = resourcePool;
   }
 
   @Override
@@ -49,10 +74,30 @@ class SpdzBuilder implements BuilderFactoryNumeric {
 
   @Override
   public PreprocessedValues createPreprocessedValues(ProtocolBuilderNumeric protocolBuilder) {
-    return pipeLength -> {
-      SpdzExponentiationPipeProtocol spdzExpPipeProtocol =
-          new SpdzExponentiationPipeProtocol(pipeLength);
-      return protocolBuilder.append(spdzExpPipeProtocol);
+    return new PreprocessedValues() {
+      @Override
+      public DRes<List<DRes<SInt>>> getExponentiationPipe(int pipeLength) {
+        SpdzExponentiationPipeProtocol spdzExpPipeProtocol =
+            new SpdzExponentiationPipeProtocol(pipeLength);
+        return protocolBuilder.append(spdzExpPipeProtocol);
+      }
+
+      @Override
+      public DRes<TruncationPair> getTruncationPair(int shifts) {
+        int maxBitLength = basicNumericContext.getMaxBitLength();
+        if (shifts < 0 || shifts >= maxBitLength) {
+          throw new IllegalArgumentException(
+              "Shifts must be in the range 0 ... " + (maxBitLength - 1) + " but was " + shifts);
+        }
+        SpdzTruncationPairProtocol spdzTruncationPairProtocol =
+            new SpdzTruncationPairProtocol(shifts, maxBitLength);
+        return protocolBuilder.append(spdzTruncationPairProtocol);
+      }
+
+      @Override
+      public DRes<RandomAdditiveMask> getEdaBit(int bitLength) {
+        return protocolBuilder.append(new SpdzEdaBitProtocol(bitLength));
+      }
     };
   }
 
@@ -61,34 +106,39 @@ class SpdzBuilder implements BuilderFactoryNumeric {
     return new Numeric() {
       @Override
       public DRes<SInt> add(DRes<SInt> a, DRes<SInt> b) {
-        SpdzAddProtocol spdzAddProtocol = new SpdzAddProtocol(a, b);
-        return protocolBuilder.append(spdzAddProtocol);
+        return LazySInt.of(a, b, (left, right) -> toSpdzSInt(left).add(toSpdzSInt(right)));
       }
 
       @Override
       public DRes<SInt> add(BigInteger a, DRes<SInt> b) {
-        SpdzAddProtocolKnownLeft spdzAddProtocolKnownLeft = new SpdzAddProtocolKnownLeft(a, b);
-        return protocolBuilder.append(spdzAddProtocolKnownLeft);
+        if (resourcePool == null) {
+          return protocolBuilder.append(new SpdzAddProtocolKnownLeft(a, b));
+        }
+        SpdzSInt left = SpdzKnownSIntProtocol.createKnownSpdzElement(resourcePool, a);
+        return LazySInt.of(b, right -> left.add(toSpdzSInt(right)));
       }
 
       @Override
       public DRes<SInt> sub(DRes<SInt> a, DRes<SInt> b) {
-        SpdzSubtractProtocol spdzSubtractProtocol = new SpdzSubtractProtocol(a, b);
-        return protocolBuilder.append(spdzSubtractProtocol);
+        return LazySInt.of(a, b, (left, right) -> toSpdzSInt(left).subtract(toSpdzSInt(right)));
       }
 
       @Override
       public DRes<SInt> sub(BigInteger a, DRes<SInt> b) {
-        SpdzSubtractProtocolKnownLeft spdzSubtractProtocolKnownLeft =
-            new SpdzSubtractProtocolKnownLeft(a, b);
-        return protocolBuilder.append(spdzSubtractProtocolKnownLeft);
+        if (resourcePool == null) {
+          return protocolBuilder.append(new SpdzSubtractProtocolKnownLeft(a, b));
+        }
+        SpdzSInt left = SpdzKnownSIntProtocol.createKnownSpdzElement(resourcePool, a);
+        return LazySInt.of(b, right -> left.subtract(toSpdzSInt(right)));
       }
 
       @Override
       public DRes<SInt> sub(DRes<SInt> a, BigInteger b) {
-        SpdzSubtractProtocolKnownRight spdzSubtractProtocolKnownRight =
-            new SpdzSubtractProtocolKnownRight(a, b);
-        return protocolBuilder.append(spdzSubtractProtocolKnownRight);
+        if (resourcePool == null) {
+          return protocolBuilder.append(new SpdzSubtractProtocolKnownRight(a, b));
+        }
+        SpdzSInt right = SpdzKnownSIntProtocol.createKnownSpdzElement(resourcePool, b);
+        return LazySInt.of(a, left -> toSpdzSInt(left).subtract(right));
       }
 
       @Override
@@ -97,10 +147,15 @@ class SpdzBuilder implements BuilderFactoryNumeric {
         return protocolBuilder.append(spdzMultProtocol);
       }
 
+      @Override
+      public DRes<List<DRes<SInt>>> mult(List<DRes<SInt>> a, List<DRes<SInt>> b) {
+        return protocolBuilder.append(new SpdzMultListProtocol(a, b));
+      }
+
       @Override
       public DRes<SInt> mult(BigInteger a, DRes<SInt> b) {
-        SpdzMultProtocolKnownLeft spdzMultProtocol4 = new SpdzMultProtocolKnownLeft(a, b);
-        return protocolBuilder.append(spdzMultProtocol4);
+        FieldElement left = basicNumericContext.getFieldDefinition().createElement(a);
+        return LazySInt.of(b, right -> toSpdzSInt(right).multiply(left));
       }
 
       @Override
@@ -115,7 +170,10 @@ class SpdzBuilder implements BuilderFactoryNumeric {
 
       @Override
       public DRes<SInt> known(BigInteger value) {
-        return protocolBuilder.append(new SpdzKnownSIntProtocol(value));
+        if (resourcePool == null) {
+          return protocolBuilder.append(new SpdzKnownSIntProtocol(value));
+        }
+        return SpdzKnownSIntProtocol.createKnownSpdzElement(resourcePool, value);
       }
 
       @Override
@@ -124,6 +182,11 @@ class SpdzBuilder implements BuilderFactoryNumeric {
         return protocolBuilder.append(protocol);
       }
 
+      @Override
+      public DRes<List<DRes<SInt>>> inputList(List<BigInteger> values, int inputParty) {
+        return protocolBuilder.append(new SpdzInputListProtocol(values, inputParty));
+      }
+
       @Override
       public DRes<BigInteger> open(DRes<SInt> secretShare) {
         SpdzOutputToAllProtocol openProtocol = new SpdzOutputToAllProtocol(secretShare);
@@ -146,4 +209,8 @@ class SpdzBuilder implements BuilderFactoryNumeric {
     }
     return miscOIntGenerators;
   }
+
+  private static SpdzSInt toSpdzSInt(SInt value) {
+    return (SpdzSInt) value;
+  }
 }
@@ -10,15 +10,23 @@ import java.util.List;
 public class SpdzExponentiationPipeProtocol extends SpdzNativeProtocol<List<DRes<SInt>>> {
 
   private List<DRes<SInt>> result;
+  private SInt[] pipe;
   private int pipeLength;
 
   public SpdzExponentiationPipeProtocol(int pipeLength) {
     this.pipeLength = pipeLength;
   }
 
+  @Override
+  public void prepare(int round, SpdzResourcePool resourcePool) {
+    if (pipe == null) {
+      pipe = resourcePool.getDataSupplier().getNextExpPipe();
+    }
+  }
+
   @Override
   public EvaluationStatus evaluate(int round, SpdzResourcePool resourcePool, Network network) {
-    SInt[] pipe = resourcePool.getDataSupplier().getNextExpPipe();
+    prepare(round, resourcePool);
     if (pipe.length < pipeLength + 1) {
       throw new IllegalStateException(
           "Preprocessed exponentiation pipe is not long enough."
@@ -23,7 +23,7 @@ public class SpdzProtocolSuite implements ProtocolSuiteNumeric<SpdzResourcePool>
   public BuilderFactoryNumeric init(SpdzResourcePool resourcePool) {
     BasicNumericContext numericContext = createNumericContext(resourcePool);
     RealNumericContext realContext = createRealNumericContext();
-    return new SpdzBuilder(numericContext, realContext);
+    return new SpdzBuilder(numericContext, realContext, resourcePool);
   }
 
   BasicNumericContext createNumericContext(SpdzResourcePool resourcePool) {
@@ -39,4 +39,9 @@ public class SpdzProtocolSuite implements ProtocolSuiteNumeric<SpdzResourcePool>
   public RoundSynchronization<SpdzResourcePool> createRoundSynchronization() {
     return new SpdzRoundSynchronization(this);
   }
+
+  @Override
+  public boolean isOrderIndependent() {
+    return true;
+  }
 }
@@ -8,9 +8,16 @@ public class SpdzRandomBitProtocol extends SpdzNativeProtocol<SInt> {
 
   private SInt out;
 
+  @Override
+  public void prepare(int round, SpdzResourcePool resourcePool) {
+    if (out == null) {
+      this.out = resourcePool.getDataSupplier().getNextBit();
+    }
+  }
+
   @Override
   public EvaluationStatus evaluate(int round, SpdzResourcePool resourcePool, Network network) {
-    this.out = resourcePool.getDataSupplier().getNextBit();
+    prepare(round, resourcePool);
     return EvaluationStatus.IS_DONE;
   }
 
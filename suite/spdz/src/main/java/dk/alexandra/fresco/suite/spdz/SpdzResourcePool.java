@@ -2,6 +2,8 @@ package dk.alexandra.fresco.suite.spdz;
 
 import dk.alexandra.fresco.framework.builder.numeric.NumericResourcePool;
 import dk.alexandra.fresco.framework.builder.numeric.field.FieldElement;
+import dk.alexandra.fresco.framework.network.Network;
+import dk.alexandra.fresco.framework.sce.resources.PartitionedResourcePool;
 import dk.alexandra.fresco.framework.util.Drbg;
 import dk.alexandra.fresco.framework.util.OpenedValueStore;
 import dk.alexandra.fresco.suite.spdz.datatypes.SpdzSInt;
@@ -10,9 +12,10 @@ import java.security.MessageDigest;
 
 /**
  * The resource pool for Spdz. Represents the resources used for on invocation of the spdz protocol
- * suite.
+ * suite. Its partitions have their own message digest and opened value store.
  */
-public interface SpdzResourcePool extends NumericResourcePool {
+public interface SpdzResourcePool extends NumericResourcePool,
+    PartitionedResourcePool<SpdzResourcePool> {
 
   /**
    * Gets the message digest for this protocol suite invocation.
@@ -40,4 +43,14 @@ public interface SpdzResourcePool extends NumericResourcePool {
    * multiplication triples.
    */
   SpdzDataSupplier getDataSupplier();
+
+  /**
+   * Gets the network dedicated to mac checks. If present, {@link SpdzRoundSynchronization} runs
+   * the mac checks over this network in the background while the online phase continues.
+   *
+   * @return the network for mac checks, or <code>null</code> if mac checks block the online phase
+   */
+  default Network getMacCheckNetwork() {
+    return null;
+  }
 }
@@ -2,13 +2,17 @@ package dk.alexandra.fresco.suite.spdz;
 
 import dk.alexandra.fresco.framework.builder.numeric.field.FieldDefinition;
 import dk.alexandra.fresco.framework.builder.numeric.field.FieldElement;
+import dk.alexandra.fresco.framework.network.Network;
 import dk.alexandra.fresco.framework.sce.resources.ResourcePoolImpl;
 import dk.alexandra.fresco.framework.util.Drbg;
 import dk.alexandra.fresco.framework.util.ExceptionConverter;
 import dk.alexandra.fresco.framework.util.OpenedValueStore;
+import dk.alexandra.fresco.framework.util.OpenedValueStoreImpl;
+import dk.alexandra.fresco.framework.util.Pair;
 import dk.alexandra.fresco.suite.spdz.datatypes.SpdzSInt;
 import dk.alexandra.fresco.suite.spdz.storage.SpdzDataSupplier;
 import java.security.MessageDigest;
+import java.util.List;
 
 public class SpdzResourcePoolImpl extends ResourcePoolImpl implements SpdzResourcePool {
 
@@ -16,6 +20,7 @@ public class SpdzResourcePoolImpl extends ResourcePoolImpl implements SpdzResour
   private final OpenedValueStore<SpdzSInt, FieldElement> openedValueStore;
   private final SpdzDataSupplier dataSupplier;
   private final Drbg drbg;
+  private final Network macCheckNetwork;
 
   /**
    * Construct a ResourcePool implementation suitable for the spdz protocol suite.
@@ -28,6 +33,24 @@ public class SpdzResourcePoolImpl extends ResourcePoolImpl implements SpdzResour
   public SpdzResourcePoolImpl(int myId, int noOfPlayers,
       OpenedValueStore<SpdzSInt, FieldElement> openedValueStore, SpdzDataSupplier dataSupplier,
       Drbg drbg) {
+    this(myId, noOfPlayers, openedValueStore, dataSupplier, drbg, null);
+  }
+
+  /**
+   * Construct a ResourcePool implementation suitable for the spdz protocol suite, running mac
+   * checks in the background over a dedicated network.
+   *
+   * @param myId The id of the party
+   * @param noOfPlayers The amount of parties
+   * @param openedValueStore Store for maintaining opened values for later mac check
+   * @param dataSupplier Pre-processing material supplier
+   * @param drbg The joint source of randomness
+   * @param macCheckNetwork A network used only for mac checks, or null to run mac checks on the
+   *     network of the online phase
+   */
+  public SpdzResourcePoolImpl(int myId, int noOfPlayers,
+      OpenedValueStore<SpdzSInt, FieldElement> openedValueStore, SpdzDataSupplier dataSupplier,
+      Drbg drbg, Network macCheckNetwork) {
     super(myId, noOfPlayers);
     this.dataSupplier = dataSupplier;
     this.openedValueStore = openedValueStore;
@@ -36,6 +59,7 @@ public class SpdzResourcePoolImpl extends ResourcePoolImpl implements SpdzResour
         "Configuration error, SHA-256 is needed for Spdz");
     // Initialize various fields global to the computation.
     this.drbg = drbg;
+    this.macCheckNetwork = macCheckNetwork;
   }
 
   @Override
@@ -65,4 +89,22 @@ public class SpdzResourcePoolImpl extends ResourcePoolImpl implements SpdzResour
     }
     return drbg;
   }
+
+  @Override
+  public Network getMacCheckNetwork() {
+    return macCheckNetwork;
+  }
+
+  @Override
+  public SpdzResourcePool createPartition() {
+    return new SpdzResourcePoolImpl(getMyId(), getNoOfParties(), new OpenedValueStoreImpl<>(),
+        dataSupplier, drbg, macCheckNetwork);
+  }
+
+  @Override
+  public void mergePartition(SpdzResourcePool partition) {
+    Pair<List<SpdzSInt>, List<FieldElement>> values =
+        partition.getOpenedValueStore().popValues();
+    openedValueStore.pushOpenedValues(values.getFirst(), values.getSecond());
+  }
 }
@@ -7,7 +7,9 @@ import dk.alexandra.fresco.framework.network.Network;
 import dk.alexandra.fresco.framework.sce.evaluator.BatchEvaluationStrategy;
 import dk.alexandra.fresco.framework.sce.evaluator.BatchedProtocolEvaluator;
 import dk.alexandra.fresco.framework.sce.evaluator.BatchedStrategy;
+import dk.alexandra.fresco.framework.util.MacCheckExecutor;
 import dk.alexandra.fresco.framework.util.OpenedValueStore;
+import dk.alexandra.fresco.framework.util.OpenedValueStoreImpl;
 import dk.alexandra.fresco.suite.ProtocolSuite.RoundSynchronization;
 import dk.alexandra.fresco.suite.spdz.datatypes.SpdzSInt;
 import dk.alexandra.fresco.suite.spdz.gates.SpdzMacCheckProtocol;
@@ -18,6 +20,11 @@ import java.util.stream.StreamSupport;
 /**
  * A default implementation of the round synchronization for spdz - mostly doing the MAC check if
  * needed.
+ *
+ * <p>If the resource pool has a {@link SpdzResourcePool#getMacCheckNetwork() network dedicated to
+ * mac checks} the checks run in the background over that network. The online phase then only
+ * waits for the outstanding checks to succeed before and after a batch with output protocols and
+ * at the end of the evaluation.</p>
  */
 public class SpdzRoundSynchronization implements RoundSynchronization<SpdzResourcePool> {
 
@@ -28,6 +35,7 @@ public class SpdzRoundSynchronization implements RoundSynchronization<SpdzResour
   private final SecureRandom secRand;
   private boolean isCheckRequired = false;
   private final int batchSize;
+  private MacCheckExecutor macCheckExecutor;
 
   /**
    * Creates new {@link SpdzRoundSynchronization}.
@@ -53,19 +61,60 @@ public class SpdzRoundSynchronization implements RoundSynchronization<SpdzResour
   }
 
   protected void doMacCheck(SpdzResourcePool resourcePool, Network network) {
-    SpdzBuilder spdzBuilder = new SpdzBuilder(
-        spdzProtocolSuite.createNumericContext(resourcePool),
-        spdzProtocolSuite.createRealNumericContext());
-    BatchEvaluationStrategy<SpdzResourcePool> batchStrategy = new BatchedStrategy<>();
-    BatchedProtocolEvaluator<SpdzResourcePool> evaluator =
-        new BatchedProtocolEvaluator<>(batchStrategy, spdzProtocolSuite, batchSize);
+    if (resourcePool.getMacCheckNetwork() != null) {
+      startMacCheck(resourcePool);
+      if (macCheckExecutor != null) {
+        macCheckExecutor.awaitChecks();
+      }
+    } else {
+      evaluateMacCheck(createMacCheck(resourcePool, resourcePool), resourcePool, network);
+    }
+  }
+
+  /**
+   * Starts a background check of the values opened so far, without waiting for it.
+   */
+  private void startMacCheck(SpdzResourcePool resourcePool) {
+    if (resourcePool.getOpenedValueStore().hasPendingValues()) {
+      // the check gets resources of its own, since the online phase continues using the
+      // resource pool, and an empty store, since it is evaluated using this round synchronization
+      SpdzResourcePool checkResourcePool = new SpdzResourcePoolImpl(resourcePool.getMyId(),
+          resourcePool.getNoOfParties(), new OpenedValueStoreImpl<>(),
+          resourcePool.getDataSupplier(), resourcePool.getRandomGenerator());
+      SpdzMacCheckProtocol macCheck = createMacCheck(resourcePool, checkResourcePool);
+      Network macCheckNetwork = resourcePool.getMacCheckNetwork();
+      if (macCheckExecutor == null) {
+        macCheckExecutor = new MacCheckExecutor();
+      }
+      macCheckExecutor.submit(
+          () -> evaluateMacCheck(macCheck, checkResourcePool, macCheckNetwork));
+    }
+  }
+
+  /**
+   * Creates the mac check of the values opened so far. Creating it draws the randomness of the
+   * check from the resource pool, so it is done in the order of the online phase.
+   */
+  private SpdzMacCheckProtocol createMacCheck(SpdzResourcePool resourcePool,
+      SpdzResourcePool checkResourcePool) {
     OpenedValueStore<SpdzSInt, FieldElement> store = resourcePool.getOpenedValueStore();
-    SpdzMacCheckProtocol macCheck = new SpdzMacCheckProtocol(secRand,
-        resourcePool.getMessageDigest(),
+    return new SpdzMacCheckProtocol(secRand,
+        checkResourcePool.getMessageDigest(),
         store.popValues(),
         resourcePool.getModulus(),
         resourcePool.getRandomGenerator(),
         resourcePool.getDataSupplier().getSecretSharedKey());
+  }
+
+  private void evaluateMacCheck(SpdzMacCheckProtocol macCheck, SpdzResourcePool resourcePool,
+      Network network) {
+    SpdzBuilder spdzBuilder = new SpdzBuilder(
+        spdzProtocolSuite.createNumericContext(resourcePool),
+        spdzProtocolSuite.createRealNumericContext(),
+        resourcePool);
+    BatchEvaluationStrategy<SpdzResourcePool> batchStrategy = new BatchedStrategy<>();
+    BatchedProtocolEvaluator<SpdzResourcePool> evaluator =
+        new BatchedProtocolEvaluator<>(batchStrategy, spdzProtocolSuite, batchSize);
     ProtocolBuilderNumeric sequential = spdzBuilder.createSequential();
     macCheck.buildComputation(sequential);
     evaluator.eval(sequential.build(), resourcePool, network);
@@ -78,17 +127,28 @@ public class SpdzRoundSynchronization implements RoundSynchronization<SpdzResour
       doMacCheck(resourcePool, network);
       isCheckRequired = false;
     } else if (store.exceedsThreshold(openValueThreshold)) {
-      doMacCheck(resourcePool, network);
+      if (resourcePool.getMacCheckNetwork() != null) {
+        startMacCheck(resourcePool);
+      } else {
+        doMacCheck(resourcePool, network);
+      }
       isCheckRequired = false;
     }
+    if (macCheckExecutor != null) {
+      macCheckExecutor.checkFailures();
+    }
   }
 
   @Override
   public void finishedEval(SpdzResourcePool resourcePool, Network network) {
     OpenedValueStore<SpdzSInt, FieldElement> store = resourcePool.getOpenedValueStore();
-    if (store.hasPendingValues()) {
+    if (store.hasPendingValues() || macCheckExecutor != null) {
       doMacCheck(resourcePool, network);
     }
+    if (macCheckExecutor != null) {
+      macCheckExecutor.close();
+      macCheckExecutor = null;
+    }
   }
 
   @Override
@@ -98,7 +158,7 @@ public class SpdzRoundSynchronization implements RoundSynchronization<SpdzResour
     isCheckRequired = StreamSupport.stream(protocols.spliterator(), false)
         .anyMatch(p -> p instanceof SpdzOutputProtocol);
     OpenedValueStore<SpdzSInt, FieldElement> store = resourcePool.getOpenedValueStore();
-    if (store.hasPendingValues() && isCheckRequired) {
+    if (isCheckRequired && (store.hasPendingValues() || macCheckExecutor != null)) {
       doMacCheck(resourcePool, network);
     }
   }
@@ -0,0 +1,40 @@
+package dk.alexandra.fresco.suite.spdz.datatypes;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * An edaBit is a random value r of some bit length along with the bits of r, all shared among the
+ * parties.
+ */
+public class SpdzEdaBit implements Serializable {
+
+  private static final long serialVersionUID = 4431856203118736472L;
+
+  private final SpdzSInt value;
+  private final List<SpdzSInt> bits;
+
+  /**
+   * Construct a new edaBit.
+   *
+   * @param value the random value r
+   * @param bits the bits of r, least significant first
+   */
+  public SpdzEdaBit(SpdzSInt value, List<SpdzSInt> bits) {
+    this.value = value;
+    this.bits = bits;
+  }
+
+  public SpdzSInt getValue() {
+    return value;
+  }
+
+  public List<SpdzSInt> getBits() {
+    return bits;
+  }
+
+  @Override
+  public String toString() {
+    return "SpdzEdaBit [value=" + value + ", bits=" + bits + "]";
+  }
+}
@@ -0,0 +1,39 @@
+package dk.alexandra.fresco.suite.spdz.datatypes;
+
+import java.io.Serializable;
+
+/**
+ * A truncation pair is a random value r' and the value r = r' >> d, shifted some number of
+ * positions d to the right, both shared among the parties.
+ */
+public class SpdzTruncationPair implements Serializable {
+
+  private static final long serialVersionUID = -2915432873627367711L;
+
+  private final SpdzSInt rPrime;
+  private final SpdzSInt r;
+
+  /**
+   * Construct a new truncation pair.
+   *
+   * @param rPrime the random value r'
+   * @param r the random value shifted, i.e., r' >> d
+   */
+  public SpdzTruncationPair(SpdzSInt rPrime, SpdzSInt r) {
+    this.rPrime = rPrime;
+    this.r = r;
+  }
+
+  public SpdzSInt getRPrime() {
+    return rPrime;
+  }
+
+  public SpdzSInt getR() {
+    return r;
+  }
+
+  @Override
+  public String toString() {
+    return "SpdzTruncationPair [rPrime=" + rPrime + ", r=" + r + "]";
+  }
+}
@@ -0,0 +1,48 @@
+package dk.alexandra.fresco.suite.spdz.gates;
+
+import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.builder.numeric.AdvancedNumeric.RandomAdditiveMask;
+import dk.alexandra.fresco.framework.network.Network;
+import dk.alexandra.fresco.framework.value.SInt;
+import dk.alexandra.fresco.suite.spdz.SpdzResourcePool;
+import dk.alexandra.fresco.suite.spdz.datatypes.SpdzEdaBit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Native protocol fetching a preprocessed edaBit from the data supplier.
+ */
+public class SpdzEdaBitProtocol extends SpdzNativeProtocol<RandomAdditiveMask> {
+
+  private final int bitLength;
+  private RandomAdditiveMask mask;
+
+  /**
+   * Constructs a protocol fetching an edaBit.
+   *
+   * @param bitLength the bit length of the random value
+   */
+  public SpdzEdaBitProtocol(int bitLength) {
+    this.bitLength = bitLength;
+  }
+
+  @Override
+  public void prepare(int round, SpdzResourcePool resourcePool) {
+    if (mask == null) {
+      SpdzEdaBit next = resourcePool.getDataSupplier().getNextEdaBit(bitLength);
+      List<DRes<SInt>> bits = new ArrayList<>(next.getBits());
+      this.mask = new RandomAdditiveMask(bits, next.getValue());
+    }
+  }
+
+  @Override
+  public EvaluationStatus evaluate(int round, SpdzResourcePool resourcePool, Network network) {
+    prepare(round, resourcePool);
+    return EvaluationStatus.IS_DONE;
+  }
+
+  @Override
+  public RandomAdditiveMask out() {
+    return mask;
+  }
+}
@@ -0,0 +1,100 @@
+package dk.alexandra.fresco.suite.spdz.gates;
+
+import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.MaliciousException;
+import dk.alexandra.fresco.framework.builder.numeric.field.FieldDefinition;
+import dk.alexandra.fresco.framework.builder.numeric.field.FieldElement;
+import dk.alexandra.fresco.framework.network.Network;
+import dk.alexandra.fresco.framework.value.SInt;
+import dk.alexandra.fresco.suite.spdz.SpdzResourcePool;
+import dk.alexandra.fresco.suite.spdz.datatypes.SpdzInputMask;
+import dk.alexandra.fresco.suite.spdz.datatypes.SpdzSInt;
+import dk.alexandra.fresco.suite.spdz.storage.SpdzDataSupplier;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Native protocol for inputting a list of values from the same party.
+ *
+ * <p>Works as {@link SpdzInputProtocol}, but handles all the inputs at once: the input masks are
+ * fetched in bulk, the inputter sends all masked values in one contiguous buffer, and a single
+ * digest of the whole buffer is used to validate the broadcast.</p>
+ */
+public class SpdzInputListProtocol extends SpdzNativeProtocol<List<DRes<SInt>>> {
+
+  private final List<BigInteger> inputs;
+  private final int inputter;
+  private List<SpdzInputMask> inputMasks;
+  private List<FieldElement> valuesMasked;
+  private byte[] digest;
+  private List<DRes<SInt>> out;
+
+  /**
+   * Creates new {@link SpdzInputListProtocol}.
+   *
+   * @param inputs the values to input, or nulls if this party is not the inputter
+   * @param inputter the id of the input party
+   */
+  public SpdzInputListProtocol(List<BigInteger> inputs, int inputter) {
+    this.inputs = inputs;
+    this.inputter = inputter;
+  }
+
+  @Override
+  public void prepare(int round, SpdzResourcePool spdzResourcePool) {
+    if (round == 0 && inputMasks == null && !inputs.isEmpty()) {
+      inputMasks = spdzResourcePool.getDataSupplier().getNextInputMasks(inputter, inputs.size());
+    }
+  }
+
+  @Override
+  public EvaluationStatus evaluate(int round, SpdzResourcePool spdzResourcePool,
+      Network network) {
+    int myId = spdzResourcePool.getMyId();
+    SpdzDataSupplier dataSupplier = spdzResourcePool.getDataSupplier();
+    FieldDefinition definition = spdzResourcePool.getFieldDefinition();
+    int size = inputs.size();
+    int elementLength = definition.serialize(definition.createElement(0)).length;
+    if (round == 0) {
+      if (size == 0) {
+        out = new ArrayList<>();
+        return EvaluationStatus.IS_DONE;
+      }
+      prepare(round, spdzResourcePool);
+      if (myId == inputter) {
+        List<FieldElement> bcValues = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+          FieldElement inputElement = definition.createElement(inputs.get(i));
+          bcValues.add(inputElement.subtract(inputMasks.get(i).getRealValue()));
+        }
+        network.sendElementsToAll(definition.serialize(bcValues), elementLength);
+      }
+      return EvaluationStatus.HAS_MORE_ROUNDS;
+    } else if (round == 1) {
+      byte[] receivedBytes = network.receiveElements(inputter, size, elementLength);
+      valuesMasked = definition.deserializeList(receivedBytes);
+      digest =
+          sendBroadcastValidation(spdzResourcePool.getMessageDigest(), network, receivedBytes);
+      return EvaluationStatus.HAS_MORE_ROUNDS;
+    } else {
+      boolean validated = receiveBroadcastValidation(network, digest);
+      if (!validated) {
+        throw new MaliciousException("Broadcast digests did not match");
+      }
+      FieldElement macKeyShare = dataSupplier.getSecretSharedKey();
+      out = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        FieldElement valueMasked = valuesMasked.get(i);
+        SpdzSInt valueMaskedElement = new SpdzSInt(valueMasked, macKeyShare.multiply(valueMasked));
+        out.add(inputMasks.get(i).getMask().add(valueMaskedElement, myId));
+      }
+      return EvaluationStatus.IS_DONE;
+    }
+  }
+
+  @Override
+  public List<DRes<SInt>> out() {
+    return out;
+  }
+}
@@ -25,6 +25,13 @@ public class SpdzInputProtocol extends SpdzNativeProtocol<SInt> {
     this.inputter = inputter;
   }
 
+  @Override
+  public void prepare(int round, SpdzResourcePool spdzResourcePool) {
+    if (round == 0 && inputMask == null) {
+      inputMask = spdzResourcePool.getDataSupplier().getNextInputMask(inputter);
+    }
+  }
+
   @Override
   public EvaluationStatus evaluate(int round, SpdzResourcePool spdzResourcePool,
       Network network) {
@@ -32,7 +39,7 @@ public class SpdzInputProtocol extends SpdzNativeProtocol<SInt> {
     SpdzDataSupplier dataSupplier = spdzResourcePool.getDataSupplier();
     ByteSerializer<FieldElement> serializer = spdzResourcePool.getFieldDefinition();
     if (round == 0) {
-      this.inputMask = dataSupplier.getNextInputMask(this.inputter);
+      prepare(round, spdzResourcePool);
       if (myId == this.inputter) {
         FieldElement inputElement = spdzResourcePool.getFieldDefinition().createElement(this.input);
         FieldElement bcValue = inputElement.subtract(this.inputMask.getRealValue());
@@ -32,7 +32,15 @@ public class SpdzKnownSIntProtocol extends SpdzNativeProtocol<SInt> {
     return EvaluationStatus.IS_DONE;
   }
 
-  static SpdzSInt createKnownSpdzElement(SpdzResourcePool spdzResourcePool, BigInteger input) {
+  /**
+   * Creates the shares of a public value, with the value itself as the share of party one and zero
+   * as the share of the other parties.
+   *
+   * @param spdzResourcePool the resource pool, giving the share of the mac key
+   * @param input the public value
+   * @return the shares of the value
+   */
+  public static SpdzSInt createKnownSpdzElement(SpdzResourcePool spdzResourcePool, BigInteger input) {
     SpdzSInt elm;
     FieldElement value = spdzResourcePool.getFieldDefinition().createElement(input);
     FieldElement globalKeyShare = spdzResourcePool.getDataSupplier().getSecretSharedKey();
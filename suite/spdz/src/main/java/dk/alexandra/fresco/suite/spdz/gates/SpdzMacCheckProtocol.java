@@ -6,6 +6,7 @@ import dk.alexandra.fresco.framework.builder.Computation;
 import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
 import dk.alexandra.fresco.framework.builder.numeric.field.FieldDefinition;
 import dk.alexandra.fresco.framework.builder.numeric.field.FieldElement;
+import dk.alexandra.fresco.framework.builder.numeric.field.FieldElementVector;
 import dk.alexandra.fresco.framework.util.Drbg;
 import dk.alexandra.fresco.framework.util.Pair;
 import dk.alexandra.fresco.suite.spdz.datatypes.SpdzCommitment;
@@ -13,6 +14,7 @@ import dk.alexandra.fresco.suite.spdz.datatypes.SpdzSInt;
 import java.math.BigInteger;
 import java.security.MessageDigest;
 import java.security.SecureRandom;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -24,7 +26,7 @@ public class SpdzMacCheckProtocol implements Computation<Void, ProtocolBuilderNu
   private final SecureRandom rand;
   private final MessageDigest digest;
   private final BigInteger modulus;
-  private final Drbg jointDrbg;
+  private final List<BigInteger> randomCoefficients;
   private final List<SpdzSInt> closedValues;
   private final List<FieldElement> openedValues;
   private final FieldElement alpha;
@@ -36,6 +38,8 @@ public class SpdzMacCheckProtocol implements Computation<Void, ProtocolBuilderNu
    * @param rand A secure randomness source
    * @param digest A secure hash used for the commitment scheme
    * @param modulus The global modulus used.
+   * @param jointDrbg The joint randomness source. The random coefficients of the check are
+   *     drawn from it when the protocol is created, i.e., on the calling thread
    */
   public SpdzMacCheckProtocol(
       final SecureRandom rand,
@@ -49,8 +53,8 @@ public class SpdzMacCheckProtocol implements Computation<Void, ProtocolBuilderNu
     this.closedValues = toCheck.getFirst();
     this.openedValues = toCheck.getSecond();
     this.modulus = modulus;
-    this.jointDrbg = jointDrbg;
     this.alpha = alpha;
+    this.randomCoefficients = sampleRandomCoefficients(openedValues.size(), jointDrbg);
   }
 
   @Override
@@ -58,22 +62,20 @@ public class SpdzMacCheckProtocol implements Computation<Void, ProtocolBuilderNu
     return builder
         .seq(seq -> {
           FieldDefinition fieldDefinition = builder.getBasicNumericContext().getFieldDefinition();
-          FieldElement[] rs = sampleRandomCoefficients(openedValues.size(), fieldDefinition);
-          FieldElement a = fieldDefinition.createElement(0);
-          int index = 0;
-          for (FieldElement openedValue : openedValues) {
-            FieldElement openedValueHidden = openedValue.multiply(rs[index++]);
-            a = a.add(openedValueHidden);
+          List<FieldElement> coefficients = new ArrayList<>(randomCoefficients.size());
+          for (BigInteger coefficient : randomCoefficients) {
+            coefficients.add(fieldDefinition.createElement(coefficient));
           }
+          FieldElementVector rs = fieldDefinition.createVector(coefficients);
+          FieldElement a = fieldDefinition.createVector(openedValues).innerProduct(rs);
 
           // compute gamma_i as the sum of all MAC's on the opened values times
           // r_j.
-          FieldElement gamma = fieldDefinition.createElement(0);
-          index = 0;
+          List<FieldElement> macs = new ArrayList<>(closedValues.size());
           for (SpdzSInt closedValue : closedValues) {
-            FieldElement closedValueHidden = rs[index++].multiply(closedValue.getMac());
-            gamma = gamma.add(closedValueHidden);
+            macs.add(closedValue.getMac());
           }
+          FieldElement gamma = fieldDefinition.createVector(macs).innerProduct(rs);
 
           // compute delta_i as: gamma_i - alpha_i*a
           FieldElement delta = gamma.subtract(alpha.multiply(a));
@@ -105,13 +107,12 @@ public class SpdzMacCheckProtocol implements Computation<Void, ProtocolBuilderNu
         });
   }
 
-  private FieldElement[] sampleRandomCoefficients(int numCoefficients,
-      FieldDefinition fieldDefinition) {
-    FieldElement[] coefficients = new FieldElement[numCoefficients];
+  private List<BigInteger> sampleRandomCoefficients(int numCoefficients, Drbg jointDrbg) {
+    List<BigInteger> coefficients = new ArrayList<>(numCoefficients);
     for (int i = 0; i < numCoefficients; i++) {
       byte[] bytes = new byte[modulus.bitLength() / Byte.SIZE];
       jointDrbg.nextBytes(bytes);
-      coefficients[i] = fieldDefinition.createElement(new BigInteger(bytes));
+      coefficients.add(new BigInteger(bytes));
     }
     return coefficients;
   }
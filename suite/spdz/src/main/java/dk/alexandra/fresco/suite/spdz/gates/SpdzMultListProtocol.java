@@ -0,0 +1,115 @@
+package dk.alexandra.fresco.suite.spdz.gates;
+
+import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.builder.numeric.field.FieldDefinition;
+import dk.alexandra.fresco.framework.builder.numeric.field.FieldElement;
+import dk.alexandra.fresco.framework.network.Network;
+import dk.alexandra.fresco.framework.value.SInt;
+import dk.alexandra.fresco.suite.spdz.SpdzResourcePool;
+import dk.alexandra.fresco.suite.spdz.datatypes.SpdzSInt;
+import dk.alexandra.fresco.suite.spdz.datatypes.SpdzTriple;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Native protocol for computing the element-wise products of two lists of secret numbers.
+ *
+ * <p>Works as {@link SpdzMultProtocol}, but handles all the products at once: the triples are
+ * fetched in bulk, the shares of all epsilons and deltas are sent to each party in one contiguous
+ * buffer, and all opened values are pushed to the opened value store in a single call.</p>
+ */
+public class SpdzMultListProtocol extends SpdzNativeProtocol<List<DRes<SInt>>> {
+
+  private final List<DRes<SInt>> left;
+  private final List<DRes<SInt>> right;
+  private List<SpdzTriple> triples;
+  private List<SpdzSInt> epsilonsAndDeltas;
+  private int elementLength;
+  private List<DRes<SInt>> out;
+
+  /**
+   * Creates new {@link SpdzMultListProtocol}.
+   *
+   * @param left left factors
+   * @param right right factors, must have the same size as left
+   */
+  public SpdzMultListProtocol(List<DRes<SInt>> left, List<DRes<SInt>> right) {
+    if (left.size() != right.size()) {
+      throw new IllegalArgumentException(
+          "Lists must have the same size, was " + left.size() + " and " + right.size());
+    }
+    this.left = left;
+    this.right = right;
+  }
+
+  @Override
+  public void prepare(int round, SpdzResourcePool spdzResourcePool) {
+    if (round == 0 && triples == null && !left.isEmpty()) {
+      triples = spdzResourcePool.getDataSupplier().getNextTriples(left.size());
+    }
+  }
+
+  @Override
+  public EvaluationStatus evaluate(int round, SpdzResourcePool spdzResourcePool,
+      Network network) {
+    FieldDefinition definition = spdzResourcePool.getFieldDefinition();
+    int size = left.size();
+    if (round == 0) {
+      if (size == 0) {
+        out = new ArrayList<>();
+        return EvaluationStatus.IS_DONE;
+      }
+      prepare(round, spdzResourcePool);
+      // epsilons are stored at the even indices and deltas at the odd indices
+      epsilonsAndDeltas = new ArrayList<>(2 * size);
+      List<FieldElement> shares = new ArrayList<>(2 * size);
+      for (int i = 0; i < size; i++) {
+        SpdzTriple triple = triples.get(i);
+        SpdzSInt epsilon = ((SpdzSInt) left.get(i).out()).subtract(triple.getA());
+        SpdzSInt delta = ((SpdzSInt) right.get(i).out()).subtract(triple.getB());
+        epsilonsAndDeltas.add(epsilon);
+        epsilonsAndDeltas.add(delta);
+        shares.add(epsilon.getShare());
+        shares.add(delta.getShare());
+      }
+      byte[] serialized = definition.serialize(shares);
+      elementLength = serialized.length / shares.size();
+      network.sendElementsToAll(serialized, elementLength);
+      return EvaluationStatus.HAS_MORE_ROUNDS;
+    } else {
+      List<FieldElement> opened = null;
+      for (int i = 1; i <= spdzResourcePool.getNoOfParties(); i++) {
+        List<FieldElement> received = definition.deserializeList(
+            network.receiveElements(i, 2 * size, elementLength));
+        if (opened == null) {
+          opened = received;
+        } else {
+          for (int j = 0; j < opened.size(); j++) {
+            opened.set(j, opened.get(j).add(received.get(j)));
+          }
+        }
+      }
+      FieldElement macKeyShare = spdzResourcePool.getDataSupplier().getSecretSharedKey();
+      int myId = spdzResourcePool.getMyId();
+      out = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        FieldElement e = opened.get(2 * i);
+        FieldElement d = opened.get(2 * i + 1);
+        FieldElement product = e.multiply(d);
+        SpdzSInt ed = new SpdzSInt(product, macKeyShare.multiply(product));
+        SpdzTriple triple = triples.get(i);
+        out.add(triple.getC()
+            .add(triple.getB().multiply(e))
+            .add(triple.getA().multiply(d))
+            .add(ed, myId));
+      }
+      spdzResourcePool.getOpenedValueStore().pushOpenedValues(epsilonsAndDeltas, opened);
+      return EvaluationStatus.IS_DONE;
+    }
+  }
+
+  @Override
+  public List<DRes<SInt>> out() {
+    return out;
+  }
+}
@@ -24,6 +24,13 @@ public class SpdzMultProtocol extends SpdzNativeProtocol<SInt> {
     this.right = right;
   }
 
+  @Override
+  public void prepare(int round, SpdzResourcePool spdzResourcePool) {
+    if (round == 0 && triple == null) {
+      triple = spdzResourcePool.getDataSupplier().getNextTriple();
+    }
+  }
+
   @Override
   public EvaluationStatus evaluate(int round, SpdzResourcePool spdzResourcePool,
       Network network) {
@@ -31,7 +38,7 @@ public class SpdzMultProtocol extends SpdzNativeProtocol<SInt> {
     int noOfPlayers = spdzResourcePool.getNoOfParties();
     ByteSerializer<FieldElement> serializer = spdzResourcePool.getFieldDefinition();
     if (round == 0) {
-      this.triple = dataSupplier.getNextTriple();
+      prepare(round, spdzResourcePool);
 
       epsilon = ((SpdzSInt) left.out()).subtract(triple.getA());
       delta = ((SpdzSInt) right.out()).subtract(triple.getB());
@@ -8,7 +8,6 @@ import dk.alexandra.fresco.framework.value.SInt;
 import dk.alexandra.fresco.suite.spdz.SpdzResourcePool;
 import dk.alexandra.fresco.suite.spdz.datatypes.SpdzInputMask;
 import dk.alexandra.fresco.suite.spdz.datatypes.SpdzSInt;
-import dk.alexandra.fresco.suite.spdz.storage.SpdzDataSupplier;
 import java.math.BigInteger;
 import java.util.List;
 
@@ -31,14 +30,20 @@ public class SpdzOutputSingleProtocol extends SpdzNativeProtocol<BigInteger>
     return out;
   }
 
+  @Override
+  public void prepare(int round, SpdzResourcePool spdzResourcePool) {
+    if (round == 0 && mask == null) {
+      mask = spdzResourcePool.getDataSupplier().getNextInputMask(targetPlayer);
+    }
+  }
+
   @Override
   public EvaluationStatus evaluate(int round, SpdzResourcePool spdzResourcePool,
       Network network) {
     int myId = spdzResourcePool.getMyId();
-    SpdzDataSupplier dataSupplier = spdzResourcePool.getDataSupplier();
     FieldDefinition definition = spdzResourcePool.getFieldDefinition();
     if (round == 0) {
-      this.mask = dataSupplier.getNextInputMask(targetPlayer);
+      prepare(round, spdzResourcePool);
       SpdzSInt closedValue = (SpdzSInt) this.in.out();
       inMinusMask = closedValue.subtract(this.mask.getMask());
       network.sendToAll(inMinusMask.serializeShare(definition));
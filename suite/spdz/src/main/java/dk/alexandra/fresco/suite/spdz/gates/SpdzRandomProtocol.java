@@ -15,11 +15,18 @@ public class SpdzRandomProtocol extends SpdzNativeProtocol<SInt> {
     return randomElement;
   }
 
+  @Override
+  public void prepare(int round, SpdzResourcePool spdzResourcePool) {
+    if (randomElement == null) {
+      SpdzDataSupplier dataSupplier = spdzResourcePool.getDataSupplier();
+      this.randomElement = dataSupplier.getNextRandomFieldElement();
+    }
+  }
+
   @Override
   public EvaluationStatus evaluate(int round, SpdzResourcePool spdzResourcePool,
       Network network) {
-    SpdzDataSupplier dataSupplier = spdzResourcePool.getDataSupplier();
-    this.randomElement = dataSupplier.getNextRandomFieldElement();
+    prepare(round, spdzResourcePool);
     return EvaluationStatus.IS_DONE;
   }
 
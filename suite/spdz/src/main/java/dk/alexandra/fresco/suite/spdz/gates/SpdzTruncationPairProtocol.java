@@ -0,0 +1,47 @@
+package dk.alexandra.fresco.suite.spdz.gates;
+
+import dk.alexandra.fresco.framework.builder.numeric.PreprocessedValues.TruncationPair;
+import dk.alexandra.fresco.framework.network.Network;
+import dk.alexandra.fresco.suite.spdz.SpdzResourcePool;
+import dk.alexandra.fresco.suite.spdz.datatypes.SpdzTruncationPair;
+
+/**
+ * Native protocol fetching a preprocessed truncation pair from the data supplier.
+ */
+public class SpdzTruncationPairProtocol extends SpdzNativeProtocol<TruncationPair> {
+
+  private final int shifts;
+  private final int bitLength;
+  private TruncationPair pair;
+
+  /**
+   * Constructs a protocol fetching a truncation pair.
+   *
+   * @param shifts the number of positions r' is shifted to obtain r
+   * @param bitLength the bit length of r'
+   */
+  public SpdzTruncationPairProtocol(int shifts, int bitLength) {
+    this.shifts = shifts;
+    this.bitLength = bitLength;
+  }
+
+  @Override
+  public void prepare(int round, SpdzResourcePool resourcePool) {
+    if (pair == null) {
+      SpdzTruncationPair next =
+          resourcePool.getDataSupplier().getNextTruncationPair(shifts, bitLength);
+      this.pair = new TruncationPair(next.getRPrime(), next.getR());
+    }
+  }
+
+  @Override
+  public EvaluationStatus evaluate(int round, SpdzResourcePool resourcePool, Network network) {
+    prepare(round, resourcePool);
+    return EvaluationStatus.IS_DONE;
+  }
+
+  @Override
+  public TruncationPair out() {
+    return pair;
+  }
+}
@@ -3,9 +3,14 @@ package dk.alexandra.fresco.suite.spdz.storage;
 import dk.alexandra.fresco.framework.builder.numeric.field.FieldDefinition;
 import dk.alexandra.fresco.framework.builder.numeric.field.FieldElement;
 import dk.alexandra.fresco.lib.compare.zerotest.ZeroTestBruteforce;
+import dk.alexandra.fresco.suite.spdz.datatypes.SpdzEdaBit;
 import dk.alexandra.fresco.suite.spdz.datatypes.SpdzInputMask;
 import dk.alexandra.fresco.suite.spdz.datatypes.SpdzSInt;
 import dk.alexandra.fresco.suite.spdz.datatypes.SpdzTriple;
+import dk.alexandra.fresco.suite.spdz.datatypes.SpdzTruncationPair;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
 
 public interface SpdzDataSupplier {
 
@@ -16,6 +21,20 @@ public interface SpdzDataSupplier {
    */
   SpdzTriple getNextTriple();
 
+  /**
+   * Supplies the next triples.
+   *
+   * @param noOfTriples the number of triples to supply
+   * @return the next new triples
+   */
+  default List<SpdzTriple> getNextTriples(int noOfTriples) {
+    List<SpdzTriple> triples = new ArrayList<>(noOfTriples);
+    for (int i = 0; i < noOfTriples; i++) {
+      triples.add(getNextTriple());
+    }
+    return triples;
+  }
+
   /**
    * Supplies the next exponentiation pipe. <p>An exponentiation pipe is a list of numbers in the
    * following format: r^{-1}, r, r^{2}, r^{3}, ..., r^{l}, where r is a random element, l is the
@@ -34,6 +53,21 @@ public interface SpdzDataSupplier {
    */
   SpdzInputMask getNextInputMask(int towardPlayerId);
 
+  /**
+   * Supplies the next input masks for a given input player.
+   *
+   * @param towardPlayerId the id of the input player
+   * @param noOfMasks the number of masks to supply
+   * @return the appropriate input masks
+   */
+  default List<SpdzInputMask> getNextInputMasks(int towardPlayerId, int noOfMasks) {
+    List<SpdzInputMask> masks = new ArrayList<>(noOfMasks);
+    for (int i = 0; i < noOfMasks; i++) {
+      masks.add(getNextInputMask(towardPlayerId));
+    }
+    return masks;
+  }
+
   /**
    * Supplies the next bit (i.e. a SpdzSInt representing a value in {0, 1}).
    *
@@ -41,6 +75,61 @@ public interface SpdzDataSupplier {
    */
   SpdzSInt getNextBit();
 
+  /**
+   * Supplies the next bits.
+   *
+   * @param noOfBits the number of bits to supply
+   * @return the next new bits
+   */
+  default List<SpdzSInt> getNextBits(int noOfBits) {
+    List<SpdzSInt> bits = new ArrayList<>(noOfBits);
+    for (int i = 0; i < noOfBits; i++) {
+      bits.add(getNextBit());
+    }
+    return bits;
+  }
+
+  /**
+   * Supplies the next edaBit. <p>An edaBit consists of a random value r of <code>bitLength</code>
+   * bits along with the bits of r. By default the edaBit is composed from <code>bitLength</code>
+   * preprocessed bits without any communication.</p>
+   *
+   * @param bitLength the bit length of r
+   * @return the next new edaBit
+   */
+  default SpdzEdaBit getNextEdaBit(int bitLength) {
+    FieldDefinition fieldDefinition = getFieldDefinition();
+    List<SpdzSInt> bits = getNextBits(bitLength);
+    SpdzSInt value = null;
+    for (int i = 0; i < bitLength; i++) {
+      SpdzSInt weighted =
+          bits.get(i).multiply(fieldDefinition.createElement(BigInteger.ONE.shiftLeft(i)));
+      value = value == null ? weighted : value.add(weighted);
+    }
+    return new SpdzEdaBit(value, bits);
+  }
+
+  /**
+   * Supplies the next truncation pair. <p>A truncation pair consists of a random value r' of
+   * <code>bitLength</code> bits and r = r' >> shifts. By default the pair is composed from an
+   * edaBit of <code>bitLength</code> bits without any communication.</p>
+   *
+   * @param shifts the number of positions r' is shifted to obtain r
+   * @param bitLength the bit length of r'
+   * @return the next new truncation pair
+   */
+  default SpdzTruncationPair getNextTruncationPair(int shifts, int bitLength) {
+    FieldDefinition fieldDefinition = getFieldDefinition();
+    SpdzEdaBit edaBit = getNextEdaBit(bitLength);
+    SpdzSInt r = null;
+    for (int i = shifts; i < bitLength; i++) {
+      SpdzSInt shifted = edaBit.getBits().get(i).multiply(
+          fieldDefinition.createElement(BigInteger.ONE.shiftLeft(i - shifts)));
+      r = r == null ? shifted : r.add(shifted);
+    }
+    return new SpdzTruncationPair(edaBit.getValue(), r);
+  }
+
   /**
    * The field definition used for this instance of SPDZ.
    *
@@ -3,13 +3,18 @@ package dk.alexandra.fresco.suite.spdz.storage;
 import dk.alexandra.fresco.framework.builder.numeric.field.FieldDefinition;
 import dk.alexandra.fresco.framework.builder.numeric.field.FieldElement;
 import dk.alexandra.fresco.framework.util.ArithmeticDummyDataSupplier;
+import dk.alexandra.fresco.framework.util.EdaBitShares;
 import dk.alexandra.fresco.framework.util.MultiplicationTripleShares;
 import dk.alexandra.fresco.framework.util.Pair;
+import dk.alexandra.fresco.framework.util.TruncationPairShares;
+import dk.alexandra.fresco.suite.spdz.datatypes.SpdzEdaBit;
 import dk.alexandra.fresco.suite.spdz.datatypes.SpdzInputMask;
 import dk.alexandra.fresco.suite.spdz.datatypes.SpdzSInt;
 import dk.alexandra.fresco.suite.spdz.datatypes.SpdzTriple;
+import dk.alexandra.fresco.suite.spdz.datatypes.SpdzTruncationPair;
 import java.math.BigInteger;
 import java.util.List;
+import java.util.stream.Collectors;
 
 public class SpdzDummyDataSupplier implements SpdzDataSupplier {
 
@@ -66,6 +71,21 @@ public class SpdzDummyDataSupplier implements SpdzDataSupplier {
     return toSpdzSInt(supplier.getRandomBitShare());
   }
 
+  @Override
+  public SpdzTruncationPair getNextTruncationPair(int shifts, int bitLength) {
+    TruncationPairShares pair = supplier.getTruncationPairShares(shifts, bitLength);
+    return new SpdzTruncationPair(toSpdzSInt(pair.getRPrime()), toSpdzSInt(pair.getR()));
+  }
+
+  @Override
+  public SpdzEdaBit getNextEdaBit(int bitLength) {
+    EdaBitShares edaBit = supplier.getEdaBitShares(bitLength);
+    List<SpdzSInt> bits = edaBit.getBits().stream()
+        .map(this::toSpdzSInt)
+        .collect(Collectors.toList());
+    return new SpdzEdaBit(toSpdzSInt(edaBit.getValue()), bits);
+  }
+
   @Override
   public FieldDefinition getFieldDefinition() {
     return fieldDefinition;
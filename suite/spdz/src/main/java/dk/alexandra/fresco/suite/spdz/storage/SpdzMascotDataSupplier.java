@@ -20,7 +20,9 @@ import dk.alexandra.fresco.tools.mascot.prg.FieldElementPrgImpl;
 import dk.alexandra.fresco.tools.ot.otextension.RotList;
 import java.security.SecureRandom;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -159,6 +161,25 @@ public class SpdzMascotDataSupplier implements SpdzDataSupplier {
     return MascotFormatConverter.toSpdzInputMask(inputMasks.pop());
   }
 
+  @Override
+  public List<SpdzInputMask> getNextInputMasks(int towardsPlayerId, int noOfMasks) {
+    ensureInitialized();
+    ArrayDeque<InputMask> inputMasks = masks.get(towardsPlayerId);
+    if (inputMasks.size() < noOfMasks) {
+      // generate all the missing masks at once, rounded up to a whole number of batches
+      int missing = noOfMasks - inputMasks.size();
+      int noOfBatches = (missing + batchSize - 1) / batchSize;
+      logger.trace("Getting " + noOfBatches + " mask batches");
+      inputMasks.addAll(mascot.getInputMasks(towardsPlayerId, noOfBatches * batchSize));
+      logger.trace("Got " + noOfBatches + " mask batches");
+    }
+    List<SpdzInputMask> result = new ArrayList<>(noOfMasks);
+    for (int i = 0; i < noOfMasks; i++) {
+      result.add(MascotFormatConverter.toSpdzInputMask(inputMasks.pop()));
+    }
+    return result;
+  }
+
   @Override
   public SpdzSInt getNextBit() {
     ensureInitialized();
@@ -170,6 +191,24 @@ public class SpdzMascotDataSupplier implements SpdzDataSupplier {
     return MascotFormatConverter.toSpdzSInt(randomBits.pop());
   }
 
+  @Override
+  public List<SpdzSInt> getNextBits(int noOfBits) {
+    ensureInitialized();
+    if (randomBits.size() < noOfBits) {
+      // generate all the missing bits at once, rounded up to a whole number of batches
+      int missing = noOfBits - randomBits.size();
+      int noOfBatches = (missing + batchSize - 1) / batchSize;
+      logger.trace("Getting " + noOfBatches + " bit batches");
+      randomBits.addAll(mascot.getRandomBits(noOfBatches * batchSize));
+      logger.trace("Got " + noOfBatches + " bit batches");
+    }
+    List<SpdzSInt> result = new ArrayList<>(noOfBits);
+    for (int i = 0; i < noOfBits; i++) {
+      result.add(MascotFormatConverter.toSpdzSInt(randomBits.pop()));
+    }
+    return result;
+  }
+
   @Override
   public FieldDefinition getFieldDefinition() {
     return fieldDefinition;
@@ -0,0 +1,366 @@
+package dk.alexandra.fresco.suite.spdz.storage;
+
+import dk.alexandra.fresco.framework.builder.numeric.field.FieldDefinition;
+import dk.alexandra.fresco.framework.builder.numeric.field.FieldElement;
+import dk.alexandra.fresco.framework.network.Network;
+import dk.alexandra.fresco.framework.util.Drbg;
+import dk.alexandra.fresco.suite.spdz.datatypes.SpdzInputMask;
+import dk.alexandra.fresco.suite.spdz.datatypes.SpdzSInt;
+import dk.alexandra.fresco.suite.spdz.datatypes.SpdzTriple;
+import dk.alexandra.fresco.suite.spdz.preprocessing.MascotFormatConverter;
+import dk.alexandra.fresco.tools.mascot.Mascot;
+import dk.alexandra.fresco.tools.mascot.MascotResourcePoolImpl;
+import dk.alexandra.fresco.tools.mascot.MascotSecurityParameters;
+import dk.alexandra.fresco.tools.mascot.field.AuthenticatedElement;
+import dk.alexandra.fresco.tools.mascot.field.InputMask;
+import dk.alexandra.fresco.tools.mascot.field.MultiplicationTriple;
+import dk.alexandra.fresco.tools.ot.otextension.RotList;
+import java.io.Closeable;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A data supplier based on the Mascot protocol which generates pre-processed material ahead of
+ * demand.
+ *
+ * <p>Unlike {@link SpdzMascotDataSupplier}, which runs Mascot in-line whenever one of its buffers
+ * runs empty, this supplier runs Mascot on a dedicated producer thread using its own network. The
+ * producer keeps a buffer per type of material (triples, random elements, bits and input masks
+ * towards each party) topped up between a low and a high watermark, so the online phase only
+ * blocks when a buffer is truly empty. A buffer is only maintained once the online phase has
+ * requested material of its type for the first time.</p>
+ *
+ * <p>Mascot is an interactive protocol, so all parties must run the same sequence of batches. The
+ * producer of party 1 therefore acts as the scheduler: it decides which buffer to refill and with
+ * how many elements, and sends this decision to the producers of all other parties before running
+ * the batch. Watermarks are consequently only enforced on party 1; since all parties consume
+ * material in the same order, the buffers of the other parties can only exceed the high watermark
+ * by the amount they lag behind party 1.</p>
+ *
+ * <p>The batch size of a buffer is adaptive: it starts at the given initial batch size and is
+ * doubled (up to the given maximum) every time the online phase had to wait for that buffer.</p>
+ */
+public class SpdzMascotPipelinedDataSupplier implements SpdzDataSupplier, Closeable {
+
+  private static final Logger logger =
+      LoggerFactory.getLogger(SpdzMascotPipelinedDataSupplier.class);
+  private static final int SCHEDULER_ID = 1;
+  private static final int STOP = -1;
+  private final int myId;
+  private final int instanceId;
+  private final int numberOfPlayers;
+  private final Supplier<Network> tripleNetwork;
+  private final FieldDefinition fieldDefinition;
+  private final Function<Integer, SpdzSInt[]> preprocessedValues;
+  private final FieldElement ssk;
+  private final int prgSeedLength;
+  private final int modBitLength;
+  private final Drbg drbg;
+  private final Map<Integer, RotList> seedOts;
+
+  private final List<Buffer<?>> buffers;
+  private final Buffer<MultiplicationTriple> triples;
+  private final Buffer<AuthenticatedElement> randomElements;
+  private final Buffer<AuthenticatedElement> randomBits;
+  private final List<Buffer<InputMask>> masks;
+  private Thread producer;
+  private Throwable failure;
+  private boolean closed;
+
+  /**
+   * Creates {@link SpdzMascotPipelinedDataSupplier}.
+   *
+   * @param myId this party's id
+   * @param numberOfPlayers number of players
+   * @param instanceId identifier used to distinguish parallel instances of Mascot
+   * @param tripleNetwork network supplier for network to be used by the producer thread. This
+   *     network must not be used by anyone else.
+   * @param fieldDefinition field definition
+   * @param modBitLength bit length of modulus
+   * @param preprocessedValues callback to generate exponentiation pipes
+   * @param prgSeedLength bit length of prg
+   * @param initialBatchSize initial batch size in which Mascot will generate pre-processed
+   *     material
+   * @param maxBatchSize maximum batch size the adaptive batch size may grow to
+   * @param lowWatermark number of elements below which a buffer is refilled
+   * @param highWatermark number of elements a refill will not fill a buffer beyond
+   * @param ssk mac key share
+   * @param seedOts pre-computed base OTs
+   * @param drbg source of randomness
+   */
+  public SpdzMascotPipelinedDataSupplier(int myId, int numberOfPlayers, int instanceId,
+      Supplier<Network> tripleNetwork, FieldDefinition fieldDefinition, int modBitLength,
+      Function<Integer, SpdzSInt[]> preprocessedValues, int prgSeedLength, int initialBatchSize,
+      int maxBatchSize, int lowWatermark, int highWatermark, FieldElement ssk,
+      Map<Integer, RotList> seedOts, Drbg drbg) {
+    if (initialBatchSize < 1 || maxBatchSize < initialBatchSize) {
+      throw new IllegalArgumentException(
+          "Batch sizes must satisfy 0 < initial batch size <= max batch size");
+    }
+    if (lowWatermark < 1 || highWatermark < lowWatermark + initialBatchSize) {
+      throw new IllegalArgumentException(
+          "Watermarks must satisfy 0 < low watermark <= high watermark - initial batch size");
+    }
+    this.myId = myId;
+    this.numberOfPlayers = numberOfPlayers;
+    this.instanceId = instanceId;
+    this.tripleNetwork = tripleNetwork;
+    this.fieldDefinition = fieldDefinition;
+    this.preprocessedValues = preprocessedValues;
+    this.prgSeedLength = prgSeedLength;
+    this.modBitLength = modBitLength;
+    this.ssk = ssk;
+    this.seedOts = seedOts;
+    this.drbg = drbg;
+    this.buffers = new ArrayList<>();
+    this.triples = addBuffer("triple", Mascot::getTriples, initialBatchSize, maxBatchSize,
+        lowWatermark, highWatermark);
+    this.randomElements = addBuffer("random element", Mascot::getRandomElements,
+        initialBatchSize, maxBatchSize, lowWatermark, highWatermark);
+    this.randomBits = addBuffer("bit", Mascot::getRandomBits, initialBatchSize, maxBatchSize,
+        lowWatermark, highWatermark);
+    this.masks = new ArrayList<>(numberOfPlayers);
+    for (int partyId = 1; partyId <= numberOfPlayers; partyId++) {
+      final int towardsPlayerId = partyId;
+      masks.add(addBuffer("mask towards P" + partyId,
+          (mascot, size) -> mascot.getInputMasks(towardsPlayerId, size), initialBatchSize,
+          maxBatchSize, lowWatermark, highWatermark));
+    }
+  }
+
+  /**
+   * Creates instance of {@link SpdzMascotPipelinedDataSupplier} with default batch sizes and
+   * watermarks.
+   */
+  public static SpdzMascotPipelinedDataSupplier createSimpleSupplier(int myId,
+      int numberOfPlayers, Supplier<Network> tripleNetwork, int modBitLength,
+      FieldDefinition fieldDefinition, Function<Integer, SpdzSInt[]> preprocessedValues,
+      Map<Integer, RotList> seedOts, Drbg drbg, FieldElement ssk) {
+    int prgSeedLength = 256;
+    return new SpdzMascotPipelinedDataSupplier(myId, numberOfPlayers, 1, tripleNetwork,
+        fieldDefinition, modBitLength, preprocessedValues, prgSeedLength, 16, 1024, 64, 4096, ssk,
+        seedOts, drbg);
+  }
+
+  @Override
+  public SpdzTriple getNextTriple() {
+    return MascotFormatConverter.toSpdzTriple(take(triples));
+  }
+
+  @Override
+  public SpdzSInt getNextRandomFieldElement() {
+    return MascotFormatConverter.toSpdzSInt(take(randomElements));
+  }
+
+  @Override
+  public SpdzSInt[] getNextExpPipe() {
+    logger.trace("Getting another exp pipe");
+    SpdzSInt[] pipe = preprocessedValues.apply(modBitLength);
+    logger.trace("Got another exp pipe");
+    return pipe;
+  }
+
+  @Override
+  public SpdzInputMask getNextInputMask(int towardsPlayerId) {
+    return MascotFormatConverter.toSpdzInputMask(take(masks.get(towardsPlayerId - 1)));
+  }
+
+  @Override
+  public SpdzSInt getNextBit() {
+    return MascotFormatConverter.toSpdzSInt(take(randomBits));
+  }
+
+  @Override
+  public FieldDefinition getFieldDefinition() {
+    return fieldDefinition;
+  }
+
+  @Override
+  public FieldElement getSecretSharedKey() {
+    return ssk;
+  }
+
+  /**
+   * Stops the producer thread once its current batch is done. On party 1 this also instructs the
+   * producers of all other parties to stop, so the producer network must stay open until then.
+   */
+  @Override
+  public synchronized void close() {
+    closed = true;
+    notifyAll();
+  }
+
+  private <T> Buffer<T> addBuffer(String name, BiFunction<Mascot, Integer, List<T>> generator,
+      int initialBatchSize, int maxBatchSize, int lowWatermark, int highWatermark) {
+    Buffer<T> buffer = new Buffer<>(buffers.size(), name, generator, initialBatchSize,
+        maxBatchSize, lowWatermark, highWatermark);
+    buffers.add(buffer);
+    return buffer;
+  }
+
+  private synchronized <T> T take(Buffer<T> buffer) {
+    ensureStarted();
+    buffer.active = true;
+    if (buffer.elements.isEmpty()) {
+      logger.trace("Waiting for another {} batch", buffer.name);
+      buffer.stalled = true;
+      notifyAll();
+      while (buffer.elements.isEmpty()) {
+        if (failure != null) {
+          throw new IllegalStateException("Mascot producer failed", failure);
+        }
+        if (closed) {
+          throw new IllegalStateException("Supplier is closed");
+        }
+        waitForChange();
+      }
+      logger.trace("Got another {} batch", buffer.name);
+    }
+    T element = buffer.elements.pop();
+    if (buffer.elements.size() < buffer.lowWatermark) {
+      notifyAll();
+    }
+    return element;
+  }
+
+  private void ensureStarted() {
+    if (producer != null) {
+      return;
+    }
+    producer = new Thread(this::produce, "Mascot-producer-P" + myId + "-" + instanceId);
+    producer.setDaemon(true);
+    producer.start();
+  }
+
+  private void waitForChange() {
+    try {
+      wait();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Interrupted while waiting for pre-processed material", e);
+    }
+  }
+
+  private void produce() {
+    try {
+      Network network = tripleNetwork.get();
+      int numCandidatesPerTriple = 3;
+      Mascot mascot = new Mascot(
+          new MascotResourcePoolImpl(myId, numberOfPlayers, instanceId, drbg, seedOts,
+              new MascotSecurityParameters(modBitLength, prgSeedLength,
+                  numCandidatesPerTriple), this.fieldDefinition), network, ssk);
+      while (true) {
+        byte[] command;
+        if (myId == SCHEDULER_ID) {
+          command = nextCommand();
+          for (int partyId = 1; partyId <= numberOfPlayers; partyId++) {
+            if (partyId != myId) {
+              network.send(partyId, command);
+            }
+          }
+        } else {
+          command = network.receive(SCHEDULER_ID);
+        }
+        ByteBuffer decoded = ByteBuffer.wrap(command);
+        int index = decoded.getInt();
+        if (index == STOP) {
+          logger.trace("Mascot producer stopped");
+          return;
+        }
+        produceBatch(buffers.get(index), mascot, decoded.getInt());
+      }
+    } catch (RuntimeException | Error e) {
+      logger.error("Mascot producer failed", e);
+      synchronized (this) {
+        failure = e;
+        notifyAll();
+      }
+    }
+  }
+
+  private <T> void produceBatch(Buffer<T> buffer, Mascot mascot, int batchSize) {
+    logger.trace("Producing {} {} elements", batchSize, buffer.name);
+    List<T> batch = buffer.generator.apply(mascot, batchSize);
+    synchronized (this) {
+      buffer.elements.addAll(batch);
+      notifyAll();
+    }
+  }
+
+  /**
+   * Picks the next buffer to refill, waiting until one drops below its low watermark. A buffer the
+   * online phase is waiting for takes priority, otherwise the buffer with the fewest elements
+   * relative to its low watermark is picked.
+   */
+  private synchronized byte[] nextCommand() {
+    Buffer<?> next = null;
+    while (!closed && (next = selectBuffer()) == null) {
+      waitForChange();
+    }
+    ByteBuffer command = ByteBuffer.allocate(2 * Integer.BYTES);
+    if (next == null) {
+      return command.putInt(STOP).putInt(0).array();
+    }
+    if (next.stalled) {
+      next.batchSize = Math.min(2 * next.batchSize, next.maxBatchSize);
+      next.stalled = false;
+    }
+    int size = Math.max(1,
+        Math.min(next.batchSize, next.highWatermark - next.elements.size()));
+    return command.putInt(next.index).putInt(size).array();
+  }
+
+  private Buffer<?> selectBuffer() {
+    Buffer<?> selected = null;
+    for (Buffer<?> buffer : buffers) {
+      if (buffer.active && buffer.elements.size() < buffer.lowWatermark) {
+        if (buffer.stalled) {
+          return buffer;
+        }
+        if (selected == null
+            || buffer.elements.size() * (long) selected.lowWatermark
+            < selected.elements.size() * (long) buffer.lowWatermark) {
+          selected = buffer;
+        }
+      }
+    }
+    return selected;
+  }
+
+  /**
+   * Buffer of one type of pre-processed material. All fields are guarded by the enclosing supplier.
+   */
+  private static class Buffer<T> {
+
+    private final int index;
+    private final String name;
+    private final BiFunction<Mascot, Integer, List<T>> generator;
+    private final ArrayDeque<T> elements;
+    private final int maxBatchSize;
+    private final int lowWatermark;
+    private final int highWatermark;
+    private int batchSize;
+    private boolean active;
+    private boolean stalled;
+
+    private Buffer(int index, String name, BiFunction<Mascot, Integer, List<T>> generator,
+        int batchSize, int maxBatchSize, int lowWatermark, int highWatermark) {
+      this.index = index;
+      this.name = name;
+      this.generator = generator;
+      this.elements = new ArrayDeque<>();
+      this.batchSize = batchSize;
+      this.maxBatchSize = maxBatchSize;
+      this.lowWatermark = lowWatermark;
+      this.highWatermark = highWatermark;
+    }
+  }
+}
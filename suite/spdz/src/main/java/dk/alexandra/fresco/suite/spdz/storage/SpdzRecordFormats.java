@@ -0,0 +1,207 @@
+package dk.alexandra.fresco.suite.spdz.storage;
+
+import dk.alexandra.fresco.framework.builder.numeric.field.FieldDefinition;
+import dk.alexandra.fresco.framework.builder.numeric.field.FieldElement;
+import dk.alexandra.fresco.framework.builder.numeric.field.FieldElementVector;
+import dk.alexandra.fresco.framework.sce.resources.storage.MappedStreamedStorageImpl;
+import dk.alexandra.fresco.framework.sce.resources.storage.RecordFormat;
+import dk.alexandra.fresco.suite.spdz.datatypes.SpdzInputMask;
+import dk.alexandra.fresco.suite.spdz.datatypes.SpdzSInt;
+import dk.alexandra.fresco.suite.spdz.datatypes.SpdzTriple;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Fixed width binary formats for the preprocessed material of SPDZ, to be used with a {@link
+ * MappedStreamedStorageImpl}.
+ *
+ * <p>Field elements are written in the serialization format of the field definition, so a share
+ * <i>(share, mac)</i> takes twice the byte length of a field element. Records are:</p>
+ * <ul>
+ * <li>a triple: the shares of <i>a</i>, <i>b</i> and <i>c</i>,</li>
+ * <li>an input mask: a byte telling whether the real value is present, the share of the mask and
+ * the real value, which is zero if not present,</li>
+ * <li>a bit: the share of the bit,</li>
+ * <li>an exponentiation pipe: the shares of the pipe, which must have a fixed length.</li>
+ * </ul>
+ */
+public final class SpdzRecordFormats {
+
+  private SpdzRecordFormats() {
+  }
+
+  /**
+   * Registers the formats of the stores read by a {@link SpdzStorageDataSupplier} with the given
+   * storage name.
+   *
+   * @param storage the storage to register the formats in
+   * @param storageName the storage name of the data supplier
+   * @param noOfParties the number of parties
+   * @param definition the field definition of the preprocessed material
+   * @param expPipeLength the number of shares in an exponentiation pipe
+   */
+  public static void registerFormats(MappedStreamedStorageImpl storage, String storageName,
+      int noOfParties, FieldDefinition definition, int expPipeLength) {
+    storage.registerFormat(storageName + SpdzStorageDataSupplier.TRIPLE_STORAGE,
+        triples(definition));
+    storage.registerFormat(storageName + SpdzStorageDataSupplier.BIT_STORAGE, bits(definition));
+    storage.registerFormat(storageName + SpdzStorageDataSupplier.EXP_PIPE_STORAGE,
+        expPipes(definition, expPipeLength));
+    for (int towardPlayerId = 1; towardPlayerId <= noOfParties; towardPlayerId++) {
+      storage.registerFormat(
+          storageName + SpdzStorageDataSupplier.INPUT_STORAGE + towardPlayerId,
+          inputMasks(definition));
+    }
+  }
+
+  /**
+   * Creates the format of triples.
+   *
+   * @param definition the field definition
+   * @return the format
+   */
+  public static RecordFormat<SpdzTriple> triples(FieldDefinition definition) {
+    return new SharesFormat<SpdzTriple>(definition, 3) {
+      @Override
+      public void write(SpdzTriple record, ByteBuffer buffer) {
+        writeShares(buffer, record.getA(), record.getB(), record.getC());
+      }
+
+      @Override
+      public SpdzTriple read(ByteBuffer buffer) {
+        SpdzSInt[] shares = readShares(buffer);
+        return new SpdzTriple(shares[0], shares[1], shares[2]);
+      }
+    };
+  }
+
+  /**
+   * Creates the format of bits.
+   *
+   * @param definition the field definition
+   * @return the format
+   */
+  public static RecordFormat<SpdzSInt> bits(FieldDefinition definition) {
+    return new SharesFormat<SpdzSInt>(definition, 1) {
+      @Override
+      public void write(SpdzSInt record, ByteBuffer buffer) {
+        writeShares(buffer, record);
+      }
+
+      @Override
+      public SpdzSInt read(ByteBuffer buffer) {
+        return readShares(buffer)[0];
+      }
+    };
+  }
+
+  /**
+   * Creates the format of exponentiation pipes.
+   *
+   * @param definition the field definition
+   * @param expPipeLength the number of shares in a pipe
+   * @return the format
+   */
+  public static RecordFormat<SpdzSInt[]> expPipes(FieldDefinition definition,
+      int expPipeLength) {
+    return new SharesFormat<SpdzSInt[]>(definition, expPipeLength) {
+      @Override
+      public void write(SpdzSInt[] record, ByteBuffer buffer) {
+        if (record.length != expPipeLength) {
+          throw new IllegalArgumentException("Exponentiation pipe has length " + record.length
+              + ", expected " + expPipeLength);
+        }
+        writeShares(buffer, record);
+      }
+
+      @Override
+      public SpdzSInt[] read(ByteBuffer buffer) {
+        return readShares(buffer);
+      }
+    };
+  }
+
+  /**
+   * Creates the format of input masks.
+   *
+   * @param definition the field definition
+   * @return the format
+   */
+  public static RecordFormat<SpdzInputMask> inputMasks(FieldDefinition definition) {
+    int elementLength = getElementLength(definition);
+    return new RecordFormat<SpdzInputMask>() {
+      @Override
+      public int getRecordLength() {
+        return 1 + 3 * elementLength;
+      }
+
+      @Override
+      public void write(SpdzInputMask record, ByteBuffer buffer) {
+        FieldElement realValue = record.getRealValue();
+        buffer.put((byte) (realValue != null ? 1 : 0));
+        SpdzSInt mask = record.getMask();
+        buffer.put(definition.serialize(Arrays.asList(mask.getShare(), mask.getMac(),
+            realValue != null ? realValue : definition.createElement(0))));
+      }
+
+      @Override
+      public SpdzInputMask read(ByteBuffer buffer) {
+        boolean hasRealValue = buffer.get() != 0;
+        FieldElementVector elements = definition.deserializeVector(buffer, 3);
+        SpdzSInt mask = new SpdzSInt(elements.get(0), elements.get(1));
+        if (hasRealValue) {
+          return new SpdzInputMask(mask, elements.get(2));
+        } else {
+          return new SpdzInputMask(mask);
+        }
+      }
+    };
+  }
+
+  private static int getElementLength(FieldDefinition definition) {
+    return 1 + (definition.getBitLength() - 1) / Byte.SIZE;
+  }
+
+  /**
+   * Base class of formats of records consisting of a fixed number of shares.
+   */
+  private abstract static class SharesFormat<T extends Serializable>
+      implements RecordFormat<T> {
+
+    private final FieldDefinition definition;
+    private final int noOfShares;
+    private final int recordLength;
+
+    private SharesFormat(FieldDefinition definition, int noOfShares) {
+      this.definition = definition;
+      this.noOfShares = noOfShares;
+      this.recordLength = 2 * noOfShares * getElementLength(definition);
+    }
+
+    @Override
+    public int getRecordLength() {
+      return recordLength;
+    }
+
+    void writeShares(ByteBuffer buffer, SpdzSInt... shares) {
+      List<FieldElement> elements = new ArrayList<>(2 * shares.length);
+      for (SpdzSInt share : shares) {
+        elements.add(share.getShare());
+        elements.add(share.getMac());
+      }
+      buffer.put(definition.serialize(elements));
+    }
+
+    SpdzSInt[] readShares(ByteBuffer buffer) {
+      FieldElementVector elements = definition.deserializeVector(buffer, 2 * noOfShares);
+      SpdzSInt[] shares = new SpdzSInt[noOfShares];
+      for (int i = 0; i < noOfShares; i++) {
+        shares[i] = new SpdzSInt(elements.get(2 * i), elements.get(2 * i + 1));
+      }
+      return shares;
+    }
+  }
+}
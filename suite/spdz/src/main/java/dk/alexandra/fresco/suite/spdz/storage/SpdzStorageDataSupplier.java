@@ -131,8 +131,9 @@ public class SpdzStorageDataSupplier implements SpdzDataSupplier {
     return bit;
   }
 
+  // the field definition and the mac key share are read by protocols evaluated in parallel
   @Override
-  public FieldDefinition getFieldDefinition() {
+  public synchronized FieldDefinition getFieldDefinition() {
     if (this.definition != null) {
       return this.definition;
     }
@@ -147,7 +148,7 @@ public class SpdzStorageDataSupplier implements SpdzDataSupplier {
   }
 
   @Override
-  public FieldElement getSecretSharedKey() {
+  public synchronized FieldElement getSecretSharedKey() {
     if (this.ssk != null) {
       return this.ssk;
     }
@@ -9,6 +9,7 @@ import dk.alexandra.fresco.framework.TestThreadRunner;
 import dk.alexandra.fresco.framework.builder.numeric.DefaultPreprocessedValues;
 import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
 import dk.alexandra.fresco.framework.builder.numeric.field.BigIntegerFieldDefinition;
+import dk.alexandra.fresco.framework.builder.numeric.field.FieldDefinition;
 import dk.alexandra.fresco.framework.builder.numeric.field.FieldElement;
 import dk.alexandra.fresco.framework.configuration.NetworkConfiguration;
 import dk.alexandra.fresco.framework.configuration.NetworkUtil;
@@ -21,6 +22,7 @@ import dk.alexandra.fresco.framework.sce.evaluator.BatchEvaluationStrategy;
 import dk.alexandra.fresco.framework.sce.evaluator.BatchedProtocolEvaluator;
 import dk.alexandra.fresco.framework.sce.evaluator.BatchedStrategy;
 import dk.alexandra.fresco.framework.sce.evaluator.EvaluationStrategy;
+import dk.alexandra.fresco.framework.sce.evaluator.ParallelBatchedStrategy;
 import dk.alexandra.fresco.framework.sce.resources.storage.FilebasedStreamedStorageImpl;
 import dk.alexandra.fresco.framework.sce.resources.storage.InMemoryStorage;
 import dk.alexandra.fresco.framework.util.AesCtrDrbg;
@@ -56,6 +58,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -80,7 +83,7 @@ public abstract class AbstractSpdzTest {
       TestThreadRunner.TestThreadFactory<SpdzResourcePool, ProtocolBuilderNumeric> f,
       PreprocessingStrategy preProStrat,
       int noOfParties) {
-    runTest(f, DEFAULT_EVAL_STRATEGY, preProStrat, noOfParties,
+    runTest(f, DEFAULT_EVAL_STRATEGY::getStrategy, preProStrat, noOfParties,
         false, DEFAULT_MOD_BIT_LENGTH, DEFAULT_MAX_BIT_LENGTH, DEFAULT_FIXED_POINT_PRECISION);
   }
 
@@ -94,7 +97,8 @@ public abstract class AbstractSpdzTest {
 
   private void runTest(
       TestThreadRunner.TestThreadFactory<SpdzResourcePool, ProtocolBuilderNumeric> f,
-      EvaluationStrategy evalStrategy, PreprocessingStrategy preProStrat, int noOfParties,
+      Supplier<BatchEvaluationStrategy<SpdzResourcePool>> evalStrategy,
+      PreprocessingStrategy preProStrat, int noOfParties,
       boolean logPerformance, int modBitLength, int maxBitLength, int fixedPointPrecision) {
     this.modBitLength = modBitLength;
     this.maxBitLength = maxBitLength;
@@ -107,6 +111,7 @@ public abstract class AbstractSpdzTest {
     NetManager tripleManager = new NetManager(ports);
     NetManager otManager = new NetManager(ports);
     NetManager expPipeManager = new NetManager(ports);
+    NetManager macCheckManager = new NetManager(ports);
 
     Map<Integer, NetworkConfiguration> netConf =
         NetworkUtil.getNetworkConfigurations(ports);
@@ -116,7 +121,7 @@ public abstract class AbstractSpdzTest {
       PerformanceLoggerCountingAggregate aggregate = new PerformanceLoggerCountingAggregate();
 
       ProtocolSuiteNumeric<SpdzResourcePool> protocolSuite = createProtocolSuite(maxBitLength);
-      BatchEvaluationStrategy<SpdzResourcePool> batchEvalStrat = evalStrategy.getStrategy();
+      BatchEvaluationStrategy<SpdzResourcePool> batchEvalStrat = evalStrategy.get();
       if (logPerformance) {
         protocolSuite = new NumericSuiteLogging<>(protocolSuite);
         aggregate.add((PerformanceLogger) protocolSuite);
@@ -137,7 +142,8 @@ public abstract class AbstractSpdzTest {
 
       TestThreadRunner.TestThreadConfiguration<SpdzResourcePool, ProtocolBuilderNumeric> ttc =
           new TestThreadRunner.TestThreadConfiguration<>(sce, () -> createResourcePool(playerId,
-              noOfParties, preProStrat, otManager, tripleManager, expPipeManager), () -> {
+              noOfParties, preProStrat, otManager, tripleManager, expPipeManager,
+              macCheckManager), () -> {
             Network network = new SocketNetwork(netConf.get(playerId));
             if (logPerformance) {
               network = new NetworkLoggingDecorator(network);
@@ -157,30 +163,50 @@ public abstract class AbstractSpdzTest {
     }
     tripleManager.close();
     expPipeManager.close();
+    macCheckManager.close();
   }
 
   protected SpdzProtocolSuite createProtocolSuite(int maxBitLength) {
     return new SpdzProtocolSuite(maxBitLength);
   }
 
+  /**
+   * Whether the resource pools get a network dedicated to mac checks, letting the round
+   * synchronization run the mac checks in the background.
+   */
+  protected boolean useBackgroundMacCheck() {
+    return false;
+  }
+
+  protected FieldDefinition createFieldDefinition(BigInteger modulus) {
+    return new BigIntegerFieldDefinition(modulus);
+  }
+
   protected void runTest(
       TestThreadRunner.TestThreadFactory<SpdzResourcePool, ProtocolBuilderNumeric> f,
       EvaluationStrategy evalStrategy, PreprocessingStrategy preProStrat, int noOfParties,
       int modBitLength, int maxBitLength, int fixedPointPrecision) {
-    runTest(f, evalStrategy, preProStrat, noOfParties, false, modBitLength, maxBitLength,
-        fixedPointPrecision);
+    runTest(f, evalStrategy::getStrategy, preProStrat, noOfParties, false, modBitLength,
+        maxBitLength, fixedPointPrecision);
   }
 
   // this is here until seq strategy goes away
   void runTestSequential(
       TestThreadRunner.TestThreadFactory<SpdzResourcePool, ProtocolBuilderNumeric> f) {
-    runTest(f, EvaluationStrategy.SEQUENTIAL, PreprocessingStrategy.DUMMY, 2,
+    runTest(f, EvaluationStrategy.SEQUENTIAL::getStrategy, PreprocessingStrategy.DUMMY, 2,
+        false, DEFAULT_MOD_BIT_LENGTH, DEFAULT_MAX_BIT_LENGTH, DEFAULT_FIXED_POINT_PRECISION);
+  }
+
+  void runTestParallel(
+      TestThreadRunner.TestThreadFactory<SpdzResourcePool, ProtocolBuilderNumeric> f,
+      int parallelism) {
+    runTest(f, () -> new ParallelBatchedStrategy<>(parallelism), PreprocessingStrategy.DUMMY, 2,
         false, DEFAULT_MOD_BIT_LENGTH, DEFAULT_MAX_BIT_LENGTH, DEFAULT_FIXED_POINT_PRECISION);
   }
 
   void runTestWithLogging(
       TestThreadRunner.TestThreadFactory<SpdzResourcePool, ProtocolBuilderNumeric> f) {
-    runTest(f, DEFAULT_EVAL_STRATEGY, PreprocessingStrategy.DUMMY, 2,
+    runTest(f, DEFAULT_EVAL_STRATEGY::getStrategy, PreprocessingStrategy.DUMMY, 2,
         true, DEFAULT_MOD_BIT_LENGTH, DEFAULT_MAX_BIT_LENGTH, DEFAULT_FIXED_POINT_PRECISION);
   }
 
@@ -232,19 +258,20 @@ public abstract class AbstractSpdzTest {
       PreprocessingStrategy preProStrat,
       NetManager otGenerator,
       NetManager tripleGenerator,
-      NetManager expPipeGenerator) {
+      NetManager expPipeGenerator,
+      NetManager macCheckGenerator) {
     SpdzDataSupplier supplier;
     if (preProStrat == DUMMY) {
       BigInteger suitableModulus = ModulusFinder.findSuitableModulus(modBitLength);
       supplier = new SpdzDummyDataSupplier(myId, numberOfParties,
-          new BigIntegerFieldDefinition(suitableModulus),
+          createFieldDefinition(suitableModulus),
           new BigInteger(suitableModulus.bitLength(), new Random(0)).mod(suitableModulus));
     } else if (preProStrat == MASCOT) {
       List<Integer> partyIds =
           IntStream.range(1, numberOfParties + 1).boxed().collect(Collectors.toList());
       Drbg drbg = getDrbg(myId, PRG_SEED_LENGTH);
       BigInteger modulus = ModulusFinder.findSuitableModulus(modBitLength);
-      final BigIntegerFieldDefinition definition = new BigIntegerFieldDefinition(modulus);
+      final FieldDefinition definition = createFieldDefinition(modulus);
       Map<Integer, RotList> seedOts =
           getSeedOts(myId, partyIds, PRG_SEED_LENGTH, drbg, otGenerator.createExtraNetwork(myId));
       FieldElement ssk = SpdzMascotDataSupplier.createRandomSsk(definition, PRG_SEED_LENGTH);
@@ -278,8 +305,10 @@ public abstract class AbstractSpdzTest {
           new FilebasedStreamedStorageImpl(new InMemoryStorage());
       supplier = new SpdzStorageDataSupplier(storage, storageName, numberOfParties);
     }
+    Network macCheckNetwork =
+        useBackgroundMacCheck() ? macCheckGenerator.createExtraNetwork(myId) : null;
     return new SpdzResourcePoolImpl(myId, numberOfParties, new OpenedValueStoreImpl<>(), supplier,
-        new AesCtrDrbg(new byte[32]));
+        new AesCtrDrbg(new byte[32]), macCheckNetwork);
   }
 
   private SpdzSInt[] computeSInts(DRes<List<DRes<SInt>>> pipe) {
@@ -0,0 +1,108 @@
+package dk.alexandra.fresco.suite.spdz;
+
+import dk.alexandra.fresco.framework.Application;
+import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.TestThreadRunner.TestThread;
+import dk.alexandra.fresco.framework.TestThreadRunner.TestThreadFactory;
+import dk.alexandra.fresco.framework.builder.numeric.Numeric;
+import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
+import dk.alexandra.fresco.framework.util.Pair;
+import dk.alexandra.fresco.framework.value.SInt;
+import dk.alexandra.fresco.suite.spdz.configuration.PreprocessingStrategy;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests that evaluating the protocols of each round in parallel gives the same results as
+ * evaluating them sequentially.
+ */
+public class TestParallelEval extends AbstractSpdzTest {
+
+  private static final int PARALLELISM = 4;
+
+  @Test
+  public void testParallelEvalMatchesSequential() {
+    Map<Integer, List<BigInteger>> sequential = new ConcurrentHashMap<>();
+    runTest(new TestRandomProducts(sequential), PreprocessingStrategy.DUMMY, 2);
+    Map<Integer, List<BigInteger>> parallel = new ConcurrentHashMap<>();
+    runTestParallel(new TestRandomProducts(parallel), PARALLELISM);
+    Assert.assertEquals(2, parallel.size());
+    Assert.assertEquals(sequential, parallel);
+  }
+
+  /**
+   * Multiplies inputs by random elements and opens the random elements, the products and the
+   * inputs. The random elements depend on the order in which preprocessed material is taken, and
+   * the mac check at the end of the evaluation on the order of the opened values.
+   */
+  private static class TestRandomProducts
+      extends TestThreadFactory<SpdzResourcePool, ProtocolBuilderNumeric> {
+
+    // enough protocols in each round to keep all workers busy
+    private static final int SIZE = 1024;
+    private final Map<Integer, List<BigInteger>> outputs;
+
+    private TestRandomProducts(Map<Integer, List<BigInteger>> outputs) {
+      this.outputs = outputs;
+    }
+
+    @Override
+    public TestThread<SpdzResourcePool, ProtocolBuilderNumeric> next() {
+      return new TestThread<SpdzResourcePool, ProtocolBuilderNumeric>() {
+        @Override
+        public void test() {
+          Application<List<BigInteger>, ProtocolBuilderNumeric> app = builder -> builder
+              .par(par -> {
+                Numeric numeric = par.numeric();
+                List<DRes<SInt>> inputs = new ArrayList<>(SIZE);
+                List<DRes<SInt>> randoms = new ArrayList<>(SIZE);
+                for (int i = 0; i < SIZE; i++) {
+                  inputs.add(numeric.input(BigInteger.valueOf(i), 1));
+                  randoms.add(numeric.randomElement());
+                }
+                return () -> new Pair<>(inputs, randoms);
+              }).par((par, inputsAndRandoms) -> {
+                Numeric numeric = par.numeric();
+                List<DRes<SInt>> products = new ArrayList<>(SIZE);
+                for (int i = 0; i < SIZE; i++) {
+                  products.add(numeric.mult(inputsAndRandoms.getFirst().get(i),
+                      inputsAndRandoms.getSecond().get(i)));
+                }
+                return () -> new Pair<>(inputsAndRandoms, products);
+              }).par((par, values) -> {
+                Numeric numeric = par.numeric();
+                List<DRes<BigInteger>> opened = new ArrayList<>(3 * SIZE);
+                for (int i = 0; i < SIZE; i++) {
+                  opened.add(numeric.open(values.getFirst().getSecond().get(i)));
+                  opened.add(numeric.open(values.getSecond().get(i)));
+                  opened.add(numeric.open(values.getFirst().getFirst().get(i), 1));
+                }
+                return () -> opened;
+              }).seq((seq, opened) -> {
+                List<BigInteger> result = opened.stream()
+                    .map(DRes::out)
+                    .collect(Collectors.toList());
+                return () -> result;
+              });
+          List<BigInteger> result = runApplication(app);
+          BigInteger modulus = conf.getResourcePool().getModulus();
+          for (int i = 0; i < SIZE; i++) {
+            BigInteger random = result.get(3 * i);
+            Assert.assertEquals(random.multiply(BigInteger.valueOf(i)).mod(modulus),
+                result.get(3 * i + 1));
+            if (conf.getMyId() == 1) {
+              Assert.assertEquals(BigInteger.valueOf(i), result.get(3 * i + 2));
+            }
+          }
+          outputs.put(conf.getMyId(), result);
+        }
+      };
+    }
+  }
+}
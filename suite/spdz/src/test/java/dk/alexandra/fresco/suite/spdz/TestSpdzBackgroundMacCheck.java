@@ -0,0 +1,89 @@
+package dk.alexandra.fresco.suite.spdz;
+
+import dk.alexandra.fresco.framework.Application;
+import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.TestThreadRunner.TestThread;
+import dk.alexandra.fresco.framework.TestThreadRunner.TestThreadFactory;
+import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
+import dk.alexandra.fresco.framework.value.SInt;
+import dk.alexandra.fresco.lib.arithmetic.BasicArithmeticTests;
+import dk.alexandra.fresco.lib.math.integer.sqrt.SqrtTests.TestSquareRoot;
+import dk.alexandra.fresco.suite.spdz.configuration.PreprocessingStrategy;
+import java.math.BigInteger;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests running the mac checks of SPDZ in the background, using a low threshold for opened values
+ * so that checks are started while the evaluation continues.
+ */
+public class TestSpdzBackgroundMacCheck extends AbstractSpdzTest {
+
+  @Test
+  public void testFinishedEvalMacCheck() {
+    runTest(new TestMacCheckEvalFinished<>(),
+        PreprocessingStrategy.DUMMY, 2);
+  }
+
+  @Test
+  public void testMultAndOutput() {
+    runTest(new BasicArithmeticTests.TestSumAndMult<>(),
+        PreprocessingStrategy.DUMMY, 2);
+  }
+
+  @Test
+  public void testSqrt() {
+    runTest(new TestSquareRoot<>(),
+        PreprocessingStrategy.DUMMY, 2);
+  }
+
+  @Test
+  public void testSqrtThreeParties() {
+    runTest(new TestSquareRoot<>(),
+        PreprocessingStrategy.DUMMY, 3);
+  }
+
+  @Override
+  protected boolean useBackgroundMacCheck() {
+    return true;
+  }
+
+  @Override
+  protected SpdzProtocolSuite createProtocolSuite(int maxBitLength) {
+    return new LowThresholdSpdzSuite(maxBitLength);
+  }
+
+  private class LowThresholdSpdzSuite extends SpdzProtocolSuite {
+
+    LowThresholdSpdzSuite(int maxBitLength) {
+      super(maxBitLength);
+    }
+
+    @Override
+    public RoundSynchronization<SpdzResourcePool> createRoundSynchronization() {
+      return new SpdzRoundSynchronization(this, 16, 128);
+    }
+  }
+
+  private static class TestMacCheckEvalFinished<ResourcePoolT extends SpdzResourcePool>
+      extends TestThreadFactory<ResourcePoolT, ProtocolBuilderNumeric> {
+
+    @Override
+    public TestThread<ResourcePoolT, ProtocolBuilderNumeric> next() {
+      return new TestThread<ResourcePoolT, ProtocolBuilderNumeric>() {
+        @Override
+        public void test() {
+          Application<SInt, ProtocolBuilderNumeric> testApplication = root -> {
+            DRes<SInt> left = root.numeric().known(BigInteger.ZERO);
+            DRes<SInt> right = root.numeric().known(BigInteger.ONE);
+            return root.numeric().mult(left, right);
+          };
+          runApplication(testApplication);
+          Assert.assertFalse(
+              "There should be no unchecked opened values after the evaluation has finished",
+              conf.getResourcePool().getOpenedValueStore().hasPendingValues());
+        }
+      };
+    }
+  }
+}
@@ -81,6 +81,12 @@ public class TestSpdzBasicArithmetic2Parties extends AbstractSpdzTest {
         PreprocessingStrategy.DUMMY, 2);
   }
 
+  @Test
+  public void test_Multiply_Lists_Sequential() {
+    runTest(new BasicArithmeticTests.TestMultiplyLists<>(),
+        PreprocessingStrategy.DUMMY, 2);
+  }
+
   @Test
   public void test_Sum_And_Output_Sequential() {
     runTest(new BasicArithmeticTests.TestSumAndMult<>(),
@@ -6,10 +6,12 @@ import dk.alexandra.fresco.lib.arithmetic.SearchingTests;
 import dk.alexandra.fresco.lib.collections.Matrix;
 import dk.alexandra.fresco.lib.collections.io.CloseListTests;
 import dk.alexandra.fresco.lib.collections.io.CloseMatrixTests;
+import dk.alexandra.fresco.lib.collections.lookup.ObliviousLookupTests;
 import dk.alexandra.fresco.lib.collections.permute.PermuteRows;
 import dk.alexandra.fresco.lib.collections.permute.PermuteRowsTests;
 import dk.alexandra.fresco.lib.collections.relational.LeakyAggregationTests;
 import dk.alexandra.fresco.lib.collections.shuffle.ShuffleRowsTests;
+import dk.alexandra.fresco.lib.collections.sort.SortRowsTests;
 import dk.alexandra.fresco.suite.spdz.configuration.PreprocessingStrategy;
 import java.util.ArrayList;
 import org.junit.Test;
@@ -28,6 +30,18 @@ public class TestSpdzCollections extends AbstractSpdzTest {
         PreprocessingStrategy.DUMMY, 2);
   }
 
+  @Test
+  public void test_close_lists_from_all_parties() {
+    runTest(new CloseListTests.TestCloseListsFromAllParties<>(),
+        PreprocessingStrategy.DUMMY, 3);
+  }
+
+  @Test
+  public void test_close_lists_from_all_parties_mascot() {
+    runTest(new CloseListTests.TestCloseListsFromAllParties<>(),
+        PreprocessingStrategy.MASCOT, 2, 16, 16, 16);
+  }
+
   @Test
   public void test_close_empty_matrix() {
     runTest(new CloseMatrixTests.TestCloseEmptyMatrix<>(),
@@ -83,6 +97,11 @@ public class TestSpdzCollections extends AbstractSpdzTest {
         PreprocessingStrategy.DUMMY, 2);
   }
 
+  @Test
+  public void test_sort_rows() {
+    runTest(SortRowsTests.sortRows(), PreprocessingStrategy.DUMMY, 2);
+  }
+
   @Test
   public void test_MiMC_aggregate_two() {
     runTest(LeakyAggregationTests.aggregate(),
@@ -100,4 +119,22 @@ public class TestSpdzCollections extends AbstractSpdzTest {
     runTest(LeakyAggregationTests.aggregateEmpty(),
         PreprocessingStrategy.DUMMY, 2);
   }
+
+  @Test
+  public void test_oblivious_read() {
+    runTest(new ObliviousLookupTests.TestObliviousRead<>(),
+        PreprocessingStrategy.DUMMY, 2);
+  }
+
+  @Test
+  public void test_oblivious_write() {
+    runTest(new ObliviousLookupTests.TestObliviousWrite<>(),
+        PreprocessingStrategy.DUMMY, 2);
+  }
+
+  @Test
+  public void test_square_root_oram() {
+    runTest(new ObliviousLookupTests.TestSquareRootOram<>(10, 20),
+        PreprocessingStrategy.DUMMY, 2);
+  }
 }
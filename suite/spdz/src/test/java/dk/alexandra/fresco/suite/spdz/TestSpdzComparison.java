@@ -54,6 +54,11 @@ public class TestSpdzComparison extends AbstractSpdzTest {
         PreprocessingStrategy.DUMMY, 2);
   }
 
+  @Test
+  public void test_edaBit() {
+    runTest(new CompareTests.TestEdaBit<>(), PreprocessingStrategy.DUMMY, 2);
+  }
+
   @Test
   public void test_find_duplicates() {
     runTest(new TestFindDuplicatesOne<>(),
@@ -66,6 +71,12 @@ public class TestSpdzComparison extends AbstractSpdzTest {
         PreprocessingStrategy.MASCOT, 2, 64, 2, 1);
   }
 
+  @Test
+  public void testEdaBitBatchedMascot() {
+    runTest(new CompareTests.TestEdaBit<>(), EvaluationStrategy.SEQUENTIAL_BATCHED,
+        PreprocessingStrategy.MASCOT, 2, 64, 2, 1);
+  }
+
   @Test
   public void testCompareEQSequentialBatchedMascot() {
     runTest(new CompareTests.TestCompareEQ<>(), EvaluationStrategy.SEQUENTIAL_BATCHED,
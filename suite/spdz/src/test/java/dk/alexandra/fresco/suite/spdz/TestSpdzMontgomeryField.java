@@ -0,0 +1,55 @@
+package dk.alexandra.fresco.suite.spdz;
+
+import dk.alexandra.fresco.framework.builder.numeric.field.FieldDefinition;
+import dk.alexandra.fresco.framework.builder.numeric.field.MontgomeryFieldDefinition;
+import dk.alexandra.fresco.framework.sce.evaluator.EvaluationStrategy;
+import dk.alexandra.fresco.lib.arithmetic.BasicArithmeticTests;
+import dk.alexandra.fresco.lib.compare.CompareTests;
+import dk.alexandra.fresco.suite.spdz.configuration.PreprocessingStrategy;
+import java.math.BigInteger;
+import org.junit.Test;
+
+/**
+ * Runs a selection of tests using the SPDZ protocol suite over a {@link
+ * MontgomeryFieldDefinition}, both with dummy and MASCOT preprocessing.
+ */
+public class TestSpdzMontgomeryField extends AbstractSpdzTest {
+
+  @Override
+  protected FieldDefinition createFieldDefinition(BigInteger modulus) {
+    return new MontgomeryFieldDefinition(modulus);
+  }
+
+  @Test
+  public void testInput() {
+    runTest(new BasicArithmeticTests.TestInput<>(), PreprocessingStrategy.DUMMY, 2);
+  }
+
+  @Test
+  public void testLotsOfMults() {
+    runTest(new BasicArithmeticTests.TestLotsMult<>(), PreprocessingStrategy.DUMMY, 2, 256, 128,
+        16);
+  }
+
+  @Test
+  public void testMultiplyLists() {
+    runTest(new BasicArithmeticTests.TestMultiplyLists<>(), PreprocessingStrategy.DUMMY, 3);
+  }
+
+  @Test
+  public void testCompareLt() {
+    runTest(new CompareTests.TestCompareLT<>(), PreprocessingStrategy.DUMMY, 2);
+  }
+
+  @Test
+  public void testInputMascot() {
+    runTest(new BasicArithmeticTests.TestInput<>(), EvaluationStrategy.SEQUENTIAL_BATCHED,
+        PreprocessingStrategy.MASCOT, 2, 16, 16, 16);
+  }
+
+  @Test
+  public void testSumAndMultMascot() {
+    runTest(new BasicArithmeticTests.TestSumAndMult<>(), EvaluationStrategy.SEQUENTIAL_BATCHED,
+        PreprocessingStrategy.MASCOT, 2, 16, 16, 16);
+  }
+}
@@ -0,0 +1,30 @@
+package dk.alexandra.fresco.suite.spdz;
+
+import dk.alexandra.fresco.lib.real.TruncationTests;
+import dk.alexandra.fresco.suite.spdz.configuration.PreprocessingStrategy;
+import org.junit.Test;
+
+public class TestSpdzTruncation extends AbstractSpdzTest {
+
+  @Test
+  public void testTruncationPair() {
+    runTest(new TruncationTests.TestTruncationPair<>(), PreprocessingStrategy.DUMMY, 2);
+  }
+
+  @Test
+  public void testTruncationFromPair() {
+    runTest(new TruncationTests.TestTruncationFromPair<>(), PreprocessingStrategy.DUMMY, 2);
+  }
+
+  @Test
+  public void testTruncationPairMascot() {
+    runTest(new TruncationTests.TestTruncationPair<>(), PreprocessingStrategy.MASCOT, 2, 32, 16,
+        4);
+  }
+
+  @Test
+  public void testTruncationFromPairMascot() {
+    runTest(new TruncationTests.TestTruncationFromPair<>(), PreprocessingStrategy.MASCOT, 2, 64,
+        32, 4);
+  }
+}
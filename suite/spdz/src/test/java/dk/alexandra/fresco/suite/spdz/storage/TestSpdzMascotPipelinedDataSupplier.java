@@ -0,0 +1,158 @@
+package dk.alexandra.fresco.suite.spdz.storage;
+
+import static org.junit.Assert.assertEquals;
+
+import dk.alexandra.fresco.framework.builder.numeric.field.BigIntegerFieldDefinition;
+import dk.alexandra.fresco.framework.builder.numeric.field.FieldElement;
+import dk.alexandra.fresco.framework.network.Network;
+import dk.alexandra.fresco.framework.util.AesCtrDrbgFactory;
+import dk.alexandra.fresco.framework.util.Drbg;
+import dk.alexandra.fresco.framework.util.ExceptionConverter;
+import dk.alexandra.fresco.framework.util.ModulusFinder;
+import dk.alexandra.fresco.suite.spdz.NetManager;
+import dk.alexandra.fresco.suite.spdz.datatypes.SpdzInputMask;
+import dk.alexandra.fresco.suite.spdz.datatypes.SpdzSInt;
+import dk.alexandra.fresco.suite.spdz.datatypes.SpdzTriple;
+import dk.alexandra.fresco.tools.ot.base.DummyOt;
+import dk.alexandra.fresco.tools.ot.base.Ot;
+import dk.alexandra.fresco.tools.ot.otextension.RotList;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TestSpdzMascotPipelinedDataSupplier {
+
+  private static final int PRG_SEED_LENGTH = 256;
+  private static final int NO_OF_PARTIES = 2;
+  private static final int NO_OF_ELEMENTS = 40;
+  private ExecutorService executorService;
+  private List<Integer> ports;
+  private BigIntegerFieldDefinition definition;
+
+  @Before
+  public void setUp() {
+    ports = new ArrayList<>(NO_OF_PARTIES);
+    for (int i = 1; i <= NO_OF_PARTIES; i++) {
+      ports.add(11000 + i * (NO_OF_PARTIES - 1));
+    }
+    executorService = Executors.newCachedThreadPool();
+    definition = new BigIntegerFieldDefinition(ModulusFinder.findSuitableModulus(128));
+  }
+
+  @After
+  public void tearDown() {
+    executorService.shutdownNow();
+  }
+
+  @Test
+  public void testPreprocessedMaterialIsConsistent() {
+    NetManager otManager = new NetManager(ports);
+    NetManager tripleManager = new NetManager(ports);
+    List<Callable<PartyOutput>> tasks = new ArrayList<>();
+    for (int myId = 1; myId <= NO_OF_PARTIES; myId++) {
+      final int finalMyId = myId;
+      tasks.add(() -> runParty(finalMyId, otManager, tripleManager));
+    }
+    List<PartyOutput> outputs = new ArrayList<>();
+    for (Future<PartyOutput> future : ExceptionConverter
+        .safe(() -> executorService.invokeAll(tasks), "Error invoking tasks")) {
+      outputs.add(ExceptionConverter.safe(future::get, "Error getting party output"));
+    }
+    otManager.close();
+    tripleManager.close();
+
+    BigInteger macKey = BigInteger.ZERO;
+    for (PartyOutput output : outputs) {
+      macKey = macKey.add(definition.convertToUnsigned(output.ssk));
+    }
+    for (int i = 0; i < NO_OF_ELEMENTS; i++) {
+      final int index = i;
+      BigInteger a = open(outputs, macKey, output -> output.triples.get(index).getA());
+      BigInteger b = open(outputs, macKey, output -> output.triples.get(index).getB());
+      BigInteger c = open(outputs, macKey, output -> output.triples.get(index).getC());
+      assertEquals(a.multiply(b).mod(definition.getModulus()), c);
+      BigInteger bit = open(outputs, macKey, output -> output.bits.get(index));
+      assertEquals(bit, bit.multiply(bit).mod(definition.getModulus()));
+      BigInteger mask = open(outputs, macKey, output -> output.masks.get(index).getMask());
+      assertEquals(definition.convertToUnsigned(outputs.get(0).masks.get(index).getRealValue()),
+          mask);
+    }
+  }
+
+  private BigInteger open(List<PartyOutput> outputs, BigInteger macKey,
+      Function<PartyOutput, SpdzSInt> selector) {
+    BigInteger value = BigInteger.ZERO;
+    BigInteger mac = BigInteger.ZERO;
+    for (PartyOutput output : outputs) {
+      SpdzSInt share = selector.apply(output);
+      value = value.add(definition.convertToUnsigned(share.getShare()));
+      mac = mac.add(definition.convertToUnsigned(share.getMac()));
+    }
+    value = value.mod(definition.getModulus());
+    assertEquals(value.multiply(macKey).mod(definition.getModulus()),
+        mac.mod(definition.getModulus()));
+    return value;
+  }
+
+  private PartyOutput runParty(int myId, NetManager otManager, NetManager tripleManager) {
+    byte[] seed = new byte[PRG_SEED_LENGTH / 8];
+    new Random(myId).nextBytes(seed);
+    Drbg drbg = AesCtrDrbgFactory.fromDerivedSeed(seed);
+    Map<Integer, RotList> seedOts = getSeedOts(myId, drbg, otManager.createExtraNetwork(myId));
+    FieldElement ssk = SpdzMascotDataSupplier.createRandomSsk(definition, PRG_SEED_LENGTH);
+    // Small batches and watermarks to force several refills on the producer thread
+    SpdzMascotPipelinedDataSupplier supplier = new SpdzMascotPipelinedDataSupplier(myId,
+        NO_OF_PARTIES, 1, () -> tripleManager.createExtraNetwork(myId), definition, 128, null,
+        PRG_SEED_LENGTH, 4, 16, 4, 24, ssk, seedOts, drbg);
+    PartyOutput output = new PartyOutput(ssk);
+    for (int i = 0; i < NO_OF_ELEMENTS; i++) {
+      output.triples.add(supplier.getNextTriple());
+      output.bits.add(supplier.getNextBit());
+      output.masks.add(supplier.getNextInputMask(1));
+    }
+    supplier.close();
+    return output;
+  }
+
+  private Map<Integer, RotList> getSeedOts(int myId, Drbg drbg, Network network) {
+    Map<Integer, RotList> seedOts = new HashMap<>();
+    for (int otherId = 1; otherId <= NO_OF_PARTIES; otherId++) {
+      if (myId != otherId) {
+        Ot ot = new DummyOt(otherId, network);
+        RotList currentSeedOts = new RotList(drbg, PRG_SEED_LENGTH);
+        if (myId < otherId) {
+          currentSeedOts.send(ot);
+          currentSeedOts.receive(ot);
+        } else {
+          currentSeedOts.receive(ot);
+          currentSeedOts.send(ot);
+        }
+        seedOts.put(otherId, currentSeedOts);
+      }
+    }
+    return seedOts;
+  }
+
+  private static class PartyOutput {
+
+    private final FieldElement ssk;
+    private final List<SpdzTriple> triples = new ArrayList<>();
+    private final List<SpdzSInt> bits = new ArrayList<>();
+    private final List<SpdzInputMask> masks = new ArrayList<>();
+
+    private PartyOutput(FieldElement ssk) {
+      this.ssk = ssk;
+    }
+  }
+}
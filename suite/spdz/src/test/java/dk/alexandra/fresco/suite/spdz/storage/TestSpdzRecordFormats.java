@@ -0,0 +1,146 @@
+package dk.alexandra.fresco.suite.spdz.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import dk.alexandra.fresco.framework.builder.numeric.field.BigIntegerFieldDefinition;
+import dk.alexandra.fresco.framework.builder.numeric.field.FieldDefinition;
+import dk.alexandra.fresco.framework.builder.numeric.field.FieldElement;
+import dk.alexandra.fresco.framework.sce.resources.storage.FilebasedStreamedStorageImpl;
+import dk.alexandra.fresco.framework.sce.resources.storage.InMemoryStorage;
+import dk.alexandra.fresco.framework.sce.resources.storage.MappedStreamedStorageImpl;
+import dk.alexandra.fresco.framework.sce.resources.storage.exceptions.NoMoreElementsException;
+import dk.alexandra.fresco.framework.util.ModulusFinder;
+import dk.alexandra.fresco.suite.spdz.datatypes.SpdzInputMask;
+import dk.alexandra.fresco.suite.spdz.datatypes.SpdzSInt;
+import dk.alexandra.fresco.suite.spdz.datatypes.SpdzTriple;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import org.junit.After;
+import org.junit.Test;
+
+public class TestSpdzRecordFormats {
+
+  private static final String STORAGE_NAME = "spdz-mapped-test_";
+  private static final int NO_OF_PARTIES = 2;
+  private static final int EXP_PIPE_LENGTH = 4;
+  private static final int NO_OF_RECORDS = 20;
+
+  private final FieldDefinition definition =
+      new BigIntegerFieldDefinition(ModulusFinder.findSuitableModulus(128));
+
+  /**
+   * Removes the files written by the tests.
+   */
+  @After
+  public void removeFiles() throws IOException {
+    for (String store : new String[]{SpdzStorageDataSupplier.TRIPLE_STORAGE,
+        SpdzStorageDataSupplier.BIT_STORAGE, SpdzStorageDataSupplier.EXP_PIPE_STORAGE,
+        SpdzStorageDataSupplier.INPUT_STORAGE + 1, SpdzStorageDataSupplier.INPUT_STORAGE + 2,
+        SpdzStorageDataSupplier.MODULUS_KEY}) {
+      Files.deleteIfExists(Paths.get(STORAGE_NAME + store));
+    }
+  }
+
+  private SpdzSInt share(int i) {
+    return new SpdzSInt(definition.createElement(i), definition.createElement(-i));
+  }
+
+  private void assertShare(int i, SpdzSInt actual) {
+    assertElement(i, actual.getShare());
+    assertElement(-i, actual.getMac());
+  }
+
+  private void assertElement(int i, FieldElement actual) {
+    assertEquals(definition.convertToUnsigned(definition.createElement(i)),
+        definition.convertToUnsigned(actual));
+  }
+
+  private MappedStreamedStorageImpl createStorage() {
+    MappedStreamedStorageImpl storage =
+        new MappedStreamedStorageImpl(new FilebasedStreamedStorageImpl(new InMemoryStorage()));
+    SpdzRecordFormats.registerFormats(storage, STORAGE_NAME, NO_OF_PARTIES, definition,
+        EXP_PIPE_LENGTH);
+    return storage;
+  }
+
+  private void writeRecords() {
+    MappedStreamedStorageImpl storage = createStorage();
+    storage.putNext(STORAGE_NAME + SpdzStorageDataSupplier.MODULUS_KEY, definition.getModulus());
+    for (int i = 0; i < NO_OF_RECORDS; i++) {
+      storage.putNext(STORAGE_NAME + SpdzStorageDataSupplier.TRIPLE_STORAGE,
+          new SpdzTriple(share(3 * i), share(3 * i + 1), share(3 * i + 2)));
+      storage.putNext(STORAGE_NAME + SpdzStorageDataSupplier.BIT_STORAGE, share(i % 2));
+      SpdzSInt[] expPipe = new SpdzSInt[EXP_PIPE_LENGTH];
+      for (int j = 0; j < EXP_PIPE_LENGTH; j++) {
+        expPipe[j] = share(i + j);
+      }
+      storage.putNext(STORAGE_NAME + SpdzStorageDataSupplier.EXP_PIPE_STORAGE, expPipe);
+      storage.putNext(STORAGE_NAME + SpdzStorageDataSupplier.INPUT_STORAGE + 1,
+          new SpdzInputMask(share(i), definition.createElement(7 * i)));
+      storage.putNext(STORAGE_NAME + SpdzStorageDataSupplier.INPUT_STORAGE + 2,
+          new SpdzInputMask(share(i)));
+    }
+    storage.shutdown();
+  }
+
+  @Test
+  public void testDataSupplierOnMappedStorage() {
+    writeRecords();
+    MappedStreamedStorageImpl storage = createStorage();
+    SpdzStorageDataSupplier supplier =
+        new SpdzStorageDataSupplier(storage, STORAGE_NAME, NO_OF_PARTIES);
+    assertEquals(definition.getModulus(), supplier.getFieldDefinition().getModulus());
+    for (int i = 0; i < NO_OF_RECORDS; i++) {
+      SpdzTriple triple = supplier.getNextTriple();
+      assertShare(3 * i, triple.getA());
+      assertShare(3 * i + 1, triple.getB());
+      assertShare(3 * i + 2, triple.getC());
+      assertShare(i % 2, supplier.getNextBit());
+      SpdzSInt[] expPipe = supplier.getNextExpPipe();
+      assertEquals(EXP_PIPE_LENGTH, expPipe.length);
+      for (int j = 0; j < EXP_PIPE_LENGTH; j++) {
+        assertShare(i + j, expPipe[j]);
+      }
+      SpdzInputMask ownMask = supplier.getNextInputMask(1);
+      assertShare(i, ownMask.getMask());
+      assertElement(7 * i, ownMask.getRealValue());
+      SpdzInputMask otherMask = supplier.getNextInputMask(2);
+      assertShare(i, otherMask.getMask());
+      assertNull(otherMask.getRealValue());
+    }
+    storage.shutdown();
+  }
+
+  @Test
+  public void testDisjointSlices() throws NoMoreElementsException {
+    writeRecords();
+    int sliceSize = NO_OF_RECORDS / 2;
+    for (int slice = 0; slice < 2; slice++) {
+      MappedStreamedStorageImpl storage = createStorage();
+      storage.slice(STORAGE_NAME + SpdzStorageDataSupplier.TRIPLE_STORAGE, slice * sliceSize,
+          sliceSize);
+      SpdzStorageDataSupplier supplier =
+          new SpdzStorageDataSupplier(storage, STORAGE_NAME, NO_OF_PARTIES);
+      for (int i = slice * sliceSize; i < (slice + 1) * sliceSize; i++) {
+        assertShare(3 * i, supplier.getNextTriple().getA());
+      }
+      assertEquals(0,
+          storage.getRemainingRecords(STORAGE_NAME + SpdzStorageDataSupplier.TRIPLE_STORAGE));
+      storage.shutdown();
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testWrongExpPipeLength() {
+    MappedStreamedStorageImpl storage = createStorage();
+    try {
+      storage.putNext(STORAGE_NAME + SpdzStorageDataSupplier.EXP_PIPE_STORAGE,
+          new SpdzSInt[]{share(1)});
+    } finally {
+      storage.shutdown();
+    }
+  }
+}
@@ -0,0 +1,105 @@
+package dk.alexandra.fresco.suite.spdz2k;
+
+import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.builder.numeric.BuilderFactoryNumeric;
+import dk.alexandra.fresco.framework.builder.numeric.DefaultAdvancedNumeric;
+import dk.alexandra.fresco.framework.builder.numeric.Numeric;
+import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
+import dk.alexandra.fresco.framework.value.SInt;
+import dk.alexandra.fresco.suite.spdz2k.protocols.computations.Spdz2kBitDecomposition;
+import dk.alexandra.fresco.suite.spdz2k.protocols.computations.Spdz2kModPowerOfTwo;
+import dk.alexandra.fresco.suite.spdz2k.protocols.computations.Spdz2kRightShift;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Advanced numeric operations for the SPDZ2k protocol suite.
+ *
+ * <p>Shifts, bit decompositions and reductions modulo powers of two are replaced by exact versions
+ * in <i>Z<sub>2<sup>k</sup></sub></i>, since the default versions rely on a prime field. Inputs
+ * of shifts are interpreted as unsigned <i>k</i>-bit integers. The remaining operations are the
+ * defaults.</p>
+ */
+public class Spdz2kAdvancedNumeric extends DefaultAdvancedNumeric {
+
+  private final ProtocolBuilderNumeric builder;
+  private final int ringBitLength;
+
+  /**
+   * Creates new {@link Spdz2kAdvancedNumeric}.
+   *
+   * @param factoryNumeric the builder factory of the suite
+   * @param builder the builder to append the operations to
+   * @param ringBitLength the bit length of the ring, <i>k</i>
+   */
+  public Spdz2kAdvancedNumeric(BuilderFactoryNumeric factoryNumeric,
+      ProtocolBuilderNumeric builder, int ringBitLength) {
+    super(factoryNumeric, builder);
+    this.builder = builder;
+    this.ringBitLength = ringBitLength;
+  }
+
+  @Override
+  public DRes<SInt> mod(DRes<SInt> dividend, BigInteger divisor) {
+    if (divisor.signum() <= 0 || divisor.bitCount() != 1) {
+      return super.mod(dividend, divisor);
+    }
+    int exponent = divisor.getLowestSetBit();
+    if (exponent == 0) {
+      return builder.numeric().known(BigInteger.ZERO);
+    }
+    if (exponent >= ringBitLength) {
+      return dividend;
+    }
+    return builder.seq(new Spdz2kModPowerOfTwo(dividend, exponent, ringBitLength));
+  }
+
+  @Override
+  public DRes<List<SInt>> toBits(DRes<SInt> in, int maxInputLength) {
+    return builder.seq(
+        new Spdz2kBitDecomposition(in, Math.min(maxInputLength, ringBitLength), ringBitLength));
+  }
+
+  @Override
+  public DRes<RandomAdditiveMask> additiveMask(int noOfBits) {
+    return builder.par(par -> {
+      Numeric numeric = par.numeric();
+      List<DRes<SInt>> bits = new ArrayList<>(noOfBits);
+      for (int i = 0; i < noOfBits; i++) {
+        bits.add(numeric.randomBit());
+      }
+      return () -> bits;
+    }).seq((seq, bits) -> {
+      Numeric numeric = seq.numeric();
+      DRes<SInt> value = numeric.known(BigInteger.ZERO);
+      for (int i = 0; i < noOfBits; i++) {
+        value = numeric.add(value, numeric.mult(BigInteger.ONE.shiftLeft(i), bits.get(i)));
+      }
+      DRes<SInt> random = value;
+      return () -> new RandomAdditiveMask(bits, random.out());
+    });
+  }
+
+  @Override
+  public DRes<SInt> rightShift(DRes<SInt> input) {
+    return rightShift(input, 1);
+  }
+
+  @Override
+  public DRes<SInt> rightShift(DRes<SInt> input, int shifts) {
+    DRes<RightShiftResult> rightShiftResult = builder.seq(
+        new Spdz2kRightShift(input, ringBitLength, shifts, ringBitLength, false));
+    return () -> rightShiftResult.out().getResult();
+  }
+
+  @Override
+  public DRes<RightShiftResult> rightShiftWithRemainder(DRes<SInt> input) {
+    return rightShiftWithRemainder(input, 1);
+  }
+
+  @Override
+  public DRes<RightShiftResult> rightShiftWithRemainder(DRes<SInt> input, int shifts) {
+    return builder.seq(new Spdz2kRightShift(input, ringBitLength, shifts, ringBitLength, true));
+  }
+}
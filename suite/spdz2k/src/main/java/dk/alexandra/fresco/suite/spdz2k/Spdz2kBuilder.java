@@ -1,8 +1,14 @@
 package dk.alexandra.fresco.suite.spdz2k;
 
 import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.builder.numeric.AdvancedNumeric;
+import dk.alexandra.fresco.framework.builder.numeric.AdvancedNumeric.RandomAdditiveMask;
 import dk.alexandra.fresco.framework.builder.numeric.BuilderFactoryNumeric;
+import dk.alexandra.fresco.framework.builder.numeric.Comparison;
+import dk.alexandra.fresco.framework.builder.numeric.DefaultPreprocessedValues;
+import dk.alexandra.fresco.framework.builder.numeric.LazySInt;
 import dk.alexandra.fresco.framework.builder.numeric.Numeric;
+import dk.alexandra.fresco.framework.builder.numeric.PreprocessedValues;
 import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
 import dk.alexandra.fresco.framework.value.SInt;
 import dk.alexandra.fresco.lib.compare.MiscBigIntegerGenerators;
@@ -12,20 +18,31 @@ import dk.alexandra.fresco.suite.spdz2k.datatypes.CompUInt;
 import dk.alexandra.fresco.suite.spdz2k.datatypes.CompUIntFactory;
 import dk.alexandra.fresco.suite.spdz2k.datatypes.Spdz2kSInt;
 import dk.alexandra.fresco.suite.spdz2k.protocols.computations.Spdz2kInputComputation;
+import dk.alexandra.fresco.suite.spdz2k.protocols.computations.Spdz2kInputListComputation;
 import dk.alexandra.fresco.suite.spdz2k.protocols.natives.Spdz2kAddKnownProtocol;
 import dk.alexandra.fresco.suite.spdz2k.protocols.natives.Spdz2kKnownSIntProtocol;
+import dk.alexandra.fresco.suite.spdz2k.protocols.natives.Spdz2kMultiplyListProtocol;
 import dk.alexandra.fresco.suite.spdz2k.protocols.natives.Spdz2kMultiplyProtocol;
 import dk.alexandra.fresco.suite.spdz2k.protocols.natives.Spdz2kOutputSinglePartyProtocol;
 import dk.alexandra.fresco.suite.spdz2k.protocols.natives.Spdz2kOutputToAllProtocol;
 import dk.alexandra.fresco.suite.spdz2k.protocols.natives.Spdz2kRandomBitProtocol;
 import dk.alexandra.fresco.suite.spdz2k.protocols.natives.Spdz2kRandomElementProtocol;
 import dk.alexandra.fresco.suite.spdz2k.protocols.natives.Spdz2kSubtractFromKnownProtocol;
+import dk.alexandra.fresco.suite.spdz2k.protocols.natives.Spdz2kTruncationPairProtocol;
+import dk.alexandra.fresco.suite.spdz2k.resource.Spdz2kResourcePool;
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 /**
  * Basic native builder for the SPDZ2k protocol suite.
  *
+ * <p>Additions, subtractions and multiplications by public constants are local, so they are
+ * returned as {@link LazySInt} values rather than appended as native protocols, and do not count
+ * towards the batch size of the evaluator. Public constants need the share of the mac key, so
+ * unless the builder is given a resource pool, operations on constants are native protocols.</p>
+ *
  * @param <PlainT> the type representing open values
  */
 public class Spdz2kBuilder<PlainT extends CompUInt<?, ?, PlainT>> implements
@@ -33,10 +50,24 @@ public class Spdz2kBuilder<PlainT extends CompUInt<?, ?, PlainT>> implements
 
   private final CompUIntFactory<PlainT> factory;
   private final BasicNumericContext numericContext;
+  private final Spdz2kResourcePool<PlainT> resourcePool;
 
   public Spdz2kBuilder(CompUIntFactory<PlainT> factory, BasicNumericContext numericContext) {
+    this(factory, numericContext, null);
+  }
+
+  /**
+   * Creates a builder which also evaluates operations on public constants locally.
+   *
+   * @param factory factory for open values
+   * @param numericContext the numeric context
+   * @param resourcePool the resource pool of the party, giving the share of the mac key
+   */
+  public Spdz2kBuilder(CompUIntFactory<PlainT> factory, BasicNumericContext numericContext,
+      Spdz2kResourcePool<PlainT> resourcePool) {
     this.factory = factory;
     this.numericContext = numericContext;
+    this.resourcePool = resourcePool;
   }
 
   @Override
@@ -49,29 +80,40 @@ public class Spdz2kBuilder<PlainT extends CompUInt<?, ?, PlainT>> implements
     return new Numeric() {
       @Override
       public DRes<SInt> add(DRes<SInt> a, DRes<SInt> b) {
-        return () -> toSpdz2kSInt(a).add(toSpdz2kSInt(b));
+        return LazySInt.of(a, b, (left, right) -> toSpdz2kSInt(left).add(toSpdz2kSInt(right)));
       }
 
       @Override
       public DRes<SInt> add(BigInteger a, DRes<SInt> b) {
-        return builder.append(new Spdz2kAddKnownProtocol<>(factory.createElement(a), b));
+        if (resourcePool == null) {
+          return builder.append(new Spdz2kAddKnownProtocol<>(factory.createElement(a), b));
+        }
+        return addKnown(factory.createElement(a), b);
       }
 
       @Override
       public DRes<SInt> sub(DRes<SInt> a, DRes<SInt> b) {
-        return () -> (toSpdz2kSInt(a)).subtract(toSpdz2kSInt(b));
+        return LazySInt.of(a, b,
+            (left, right) -> toSpdz2kSInt(left).subtract(toSpdz2kSInt(right)));
       }
 
       @Override
       public DRes<SInt> sub(BigInteger a, DRes<SInt> b) {
-        return builder.append(
-            new Spdz2kSubtractFromKnownProtocol<>(factory.createElement(a), b));
+        if (resourcePool == null) {
+          return builder.append(
+              new Spdz2kSubtractFromKnownProtocol<>(factory.createElement(a), b));
+        }
+        Spdz2kSInt<PlainT> left = createKnown(factory.createElement(a));
+        return LazySInt.of(b, right -> left.subtract(toSpdz2kSInt(right)));
       }
 
       @Override
       public DRes<SInt> sub(DRes<SInt> a, BigInteger b) {
-        return builder.append(
-            new Spdz2kAddKnownProtocol<>(factory.createElement(b).negateUInt(), a));
+        if (resourcePool == null) {
+          return builder.append(
+              new Spdz2kAddKnownProtocol<>(factory.createElement(b).negateUInt(), a));
+        }
+        return addKnown(factory.createElement(b).negateUInt(), a);
       }
 
       @Override
@@ -79,9 +121,15 @@ public class Spdz2kBuilder<PlainT extends CompUInt<?, ?, PlainT>> implements
         return builder.append(new Spdz2kMultiplyProtocol<>(a, b));
       }
 
+      @Override
+      public DRes<List<DRes<SInt>>> mult(List<DRes<SInt>> a, List<DRes<SInt>> b) {
+        return builder.append(new Spdz2kMultiplyListProtocol<>(a, b));
+      }
+
       @Override
       public DRes<SInt> mult(BigInteger a, DRes<SInt> b) {
-        return () -> toSpdz2kSInt(b).multiply(factory.createElement(a));
+        PlainT left = factory.createElement(a);
+        return LazySInt.of(b, right -> toSpdz2kSInt(right).multiply(left));
       }
 
       @Override
@@ -96,7 +144,10 @@ public class Spdz2kBuilder<PlainT extends CompUInt<?, ?, PlainT>> implements
 
       @Override
       public DRes<SInt> known(BigInteger value) {
-        return builder.append(new Spdz2kKnownSIntProtocol<>(factory.createElement(value)));
+        if (resourcePool == null) {
+          return builder.append(new Spdz2kKnownSIntProtocol<>(factory.createElement(value)));
+        }
+        return createKnown(factory.createElement(value));
       }
 
       @Override
@@ -106,6 +157,15 @@ public class Spdz2kBuilder<PlainT extends CompUInt<?, ?, PlainT>> implements
         );
       }
 
+      @Override
+      public DRes<List<DRes<SInt>>> inputList(List<BigInteger> values, int inputParty) {
+        List<PlainT> inputs = new ArrayList<>(values.size());
+        for (BigInteger value : values) {
+          inputs.add(factory.createElement(value));
+        }
+        return builder.seq(new Spdz2kInputListComputation<>(inputs, inputParty));
+      }
+
       @Override
       public DRes<BigInteger> open(DRes<SInt> secretShare) {
         return builder.append(new Spdz2kOutputToAllProtocol<>(secretShare));
@@ -118,6 +178,42 @@ public class Spdz2kBuilder<PlainT extends CompUInt<?, ?, PlainT>> implements
     };
   }
 
+  @Override
+  public PreprocessedValues createPreprocessedValues(ProtocolBuilderNumeric builder) {
+    return new PreprocessedValues() {
+      @Override
+      public DRes<List<DRes<SInt>>> getExponentiationPipe(int pipeLength) {
+        return new DefaultPreprocessedValues(builder).getExponentiationPipe(pipeLength);
+      }
+
+      @Override
+      public DRes<TruncationPair> getTruncationPair(int shifts) {
+        int maxBitLength = numericContext.getMaxBitLength();
+        if (shifts < 0 || shifts >= maxBitLength) {
+          throw new IllegalArgumentException(
+              "Shifts must be in the range 0 ... " + (maxBitLength - 1) + " but was " + shifts);
+        }
+        return builder.append(new Spdz2kTruncationPairProtocol<>(shifts, maxBitLength));
+      }
+
+      @Override
+      public DRes<RandomAdditiveMask> getEdaBit(int bitLength) {
+        // composed from random bits, see Spdz2kAdvancedNumeric
+        return builder.advancedNumeric().additiveMask(bitLength);
+      }
+    };
+  }
+
+  @Override
+  public Comparison createComparison(ProtocolBuilderNumeric builder) {
+    return new Spdz2kComparison(builder, factory.getLowBitLength());
+  }
+
+  @Override
+  public AdvancedNumeric createAdvancedNumeric(ProtocolBuilderNumeric builder) {
+    return new Spdz2kAdvancedNumeric(this, builder, factory.getLowBitLength());
+  }
+
   @Override
   public MiscBigIntegerGenerators getBigIntegerHelper() {
     throw new UnsupportedOperationException();
@@ -130,6 +226,22 @@ public class Spdz2kBuilder<PlainT extends CompUInt<?, ?, PlainT>> implements
     return Objects.requireNonNull((Spdz2kSInt<PlainT>) value.out());
   }
 
+  /**
+   * Creates the shares of a public value, using the mac key share of the resource pool.
+   */
+  private Spdz2kSInt<PlainT> createKnown(PlainT value) {
+    return new Spdz2kSInt<>(value, resourcePool.getDataSupplier().getSecretSharedKey(),
+        factory.zero(), resourcePool.getMyId() == 1);
+  }
+
+  /**
+   * Adds a public value to a secret value, evaluated lazily.
+   */
+  private DRes<SInt> addKnown(PlainT left, DRes<SInt> right) {
+    Spdz2kSInt<PlainT> known = createKnown(left);
+    return LazySInt.of(right, value -> toSpdz2kSInt(value).add(known));
+  }
+
   @Override
   public RealNumericContext getRealNumericContext() {
     // TODO Auto-generated method stub
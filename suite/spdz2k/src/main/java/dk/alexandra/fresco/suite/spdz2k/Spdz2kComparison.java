@@ -0,0 +1,80 @@
+package dk.alexandra.fresco.suite.spdz2k;
+
+import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.builder.numeric.Comparison;
+import dk.alexandra.fresco.framework.builder.numeric.Numeric;
+import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
+import dk.alexandra.fresco.framework.value.SInt;
+import dk.alexandra.fresco.suite.spdz2k.protocols.computations.Spdz2kLessThanZero;
+import dk.alexandra.fresco.suite.spdz2k.protocols.computations.Spdz2kZeroTest;
+import java.math.BigInteger;
+
+/**
+ * Comparisons for the SPDZ2k protocol suite.
+ *
+ * <p>The comparisons of {@link dk.alexandra.fresco.framework.builder.numeric.DefaultComparison}
+ * rely on a prime field, so these are replaced by comparisons in <i>Z<sub>2<sup>k</sup></sub></i>
+ * based on opening values masked by random bits. Values are interpreted as signed <i>k</i>-bit
+ * integers, so comparing two values is exact as long as their difference is in this range. The
+ * comparisons involve no statistical security parameter and take a logarithmic number of
+ * rounds in the bit length.</p>
+ */
+public class Spdz2kComparison implements Comparison {
+
+  private final ProtocolBuilderNumeric builder;
+  private final int ringBitLength;
+
+  /**
+   * Creates new {@link Spdz2kComparison}.
+   *
+   * @param builder the builder to append the comparisons to
+   * @param ringBitLength the bit length of the ring, <i>k</i>
+   */
+  public Spdz2kComparison(ProtocolBuilderNumeric builder, int ringBitLength) {
+    this.builder = builder;
+    this.ringBitLength = ringBitLength;
+  }
+
+  @Override
+  public DRes<SInt> equals(int bitLength, DRes<SInt> x, DRes<SInt> y) {
+    // the difference of two values of l bits is zero modulo 2^l only if it is zero
+    return compareZero(builder.numeric().sub(x, y), bitLength);
+  }
+
+  @Override
+  public DRes<SInt> equals(DRes<SInt> x, DRes<SInt> y) {
+    return equals(ringBitLength, x, y);
+  }
+
+  @Override
+  public DRes<SInt> compareLEQ(DRes<SInt> x1, DRes<SInt> x2) {
+    Numeric numeric = builder.numeric();
+    DRes<SInt> lessThan = lessThanZero(numeric.sub(x2, x1));
+    return numeric.sub(BigInteger.ONE, lessThan);
+  }
+
+  /**
+   * Compares two values, as {@link #compareLEQ(DRes, DRes)}. The values of the ring are at most
+   * <i>k</i> bits, so there are no longer values to support.
+   */
+  @Override
+  public DRes<SInt> compareLEQLong(DRes<SInt> x1, DRes<SInt> x2) {
+    return compareLEQ(x1, x2);
+  }
+
+  @Override
+  public DRes<SInt> sign(DRes<SInt> x) {
+    Numeric numeric = builder.numeric();
+    DRes<SInt> lessThan = lessThanZero(x);
+    return numeric.sub(BigInteger.ONE, numeric.mult(BigInteger.valueOf(2), lessThan));
+  }
+
+  @Override
+  public DRes<SInt> compareZero(DRes<SInt> x, int bitLength) {
+    return builder.seq(new Spdz2kZeroTest(x, Math.min(bitLength, ringBitLength), ringBitLength));
+  }
+
+  private DRes<SInt> lessThanZero(DRes<SInt> x) {
+    return builder.seq(new Spdz2kLessThanZero(x, ringBitLength, ringBitLength));
+  }
+}
@@ -50,7 +50,8 @@ public abstract class Spdz2kProtocolSuite<
 
   @Override
   public BuilderFactoryNumeric init(Spdz2kResourcePool<PlainT> resourcePool) {
-    return new Spdz2kBuilder<>(resourcePool.getFactory(), createBasicNumericContext(resourcePool));
+    return new Spdz2kBuilder<>(resourcePool.getFactory(), createBasicNumericContext(resourcePool),
+        resourcePool);
   }
 
   @Override
@@ -58,6 +59,11 @@ public abstract class Spdz2kProtocolSuite<
     return new Spdz2kRoundSynchronization<>(this, converter);
   }
 
+  @Override
+  public boolean isOrderIndependent() {
+    return true;
+  }
+
   public BasicNumericContext createBasicNumericContext(Spdz2kResourcePool<PlainT> resourcePool) {
     return new BasicNumericContext(
         resourcePool.getMaxBitLength(),
@@ -6,10 +6,11 @@ import java.math.BigInteger;
 /**
  * Unsigned 128-bit integer with support for in-place operations. <p>Loosely follows this article
  * https://locklessinc.com/articles/256bit_arithmetic/. Note that this class is NOT SAFE to
- * instantiate with negative values.</p>
+ * instantiate with negative values, except from a {@link BigInteger}.</p>
  */
 public class CompUInt128 implements CompUInt<UInt64, UInt64, CompUInt128> {
 
+  private static final BigInteger MODULUS = BigInteger.ONE.shiftLeft(128);
   private static final CompUInt128 ONE = new CompUInt128(1);
   private final long high;
   private final int mid;
@@ -45,10 +46,11 @@ public class CompUInt128 implements CompUInt<UInt64, UInt64, CompUInt128> {
   }
 
   /**
-   * Creates new {@link CompUInt128} from {@link BigInteger}.
+   * Creates new {@link CompUInt128} from {@link BigInteger}. Negative values are reduced modulo
+   * <i>2<sup>128</sup></i>.
    */
   public CompUInt128(BigInteger value) {
-    this(value.toByteArray(), true);
+    this(value.mod(MODULUS).toByteArray(), true);
   }
 
   CompUInt128(long high, int mid, int low) {
@@ -52,7 +52,7 @@ public class CompUInt128Factory implements CompUIntFactory<CompUInt128> {
 
   @Override
   public CompUInt128 createElement(BigInteger value) {
-    return value == null ? null : new CompUInt128(value.toByteArray(), true);
+    return value == null ? null : new CompUInt128(value);
   }
 
   @Override
@@ -0,0 +1,25 @@
+package dk.alexandra.fresco.suite.spdz2k.datatypes;
+
+/**
+ * A truncation pair consisting of shares of a random value r' and of r = r' >> d, for some number
+ * of shifts d.
+ */
+public class Spdz2kTruncationPair<PlainT extends CompUInt<?, ?, PlainT>> {
+
+  private final Spdz2kSInt<PlainT> rPrime;
+  private final Spdz2kSInt<PlainT> r;
+
+  public Spdz2kTruncationPair(Spdz2kSInt<PlainT> rPrime, Spdz2kSInt<PlainT> r) {
+    this.rPrime = rPrime;
+    this.r = r;
+  }
+
+  public Spdz2kSInt<PlainT> getRPrime() {
+    return rPrime;
+  }
+
+  public Spdz2kSInt<PlainT> getR() {
+    return r;
+  }
+
+}
@@ -0,0 +1,75 @@
+package dk.alexandra.fresco.suite.spdz2k.protocols.computations;
+
+import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.builder.Computation;
+import dk.alexandra.fresco.framework.builder.numeric.Numeric;
+import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
+import dk.alexandra.fresco.framework.value.SInt;
+import dk.alexandra.fresco.lib.compare.gt.BitLessThanOpenPrefixes;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Computation decomposing a secret value into its lowest bits.
+ *
+ * <p>The value is opened masked by <i>l</i> random bits, see {@link Spdz2kMaskedOpen}, giving
+ * <i>c = (x + r) mod 2<sup>l</sup></i>, so the bits of <i>x mod 2<sup>l</sup></i> are those of the
+ * subtraction <i>c - r</i>. The <i>i</i>'th bit is the exclusive or of the <i>i</i>'th bits of
+ * <i>c</i> and <i>r</i> and of the borrow from the lower bits. All borrows are computed by {@link
+ * BitLessThanOpenPrefixes} in a logarithmic number of rounds, and the exclusive ors take a
+ * single round.</p>
+ */
+public class Spdz2kBitDecomposition implements Computation<List<SInt>, ProtocolBuilderNumeric> {
+
+  private final DRes<SInt> input;
+  private final int bitLength;
+  private final int ringBitLength;
+
+  /**
+   * Creates new {@link Spdz2kBitDecomposition}.
+   *
+   * @param input the secret value
+   * @param bitLength the number of bits to decompose into, <i>l</i>
+   * @param ringBitLength the bit length of the ring, <i>k</i>
+   */
+  public Spdz2kBitDecomposition(DRes<SInt> input, int bitLength, int ringBitLength) {
+    this.input = input;
+    this.bitLength = bitLength;
+    this.ringBitLength = ringBitLength;
+  }
+
+  /**
+   * Builds the computation. The result is the bits of the input modulo <i>2<sup>l</sup></i>,
+   * least significant first.
+   */
+  @Override
+  public DRes<List<SInt>> buildComputation(ProtocolBuilderNumeric builder) {
+    return builder.seq(
+        new Spdz2kMaskedOpen(input, bitLength, ringBitLength)
+    ).seq((seq, masked) -> {
+      BigInteger opened = masked.getFirst();
+      List<DRes<SInt>> bits = masked.getSecond();
+      DRes<List<DRes<SInt>>> borrows = seq.seq(
+          new BitLessThanOpenPrefixes(opened, bits.subList(0, bitLength - 1)));
+      return seq.par(par -> {
+        Numeric numeric = par.numeric();
+        List<DRes<SInt>> result = new ArrayList<>(bitLength);
+        for (int i = 0; i < bitLength; i++) {
+          DRes<SInt> bit = bits.get(i);
+          DRes<SInt> difference = opened.testBit(i) ? numeric.sub(BigInteger.ONE, bit) : bit;
+          // there is no borrow into the least significant bit
+          result.add(i == 0 ? difference
+              : Spdz2kLessThanZero.xor(numeric, difference, borrows.out().get(i - 1)));
+        }
+        return () -> result;
+      });
+    }).seq((seq, bits) -> {
+      List<SInt> result = new ArrayList<>(bits.size());
+      for (DRes<SInt> bit : bits) {
+        result.add(bit.out());
+      }
+      return () -> result;
+    });
+  }
+}
@@ -0,0 +1,70 @@
+package dk.alexandra.fresco.suite.spdz2k.protocols.computations;
+
+import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.builder.Computation;
+import dk.alexandra.fresco.framework.builder.numeric.Numeric;
+import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
+import dk.alexandra.fresco.framework.value.SInt;
+import dk.alexandra.fresco.lib.compare.gt.BitLessThanOpen;
+import dk.alexandra.fresco.lib.compare.gt.CarryPair;
+import java.math.BigInteger;
+import java.util.List;
+
+/**
+ * Computation testing if a secret value is negative, i.e., extracting its sign bit.
+ *
+ * <p>The value is opened masked by <i>l</i> random bits, see {@link Spdz2kMaskedOpen}, giving
+ * <i>c = (x + r) mod 2<sup>l</sup></i>. The sign bit of <i>x</i> is the top bit of <i>c - r mod
+ * 2<sup>l</sup></i>, which is the exclusive or of the top bits of <i>c</i> and <i>r</i> and of the
+ * borrow from the lower bits, i.e., of <i>c mod 2<sup>l - 1</sup> &lt; r mod 2<sup>l -
+ * 1</sup></i>. The borrow is computed by {@link BitLessThanOpen} in a logarithmic number of
+ * rounds, and the exclusive or takes a single multiplication.</p>
+ */
+public class Spdz2kLessThanZero implements Computation<SInt, ProtocolBuilderNumeric> {
+
+  private final DRes<SInt> input;
+  private final int bitLength;
+  private final int ringBitLength;
+
+  /**
+   * Creates new {@link Spdz2kLessThanZero}.
+   *
+   * @param input the secret value, which must be in the range <i>-2<sup>l - 1</sup> ...
+   *     2<sup>l - 1</sup> - 1</i>
+   * @param bitLength the bit length of the input, <i>l</i>
+   * @param ringBitLength the bit length of the ring, <i>k</i>
+   */
+  public Spdz2kLessThanZero(DRes<SInt> input, int bitLength, int ringBitLength) {
+    this.input = input;
+    this.bitLength = bitLength;
+    this.ringBitLength = ringBitLength;
+  }
+
+  @Override
+  public DRes<SInt> buildComputation(ProtocolBuilderNumeric builder) {
+    return builder.seq(
+        new Spdz2kMaskedOpen(input, bitLength, ringBitLength)
+    ).seq((seq, masked) -> {
+      BigInteger opened = masked.getFirst();
+      List<DRes<SInt>> bits = masked.getSecond();
+      DRes<CarryPair> borrow = seq.seq(
+          new BitLessThanOpen(opened, bits.subList(0, bitLength - 1), false));
+      return seq.seq(inner -> {
+        Numeric numeric = inner.numeric();
+        DRes<SInt> topBit = bits.get(bitLength - 1);
+        DRes<SInt> top = opened.testBit(bitLength - 1)
+            ? numeric.sub(BigInteger.ONE, topBit)
+            : topBit;
+        return xor(numeric, top, borrow.out().lessThan(numeric));
+      });
+    });
+  }
+
+  /**
+   * Computes the exclusive or of two secret bits as <i>a + b - 2ab</i>.
+   */
+  static DRes<SInt> xor(Numeric numeric, DRes<SInt> left, DRes<SInt> right) {
+    DRes<SInt> product = numeric.mult(left, right);
+    return numeric.sub(numeric.add(left, right), numeric.mult(BigInteger.valueOf(2), product));
+  }
+}
@@ -0,0 +1,74 @@
+package dk.alexandra.fresco.suite.spdz2k.protocols.computations;
+
+import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.builder.Computation;
+import dk.alexandra.fresco.framework.builder.numeric.Numeric;
+import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
+import dk.alexandra.fresco.framework.util.Pair;
+import dk.alexandra.fresco.framework.value.SInt;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Computation opening the lowest bits of a secret value masked by random bits, which is the first
+ * step of comparisons and bit decompositions in <i>Z<sub>2<sup>k</sup></sub></i>.
+ *
+ * <p>To open the lowest <i>l</i> bits of a value <i>x</i>, the value is shifted up by <i>k - l</i>
+ * bits, which removes the remaining bits of <i>x</i>, and random bits <i>r<sub>0</sub>, ...,
+ * r<sub>l - 1</sub></i> are added at the same positions. The value opened is thus <i>(x + r) mod
+ * 2<sup>l</sup></i> shifted up, where <i>r</i> is the value of the random bits, which is uniformly
+ * random for any <i>x</i>. Since the lowest bits of the shifted value are zero, only <i>l</i>
+ * random bits are needed, rather than <i>k</i>.</p>
+ */
+public class Spdz2kMaskedOpen implements
+    Computation<Pair<BigInteger, List<DRes<SInt>>>, ProtocolBuilderNumeric> {
+
+  private final DRes<SInt> input;
+  private final int bitLength;
+  private final int ringBitLength;
+
+  /**
+   * Creates new {@link Spdz2kMaskedOpen}.
+   *
+   * @param input the secret value
+   * @param bitLength the number of lowest bits to open, <i>l</i>
+   * @param ringBitLength the bit length of the ring, <i>k</i>
+   */
+  public Spdz2kMaskedOpen(DRes<SInt> input, int bitLength, int ringBitLength) {
+    if (bitLength < 1 || bitLength > ringBitLength) {
+      throw new IllegalArgumentException(
+          "Bit length must be in the range 1 ... " + ringBitLength + " but was " + bitLength);
+    }
+    this.input = input;
+    this.bitLength = bitLength;
+    this.ringBitLength = ringBitLength;
+  }
+
+  /**
+   * Builds the computation. The result is <i>(x + r) mod 2<sup>l</sup></i> and the shares of the
+   * random bits, least significant first.
+   */
+  @Override
+  public DRes<Pair<BigInteger, List<DRes<SInt>>>> buildComputation(
+      ProtocolBuilderNumeric builder) {
+    int shift = ringBitLength - bitLength;
+    return builder.par(par -> {
+      Numeric numeric = par.numeric();
+      List<DRes<SInt>> bits = new ArrayList<>(bitLength);
+      for (int i = 0; i < bitLength; i++) {
+        bits.add(numeric.randomBit());
+      }
+      return () -> bits;
+    }).seq((seq, bits) -> {
+      Numeric numeric = seq.numeric();
+      DRes<SInt> masked = numeric.mult(BigInteger.ONE.shiftLeft(shift), input);
+      for (int i = 0; i < bitLength; i++) {
+        masked = numeric.add(masked, numeric.mult(BigInteger.ONE.shiftLeft(shift + i),
+            bits.get(i)));
+      }
+      DRes<BigInteger> opened = numeric.open(masked);
+      return () -> new Pair<>(opened.out().shiftRight(shift), bits);
+    });
+  }
+}
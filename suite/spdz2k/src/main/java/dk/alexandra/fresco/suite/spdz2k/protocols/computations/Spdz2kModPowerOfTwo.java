@@ -0,0 +1,52 @@
+package dk.alexandra.fresco.suite.spdz2k.protocols.computations;
+
+import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.builder.Computation;
+import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
+import dk.alexandra.fresco.framework.value.SInt;
+import dk.alexandra.fresco.lib.compare.gt.BitLessThanOpen;
+import dk.alexandra.fresco.lib.compare.gt.CarryPair;
+import java.math.BigInteger;
+import java.util.List;
+
+/**
+ * Computation reducing a secret value modulo a power of two, <i>2<sup>m</sup></i>, with no error.
+ *
+ * <p>Only the lowest <i>m</i> bits of the value matter, so these are opened masked by <i>m</i>
+ * random bits, see {@link Spdz2kMaskedOpen}, giving <i>c = (x + r) mod 2<sup>m</sup></i>. Then
+ * <i>x mod 2<sup>m</sup> = c - r + 2<sup>m</sup> b</i>, where <i>b</i> is one if <i>c &lt; r</i>,
+ * which is computed by {@link BitLessThanOpen}. Any value of the ring is supported.</p>
+ */
+public class Spdz2kModPowerOfTwo implements Computation<SInt, ProtocolBuilderNumeric> {
+
+  private final DRes<SInt> input;
+  private final int exponent;
+  private final int ringBitLength;
+
+  /**
+   * Creates new {@link Spdz2kModPowerOfTwo}.
+   *
+   * @param input the secret value
+   * @param exponent the exponent of the modulus, <i>m</i>, which must be in the range <i>1 ...
+   *     k</i>
+   * @param ringBitLength the bit length of the ring, <i>k</i>
+   */
+  public Spdz2kModPowerOfTwo(DRes<SInt> input, int exponent, int ringBitLength) {
+    this.input = input;
+    this.exponent = exponent;
+    this.ringBitLength = ringBitLength;
+  }
+
+  @Override
+  public DRes<SInt> buildComputation(ProtocolBuilderNumeric builder) {
+    return builder.seq(
+        new Spdz2kMaskedOpen(input, exponent, ringBitLength)
+    ).seq((seq, masked) -> {
+      BigInteger opened = masked.getFirst();
+      List<DRes<SInt>> bits = masked.getSecond();
+      DRes<CarryPair> borrow = seq.seq(new BitLessThanOpen(opened, bits, false));
+      return seq.seq(inner -> Spdz2kRightShift.remainder(inner.numeric(), opened, bits,
+          borrow.out().lessThan(inner.numeric())));
+    });
+  }
+}
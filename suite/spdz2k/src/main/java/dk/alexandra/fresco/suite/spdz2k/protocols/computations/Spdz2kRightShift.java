@@ -0,0 +1,124 @@
+package dk.alexandra.fresco.suite.spdz2k.protocols.computations;
+
+import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.builder.Computation;
+import dk.alexandra.fresco.framework.builder.numeric.AdvancedNumeric.RightShiftResult;
+import dk.alexandra.fresco.framework.builder.numeric.Numeric;
+import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
+import dk.alexandra.fresco.framework.util.Pair;
+import dk.alexandra.fresco.framework.value.SInt;
+import dk.alexandra.fresco.lib.compare.gt.BitLessThanOpen;
+import dk.alexandra.fresco.lib.compare.gt.CarryPair;
+import java.math.BigInteger;
+import java.util.List;
+
+/**
+ * Computation shifting a secret value right, i.e., truncating it, with no error.
+ *
+ * <p>The value is opened masked by <i>l</i> random bits, see {@link Spdz2kMaskedOpen}, giving
+ * <i>c = (x + r) mod 2<sup>l</sup></i>, so <i>x = c - r + 2<sup>l</sup> b</i>, where <i>b</i> is
+ * one if <i>c &lt; r</i>. Shifting right by <i>m</i> then gives</p>
+ * <p><i>x &gt;&gt; m = (c &gt;&gt; m) - (r &gt;&gt; m) - b<sub>m</sub> + 2<sup>l - m</sup> b</i>,
+ * </p>
+ * <p>where <i>b<sub>m</sub></i> is one if <i>c mod 2<sup>m</sup> &lt; r mod 2<sup>m</sup></i>. The
+ * carries of the low <i>m</i> bits and of the high <i>l - m</i> bits are computed in parallel,
+ * giving <i>b<sub>m</sub></i>, and combined into <i>b</i> with one more round. The remainder is
+ * <i>x mod 2<sup>m</sup> = (c mod 2<sup>m</sup>) - (r mod 2<sup>m</sup>) + 2<sup>m</sup>
+ * b<sub>m</sub></i>.</p>
+ */
+public class Spdz2kRightShift implements Computation<RightShiftResult, ProtocolBuilderNumeric> {
+
+  private final DRes<SInt> input;
+  private final int bitLength;
+  private final int shifts;
+  private final int ringBitLength;
+  private final boolean calculateRemainder;
+
+  /**
+   * Creates new {@link Spdz2kRightShift}.
+   *
+   * @param input the secret value, which must be in the range <i>0 ... 2<sup>l</sup> - 1</i>
+   * @param bitLength the bit length of the input, <i>l</i>
+   * @param shifts the number of bits to shift, <i>m</i>
+   * @param ringBitLength the bit length of the ring, <i>k</i>
+   * @param calculateRemainder true to also calculate the remainder, i.e., the input mod
+   *     <i>2<sup>m</sup></i>, otherwise the remainder of the result is <code>null</code>
+   */
+  public Spdz2kRightShift(DRes<SInt> input, int bitLength, int shifts, int ringBitLength,
+      boolean calculateRemainder) {
+    if (shifts < 0) {
+      throw new IllegalArgumentException("Shifts must be non-negative but was " + shifts);
+    }
+    this.input = input;
+    this.bitLength = bitLength;
+    this.shifts = shifts;
+    this.ringBitLength = ringBitLength;
+    this.calculateRemainder = calculateRemainder;
+  }
+
+  @Override
+  public DRes<RightShiftResult> buildComputation(ProtocolBuilderNumeric builder) {
+    if (shifts == 0 || shifts >= bitLength) {
+      Numeric numeric = builder.numeric();
+      DRes<SInt> zero = numeric.known(BigInteger.ZERO);
+      DRes<SInt> result = shifts == 0 ? input : zero;
+      DRes<SInt> remainder = shifts == 0 ? zero : input;
+      return () -> new RightShiftResult(result.out(),
+          calculateRemainder ? remainder.out() : null);
+    }
+    return builder.seq(
+        new Spdz2kMaskedOpen(input, bitLength, ringBitLength)
+    ).seq((seq, masked) -> {
+      BigInteger opened = masked.getFirst();
+      List<DRes<SInt>> bits = masked.getSecond();
+      return seq.par(par -> {
+        DRes<CarryPair> low = par.seq(
+            new BitLessThanOpen(opened, bits.subList(0, shifts), false));
+        DRes<CarryPair> high = par.seq(new BitLessThanOpen(opened.shiftRight(shifts),
+            bits.subList(shifts, bitLength), true));
+        return () -> new Pair<>(low.out(), high.out());
+      }).seq((inner, carries) -> {
+        Numeric numeric = inner.numeric();
+        DRes<SInt> lowBorrow = carries.getFirst().lessThan(numeric);
+        DRes<SInt> borrow = CarryPair.combine(carries.getSecond(), carries.getFirst(), numeric)
+            .lessThan(numeric);
+        DRes<SInt> shiftedMask = weightedSum(numeric, bits.subList(shifts, bitLength));
+        DRes<SInt> result = numeric.sub(opened.shiftRight(shifts), shiftedMask);
+        result = numeric.sub(result, lowBorrow);
+        result = numeric.add(result,
+            numeric.mult(BigInteger.ONE.shiftLeft(bitLength - shifts), borrow));
+        DRes<SInt> remainder = null;
+        if (calculateRemainder) {
+          remainder = remainder(numeric, opened, bits.subList(0, shifts), lowBorrow);
+        }
+        DRes<SInt> finalResult = result;
+        DRes<SInt> finalRemainder = remainder;
+        return () -> new RightShiftResult(finalResult.out(),
+            finalRemainder == null ? null : finalRemainder.out());
+      });
+    });
+  }
+
+  /**
+   * Computes <i>x mod 2<sup>m</sup></i> from <i>c</i>, the low <i>m</i> random bits and the borrow
+   * of the low bits. This is a local computation.
+   */
+  static DRes<SInt> remainder(Numeric numeric, BigInteger opened, List<DRes<SInt>> lowBits,
+      DRes<SInt> lowBorrow) {
+    int shifts = lowBits.size();
+    BigInteger openedLow = opened.mod(BigInteger.ONE.shiftLeft(shifts));
+    DRes<SInt> remainder = numeric.sub(openedLow, weightedSum(numeric, lowBits));
+    return numeric.add(remainder, numeric.mult(BigInteger.ONE.shiftLeft(shifts), lowBorrow));
+  }
+
+  /**
+   * Computes the value of a list of bits, least significant first. This is a local computation.
+   */
+  static DRes<SInt> weightedSum(Numeric numeric, List<DRes<SInt>> bits) {
+    DRes<SInt> sum = bits.get(0);
+    for (int i = 1; i < bits.size(); i++) {
+      sum = numeric.add(sum, numeric.mult(BigInteger.ONE.shiftLeft(i), bits.get(i)));
+    }
+    return sum;
+  }
+}
@@ -0,0 +1,57 @@
+package dk.alexandra.fresco.suite.spdz2k.protocols.computations;
+
+import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.builder.Computation;
+import dk.alexandra.fresco.framework.builder.numeric.Numeric;
+import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
+import dk.alexandra.fresco.framework.value.SInt;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Computation testing if a secret value is zero.
+ *
+ * <p>The value is opened masked by <i>l</i> random bits, see {@link Spdz2kMaskedOpen}, giving
+ * <i>c = (x + r) mod 2<sup>l</sup></i>. The value is zero if and only if <i>c</i> and <i>r</i>
+ * have the same bits, which is the product of the <i>l</i> bit equalities. The product is computed
+ * in a balanced tree, taking <i>ceil(log l)</i> rounds of <i>l - 1</i> multiplications in
+ * total.</p>
+ */
+public class Spdz2kZeroTest implements Computation<SInt, ProtocolBuilderNumeric> {
+
+  private final DRes<SInt> input;
+  private final int bitLength;
+  private final int ringBitLength;
+
+  /**
+   * Creates new {@link Spdz2kZeroTest}.
+   *
+   * @param input the secret value, which must be zero modulo <i>2<sup>l</sup></i> only if it is
+   *     zero, e.g., be in the range <i>-2<sup>l - 1</sup> ... 2<sup>l - 1</sup> - 1</i>
+   * @param bitLength the bit length of the input, <i>l</i>
+   * @param ringBitLength the bit length of the ring, <i>k</i>
+   */
+  public Spdz2kZeroTest(DRes<SInt> input, int bitLength, int ringBitLength) {
+    this.input = input;
+    this.bitLength = bitLength;
+    this.ringBitLength = ringBitLength;
+  }
+
+  @Override
+  public DRes<SInt> buildComputation(ProtocolBuilderNumeric builder) {
+    return builder.seq(
+        new Spdz2kMaskedOpen(input, bitLength, ringBitLength)
+    ).seq((seq, masked) -> {
+      BigInteger opened = masked.getFirst();
+      List<DRes<SInt>> bits = masked.getSecond();
+      Numeric numeric = seq.numeric();
+      List<DRes<SInt>> equalBits = new ArrayList<>(bitLength);
+      for (int i = 0; i < bitLength; i++) {
+        DRes<SInt> bit = bits.get(i);
+        equalBits.add(opened.testBit(i) ? bit : numeric.sub(BigInteger.ONE, bit));
+      }
+      return seq.advancedNumeric().product(equalBits);
+    });
+  }
+}
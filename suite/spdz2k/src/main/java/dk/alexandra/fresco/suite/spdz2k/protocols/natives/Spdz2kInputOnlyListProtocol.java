@@ -0,0 +1,96 @@
+package dk.alexandra.fresco.suite.spdz2k.protocols.natives;
+
+import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.network.Network;
+import dk.alexandra.fresco.framework.util.Pair;
+import dk.alexandra.fresco.framework.value.SInt;
+import dk.alexandra.fresco.suite.spdz2k.datatypes.CompUInt;
+import dk.alexandra.fresco.suite.spdz2k.datatypes.CompUIntFactory;
+import dk.alexandra.fresco.suite.spdz2k.datatypes.Spdz2kInputMask;
+import dk.alexandra.fresco.suite.spdz2k.datatypes.Spdz2kSInt;
+import dk.alexandra.fresco.suite.spdz2k.resource.Spdz2kResourcePool;
+import dk.alexandra.fresco.suite.spdz2k.resource.storage.Spdz2kDataSupplier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Native protocol for inputting a list of values from the same party. <p>This is used by native
+ * computation {@link dk.alexandra.fresco.suite.spdz2k.protocols.computations.Spdz2kInputListComputation}.
+ * Works as {@link Spdz2kInputOnlyProtocol}, but fetches the input masks in bulk and sends all
+ * masked inputs in one contiguous buffer. The result of this protocol is this party's shares of
+ * the inputs, as well as the bytes of all the masked inputs which are later used in a single
+ * broadcast validation.</p>
+ */
+public class Spdz2kInputOnlyListProtocol<PlainT extends CompUInt<?, ?, PlainT>>
+    extends Spdz2kNativeProtocol<Pair<List<DRes<SInt>>, byte[]>, PlainT> {
+
+  private final List<PlainT> inputs;
+  private final int inputPartyId;
+  private List<Spdz2kInputMask<PlainT>> inputMasks;
+  private Pair<List<DRes<SInt>>, byte[]> sharesAndMaskBytes;
+
+  /**
+   * Creates new {@link Spdz2kInputOnlyListProtocol}.
+   *
+   * @param inputs values to secret-share, or nulls if this party is not the input party
+   * @param inputPartyId id of input party
+   */
+  public Spdz2kInputOnlyListProtocol(List<PlainT> inputs, int inputPartyId) {
+    this.inputs = inputs;
+    this.inputPartyId = inputPartyId;
+  }
+
+  @Override
+  public void prepare(int round, Spdz2kResourcePool<PlainT> resourcePool) {
+    if (round == 0 && inputMasks == null && !inputs.isEmpty()) {
+      inputMasks = resourcePool.getDataSupplier().getNextInputMasks(inputPartyId, inputs.size());
+    }
+  }
+
+  @Override
+  public EvaluationStatus evaluate(int round, Spdz2kResourcePool<PlainT> resourcePool,
+      Network network) {
+    CompUIntFactory<PlainT> factory = resourcePool.getFactory();
+    int myId = resourcePool.getMyId();
+    Spdz2kDataSupplier<PlainT> dataSupplier = resourcePool.getDataSupplier();
+    int size = inputs.size();
+    int elementLength = factory.getCompositeBitLength() / Byte.SIZE;
+    if (round == 0) {
+      if (size == 0) {
+        sharesAndMaskBytes = new Pair<>(new ArrayList<>(), new byte[0]);
+        return EvaluationStatus.IS_DONE;
+      }
+      prepare(round, resourcePool);
+      if (myId == inputPartyId) {
+        byte[] bcValues = new byte[size * elementLength];
+        for (int i = 0; i < size; i++) {
+          PlainT bcValue = inputs.get(i).subtract(inputMasks.get(i).getOpenValue());
+          System.arraycopy(factory.serialize(bcValue), 0, bcValues, i * elementLength,
+              elementLength);
+        }
+        network.sendElementsToAll(bcValues, elementLength);
+      }
+      return EvaluationStatus.HAS_MORE_ROUNDS;
+    } else {
+      byte[] inputMaskBytes = network.receiveElements(inputPartyId, size, elementLength);
+      PlainT macKeyShare = dataSupplier.getSecretSharedKey();
+      boolean isPartyOne = myId == 1;
+      List<DRes<SInt>> out = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        PlainT masked = factory.deserialize(
+            Arrays.copyOfRange(inputMaskBytes, i * elementLength, (i + 1) * elementLength));
+        Spdz2kSInt<PlainT> maskShare = inputMasks.get(i).getMaskShare();
+        out.add(maskShare.addConstant(masked, macKeyShare, factory.zero(), isPartyOne));
+      }
+      this.sharesAndMaskBytes = new Pair<>(out, inputMaskBytes);
+      return EvaluationStatus.IS_DONE;
+    }
+  }
+
+  @Override
+  public Pair<List<DRes<SInt>>, byte[]> out() {
+    return sharesAndMaskBytes;
+  }
+
+}
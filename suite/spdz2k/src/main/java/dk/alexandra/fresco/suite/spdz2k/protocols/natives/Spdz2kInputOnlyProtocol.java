@@ -37,6 +37,13 @@ public class Spdz2kInputOnlyProtocol<PlainT extends CompUInt<?, ?, PlainT>>
     this.inputPartyId = inputPartyId;
   }
 
+  @Override
+  public void prepare(int round, Spdz2kResourcePool<PlainT> resourcePool) {
+    if (round == 0 && inputMask == null) {
+      inputMask = resourcePool.getDataSupplier().getNextInputMask(inputPartyId);
+    }
+  }
+
   @Override
   public EvaluationStatus evaluate(int round, Spdz2kResourcePool<PlainT> resourcePool,
       Network network) {
@@ -44,7 +51,7 @@ public class Spdz2kInputOnlyProtocol<PlainT extends CompUInt<?, ?, PlainT>>
     int myId = resourcePool.getMyId();
     Spdz2kDataSupplier<PlainT> dataSupplier = resourcePool.getDataSupplier();
     if (round == 0) {
-      inputMask = dataSupplier.getNextInputMask(inputPartyId);
+      prepare(round, resourcePool);
       if (myId == inputPartyId) {
         PlainT bcValue = this.input.subtract(inputMask.getOpenValue());
         network.sendToAll(factory.serialize(bcValue));
@@ -0,0 +1,130 @@
+package dk.alexandra.fresco.suite.spdz2k.protocols.natives;
+
+import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.network.Network;
+import dk.alexandra.fresco.framework.value.SInt;
+import dk.alexandra.fresco.suite.spdz2k.datatypes.CompUInt;
+import dk.alexandra.fresco.suite.spdz2k.datatypes.CompUIntFactory;
+import dk.alexandra.fresco.suite.spdz2k.datatypes.Spdz2kSInt;
+import dk.alexandra.fresco.suite.spdz2k.datatypes.Spdz2kTriple;
+import dk.alexandra.fresco.suite.spdz2k.resource.Spdz2kResourcePool;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Native protocol for computing the element-wise products of two lists of secret numbers.
+ *
+ * <p>Works as {@link Spdz2kMultiplyProtocol}, but handles all the products at once: the triples
+ * are fetched in bulk, the shares of all epsilons and deltas are sent to each party in one
+ * contiguous buffer, and all opened values are pushed to the opened value store in a single
+ * call.</p>
+ */
+public class Spdz2kMultiplyListProtocol<PlainT extends CompUInt<?, ?, PlainT>> extends
+    Spdz2kNativeProtocol<List<DRes<SInt>>, PlainT> {
+
+  private final List<DRes<SInt>> left;
+  private final List<DRes<SInt>> right;
+  private List<Spdz2kTriple<PlainT>> triples;
+  private List<Spdz2kSInt<PlainT>> epsilonsAndDeltas;
+  private List<DRes<SInt>> products;
+
+  /**
+   * Creates new {@link Spdz2kMultiplyListProtocol}.
+   *
+   * @param left left factors
+   * @param right right factors, must have the same size as left
+   */
+  public Spdz2kMultiplyListProtocol(List<DRes<SInt>> left, List<DRes<SInt>> right) {
+    if (left.size() != right.size()) {
+      throw new IllegalArgumentException(
+          "Lists must have the same size, was " + left.size() + " and " + right.size());
+    }
+    this.left = left;
+    this.right = right;
+  }
+
+  @Override
+  public void prepare(int round, Spdz2kResourcePool<PlainT> resourcePool) {
+    if (round == 0 && triples == null && !left.isEmpty()) {
+      triples = resourcePool.getDataSupplier().getNextTripleShares(left.size());
+    }
+  }
+
+  @Override
+  public EvaluationStatus evaluate(int round, Spdz2kResourcePool<PlainT> resourcePool,
+      Network network) {
+    CompUIntFactory<PlainT> factory = resourcePool.getFactory();
+    // only the least significant bits of epsilon and delta are sent
+    final int elementLength = factory.getLowBitLength() / Byte.SIZE;
+    int size = left.size();
+    if (round == 0) {
+      if (size == 0) {
+        products = new ArrayList<>();
+        return EvaluationStatus.IS_DONE;
+      }
+      prepare(round, resourcePool);
+      // epsilons are stored at the even indices and deltas at the odd indices
+      epsilonsAndDeltas = new ArrayList<>(2 * size);
+      byte[] shares = new byte[2 * size * elementLength];
+      for (int i = 0; i < size; i++) {
+        Spdz2kTriple<PlainT> triple = triples.get(i);
+        Spdz2kSInt<PlainT> epsilon = toSpdz2kSInt(left.get(i)).subtract(triple.getLeft());
+        Spdz2kSInt<PlainT> delta = toSpdz2kSInt(right.get(i)).subtract(triple.getRight());
+        epsilonsAndDeltas.add(epsilon);
+        epsilonsAndDeltas.add(delta);
+        System.arraycopy(epsilon.getShare().getLeastSignificant().toByteArray(), 0,
+            shares, 2 * i * elementLength, elementLength);
+        System.arraycopy(delta.getShare().getLeastSignificant().toByteArray(), 0,
+            shares, (2 * i + 1) * elementLength, elementLength);
+      }
+      network.sendElementsToAll(shares, elementLength);
+      return EvaluationStatus.HAS_MORE_ROUNDS;
+    } else {
+      List<PlainT> opened = receiveAndReconstruct(network, factory,
+          resourcePool.getNoOfParties(), 2 * size, elementLength);
+      final PlainT macKeyShare = resourcePool.getDataSupplier().getSecretSharedKey();
+      boolean isPartyOne = resourcePool.getMyId() == 1;
+      products = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        // compute [prod] = [c] + epsilon * [b] + delta * [a] + epsilon * delta
+        PlainT e = opened.get(2 * i);
+        PlainT d = opened.get(2 * i + 1);
+        Spdz2kTriple<PlainT> triple = triples.get(i);
+        products.add(triple.getProduct()
+            .add(triple.getRight().multiply(e))
+            .add(triple.getLeft().multiply(d))
+            .addConstant(e.multiply(d), macKeyShare, factory.zero(), isPartyOne));
+      }
+      resourcePool.getOpenedValueStore().pushOpenedValues(epsilonsAndDeltas, opened);
+      return EvaluationStatus.IS_DONE;
+    }
+  }
+
+  /**
+   * Retrieves shares for all epsilons and deltas and reconstructs each in a single pass over the
+   * received data.
+   */
+  private List<PlainT> receiveAndReconstruct(Network network, CompUIntFactory<PlainT> factory,
+      int noOfParties, int noOfElements, int elementLength) {
+    List<PlainT> opened = new ArrayList<>(noOfElements);
+    for (int i = 0; i < noOfElements; i++) {
+      opened.add(factory.zero());
+    }
+    for (int i = 1; i <= noOfParties; i++) {
+      byte[] received = network.receiveElements(i, noOfElements, elementLength);
+      for (int j = 0; j < noOfElements; j++) {
+        PlainT share = factory.deserialize(
+            Arrays.copyOfRange(received, j * elementLength, (j + 1) * elementLength));
+        opened.set(j, opened.get(j).add(share));
+      }
+    }
+    return opened;
+  }
+
+  @Override
+  public List<DRes<SInt>> out() {
+    return products;
+  }
+
+}
@@ -36,13 +36,20 @@ public class Spdz2kMultiplyProtocol<PlainT extends CompUInt<?, ?, PlainT>> exten
     this.right = right;
   }
 
+  @Override
+  public void prepare(int round, Spdz2kResourcePool<PlainT> resourcePool) {
+    if (round == 0 && triple == null) {
+      triple = resourcePool.getDataSupplier().getNextTripleShares();
+    }
+  }
+
   @Override
   public EvaluationStatus evaluate(int round, Spdz2kResourcePool<PlainT> resourcePool,
       Network network) {
     final PlainT macKeyShare = resourcePool.getDataSupplier().getSecretSharedKey();
     CompUIntFactory<PlainT> serializer = resourcePool.getFactory();
     if (round == 0) {
-      triple = resourcePool.getDataSupplier().getNextTripleShares();
+      prepare(round, resourcePool);
       epsilon = toSpdz2kSInt(left).subtract(triple.getLeft());
       delta = toSpdz2kSInt(right).subtract(triple.getRight());
       network.sendToAll(epsilon.getShare().getLeastSignificant().toByteArray());
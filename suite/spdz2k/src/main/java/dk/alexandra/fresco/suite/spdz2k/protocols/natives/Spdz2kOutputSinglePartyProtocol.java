@@ -9,7 +9,6 @@ import dk.alexandra.fresco.suite.spdz2k.datatypes.Spdz2kInputMask;
 import dk.alexandra.fresco.suite.spdz2k.datatypes.Spdz2kSInt;
 import dk.alexandra.fresco.suite.spdz2k.datatypes.UInt;
 import dk.alexandra.fresco.suite.spdz2k.resource.Spdz2kResourcePool;
-import dk.alexandra.fresco.suite.spdz2k.resource.storage.Spdz2kDataSupplier;
 import java.math.BigInteger;
 import java.util.List;
 
@@ -37,14 +36,20 @@ public class Spdz2kOutputSinglePartyProtocol<PlainT extends CompUInt<?, ?, Plain
     this.outputParty = outputParty;
   }
 
+  @Override
+  public void prepare(int round, Spdz2kResourcePool<PlainT> resourcePool) {
+    if (round == 0 && inputMask == null) {
+      inputMask = resourcePool.getDataSupplier().getNextInputMask(outputParty);
+    }
+  }
+
   @Override
   public EvaluationStatus evaluate(int round, Spdz2kResourcePool<PlainT> resourcePool,
       Network network) {
     OpenedValueStore<Spdz2kSInt<PlainT>, PlainT> openedValueStore = resourcePool
         .getOpenedValueStore();
-    Spdz2kDataSupplier<PlainT> supplier = resourcePool.getDataSupplier();
     if (round == 0) {
-      this.inputMask = supplier.getNextInputMask(outputParty);
+      prepare(round, resourcePool);
       inMinusMask = toSpdz2kSInt(share).subtract(this.inputMask.getMaskShare());
       network.sendToAll(inMinusMask
           .getShare()
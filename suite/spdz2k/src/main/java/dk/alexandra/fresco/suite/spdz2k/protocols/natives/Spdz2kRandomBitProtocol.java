@@ -13,10 +13,17 @@ public class Spdz2kRandomBitProtocol<PlainT extends CompUInt<?, ?, PlainT>>
 
   private SInt bit;
 
+  @Override
+  public void prepare(int round, Spdz2kResourcePool<PlainT> resourcePool) {
+    if (bit == null) {
+      this.bit = resourcePool.getDataSupplier().getNextBitShare();
+    }
+  }
+
   @Override
   public EvaluationStatus evaluate(int round, Spdz2kResourcePool<PlainT> resourcePool,
       Network network) {
-    this.bit = resourcePool.getDataSupplier().getNextBitShare();
+    prepare(round, resourcePool);
     return EvaluationStatus.IS_DONE;
   }
 
@@ -13,10 +13,17 @@ public class Spdz2kRandomElementProtocol<PlainT extends CompUInt<?, ?, PlainT>>
 
   private SInt element;
 
+  @Override
+  public void prepare(int round, Spdz2kResourcePool<PlainT> resourcePool) {
+    if (element == null) {
+      this.element = resourcePool.getDataSupplier().getNextRandomElementShare();
+    }
+  }
+
   @Override
   public EvaluationStatus evaluate(int round, Spdz2kResourcePool<PlainT> resourcePool,
       Network network) {
-    this.element = resourcePool.getDataSupplier().getNextRandomElementShare();
+    prepare(round, resourcePool);
     return EvaluationStatus.IS_DONE;
   }
 
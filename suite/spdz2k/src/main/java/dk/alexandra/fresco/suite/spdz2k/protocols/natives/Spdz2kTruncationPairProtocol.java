@@ -0,0 +1,45 @@
+package dk.alexandra.fresco.suite.spdz2k.protocols.natives;
+
+import dk.alexandra.fresco.framework.builder.numeric.PreprocessedValues.TruncationPair;
+import dk.alexandra.fresco.framework.network.Network;
+import dk.alexandra.fresco.suite.spdz2k.datatypes.CompUInt;
+import dk.alexandra.fresco.suite.spdz2k.datatypes.Spdz2kTruncationPair;
+import dk.alexandra.fresco.suite.spdz2k.resource.Spdz2kResourcePool;
+
+/**
+ * Native protocol for fetching a preprocessed truncation pair.
+ */
+public class Spdz2kTruncationPairProtocol<PlainT extends CompUInt<?, ?, PlainT>>
+    extends Spdz2kNativeProtocol<TruncationPair, PlainT> {
+
+  private final int shifts;
+  private final int bitLength;
+  private TruncationPair pair;
+
+  public Spdz2kTruncationPairProtocol(int shifts, int bitLength) {
+    this.shifts = shifts;
+    this.bitLength = bitLength;
+  }
+
+  @Override
+  public void prepare(int round, Spdz2kResourcePool<PlainT> resourcePool) {
+    if (pair == null) {
+      Spdz2kTruncationPair<PlainT> next =
+          resourcePool.getDataSupplier().getNextTruncationPair(shifts, bitLength);
+      this.pair = new TruncationPair(next.getRPrime(), next.getR());
+    }
+  }
+
+  @Override
+  public EvaluationStatus evaluate(int round, Spdz2kResourcePool<PlainT> resourcePool,
+      Network network) {
+    prepare(round, resourcePool);
+    return EvaluationStatus.IS_DONE;
+  }
+
+  @Override
+  public TruncationPair out() {
+    return pair;
+  }
+
+}
@@ -5,6 +5,7 @@ import dk.alexandra.fresco.commitment.HashBasedCommitmentSerializer;
 import dk.alexandra.fresco.framework.builder.numeric.NumericResourcePool;
 import dk.alexandra.fresco.framework.network.Network;
 import dk.alexandra.fresco.framework.network.serializers.ByteSerializer;
+import dk.alexandra.fresco.framework.sce.resources.PartitionedResourcePool;
 import dk.alexandra.fresco.framework.util.Drbg;
 import dk.alexandra.fresco.framework.util.OpenedValueStore;
 import dk.alexandra.fresco.suite.spdz2k.Spdz2kProtocolSuite;
@@ -16,13 +17,14 @@ import java.util.function.Function;
 import java.util.function.Supplier;
 
 /**
- * Common resources for {@link Spdz2kProtocolSuite}.
+ * Common resources for {@link Spdz2kProtocolSuite}. Its partitions have their own opened value
+ * store.
  *
  * @param <PlainT> the type of the core arithmetic data type, in this case an instance of {@link
  *     CompUInt}.
  */
 public interface Spdz2kResourcePool<PlainT extends CompUInt<?, ?, PlainT>>
-    extends NumericResourcePool {
+    extends NumericResourcePool, PartitionedResourcePool<Spdz2kResourcePool<PlainT>> {
 
   /**
    * Returns instance of {@link OpenedValueStore} which tracks all opened, unchecked values.
@@ -82,4 +84,14 @@ public interface Spdz2kResourcePool<PlainT extends CompUInt<?, ?, PlainT>>
   default ByteSerializer<HashBasedCommitment> getCommitmentSerializer() {
     return new HashBasedCommitmentSerializer();
   }
+
+  /**
+   * Gets the network dedicated to mac checks. If present, the round synchronization runs the mac
+   * checks over this network in the background while the online phase continues.
+   *
+   * @return the network for mac checks, or <code>null</code> if mac checks block the online phase
+   */
+  default Network getMacCheckNetwork() {
+    return null;
+  }
 }
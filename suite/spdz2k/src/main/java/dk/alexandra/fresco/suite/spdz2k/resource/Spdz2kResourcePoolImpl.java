@@ -17,6 +17,7 @@ import dk.alexandra.fresco.framework.util.AesCtrDrbg;
 import dk.alexandra.fresco.framework.util.Drbg;
 import dk.alexandra.fresco.framework.util.ExceptionConverter;
 import dk.alexandra.fresco.framework.util.OpenedValueStore;
+import dk.alexandra.fresco.framework.util.Pair;
 import dk.alexandra.fresco.lib.field.integer.BasicNumericContext;
 import dk.alexandra.fresco.suite.spdz2k.Spdz2kBuilder;
 import dk.alexandra.fresco.suite.spdz2k.datatypes.CompUInt;
@@ -24,8 +25,10 @@ import dk.alexandra.fresco.suite.spdz2k.datatypes.CompUIntFactory;
 import dk.alexandra.fresco.suite.spdz2k.datatypes.Spdz2kSInt;
 import dk.alexandra.fresco.suite.spdz2k.protocols.computations.CoinTossingComputation;
 import dk.alexandra.fresco.suite.spdz2k.resource.storage.Spdz2kDataSupplier;
+import dk.alexandra.fresco.suite.spdz2k.resource.storage.Spdz2kOpenedValueStoreImpl;
 import java.io.Closeable;
 import java.math.BigInteger;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -45,6 +48,7 @@ public class Spdz2kResourcePoolImpl<PlainT extends CompUInt<?, ?, PlainT>>
   private final CompUIntFactory<PlainT> factory;
   private final ByteSerializer<PlainT> rawSerializer;
   private final Drbg localDrbg;
+  private final Network macCheckNetwork;
   private Drbg drbg;
 
   /**
@@ -53,6 +57,20 @@ public class Spdz2kResourcePoolImpl<PlainT extends CompUInt<?, ?, PlainT>>
   public Spdz2kResourcePoolImpl(int myId, int noOfPlayers, Drbg drbg,
       OpenedValueStore<Spdz2kSInt<PlainT>, PlainT> storage,
       Spdz2kDataSupplier<PlainT> supplier, CompUIntFactory<PlainT> factory) {
+    this(myId, noOfPlayers, drbg, storage, supplier, factory, null);
+  }
+
+  /**
+   * Creates new {@link Spdz2kResourcePoolImpl} running mac checks in the background over a
+   * dedicated network.
+   *
+   * @param macCheckNetwork a network used only for mac checks, or null to run mac checks on the
+   *     network of the online phase
+   */
+  public Spdz2kResourcePoolImpl(int myId, int noOfPlayers, Drbg drbg,
+      OpenedValueStore<Spdz2kSInt<PlainT>, PlainT> storage,
+      Spdz2kDataSupplier<PlainT> supplier, CompUIntFactory<PlainT> factory,
+      Network macCheckNetwork) {
     super(myId, noOfPlayers);
     Objects.requireNonNull(storage);
     Objects.requireNonNull(supplier);
@@ -64,6 +82,23 @@ public class Spdz2kResourcePoolImpl<PlainT extends CompUInt<?, ?, PlainT>>
     this.rawSerializer = factory.getSerializer();
     this.drbg = drbg;
     this.localDrbg = new AesCtrDrbg();
+    this.macCheckNetwork = macCheckNetwork;
+  }
+
+  /**
+   * Creates a partition of a resource pool, sharing everything but the opened value store.
+   */
+  private Spdz2kResourcePoolImpl(Spdz2kResourcePoolImpl<PlainT> resourcePool,
+      OpenedValueStore<Spdz2kSInt<PlainT>, PlainT> storage) {
+    super(resourcePool.getMyId(), resourcePool.getNoOfParties());
+    this.effectiveBitLength = resourcePool.effectiveBitLength;
+    this.storage = storage;
+    this.supplier = resourcePool.supplier;
+    this.factory = resourcePool.factory;
+    this.rawSerializer = resourcePool.rawSerializer;
+    this.drbg = resourcePool.drbg;
+    this.localDrbg = resourcePool.localDrbg;
+    this.macCheckNetwork = resourcePool.macCheckNetwork;
   }
 
   @Override
@@ -124,6 +159,23 @@ public class Spdz2kResourcePoolImpl<PlainT extends CompUInt<?, ?, PlainT>>
     return localDrbg;
   }
 
+  @Override
+  public Network getMacCheckNetwork() {
+    return macCheckNetwork;
+  }
+
+  @Override
+  public Spdz2kResourcePool<PlainT> createPartition() {
+    return new Spdz2kResourcePoolImpl<>(this, new Spdz2kOpenedValueStoreImpl<>());
+  }
+
+  @Override
+  public void mergePartition(Spdz2kResourcePool<PlainT> partition) {
+    Pair<List<Spdz2kSInt<PlainT>>, List<PlainT>> values =
+        partition.getOpenedValueStore().popValues();
+    storage.pushOpenedValues(values.getFirst(), values.getSecond());
+  }
+
   /**
    * Evaluates, on the fly, a coin-tossing computation to get joint seed.
    */
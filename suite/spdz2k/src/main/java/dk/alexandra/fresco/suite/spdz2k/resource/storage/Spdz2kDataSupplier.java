@@ -4,10 +4,13 @@ import dk.alexandra.fresco.suite.spdz2k.datatypes.CompUInt;
 import dk.alexandra.fresco.suite.spdz2k.datatypes.Spdz2kInputMask;
 import dk.alexandra.fresco.suite.spdz2k.datatypes.Spdz2kSInt;
 import dk.alexandra.fresco.suite.spdz2k.datatypes.Spdz2kTriple;
+import dk.alexandra.fresco.suite.spdz2k.datatypes.Spdz2kTruncationPair;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Interface for a supplier of pre-processing material. <p>Material includes random elements shares,
- * random bit shares, and multiplication triple shares.</p>
+ * random bit shares, multiplication triple shares, and truncation pairs.</p>
  */
 public interface Spdz2kDataSupplier<T extends CompUInt<?, ?, T>> {
 
@@ -18,6 +21,20 @@ public interface Spdz2kDataSupplier<T extends CompUInt<?, ?, T>> {
    */
   Spdz2kTriple<T> getNextTripleShares();
 
+  /**
+   * Supplies the next triples.
+   *
+   * @param noOfTriples the number of triples to supply
+   * @return the next new triples
+   */
+  default List<Spdz2kTriple<T>> getNextTripleShares(int noOfTriples) {
+    List<Spdz2kTriple<T>> triples = new ArrayList<>(noOfTriples);
+    for (int i = 0; i < noOfTriples; i++) {
+      triples.add(getNextTripleShares());
+    }
+    return triples;
+  }
+
   /**
    * Supplies the next inputmask for a given input player.
    *
@@ -26,11 +43,32 @@ public interface Spdz2kDataSupplier<T extends CompUInt<?, ?, T>> {
    */
   Spdz2kInputMask<T> getNextInputMask(int towardPlayerId);
 
+  /**
+   * Supplies the next input masks for a given input player.
+   *
+   * @param towardPlayerId the id of the input player
+   * @param noOfMasks the number of masks to supply
+   * @return the appropriate input masks
+   */
+  default List<Spdz2kInputMask<T>> getNextInputMasks(int towardPlayerId, int noOfMasks) {
+    List<Spdz2kInputMask<T>> masks = new ArrayList<>(noOfMasks);
+    for (int i = 0; i < noOfMasks; i++) {
+      masks.add(getNextInputMask(towardPlayerId));
+    }
+    return masks;
+  }
+
   /**
    * Supplies the next bit (SInt representing value in {0, 1}).
    */
   Spdz2kSInt<T> getNextBitShare();
 
+  /**
+   * Supplies the next truncation pair, i.e., shares of a random value r' of
+   * <code>bitLength</code> bits and of r = r' >> shifts.
+   */
+  Spdz2kTruncationPair<T> getNextTruncationPair(int shifts, int bitLength);
+
   /**
    * Returns the player's share of the mac key.
    */
@@ -3,11 +3,13 @@ package dk.alexandra.fresco.suite.spdz2k.resource.storage;
 import dk.alexandra.fresco.framework.util.ArithmeticDummyDataSupplier;
 import dk.alexandra.fresco.framework.util.MultiplicationTripleShares;
 import dk.alexandra.fresco.framework.util.Pair;
+import dk.alexandra.fresco.framework.util.TruncationPairShares;
 import dk.alexandra.fresco.suite.spdz2k.datatypes.CompUInt;
 import dk.alexandra.fresco.suite.spdz2k.datatypes.CompUIntFactory;
 import dk.alexandra.fresco.suite.spdz2k.datatypes.Spdz2kInputMask;
 import dk.alexandra.fresco.suite.spdz2k.datatypes.Spdz2kSInt;
 import dk.alexandra.fresco.suite.spdz2k.datatypes.Spdz2kTriple;
+import dk.alexandra.fresco.suite.spdz2k.datatypes.Spdz2kTruncationPair;
 import java.math.BigInteger;
 
 /**
@@ -57,6 +59,14 @@ public class Spdz2kDummyDataSupplier<
     return toSpdz2kSInt(supplier.getRandomBitShare());
   }
 
+  @Override
+  public Spdz2kTruncationPair<PlainT> getNextTruncationPair(int shifts, int bitLength) {
+    TruncationPairShares rawPair = supplier.getTruncationPairShares(shifts, bitLength);
+    return new Spdz2kTruncationPair<>(
+        toSpdz2kSInt(rawPair.getRPrime()),
+        toSpdz2kSInt(rawPair.getR()));
+  }
+
   @Override
   public PlainT getSecretSharedKey() {
     return secretSharedKey;
@@ -1,12 +1,15 @@
 package dk.alexandra.fresco.suite.spdz2k.synchronization;
 
 import dk.alexandra.fresco.framework.ProtocolCollection;
+import dk.alexandra.fresco.framework.ProtocolProducer;
 import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
 import dk.alexandra.fresco.framework.network.Network;
 import dk.alexandra.fresco.framework.sce.evaluator.BatchEvaluationStrategy;
 import dk.alexandra.fresco.framework.sce.evaluator.BatchedProtocolEvaluator;
 import dk.alexandra.fresco.framework.sce.evaluator.BatchedStrategy;
+import dk.alexandra.fresco.framework.util.MacCheckExecutor;
 import dk.alexandra.fresco.framework.util.OpenedValueStore;
+import dk.alexandra.fresco.framework.util.OpenedValueStoreImpl;
 import dk.alexandra.fresco.suite.ProtocolSuite.RoundSynchronization;
 import dk.alexandra.fresco.suite.spdz2k.Spdz2kBuilder;
 import dk.alexandra.fresco.suite.spdz2k.Spdz2kProtocolSuite;
@@ -17,11 +20,17 @@ import dk.alexandra.fresco.suite.spdz2k.datatypes.UInt;
 import dk.alexandra.fresco.suite.spdz2k.protocols.computations.Spdz2kMacCheckComputation;
 import dk.alexandra.fresco.suite.spdz2k.protocols.natives.RequiresMacCheck;
 import dk.alexandra.fresco.suite.spdz2k.resource.Spdz2kResourcePool;
+import dk.alexandra.fresco.suite.spdz2k.resource.Spdz2kResourcePoolImpl;
 import java.util.stream.StreamSupport;
 
 /**
  * Round synchronization for SPDZ2k. <p>Requires a mac check to be performed on an all opened
  * unauthenticated values whenever an output protocol is encountered in a batch.</p>
+ *
+ * <p>If the resource pool has a {@link Spdz2kResourcePool#getMacCheckNetwork() network dedicated
+ * to mac checks} the checks run in the background over that network. The online phase then only
+ * waits for the outstanding checks to succeed before and after a batch with protocols {@link
+ * RequiresMacCheck requiring a mac check} and at the end of the evaluation.</p>
  */
 public class Spdz2kRoundSynchronization<
     HighT extends UInt<HighT>,
@@ -34,6 +43,7 @@ public class Spdz2kRoundSynchronization<
   private boolean isCheckRequired;
   private final Spdz2kProtocolSuite<HighT, LowT, PlainT> protocolSuite;
   private final CompUIntConverter<HighT, LowT, PlainT> converter;
+  private MacCheckExecutor macCheckExecutor;
 
   public Spdz2kRoundSynchronization(Spdz2kProtocolSuite<HighT, LowT, PlainT> protocolSuite,
       CompUIntConverter<HighT, LowT, PlainT> converter) {
@@ -52,38 +62,94 @@ public class Spdz2kRoundSynchronization<
   }
 
   private void doMacCheck(Spdz2kResourcePool<PlainT> resourcePool, Network network) {
-    Spdz2kBuilder<PlainT> builder = new Spdz2kBuilder<>(resourcePool.getFactory(),
-        protocolSuite.createBasicNumericContext(resourcePool));
-    BatchEvaluationStrategy<Spdz2kResourcePool<PlainT>> batchStrategy = new BatchedStrategy<>();
-    BatchedProtocolEvaluator<Spdz2kResourcePool<PlainT>> evaluator = new BatchedProtocolEvaluator<>(
-        batchStrategy,
-        protocolSuite,
-        batchSize);
+    if (resourcePool.getMacCheckNetwork() != null) {
+      startMacCheck(resourcePool);
+      if (macCheckExecutor != null) {
+        macCheckExecutor.awaitChecks();
+      }
+    } else {
+      evaluateMacCheck(resourcePool, resourcePool, network);
+    }
+  }
+
+  /**
+   * Starts a background check of the values opened so far, without waiting for it.
+   */
+  private void startMacCheck(Spdz2kResourcePool<PlainT> resourcePool) {
+    if (resourcePool.getOpenedValueStore().hasPendingValues()) {
+      // the check gets resources of its own, since the online phase continues using the
+      // resource pool, and an empty store, since it is evaluated using this round synchronization
+      Spdz2kResourcePool<PlainT> checkResourcePool = new Spdz2kResourcePoolImpl<>(
+          resourcePool.getMyId(), resourcePool.getNoOfParties(),
+          resourcePool.getRandomGenerator(), new OpenedValueStoreImpl<>(),
+          resourcePool.getDataSupplier(), resourcePool.getFactory());
+      ProtocolProducer macCheck = buildMacCheck(resourcePool, checkResourcePool);
+      Network macCheckNetwork = resourcePool.getMacCheckNetwork();
+      if (macCheckExecutor == null) {
+        macCheckExecutor = new MacCheckExecutor();
+      }
+      macCheckExecutor.submit(
+          () -> createEvaluator().eval(macCheck, checkResourcePool, macCheckNetwork));
+    }
+  }
+
+  private void evaluateMacCheck(Spdz2kResourcePool<PlainT> resourcePool,
+      Spdz2kResourcePool<PlainT> checkResourcePool, Network network) {
+    createEvaluator().eval(buildMacCheck(resourcePool, checkResourcePool), checkResourcePool,
+        network);
+  }
+
+  /**
+   * Builds the mac check of the values opened so far. Building draws the randomness of the check
+   * from the resource pool, so it is done in the order of the online phase.
+   */
+  private ProtocolProducer buildMacCheck(Spdz2kResourcePool<PlainT> resourcePool,
+      Spdz2kResourcePool<PlainT> checkResourcePool) {
+    Spdz2kBuilder<PlainT> builder = new Spdz2kBuilder<>(checkResourcePool.getFactory(),
+        protocolSuite.createBasicNumericContext(checkResourcePool), checkResourcePool);
     OpenedValueStore<Spdz2kSInt<PlainT>, PlainT> store = resourcePool.getOpenedValueStore();
     Spdz2kMacCheckComputation<HighT, LowT, PlainT> macCheck = new Spdz2kMacCheckComputation<>(
         store.popValues(),
-        resourcePool, converter);
+        checkResourcePool, converter);
     ProtocolBuilderNumeric sequential = builder.createSequential();
     macCheck.buildComputation(sequential);
-    evaluator.eval(sequential.build(), resourcePool, network);
+    return sequential.build();
+  }
+
+  private BatchedProtocolEvaluator<Spdz2kResourcePool<PlainT>> createEvaluator() {
+    BatchEvaluationStrategy<Spdz2kResourcePool<PlainT>> batchStrategy = new BatchedStrategy<>();
+    return new BatchedProtocolEvaluator<>(batchStrategy, protocolSuite, batchSize);
   }
 
   @Override
   public void finishedBatch(int gatesEvaluated, Spdz2kResourcePool<PlainT> resourcePool,
       Network network) {
     OpenedValueStore<Spdz2kSInt<PlainT>, PlainT> store = resourcePool.getOpenedValueStore();
-    if (isCheckRequired || store.exceedsThreshold(openValueThreshold)) {
+    if (isCheckRequired) {
       doMacCheck(resourcePool, network);
       isCheckRequired = false;
+    } else if (store.exceedsThreshold(openValueThreshold)) {
+      if (resourcePool.getMacCheckNetwork() != null) {
+        startMacCheck(resourcePool);
+      } else {
+        doMacCheck(resourcePool, network);
+      }
+    }
+    if (macCheckExecutor != null) {
+      macCheckExecutor.checkFailures();
     }
   }
 
   @Override
   public void finishedEval(Spdz2kResourcePool<PlainT> resourcePool, Network network) {
     OpenedValueStore<Spdz2kSInt<PlainT>, PlainT> store = resourcePool.getOpenedValueStore();
-    if (store.hasPendingValues()) {
+    if (store.hasPendingValues() || macCheckExecutor != null) {
       doMacCheck(resourcePool, network);
     }
+    if (macCheckExecutor != null) {
+      macCheckExecutor.close();
+      macCheckExecutor = null;
+    }
   }
 
   @Override
@@ -93,7 +159,7 @@ public class Spdz2kRoundSynchronization<
     isCheckRequired = StreamSupport.stream(nativeProtocols.spliterator(), false)
         .anyMatch(p -> p instanceof RequiresMacCheck);
     OpenedValueStore<Spdz2kSInt<PlainT>, PlainT> store = resourcePool.getOpenedValueStore();
-    if (store.hasPendingValues() && isCheckRequired) {
+    if (isCheckRequired && (store.hasPendingValues() || macCheckExecutor != null)) {
       doMacCheck(resourcePool, network);
     }
   }
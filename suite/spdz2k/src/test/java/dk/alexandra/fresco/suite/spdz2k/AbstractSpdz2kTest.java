@@ -36,17 +36,20 @@ public abstract class AbstractSpdz2kTest<Spdz2kResourcePoolT extends Spdz2kResou
   protected void runTest(
       TestThreadFactory<Spdz2kResourcePoolT, ProtocolBuilderNumeric> f,
       EvaluationStrategy evalStrategy, int noOfParties) {
-    List<Integer> ports = NetworkUtil.getFreePorts(2 * noOfParties);
+    List<Integer> ports = NetworkUtil.getFreePorts(3 * noOfParties);
     Map<Integer, NetworkConfiguration> netConf =
         NetworkUtil.getNetworkConfigurations(ports.subList(0, noOfParties));
     Map<Integer, NetworkConfiguration> coinTossingNetConf = NetworkUtil
-        .getNetworkConfigurations(ports.subList(noOfParties, ports.size()));
+        .getNetworkConfigurations(ports.subList(noOfParties, 2 * noOfParties));
+    Map<Integer, NetworkConfiguration> macCheckNetConf = NetworkUtil
+        .getNetworkConfigurations(ports.subList(2 * noOfParties, ports.size()));
 
     Map<Integer, TestThreadRunner.TestThreadConfiguration<Spdz2kResourcePoolT, ProtocolBuilderNumeric>> conf =
         new HashMap<>();
     for (int playerId : netConf.keySet()) {
       NetworkConfiguration partyNetConf = netConf.get(playerId);
       NetworkConfiguration coinTossingPartyNetConf = coinTossingNetConf.get(playerId);
+      NetworkConfiguration macCheckPartyNetConf = macCheckNetConf.get(playerId);
       ProtocolSuiteNumeric<Spdz2kResourcePoolT> ps = createProtocolSuite();
       BatchEvaluationStrategy<Spdz2kResourcePoolT> batchEvaluationStrategy =
           evalStrategy.getStrategy();
@@ -60,7 +63,8 @@ public abstract class AbstractSpdz2kTest<Spdz2kResourcePoolT extends Spdz2kResou
           new TestThreadRunner.TestThreadConfiguration<>(
               sce,
               () -> createResourcePool(playerId, noOfParties,
-                  () -> new SocketNetwork(coinTossingPartyNetConf)),
+                  () -> new SocketNetwork(coinTossingPartyNetConf),
+                  () -> new SocketNetwork(macCheckPartyNetConf)),
               () -> new SocketNetwork(partyNetConf));
 
       conf.put(playerId, ttc);
@@ -71,6 +75,15 @@ public abstract class AbstractSpdz2kTest<Spdz2kResourcePoolT extends Spdz2kResou
   protected abstract Spdz2kResourcePoolT createResourcePool(int playerId, int noOfParties,
       Supplier<Network> networkSupplier);
 
+  /**
+   * Creates the resource pool of a party, with access to a network dedicated to mac checks. By
+   * default the mac check network is not used.
+   */
+  protected Spdz2kResourcePoolT createResourcePool(int playerId, int noOfParties,
+      Supplier<Network> networkSupplier, Supplier<Network> macCheckNetworkSupplier) {
+    return createResourcePool(playerId, noOfParties, networkSupplier);
+  }
+
   protected abstract ProtocolSuiteNumeric<Spdz2kResourcePoolT> createProtocolSuite();
 
 }
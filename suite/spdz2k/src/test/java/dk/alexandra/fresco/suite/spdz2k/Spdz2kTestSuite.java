@@ -3,6 +3,11 @@ package dk.alexandra.fresco.suite.spdz2k;
 import dk.alexandra.fresco.framework.sce.evaluator.EvaluationStrategy;
 import dk.alexandra.fresco.lib.arithmetic.BasicArithmeticTests;
 import dk.alexandra.fresco.lib.collections.io.CloseListTests.TestCloseAndOpenList;
+import dk.alexandra.fresco.lib.collections.io.CloseListTests.TestCloseListsFromAllParties;
+import dk.alexandra.fresco.lib.compare.CompareTests;
+import dk.alexandra.fresco.lib.math.integer.binary.BinaryOperationsTests;
+import dk.alexandra.fresco.lib.real.BasicFixedPointTests;
+import dk.alexandra.fresco.lib.real.TruncationTests;
 import dk.alexandra.fresco.suite.spdz2k.resource.Spdz2kResourcePool;
 import org.junit.Test;
 
@@ -56,11 +61,21 @@ public abstract class Spdz2kTestSuite<Spdz2kResourcePoolT extends Spdz2kResource
     runTest(new TestCloseAndOpenList<>(), EvaluationStrategy.SEQUENTIAL_BATCHED);
   }
 
+  @Test
+  public void testInputListsFromAllParties() {
+    runTest(new TestCloseListsFromAllParties<>(), EvaluationStrategy.SEQUENTIAL_BATCHED);
+  }
+
   @Test
   public void testMultiplyMany() {
     runTest(new BasicArithmeticTests.TestLotsMult<>(), EvaluationStrategy.SEQUENTIAL_BATCHED);
   }
 
+  @Test
+  public void testMultiplyLists() {
+    runTest(new BasicArithmeticTests.TestMultiplyLists<>(), EvaluationStrategy.SEQUENTIAL_BATCHED);
+  }
+
   @Test
   public void testSumAndMult() {
     runTest(new BasicArithmeticTests.TestSumAndMult<>(), EvaluationStrategy.SEQUENTIAL_BATCHED);
@@ -132,4 +147,46 @@ public abstract class Spdz2kTestSuite<Spdz2kResourcePoolT extends Spdz2kResource
         EvaluationStrategy.SEQUENTIAL_BATCHED);
   }
 
+  @Test
+  public void testCompareLT() {
+    runTest(new CompareTests.TestCompareLT<>(), EvaluationStrategy.SEQUENTIAL_BATCHED);
+  }
+
+  @Test
+  public void testCompareEQ() {
+    runTest(new CompareTests.TestCompareEQ<>(), EvaluationStrategy.SEQUENTIAL_BATCHED);
+  }
+
+  @Test
+  public void testRightShift() {
+    runTest(new BinaryOperationsTests.TestRightShift<>(), EvaluationStrategy.SEQUENTIAL_BATCHED);
+  }
+
+  @Test
+  public void testBits() {
+    runTest(new BinaryOperationsTests.TestBits<>(), EvaluationStrategy.SEQUENTIAL_BATCHED);
+  }
+
+  @Test
+  public void testBitLength() {
+    runTest(new BinaryOperationsTests.TestBitLength<>(), EvaluationStrategy.SEQUENTIAL_BATCHED);
+  }
+
+  @Test
+  public void testTruncationPair() {
+    runTest(new TruncationTests.TestTruncationPair<>(), EvaluationStrategy.SEQUENTIAL_BATCHED);
+  }
+
+  @Test
+  public void testTruncationFromPair() {
+    runTest(new TruncationTests.TestTruncationFromPair<>(),
+        EvaluationStrategy.SEQUENTIAL_BATCHED);
+  }
+
+  @Test
+  public void testFixedMultWithTruncationPairs() {
+    runTest(new BasicFixedPointTests.TestMultWithTruncationPairs<>(),
+        EvaluationStrategy.SEQUENTIAL_BATCHED);
+  }
+
 }
@@ -60,6 +60,27 @@ public class TestCompUInt128 {
     );
   }
 
+  @Test
+  public void testConstructNegative() {
+    assertEquals(
+        twoTo128.subtract(BigInteger.ONE),
+        new CompUInt128(BigInteger.ONE.negate()).toBigInteger()
+    );
+    assertEquals(
+        twoTo128.subtract(BigInteger.valueOf(6)),
+        new CompUInt128(BigInteger.valueOf(-6)).toBigInteger()
+    );
+    assertEquals(
+        twoTo128.subtract(twoTo64),
+        new CompUInt128(twoTo64.negate()).toBigInteger()
+    );
+    assertEquals(
+        twoTo64.subtract(BigInteger.valueOf(42)),
+        new CompUInt128Factory().createElement(BigInteger.valueOf(-42)).getLeastSignificant()
+            .toBigInteger()
+    );
+  }
+
   @Test
   public void testAdd() {
     assertEquals(
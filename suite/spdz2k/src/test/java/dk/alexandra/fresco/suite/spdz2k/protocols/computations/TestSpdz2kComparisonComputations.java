@@ -0,0 +1,241 @@
+package dk.alexandra.fresco.suite.spdz2k.protocols.computations;
+
+import static org.junit.Assert.assertEquals;
+
+import dk.alexandra.fresco.framework.Application;
+import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.TestThreadRunner.TestThread;
+import dk.alexandra.fresco.framework.TestThreadRunner.TestThreadFactory;
+import dk.alexandra.fresco.framework.builder.numeric.AdvancedNumeric;
+import dk.alexandra.fresco.framework.builder.numeric.AdvancedNumeric.RightShiftResult;
+import dk.alexandra.fresco.framework.builder.numeric.Comparison;
+import dk.alexandra.fresco.framework.builder.numeric.Numeric;
+import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
+import dk.alexandra.fresco.framework.network.Network;
+import dk.alexandra.fresco.framework.sce.evaluator.EvaluationStrategy;
+import dk.alexandra.fresco.framework.sce.resources.ResourcePool;
+import dk.alexandra.fresco.framework.util.AesCtrDrbg;
+import dk.alexandra.fresco.framework.value.SInt;
+import dk.alexandra.fresco.suite.ProtocolSuiteNumeric;
+import dk.alexandra.fresco.suite.spdz2k.AbstractSpdz2kTest;
+import dk.alexandra.fresco.suite.spdz2k.Spdz2kProtocolSuiteK64;
+import dk.alexandra.fresco.suite.spdz2k.datatypes.CompUInt128;
+import dk.alexandra.fresco.suite.spdz2k.datatypes.CompUInt128Factory;
+import dk.alexandra.fresco.suite.spdz2k.datatypes.CompUIntFactory;
+import dk.alexandra.fresco.suite.spdz2k.resource.Spdz2kResourcePool;
+import dk.alexandra.fresco.suite.spdz2k.resource.Spdz2kResourcePoolImpl;
+import dk.alexandra.fresco.suite.spdz2k.resource.storage.Spdz2kDummyDataSupplier;
+import dk.alexandra.fresco.suite.spdz2k.resource.storage.Spdz2kOpenedValueStoreImpl;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.junit.Test;
+
+public class TestSpdz2kComparisonComputations extends
+    AbstractSpdz2kTest<Spdz2kResourcePool<CompUInt128>> {
+
+  private static final BigInteger TWO_TO_63 = BigInteger.ONE.shiftLeft(63);
+  private static final BigInteger TWO_TO_64 = BigInteger.ONE.shiftLeft(64);
+  private static final List<BigInteger> SIGNED_VALUES = Arrays.asList(
+      BigInteger.ZERO, BigInteger.ONE, BigInteger.valueOf(-1), BigInteger.valueOf(1234567),
+      BigInteger.valueOf(-7654321), TWO_TO_63.subtract(BigInteger.ONE), TWO_TO_63.negate());
+
+  @Test
+  public void testCompareLEQZero() {
+    runTest(new TestComputation<>(builder -> {
+      Numeric numeric = builder.numeric();
+      Comparison comparison = builder.comparison();
+      List<DRes<SInt>> results = new ArrayList<>();
+      for (BigInteger value : SIGNED_VALUES) {
+        results.add(comparison.compareLEQ(numeric.known(BigInteger.ZERO), numeric.known(value)));
+      }
+      return results;
+    }, SIGNED_VALUES.stream()
+        .map(value -> value.signum() >= 0 ? BigInteger.ONE : BigInteger.ZERO)
+        .collect(Collectors.toList())), EvaluationStrategy.SEQUENTIAL_BATCHED, 2);
+  }
+
+  @Test
+  public void testSign() {
+    runTest(new TestComputation<>(builder -> {
+      Numeric numeric = builder.numeric();
+      Comparison comparison = builder.comparison();
+      List<DRes<SInt>> results = new ArrayList<>();
+      for (BigInteger value : SIGNED_VALUES) {
+        results.add(comparison.sign(numeric.known(value)));
+      }
+      return results;
+    }, SIGNED_VALUES.stream()
+        .map(value -> value.signum() >= 0 ? BigInteger.ONE : TWO_TO_64.subtract(BigInteger.ONE))
+        .collect(Collectors.toList())), EvaluationStrategy.SEQUENTIAL_BATCHED, 2);
+  }
+
+  @Test
+  public void testLessThanZeroShortBitLengths() {
+    List<Integer> bitLengths = Arrays.asList(1, 2, 8, 8, 8, 17);
+    List<Long> values = Arrays.asList(-1L, 1L, 127L, -128L, 0L, -65536L);
+    runTest(new TestComputation<>(builder -> {
+      List<DRes<SInt>> results = new ArrayList<>();
+      for (int i = 0; i < values.size(); i++) {
+        DRes<SInt> value = builder.numeric().known(BigInteger.valueOf(values.get(i)));
+        results.add(builder.seq(new Spdz2kLessThanZero(value, bitLengths.get(i), 64)));
+      }
+      return results;
+    }, values.stream()
+        .map(value -> value < 0 ? BigInteger.ONE : BigInteger.ZERO)
+        .collect(Collectors.toList())), EvaluationStrategy.SEQUENTIAL_BATCHED, 2);
+  }
+
+  @Test
+  public void testEquals() {
+    runTest(new TestComputation<>(builder -> {
+      Numeric numeric = builder.numeric();
+      Comparison comparison = builder.comparison();
+      return Arrays.asList(
+          comparison.equals(numeric.known(BigInteger.valueOf(-5)),
+              numeric.known(BigInteger.valueOf(-5))),
+          comparison.equals(numeric.known(TWO_TO_63), numeric.known(BigInteger.ZERO)),
+          comparison.equals(8, numeric.known(BigInteger.valueOf(255)),
+              numeric.known(BigInteger.valueOf(255))),
+          comparison.equals(8, numeric.known(BigInteger.valueOf(255)),
+              numeric.known(BigInteger.valueOf(0))),
+          comparison.compareZero(numeric.known(BigInteger.ZERO), 1),
+          comparison.compareZero(numeric.known(BigInteger.valueOf(-1)), 100));
+    }, Arrays.asList(BigInteger.ONE, BigInteger.ZERO, BigInteger.ONE, BigInteger.ZERO,
+        BigInteger.ONE, BigInteger.ZERO)), EvaluationStrategy.SEQUENTIAL_BATCHED, 2);
+  }
+
+  @Test
+  public void testRightShiftLargeValues() {
+    BigInteger input = TWO_TO_64.subtract(BigInteger.valueOf(12345));
+    List<Integer> shifts = Arrays.asList(0, 1, 13, 32, 63, 64);
+    List<BigInteger> expected = new ArrayList<>();
+    for (int shift : shifts) {
+      expected.add(input.shiftRight(shift));
+      expected.add(input.mod(BigInteger.ONE.shiftLeft(shift)));
+    }
+    runTest(new TestComputation<>(builder -> {
+      AdvancedNumeric advancedNumeric = builder.advancedNumeric();
+      DRes<SInt> value = builder.numeric().known(input);
+      List<DRes<SInt>> results = new ArrayList<>();
+      for (int shift : shifts) {
+        DRes<RightShiftResult> result = advancedNumeric.rightShiftWithRemainder(value, shift);
+        results.add(() -> result.out().getResult());
+        results.add(() -> result.out().getRemainder());
+      }
+      return results;
+    }, expected), EvaluationStrategy.SEQUENTIAL_BATCHED, 2);
+  }
+
+  @Test
+  public void testModPowerOfTwo() {
+    List<Long> values = Arrays.asList(-13L, 12345L, -1L, Long.MIN_VALUE);
+    List<Integer> exponents = Arrays.asList(4, 1, 63, 64);
+    List<BigInteger> expected = new ArrayList<>();
+    for (int i = 0; i < values.size(); i++) {
+      expected.add(BigInteger.valueOf(values.get(i))
+          .mod(BigInteger.ONE.shiftLeft(exponents.get(i))));
+    }
+    runTest(new TestComputation<>(builder -> {
+      List<DRes<SInt>> results = new ArrayList<>();
+      for (int i = 0; i < values.size(); i++) {
+        results.add(builder.advancedNumeric().mod(
+            builder.numeric().known(BigInteger.valueOf(values.get(i))),
+            BigInteger.ONE.shiftLeft(exponents.get(i))));
+      }
+      return results;
+    }, expected), EvaluationStrategy.SEQUENTIAL_BATCHED, 2);
+  }
+
+  @Test
+  public void testBitsOfNegativeValue() {
+    BigInteger input = BigInteger.valueOf(-6);
+    List<BigInteger> expected = new ArrayList<>();
+    for (int i = 0; i < 64; i++) {
+      expected.add(input.testBit(i) ? BigInteger.ONE : BigInteger.ZERO);
+    }
+    runTest(new TestComputation<>(builder -> {
+      DRes<List<SInt>> bits = builder.advancedNumeric().toBits(builder.numeric().known(input),
+          64);
+      List<DRes<SInt>> results = new ArrayList<>();
+      for (int i = 0; i < 64; i++) {
+        int index = i;
+        results.add(() -> bits.out().get(index));
+      }
+      return results;
+    }, expected), EvaluationStrategy.SEQUENTIAL_BATCHED, 2);
+  }
+
+  @Test
+  public void testCompareThreeParties() {
+    runTest(new TestComputation<>(builder -> {
+      Numeric numeric = builder.numeric();
+      DRes<SInt> x = numeric.input(BigInteger.valueOf(-42), 1);
+      DRes<SInt> y = numeric.input(BigInteger.valueOf(17), 3);
+      Comparison comparison = builder.comparison();
+      return Arrays.asList(comparison.compareLEQ(x, y), comparison.compareLEQ(y, x),
+          comparison.equals(x, x), comparison.equals(x, y));
+    }, Arrays.asList(BigInteger.ONE, BigInteger.ZERO, BigInteger.ONE, BigInteger.ZERO)),
+        EvaluationStrategy.SEQUENTIAL_BATCHED, 3);
+  }
+
+  @Override
+  protected Spdz2kResourcePool<CompUInt128> createResourcePool(int playerId, int noOfParties,
+      Supplier<Network> networkSupplier) {
+    CompUIntFactory<CompUInt128> factory = new CompUInt128Factory();
+    Spdz2kResourcePool<CompUInt128> resourcePool =
+        new Spdz2kResourcePoolImpl<>(
+            playerId,
+            noOfParties, null,
+            new Spdz2kOpenedValueStoreImpl<>(),
+            new Spdz2kDummyDataSupplier<>(playerId, noOfParties, factory.createRandom(), factory),
+            factory);
+    resourcePool.initializeJointRandomness(networkSupplier, AesCtrDrbg::new, 32);
+    return resourcePool;
+  }
+
+  @Override
+  protected ProtocolSuiteNumeric<Spdz2kResourcePool<CompUInt128>> createProtocolSuite() {
+    return new Spdz2kProtocolSuiteK64();
+  }
+
+  /**
+   * Builds a list of secret values, opens them and checks the opened values.
+   */
+  private static class TestComputation<ResourcePoolT extends ResourcePool>
+      extends TestThreadFactory<ResourcePoolT, ProtocolBuilderNumeric> {
+
+    private final Function<ProtocolBuilderNumeric, List<DRes<SInt>>> computation;
+    private final List<BigInteger> expected;
+
+    TestComputation(Function<ProtocolBuilderNumeric, List<DRes<SInt>>> computation,
+        List<BigInteger> expected) {
+      this.computation = computation;
+      this.expected = expected;
+    }
+
+    @Override
+    public TestThread<ResourcePoolT, ProtocolBuilderNumeric> next() {
+      return new TestThread<ResourcePoolT, ProtocolBuilderNumeric>() {
+        @Override
+        public void test() {
+          Application<List<BigInteger>, ProtocolBuilderNumeric> app = root ->
+              root.seq(builder -> {
+                List<DRes<SInt>> results = computation.apply(builder);
+                return () -> results;
+              }).seq((seq, results) -> {
+                List<DRes<BigInteger>> opened = results.stream()
+                    .map(seq.numeric()::open)
+                    .collect(Collectors.toList());
+                return () -> opened.stream().map(DRes::out).collect(Collectors.toList());
+              });
+          assertEquals(expected, runApplication(app));
+        }
+      };
+    }
+  }
+}
@@ -9,6 +9,7 @@ import dk.alexandra.fresco.suite.spdz2k.datatypes.CompUIntFactory;
 import dk.alexandra.fresco.suite.spdz2k.datatypes.Spdz2kSInt;
 import dk.alexandra.fresco.suite.spdz2k.datatypes.Spdz2kInputMask;
 import dk.alexandra.fresco.suite.spdz2k.datatypes.Spdz2kTriple;
+import dk.alexandra.fresco.suite.spdz2k.datatypes.Spdz2kTruncationPair;
 import dk.alexandra.fresco.suite.spdz2k.datatypes.CompUInt128;
 import dk.alexandra.fresco.suite.spdz2k.datatypes.CompUInt128Factory;
 import java.math.BigInteger;
@@ -80,6 +81,25 @@ public class TestSpdz2kDummyDataSupplier {
     assertTripleValid(recombined, macKey);
   }
 
+  private void testGetNextTruncationPair(int noOfParties) {
+    List<Spdz2kDataSupplier<CompUInt128>> suppliers = setupSuppliers(noOfParties);
+    CompUInt128 macKey = getMacKeyFromSuppliers(suppliers);
+    List<Spdz2kSInt<CompUInt128>> rPrimeShares = new ArrayList<>(noOfParties);
+    List<Spdz2kSInt<CompUInt128>> rShares = new ArrayList<>(noOfParties);
+    for (Spdz2kDataSupplier<CompUInt128> supplier : suppliers) {
+      Spdz2kTruncationPair<CompUInt128> pair = supplier.getNextTruncationPair(10, 60);
+      rPrimeShares.add(pair.getRPrime());
+      rShares.add(pair.getR());
+    }
+    Spdz2kSInt<CompUInt128> rPrime = recombine(rPrimeShares);
+    Spdz2kSInt<CompUInt128> r = recombine(rShares);
+    assertMacCorrect(rPrime, macKey);
+    assertMacCorrect(r, macKey);
+    BigInteger rPrimeValue = rPrime.getShare().toBigInteger();
+    assertTrue("Too many bits " + rPrimeValue, rPrimeValue.bitLength() <= 60);
+    assertEquals(rPrimeValue.shiftRight(10), r.getShare().toBigInteger());
+  }
+
   @Test
   public void testGetNextRandomElementShare() {
     testGetNextRandomElementShare(2);
@@ -111,6 +131,13 @@ public class TestSpdz2kDummyDataSupplier {
     testGetNextTripleShares(5);
   }
 
+  @Test
+  public void testGetNextTruncationPair() {
+    testGetNextTruncationPair(2);
+    testGetNextTruncationPair(3);
+    testGetNextTruncationPair(5);
+  }
+
   private Spdz2kSInt<CompUInt128> recombine(
       List<Spdz2kSInt<CompUInt128>> shares) {
     return shares.stream().reduce(Spdz2kSInt::add).get();
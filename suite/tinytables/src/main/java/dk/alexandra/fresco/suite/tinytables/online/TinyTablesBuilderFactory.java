@@ -8,10 +8,14 @@ import dk.alexandra.fresco.framework.value.SBool;
 import dk.alexandra.fresco.suite.tinytables.datatypes.TinyTablesElement;
 import dk.alexandra.fresco.suite.tinytables.online.datatypes.TinyTablesSBool;
 import dk.alexandra.fresco.suite.tinytables.online.protocols.TinyTablesANDProtocol;
+import dk.alexandra.fresco.suite.tinytables.online.protocols.TinyTablesANDVectorProtocol;
 import dk.alexandra.fresco.suite.tinytables.online.protocols.TinyTablesCloseProtocol;
 import dk.alexandra.fresco.suite.tinytables.online.protocols.TinyTablesNOTProtocol;
+import dk.alexandra.fresco.suite.tinytables.online.protocols.TinyTablesNOTVectorProtocol;
 import dk.alexandra.fresco.suite.tinytables.online.protocols.TinyTablesOpenToAllProtocol;
 import dk.alexandra.fresco.suite.tinytables.online.protocols.TinyTablesXORProtocol;
+import dk.alexandra.fresco.suite.tinytables.online.protocols.TinyTablesXORVectorProtocol;
+import java.util.List;
 
 public class TinyTablesBuilderFactory implements BuilderFactoryBinary {
 
@@ -23,6 +27,16 @@ public class TinyTablesBuilderFactory implements BuilderFactoryBinary {
     return counter++;
   }
 
+  /**
+   * Reserves a range of consecutive ids. These are the ids the preprocessing phase assigns to the
+   * same number of gates created one by one, which is how the list operations are preprocessed.
+   */
+  private int getNextIds(int noOfIds) {
+    int firstId = counter;
+    counter += noOfIds;
+    return firstId;
+  }
+
   @Override
   public Binary createBinary(ProtocolBuilderBinary builder) {
     return new Binary() {
@@ -78,6 +92,28 @@ public class TinyTablesBuilderFactory implements BuilderFactoryBinary {
         builder.append(p);
         return p;
       }
+
+      @Override
+      public DRes<List<DRes<SBool>>> and(List<DRes<SBool>> lefts, List<DRes<SBool>> rights) {
+        TinyTablesANDVectorProtocol p =
+            new TinyTablesANDVectorProtocol(getNextIds(lefts.size()), lefts, rights);
+        builder.append(p);
+        return p;
+      }
+
+      @Override
+      public DRes<List<DRes<SBool>>> xor(List<DRes<SBool>> lefts, List<DRes<SBool>> rights) {
+        TinyTablesXORVectorProtocol p = new TinyTablesXORVectorProtocol(lefts, rights);
+        builder.append(p);
+        return p;
+      }
+
+      @Override
+      public DRes<List<DRes<SBool>>> not(List<DRes<SBool>> in) {
+        TinyTablesNOTVectorProtocol p = new TinyTablesNOTVectorProtocol(in);
+        builder.append(p);
+        return p;
+      }
     };
   }
 
@@ -11,6 +11,7 @@ import dk.alexandra.fresco.suite.tinytables.online.protocols.TinyTablesNOTProtoc
 import dk.alexandra.fresco.suite.tinytables.online.protocols.TinyTablesOpenToAllProtocol;
 import dk.alexandra.fresco.suite.tinytables.online.protocols.TinyTablesXORProtocol;
 import dk.alexandra.fresco.suite.tinytables.prepro.TinyTablesPreproProtocolSuite;
+import dk.alexandra.fresco.suite.tinytables.storage.MappedTinyTablesStorage;
 import dk.alexandra.fresco.suite.tinytables.storage.TinyTablesStorage;
 import java.io.File;
 import java.io.FileInputStream;
@@ -67,6 +68,11 @@ public class TinyTablesProtocolSuite
   }
 
   private TinyTablesStorage loadTinyTables(File file) throws IOException, ClassNotFoundException {
+    if (MappedTinyTablesStorage.isMappedFormat(file)) {
+      logger.info("Mapping TinyTables from " + file);
+      return MappedTinyTablesStorage.load(file);
+    }
+    // files stored by earlier versions hold a serialized storage
     FileInputStream fin = new FileInputStream(file);
     ObjectInputStream is = new ObjectInputStream(fin);
     logger.info("Loading TinyTabels from " + file);
@@ -0,0 +1,96 @@
+package dk.alexandra.fresco.suite.tinytables.online.protocols;
+
+import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.network.Network;
+import dk.alexandra.fresco.framework.sce.resources.ResourcePoolImpl;
+import dk.alexandra.fresco.framework.util.RegularBitVector;
+import dk.alexandra.fresco.framework.value.SBool;
+import dk.alexandra.fresco.suite.tinytables.datatypes.TinyTable;
+import dk.alexandra.fresco.suite.tinytables.datatypes.TinyTablesElement;
+import dk.alexandra.fresco.suite.tinytables.datatypes.TinyTablesElementVector;
+import dk.alexandra.fresco.suite.tinytables.online.TinyTablesProtocolSuite;
+import dk.alexandra.fresco.suite.tinytables.online.datatypes.TinyTablesSBool;
+import dk.alexandra.fresco.suite.tinytables.storage.TinyTablesStorage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <p>
+ * This class represents a list of AND protocols in the TinyTables protocol's online phase, see
+ * {@link TinyTablesANDProtocol}.
+ * </p>
+ *
+ * <p>
+ * The gates have consecutive ids starting from the given id, and each player looks up his entry of
+ * the TinyTable of every gate. The shares of all the gates are packed into a single bit vector, so
+ * the whole list is opened with a single message of one bit per gate to each player, split only if
+ * the network limits the message length.
+ * </p>
+ */
+public class TinyTablesANDVectorProtocol extends TinyTablesProtocol<List<DRes<SBool>>> {
+
+  private final int firstId;
+  private final List<DRes<SBool>> inLefts;
+  private final List<DRes<SBool>> inRights;
+  private List<DRes<SBool>> out;
+
+  /**
+   * Creates a new protocol computing the AND of two lists of bits.
+   *
+   * @param firstId the id of the first gate, the remaining gates have the following ids
+   * @param inLefts the left inputs
+   * @param inRights the right inputs
+   */
+  public TinyTablesANDVectorProtocol(int firstId, List<DRes<SBool>> inLefts,
+      List<DRes<SBool>> inRights) {
+    if (inLefts.size() != inRights.size()) {
+      throw new IllegalArgumentException("Lists must be of same size but were " + inLefts.size()
+          + " and " + inRights.size());
+    }
+    this.firstId = firstId;
+    this.inLefts = inLefts;
+    this.inRights = inRights;
+  }
+
+  @Override
+  public EvaluationStatus evaluate(int round, ResourcePoolImpl resourcePool, Network network) {
+    int size = inLefts.size();
+    int byteLength = (size + Byte.SIZE - 1) / Byte.SIZE;
+    if (round == 0) {
+      TinyTablesStorage storage =
+          TinyTablesProtocolSuite.getInstance(resourcePool.getMyId()).getStorage();
+      TinyTablesElementVector myShares = new TinyTablesElementVector(size);
+      for (int i = 0; i < size; i++) {
+        int id = firstId + i;
+        TinyTable tinyTable = Objects.requireNonNull(storage.getTinyTable(id),
+            "Unable to find TinyTable for gate with id " + id);
+        myShares.setShare(i, tinyTable.getValue(
+            ((TinyTablesSBool) inLefts.get(i).out()).getValue(),
+            ((TinyTablesSBool) inRights.get(i).out()).getValue()).getShare());
+      }
+      // The payload omits trailing zero bytes, so it is padded to a fixed length
+      network.sendElementsToAll(Arrays.copyOf(myShares.payload(), byteLength), 1);
+      return EvaluationStatus.HAS_MORE_ROUNDS;
+    } else {
+      TinyTablesElementVector[] shares = new TinyTablesElementVector[network.getNoOfParties()];
+      for (int i = 0; i < shares.length; i++) {
+        shares[i] = new TinyTablesElementVector(network.receiveElements(i + 1, byteLength, 1),
+            size);
+      }
+      RegularBitVector open = TinyTablesElementVector.open(shares);
+      this.out = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        out.add(TinyTablesSBool.getInstance(TinyTablesElement.getInstance(open.getBit(i))));
+      }
+      return EvaluationStatus.IS_DONE;
+    }
+  }
+
+  @Override
+  public List<DRes<SBool>> out() {
+    return out;
+  }
+
+}
@@ -0,0 +1,44 @@
+package dk.alexandra.fresco.suite.tinytables.online.protocols;
+
+import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.network.Network;
+import dk.alexandra.fresco.framework.sce.resources.ResourcePoolImpl;
+import dk.alexandra.fresco.framework.value.SBool;
+import dk.alexandra.fresco.suite.tinytables.online.datatypes.TinyTablesSBool;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class represents a list of NOT protocols in the online phase of the TinyTables protocol, see
+ * {@link TinyTablesNOTProtocol}. The NOT is local, so this only saves the overhead of evaluating a
+ * native protocol per gate.
+ */
+public class TinyTablesNOTVectorProtocol extends TinyTablesProtocol<List<DRes<SBool>>> {
+
+  private final List<DRes<SBool>> in;
+  private List<DRes<SBool>> out;
+
+  /**
+   * Creates a new protocol computing the NOT of a list of bits.
+   *
+   * @param in the inputs
+   */
+  public TinyTablesNOTVectorProtocol(List<DRes<SBool>> in) {
+    this.in = in;
+  }
+
+  @Override
+  public EvaluationStatus evaluate(int round, ResourcePoolImpl resourcePool, Network network) {
+    this.out = new ArrayList<>(in.size());
+    for (DRes<SBool> bit : in) {
+      out.add(TinyTablesSBool.getInstance(((TinyTablesSBool) bit.out()).getValue().flip()));
+    }
+    return EvaluationStatus.IS_DONE;
+  }
+
+  @Override
+  public List<DRes<SBool>> out() {
+    return out;
+  }
+
+}
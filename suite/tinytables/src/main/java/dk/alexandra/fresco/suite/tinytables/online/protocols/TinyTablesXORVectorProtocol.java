@@ -0,0 +1,54 @@
+package dk.alexandra.fresco.suite.tinytables.online.protocols;
+
+import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.network.Network;
+import dk.alexandra.fresco.framework.sce.resources.ResourcePoolImpl;
+import dk.alexandra.fresco.framework.value.SBool;
+import dk.alexandra.fresco.suite.tinytables.online.datatypes.TinyTablesSBool;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class represents a list of XOR protocols in the online phase of the TinyTables protocol,
+ * see {@link TinyTablesXORProtocol}. The XOR is free, so this only saves the overhead of
+ * evaluating a native protocol per gate.
+ */
+public class TinyTablesXORVectorProtocol extends TinyTablesProtocol<List<DRes<SBool>>> {
+
+  private final List<DRes<SBool>> inLefts;
+  private final List<DRes<SBool>> inRights;
+  private List<DRes<SBool>> out;
+
+  /**
+   * Creates a new protocol computing the XOR of two lists of bits.
+   *
+   * @param inLefts the left inputs
+   * @param inRights the right inputs
+   */
+  public TinyTablesXORVectorProtocol(List<DRes<SBool>> inLefts, List<DRes<SBool>> inRights) {
+    if (inLefts.size() != inRights.size()) {
+      throw new IllegalArgumentException("Lists must be of same size but were " + inLefts.size()
+          + " and " + inRights.size());
+    }
+    this.inLefts = inLefts;
+    this.inRights = inRights;
+  }
+
+  @Override
+  public EvaluationStatus evaluate(int round, ResourcePoolImpl resourcePool, Network network) {
+    // Free XOR
+    this.out = new ArrayList<>(inLefts.size());
+    for (int i = 0; i < inLefts.size(); i++) {
+      TinyTablesSBool left = (TinyTablesSBool) inLefts.get(i).out();
+      TinyTablesSBool right = (TinyTablesSBool) inRights.get(i).out();
+      out.add(TinyTablesSBool.getInstance(left.getValue().add(right.getValue())));
+    }
+    return EvaluationStatus.IS_DONE;
+  }
+
+  @Override
+  public List<DRes<SBool>> out() {
+    return out;
+  }
+
+}
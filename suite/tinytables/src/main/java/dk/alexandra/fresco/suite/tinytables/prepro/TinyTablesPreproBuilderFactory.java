@@ -12,6 +12,8 @@ import dk.alexandra.fresco.suite.tinytables.prepro.protocols.TinyTablesPreproClo
 import dk.alexandra.fresco.suite.tinytables.prepro.protocols.TinyTablesPreproNOTProtocol;
 import dk.alexandra.fresco.suite.tinytables.prepro.protocols.TinyTablesPreproOpenToAllProtocol;
 import dk.alexandra.fresco.suite.tinytables.prepro.protocols.TinyTablesPreproXORProtocol;
+import java.util.ArrayList;
+import java.util.List;
 
 public class TinyTablesPreproBuilderFactory implements BuilderFactoryBinary {
 
@@ -81,6 +83,20 @@ public class TinyTablesPreproBuilderFactory implements BuilderFactoryBinary {
         builder.append(p);
         return p;
       }
+
+      @Override
+      public DRes<List<DRes<SBool>>> and(List<DRes<SBool>> lefts, List<DRes<SBool>> rights) {
+        if (lefts.size() != rights.size()) {
+          throw new IllegalArgumentException("Lists must be of same size but were " + lefts.size()
+              + " and " + rights.size());
+        }
+        // The gates get consecutive ids, as expected by the AND vector protocol of the online phase
+        List<DRes<SBool>> result = new ArrayList<>(lefts.size());
+        for (int i = 0; i < lefts.size(); i++) {
+          result.add(and(lefts.get(i), rights.get(i)));
+        }
+        return () -> result;
+      }
     };
   }
 
@@ -16,6 +16,7 @@ import dk.alexandra.fresco.suite.tinytables.ot.TinyTablesOt;
 import dk.alexandra.fresco.suite.tinytables.prepro.protocols.TinyTablesPreproANDProtocol;
 import dk.alexandra.fresco.suite.tinytables.prepro.protocols.TinyTablesPreproProtocol;
 import dk.alexandra.fresco.suite.tinytables.storage.BatchTinyTablesTripleProvider;
+import dk.alexandra.fresco.suite.tinytables.storage.MappedTinyTablesStorage;
 import dk.alexandra.fresco.suite.tinytables.storage.TinyTablesStorage;
 import dk.alexandra.fresco.suite.tinytables.storage.TinyTablesStorageImpl;
 import dk.alexandra.fresco.suite.tinytables.storage.TinyTablesTripleProvider;
@@ -28,9 +29,7 @@ import dk.alexandra.fresco.tools.ot.otextension.OtExtensionResourcePoolImpl;
 import dk.alexandra.fresco.tools.ot.otextension.RotFactory;
 import dk.alexandra.fresco.tools.ot.otextension.RotList;
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.ObjectOutputStream;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -47,7 +46,7 @@ public class TinyTablesPreproResourcePool extends ResourcePoolImpl {
 
   private final Drng drng;
   private final List<TinyTablesPreproANDProtocol> unprocessedAnds;
-  private final TinyTablesStorage storage;
+  private final TinyTablesStorageImpl storage;
   private final File tinyTablesFile;
   private final Supplier<TinyTablesTripleProvider> supplier;
   private TinyTablesTripleProvider tinyTablesTripleProvider;
@@ -181,12 +180,9 @@ public class TinyTablesPreproResourcePool extends ResourcePoolImpl {
     }, "Failed to store TinyTables");
   }
 
-  private void storeTinyTables(TinyTablesStorage tinyTablesStorage, File file) throws IOException {
-    file.createNewFile();
-    FileOutputStream fout = new FileOutputStream(file);
-    ObjectOutputStream oos = new ObjectOutputStream(fout);
-    oos.writeObject(tinyTablesStorage);
-    oos.close();
+  private void storeTinyTables(TinyTablesStorageImpl tinyTablesStorage, File file)
+      throws IOException {
+    MappedTinyTablesStorage.write(tinyTablesStorage, file);
   }
 
   public TinyTablesStorage getStorage() {
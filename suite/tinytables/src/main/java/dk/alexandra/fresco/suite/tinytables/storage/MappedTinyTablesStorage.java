@@ -0,0 +1,195 @@
+package dk.alexandra.fresco.suite.tinytables.storage;
+
+import dk.alexandra.fresco.suite.tinytables.datatypes.TinyTable;
+import dk.alexandra.fresco.suite.tinytables.datatypes.TinyTablesElement;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A read-only {@link TinyTablesStorage} reading TinyTables and mask shares on demand from a memory
+ * mapped file.
+ *
+ * <p>The file is indexed by gate id. Each TinyTable takes four bits and each mask share a single
+ * bit, so the online phase starts without reading the file and holds no per gate objects. The
+ * file consists of a header holding a magic number and the number of gate ids <i>n</i>, followed
+ * by four sections:</p>
+ * <ol>
+ * <li>a bit per gate telling if the gate has a TinyTable,</li>
+ * <li>four bits per gate holding the TinyTable, i.e., the entries <i>00, 01, 10, 11</i> from the
+ * most significant bit,</li>
+ * <li>a bit per gate telling if the gate has a mask share,</li>
+ * <li>a bit per gate holding the mask share.</li>
+ * </ol>
+ *
+ * <p>Reads only use absolute positions, so the storage may be read by several threads.</p>
+ */
+public class MappedTinyTablesStorage implements TinyTablesStorage {
+
+  private static final long serialVersionUID = 4021716931402394655L;
+  private static final int MAGIC = 0x54544231; // "TTB1"
+  private static final int HEADER_LENGTH = 2 * Integer.BYTES;
+  // there are only 16 different TinyTables, which are immutable and hence may be shared
+  private static final TinyTable[] TABLES = createTables();
+
+  // the mapping can not be serialized, this storage is only meant to be read from a file
+  private final transient ByteBuffer buffer;
+  private final int noOfIds;
+  private final int tablesOffset;
+  private final int maskPresenceOffset;
+  private final int masksOffset;
+
+  private MappedTinyTablesStorage(ByteBuffer buffer) {
+    if (buffer.getInt(0) != MAGIC) {
+      throw new IllegalArgumentException("Not a TinyTables file");
+    }
+    this.buffer = buffer;
+    this.noOfIds = buffer.getInt(Integer.BYTES);
+    this.tablesOffset = HEADER_LENGTH + bitmapLength(noOfIds);
+    this.maskPresenceOffset = tablesOffset + (noOfIds + 1) / 2;
+    this.masksOffset = maskPresenceOffset + bitmapLength(noOfIds);
+    if (buffer.capacity() < masksOffset + bitmapLength(noOfIds)) {
+      throw new IllegalArgumentException("TinyTables file is truncated");
+    }
+  }
+
+  /**
+   * Memory maps a file written by {@link #write(TinyTablesStorageImpl, File)}.
+   *
+   * @param file the file
+   * @return a storage reading from the file
+   */
+  public static MappedTinyTablesStorage load(File file) throws IOException {
+    try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+      return new MappedTinyTablesStorage(channel.map(MapMode.READ_ONLY, 0, channel.size()));
+    }
+  }
+
+  /**
+   * Tells if a file is in the format of this storage, as opposed to, e.g., a serialized {@link
+   * TinyTablesStorageImpl}.
+   *
+   * @param file the file
+   * @return true if the file starts with the magic number of this format
+   */
+  public static boolean isMappedFormat(File file) throws IOException {
+    if (file.length() < HEADER_LENGTH) {
+      return false;
+    }
+    try (DataInputStream in = new DataInputStream(new FileInputStream(file))) {
+      return in.readInt() == MAGIC;
+    }
+  }
+
+  /**
+   * Writes the TinyTables and mask shares of a storage to a file in the format of this storage.
+   *
+   * @param storage the storage to write
+   * @param file the file to write to
+   */
+  public static void write(TinyTablesStorageImpl storage, File file) throws IOException {
+    int noOfIds = storage.getIdBound();
+    byte[] tablePresence = new byte[bitmapLength(noOfIds)];
+    byte[] tables = new byte[(noOfIds + 1) / 2];
+    byte[] maskPresence = new byte[bitmapLength(noOfIds)];
+    byte[] masks = new byte[bitmapLength(noOfIds)];
+    for (int id = 0; id < noOfIds; id++) {
+      TinyTable table = storage.getTinyTable(id);
+      if (table != null) {
+        setBit(tablePresence, id, true);
+        int nibble = toNibble(table);
+        tables[id / 2] |= (id % 2 == 0) ? nibble << 4 : nibble;
+      }
+      TinyTablesElement mask = storage.getMaskShare(id);
+      if (mask != null) {
+        setBit(maskPresence, id, true);
+        setBit(masks, id, mask.getShare());
+      }
+    }
+    try (DataOutputStream out = new DataOutputStream(
+        new BufferedOutputStream(new FileOutputStream(file)))) {
+      out.writeInt(MAGIC);
+      out.writeInt(noOfIds);
+      out.write(tablePresence);
+      out.write(tables);
+      out.write(maskPresence);
+      out.write(masks);
+    }
+  }
+
+  @Override
+  public TinyTable getTinyTable(int id) {
+    if (!getBit(HEADER_LENGTH, id)) {
+      return null;
+    }
+    int packed = buffer.get(tablesOffset + id / 2);
+    return TABLES[(id % 2 == 0 ? packed >> 4 : packed) & 0x0F];
+  }
+
+  @Override
+  public TinyTablesElement getMaskShare(int id) {
+    if (!getBit(maskPresenceOffset, id)) {
+      return null;
+    }
+    return TinyTablesElement.getInstance(getBit(masksOffset, id));
+  }
+
+  @Override
+  public void storeTinyTable(int id, TinyTable table) {
+    throw new UnsupportedOperationException("Mapped TinyTables storage is read-only");
+  }
+
+  @Override
+  public void storeMaskShare(int id, TinyTablesElement r) {
+    throw new UnsupportedOperationException("Mapped TinyTables storage is read-only");
+  }
+
+  private boolean getBit(int offset, int id) {
+    if (id < 0 || id >= noOfIds) {
+      return false;
+    }
+    return (buffer.get(offset + id / Byte.SIZE) & (0x80 >>> (id % Byte.SIZE))) != 0;
+  }
+
+  private static void setBit(byte[] bitmap, int index, boolean value) {
+    if (value) {
+      bitmap[index / Byte.SIZE] |= 0x80 >>> (index % Byte.SIZE);
+    }
+  }
+
+  private static int bitmapLength(int noOfBits) {
+    return (noOfBits + Byte.SIZE - 1) / Byte.SIZE;
+  }
+
+  private static int toNibble(TinyTable table) {
+    int nibble = 0;
+    for (int i = 0; i < 4; i++) {
+      TinyTablesElement value = table.getValue(TinyTablesElement.getInstance(i >= 2),
+          TinyTablesElement.getInstance(i % 2 == 1));
+      if (value.getShare()) {
+        nibble |= 0x08 >>> i;
+      }
+    }
+    return nibble;
+  }
+
+  private static TinyTable[] createTables() {
+    TinyTable[] tables = new TinyTable[16];
+    for (int nibble = 0; nibble < tables.length; nibble++) {
+      TinyTablesElement[] values = new TinyTablesElement[4];
+      for (int i = 0; i < 4; i++) {
+        values[i] = TinyTablesElement.getInstance((nibble & (0x08 >>> i)) != 0);
+      }
+      tables[nibble] = new TinyTable(values);
+    }
+    return tables;
+  }
+}
@@ -34,4 +34,21 @@ public class TinyTablesStorageImpl implements TinyTablesStorage {
 		return maskShares.get(id);
 	}
 
+	/**
+	 * Returns one more than the largest id for which a TinyTable or a mask
+	 * share is stored.
+	 * 
+	 * @return an upper bound on the ids in this storage
+	 */
+	int getIdBound() {
+		int bound = 0;
+		for (int id : tinyTables.keySet()) {
+			bound = Math.max(bound, id + 1);
+		}
+		for (int id : maskShares.keySet()) {
+			bound = Math.max(bound, id + 1);
+		}
+		return bound;
+	}
+
 }
@@ -1,6 +1,7 @@
 package dk.alexandra.fresco.suite.tinytables.util;
 
 import dk.alexandra.fresco.framework.util.Drng;
+import dk.alexandra.fresco.framework.util.Pair;
 import dk.alexandra.fresco.framework.util.StrictBitVector;
 import dk.alexandra.fresco.suite.tinytables.datatypes.TinyTablesTriple;
 import dk.alexandra.fresco.tools.ot.base.Ot;
@@ -29,15 +30,21 @@ public class TinyTablesTripleGenerator {
   /**
    * Generate new multiplication triples (a,b,c). The two players need to call this method at the
    * same time and with the same amount parameter.
+   *
+   * <p>
+   * All the OTs needed for the triples are done as a single batch. Two OTs are needed per triple,
+   * and since a batch of OTs is described by a {@link StrictBitVector} of choice bits, the batch
+   * is padded with dummy OTs up to a multiple of 8.
+   * </p>
    */
   public List<TinyTablesTriple> generate(int amount) {
 
     List<TinyTablesTriple> triples = new ArrayList<>();
+    // StrictBitVector only supports bitvectors of and 8 multiple
+    int noOfOts = (2 * amount + Byte.SIZE - 1) / Byte.SIZE * Byte.SIZE;
 
     if (playerId == 1) {
-      // StrictBitVector only supports bitvectors of and 8 multiple
-      StrictBitVector zeroMessage = new StrictBitVector(8);
-      StrictBitVector oneMessage = new StrictBitVector(8);
+      List<Pair<StrictBitVector, StrictBitVector>> messages = new ArrayList<>(noOfOts);
       for (int i = 0; i < amount; i++) {
         // Pick random shares of a and b
         boolean a = random.nextBit();
@@ -46,35 +53,47 @@ public class TinyTablesTripleGenerator {
         boolean x = random.nextBit();
         boolean y = random.nextBit();
 
-        zeroMessage.setBit(0, x);
-        oneMessage.setBit(0, x ^ a);
-        ot.send(zeroMessage, oneMessage);
-        zeroMessage.setBit(0, y);
-        oneMessage.setBit(0, y ^ b);
-        ot.send(zeroMessage, oneMessage);
+        messages.add(createMessages(x, x ^ a));
+        messages.add(createMessages(y, y ^ b));
         boolean c = a & b ^ x ^ y;
         triples.add(TinyTablesTriple.fromShares(a, b, c));
-
       }
+      while (messages.size() < noOfOts) {
+        messages.add(createMessages(false, false));
+      }
+      ot.send(messages);
     }
     if (playerId == 2) {
+      boolean[] aShares = new boolean[amount];
+      boolean[] bShares = new boolean[amount];
+      StrictBitVector choices = new StrictBitVector(noOfOts);
       for (int i = 0; i < amount; i++) {
         /*
          * Pick random shares of a and b and use them for sigmas in the OT's:
          */
-        boolean a = random.nextBit();
-        boolean b = random.nextBit();
-        StrictBitVector bMessage = ot.receive(b);
-        StrictBitVector aMessage = ot.receive(a);
+        aShares[i] = random.nextBit();
+        bShares[i] = random.nextBit();
+        choices.setBit(2 * i, bShares[i], false);
+        choices.setBit(2 * i + 1, aShares[i], false);
+      }
+      List<StrictBitVector> received = ot.receive(choices);
+      for (int i = 0; i < amount; i++) {
+        StrictBitVector bMessage = received.get(2 * i);
+        StrictBitVector aMessage = received.get(2 * i + 1);
 
         // We don't know c until after we have done the OT's
-        TinyTablesTriple trip = TinyTablesTriple.fromShares(a, b, false);
-        boolean c = aMessage.getBit(0) ^ bMessage.getBit(0) ^ trip.getA().getShare() & trip.getB()
-            .getShare();
-        trip = TinyTablesTriple.fromShares(trip.getA().getShare(), trip.getB().getShare(), c);
-        triples.add(trip);
+        boolean c = aMessage.getBit(0) ^ bMessage.getBit(0) ^ aShares[i] & bShares[i];
+        triples.add(TinyTablesTriple.fromShares(aShares[i], bShares[i], c));
       }
     }
     return triples;
   }
+
+  private static Pair<StrictBitVector, StrictBitVector> createMessages(boolean zero, boolean one) {
+    StrictBitVector zeroMessage = new StrictBitVector(8);
+    StrictBitVector oneMessage = new StrictBitVector(8);
+    zeroMessage.setBit(0, zero);
+    oneMessage.setBit(0, one);
+    return new Pair<>(zeroMessage, oneMessage);
+  }
 }
@@ -286,6 +286,14 @@ public class TestTinyTables {
         false, "testBasicProtocols");
   }
 
+  @Test
+  public void testListOperations() {
+    runTest(new BasicBooleanTests.TestListOperations<>(false),
+        EvaluationStrategy.SEQUENTIAL_BATCHED, true, "testListOperations");
+    runTest(new BasicBooleanTests.TestListOperations<>(true),
+        EvaluationStrategy.SEQUENTIAL_BATCHED, false, "testListOperations");
+  }
+
   /* Bristol tests */
 
   @Category(IntegrationTest.class)
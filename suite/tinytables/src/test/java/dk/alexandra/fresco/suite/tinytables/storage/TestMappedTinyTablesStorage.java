@@ -0,0 +1,111 @@
+package dk.alexandra.fresco.suite.tinytables.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import dk.alexandra.fresco.suite.tinytables.datatypes.TinyTable;
+import dk.alexandra.fresco.suite.tinytables.datatypes.TinyTablesElement;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.Random;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TestMappedTinyTablesStorage {
+
+  private File file;
+
+  @Before
+  public void createFile() throws IOException {
+    file = File.createTempFile("tinytables", ".bin");
+  }
+
+  @After
+  public void deleteFile() {
+    file.delete();
+  }
+
+  private static TinyTable randomTable(Random random) {
+    TinyTablesElement[] values = new TinyTablesElement[4];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = TinyTablesElement.getInstance(random.nextBoolean());
+    }
+    return new TinyTable(values);
+  }
+
+  private static void assertSameTable(TinyTable expected, TinyTable actual) {
+    for (int i = 0; i < 4; i++) {
+      TinyTablesElement u = TinyTablesElement.getInstance(i >= 2);
+      TinyTablesElement v = TinyTablesElement.getInstance(i % 2 == 1);
+      assertEquals(expected.getValue(u, v).getShare(), actual.getValue(u, v).getShare());
+    }
+  }
+
+  @Test
+  public void testWriteAndLoad() throws IOException {
+    Random random = new Random(42);
+    TinyTablesStorageImpl storage = new TinyTablesStorageImpl();
+    int noOfIds = 1001;
+    for (int id = 0; id < noOfIds; id++) {
+      // leave some ids without tables or masks, as for XOR and NOT gates
+      if (id % 3 == 0) {
+        storage.storeTinyTable(id, randomTable(random));
+      } else if (id % 3 == 1) {
+        storage.storeMaskShare(id, TinyTablesElement.getInstance(random.nextBoolean()));
+      }
+    }
+    MappedTinyTablesStorage.write(storage, file);
+    assertTrue(MappedTinyTablesStorage.isMappedFormat(file));
+
+    MappedTinyTablesStorage mapped = MappedTinyTablesStorage.load(file);
+    for (int id = 0; id < noOfIds; id++) {
+      if (id % 3 == 0) {
+        assertSameTable(storage.getTinyTable(id), mapped.getTinyTable(id));
+        assertNull(mapped.getMaskShare(id));
+      } else if (id % 3 == 1) {
+        assertEquals(storage.getMaskShare(id).getShare(), mapped.getMaskShare(id).getShare());
+        assertNull(mapped.getTinyTable(id));
+      } else {
+        assertNull(mapped.getTinyTable(id));
+        assertNull(mapped.getMaskShare(id));
+      }
+    }
+    assertNull(mapped.getTinyTable(noOfIds));
+    assertNull(mapped.getMaskShare(-1));
+  }
+
+  @Test
+  public void testWriteEmpty() throws IOException {
+    MappedTinyTablesStorage.write(new TinyTablesStorageImpl(), file);
+    MappedTinyTablesStorage mapped = MappedTinyTablesStorage.load(file);
+    assertNull(mapped.getTinyTable(0));
+    assertNull(mapped.getMaskShare(0));
+  }
+
+  @Test
+  public void testSerializedStorageNotMappedFormat() throws IOException {
+    try (ObjectOutputStream out = new ObjectOutputStream(new FileOutputStream(file))) {
+      out.writeObject(new TinyTablesStorageImpl());
+    }
+    assertFalse(MappedTinyTablesStorage.isMappedFormat(file));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testLoadSerializedStorage() throws IOException {
+    try (ObjectOutputStream out = new ObjectOutputStream(new FileOutputStream(file))) {
+      out.writeObject(new TinyTablesStorageImpl());
+    }
+    MappedTinyTablesStorage.load(file);
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testStoreTinyTable() throws IOException {
+    MappedTinyTablesStorage.write(new TinyTablesStorageImpl(), file);
+    MappedTinyTablesStorage.load(file).storeTinyTable(0, randomTable(new Random()));
+  }
+}
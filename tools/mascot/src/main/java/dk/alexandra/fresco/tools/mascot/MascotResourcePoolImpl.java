@@ -3,6 +3,7 @@ package dk.alexandra.fresco.tools.mascot;
 import dk.alexandra.fresco.framework.builder.numeric.field.FieldDefinition;
 import dk.alexandra.fresco.framework.network.Network;
 import dk.alexandra.fresco.framework.sce.resources.ResourcePoolImpl;
+import dk.alexandra.fresco.framework.util.AesCtrDrbg;
 import dk.alexandra.fresco.framework.util.Drbg;
 import dk.alexandra.fresco.framework.util.ExceptionConverter;
 import dk.alexandra.fresco.framework.util.StrictBitVector;
@@ -93,15 +94,25 @@ public class MascotResourcePoolImpl extends ResourcePoolImpl implements MascotRe
     if (getMyId() == otherId) {
       throw new IllegalArgumentException("Cannot initialize with self");
     }
-    CoinTossing ct = new CoinTossing(getMyId(), otherId, getRandomGenerator());
+    // sessions with different parties may run concurrently, so each gets its own generator
+    Drbg sessionDrbg = createSessionDrbg();
+    CoinTossing ct = new CoinTossing(getMyId(), otherId, sessionDrbg);
     ct.initialize(network);
     OtExtensionResourcePool otResources = new OtExtensionResourcePoolImpl(getMyId(), otherId,
         getPrgSeedLength(), getLambdaSecurityParam(), getInstanceId(),
-        getRandomGenerator(), ct, seedOts.get(otherId));
+        sessionDrbg, ct, seedOts.get(otherId));
     return new BristolRotBatch(new RotFactory(otResources, network),
         getPrgSeedLength(), getLambdaSecurityParam());
   }
 
+  private Drbg createSessionDrbg() {
+    byte[] seed = new byte[AesCtrDrbg.SEED_LENGTH];
+    synchronized (drbg) {
+      drbg.nextBytes(seed);
+    }
+    return new AesCtrDrbg(seed);
+  }
+
   @Override
   public Drbg getRandomGenerator() {
     return drbg;
@@ -0,0 +1,92 @@
+package dk.alexandra.fresco.tools.mascot;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+/**
+ * Runs the pairwise sub-protocols of MASCOT, such as COPE and multiplication, with all other
+ * parties at once.
+ *
+ * <p>Each task only communicates with a single other party, and the network has a channel per
+ * party, so tasks with different parties are independent and are run concurrently, one thread per
+ * other party. Within a task, the two parties of a pair run their steps in the same order, e.g.,
+ * the party with the lower id acting as the sender first, so the tasks cannot deadlock. All tasks
+ * are joined before returning, so the results may be combined as if they were computed one party
+ * at a time.</p>
+ */
+public final class PairwiseExecutor {
+
+  private static final AtomicInteger threadCounter = new AtomicInteger(1);
+  // The tasks block on the network, so threads are not bounded by the number of cores
+  private static final ExecutorService executorService = Executors.newCachedThreadPool(r -> {
+    Thread thread = new Thread(r, "Mascot-Pairwise-" + threadCounter.getAndIncrement());
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  private PairwiseExecutor() {
+  }
+
+  /**
+   * Runs a task with each of the other parties and waits for all of them to finish. If a task
+   * fails, the remaining tasks are cancelled and the exception of the task is rethrown, e.g., a
+   * {@link dk.alexandra.fresco.framework.MaliciousException}.
+   *
+   * @param resourcePool the resource pool, giving the id of this party and the number of parties
+   * @param task the task, taking the id of the other party as argument
+   * @param <T> the type of the results of the task
+   * @return the results of the task, by id of the other party in ascending order
+   */
+  public static <T> Map<Integer, T> forEachOtherParty(MascotResourcePool resourcePool,
+      IntFunction<T> task) {
+    Map<Integer, T> results = new TreeMap<>();
+    List<Integer> otherIds = new ArrayList<>(resourcePool.getNoOfParties() - 1);
+    for (int partyId = 1; partyId <= resourcePool.getNoOfParties(); partyId++) {
+      if (partyId != resourcePool.getMyId()) {
+        otherIds.add(partyId);
+      }
+    }
+    if (otherIds.size() == 1) {
+      // nothing to run concurrently
+      results.put(otherIds.get(0), task.apply(otherIds.get(0)));
+      return results;
+    }
+    List<Future<T>> futures = new ArrayList<>(otherIds.size());
+    for (int otherId : otherIds) {
+      futures.add(executorService.submit(() -> task.apply(otherId)));
+    }
+    try {
+      for (int i = 0; i < otherIds.size(); i++) {
+        results.put(otherIds.get(i), get(futures.get(i)));
+      }
+    } catch (RuntimeException e) {
+      for (Future<T> future : futures) {
+        future.cancel(true);
+      }
+      throw e;
+    }
+    return results;
+  }
+
+  private static <T> T get(Future<T> future) {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Interrupted while waiting for pairwise protocol", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new RuntimeException("Pairwise protocol failed", e.getCause());
+    }
+  }
+}
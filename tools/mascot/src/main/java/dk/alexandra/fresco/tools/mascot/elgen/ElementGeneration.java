@@ -3,9 +3,11 @@ package dk.alexandra.fresco.tools.mascot.elgen;
 import dk.alexandra.fresco.framework.builder.numeric.Addable;
 import dk.alexandra.fresco.framework.builder.numeric.field.FieldElement;
 import dk.alexandra.fresco.framework.network.Network;
+import dk.alexandra.fresco.framework.util.Pair;
 import dk.alexandra.fresco.framework.util.SecretSharer;
 import dk.alexandra.fresco.framework.util.TransposeUtils;
 import dk.alexandra.fresco.tools.mascot.MascotResourcePool;
+import dk.alexandra.fresco.tools.mascot.PairwiseExecutor;
 import dk.alexandra.fresco.tools.mascot.cope.CopeInputter;
 import dk.alexandra.fresco.tools.mascot.cope.CopeSigner;
 import dk.alexandra.fresco.tools.mascot.field.AuthenticatedElement;
@@ -188,12 +190,9 @@ public class ElementGeneration {
    * party's) mac key share and get a share of the result.
    */
   private List<List<FieldElement>> otherPartiesMac(List<FieldElement> values) {
-    List<List<FieldElement>> perPartySignatures = new ArrayList<>();
-    // note that the order in which this is run does not matter so it's fine to use values().
-    for (CopeInputter copeInputter : copeInputters.values()) {
-      perPartySignatures.add(copeInputter.extend(values));
-    }
-    return perPartySignatures;
+    // note that the order in which this is run does not matter, so all parties are run at once
+    return new ArrayList<>(PairwiseExecutor.forEachOtherParty(resourcePool,
+        partyId -> copeInputters.get(partyId).extend(values)).values());
   }
 
   /**
@@ -257,21 +256,23 @@ public class ElementGeneration {
    * difference that the mac key share has already been sampled before this protocol runs).
    */
   private void initializeCope(MascotResourcePool resourcePool, Network network) {
-    for (int partyId = 1; partyId <= resourcePool.getNoOfParties(); partyId++) {
-      if (resourcePool.getMyId() != partyId) {
-        CopeSigner signer;
-        CopeInputter inputter;
-        // construction order matters since receive blocks and this is not parallelized
-        if (resourcePool.getMyId() < partyId) {
-          signer = new CopeSigner(resourcePool, network, partyId, this.macKeyShare);
-          inputter = new CopeInputter(resourcePool, network, partyId);
-        } else {
-          inputter = new CopeInputter(resourcePool, network, partyId);
-          signer = new CopeSigner(resourcePool, network, partyId, this.macKeyShare);
-        }
-        copeInputters.put(partyId, inputter);
-        copeSigners.put(partyId, signer);
-      }
+    Map<Integer, Pair<CopeSigner, CopeInputter>> cope =
+        PairwiseExecutor.forEachOtherParty(resourcePool, partyId -> {
+          CopeSigner signer;
+          CopeInputter inputter;
+          // construction order within a pair matters since receive blocks
+          if (resourcePool.getMyId() < partyId) {
+            signer = new CopeSigner(resourcePool, network, partyId, this.macKeyShare);
+            inputter = new CopeInputter(resourcePool, network, partyId);
+          } else {
+            inputter = new CopeInputter(resourcePool, network, partyId);
+            signer = new CopeSigner(resourcePool, network, partyId, this.macKeyShare);
+          }
+          return new Pair<>(signer, inputter);
+        });
+    for (Map.Entry<Integer, Pair<CopeSigner, CopeInputter>> entry : cope.entrySet()) {
+      copeSigners.put(entry.getKey(), entry.getValue().getFirst());
+      copeInputters.put(entry.getKey(), entry.getValue().getSecond());
     }
   }
 }
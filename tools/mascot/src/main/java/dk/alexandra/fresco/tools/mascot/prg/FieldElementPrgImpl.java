@@ -11,7 +11,8 @@ import dk.alexandra.fresco.framework.util.StrictBitVector;
 public class FieldElementPrgImpl implements FieldElementPrg {
 
   private final Drng drng;
-  private FieldDefinition definition;
+  private final FieldDefinition definition;
+  private final long longModulus;
 
   /**
    * Creates new FieldElement prg.
@@ -20,6 +21,10 @@ public class FieldElementPrgImpl implements FieldElementPrg {
    */
   public FieldElementPrgImpl(StrictBitVector seed, FieldDefinition definition) {
     this.definition = definition;
+    // for moduli fitting in a long, sampling a long consumes the same random bytes as sampling a
+    // BigInteger, but avoids allocating it
+    this.longModulus = definition.getBitLength() < Long.SIZE
+        ? definition.getModulus().longValue() : -1;
     byte[] bytes = seed.toByteArray();
     if (bytes.length != AesCtrDrbg.SEED_LENGTH) {
       this.drng = new DrngImpl(AesCtrDrbgFactory.fromDerivedSeed(bytes));
@@ -30,6 +35,9 @@ public class FieldElementPrgImpl implements FieldElementPrg {
 
   @Override
   public FieldElement getNext() {
+    if (longModulus > 0) {
+      return definition.createElement(drng.nextLong(longModulus));
+    }
     return definition.createElement(drng.nextBigInteger(definition.getModulus()));
   }
 }
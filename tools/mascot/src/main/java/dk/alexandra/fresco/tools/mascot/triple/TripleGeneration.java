@@ -1,9 +1,13 @@
 package dk.alexandra.fresco.tools.mascot.triple;
 
 import dk.alexandra.fresco.framework.builder.numeric.Addable;
+import dk.alexandra.fresco.framework.builder.numeric.field.FieldDefinition;
 import dk.alexandra.fresco.framework.builder.numeric.field.FieldElement;
+import dk.alexandra.fresco.framework.builder.numeric.field.FieldElementVector;
 import dk.alexandra.fresco.framework.network.Network;
+import dk.alexandra.fresco.framework.util.Pair;
 import dk.alexandra.fresco.tools.mascot.MascotResourcePool;
+import dk.alexandra.fresco.tools.mascot.PairwiseExecutor;
 import dk.alexandra.fresco.tools.mascot.elgen.ElementGeneration;
 import dk.alexandra.fresco.tools.mascot.field.AuthenticatedElement;
 import dk.alexandra.fresco.tools.mascot.field.FieldElementUtils;
@@ -49,20 +53,23 @@ public class TripleGeneration {
   }
 
   private void initializeMultipliers(MascotResourcePool resourcePool, Network network) {
-    for (int partyId = 1; partyId <= resourcePool.getNoOfParties(); partyId++) {
-      if (partyId != resourcePool.getMyId()) {
-        if (resourcePool.getMyId() < partyId) {
-          rightMultipliers.put(partyId, new MultiplyRight(resourcePool, network,
-              partyId));
-          leftMultipliers.put(partyId, new MultiplyLeft(resourcePool, network,
-              partyId));
-        } else {
-          leftMultipliers.put(partyId, new MultiplyLeft(resourcePool, network,
-              partyId));
-          rightMultipliers.put(partyId, new MultiplyRight(resourcePool, network,
-              partyId));
-        }
-      }
+    Map<Integer, Pair<MultiplyRight, MultiplyLeft>> multipliers =
+        PairwiseExecutor.forEachOtherParty(resourcePool, partyId -> {
+          MultiplyRight right;
+          MultiplyLeft left;
+          // construction order within a pair matters since receive blocks
+          if (resourcePool.getMyId() < partyId) {
+            right = new MultiplyRight(resourcePool, network, partyId);
+            left = new MultiplyLeft(resourcePool, network, partyId);
+          } else {
+            left = new MultiplyLeft(resourcePool, network, partyId);
+            right = new MultiplyRight(resourcePool, network, partyId);
+          }
+          return new Pair<>(right, left);
+        });
+    for (Map.Entry<Integer, Pair<MultiplyRight, MultiplyLeft>> entry : multipliers.entrySet()) {
+      rightMultipliers.put(entry.getKey(), entry.getValue().getFirst());
+      leftMultipliers.put(entry.getKey(), entry.getValue().getSecond());
     }
   }
 
@@ -120,35 +127,41 @@ public class TripleGeneration {
       List<FieldElement> rightFactors) {
     // step 1 of protocol occurred before this method
     // "stretch" right factors, so we have one right factor for each left factor
-    List<FieldElement> stretched =
-        fieldElementUtils
-            .stretch(rightFactors, resourcePool.getNumCandidatesPerTriple());
+    FieldDefinition definition = resourcePool.getFieldDefinition();
+    FieldElementVector stretchedVector = definition.createVector(rightFactors)
+        .stretch(resourcePool.getNumCandidatesPerTriple());
+    List<FieldElement> stretched = stretchedVector.asList();
 
     // step 2 of protocol
-    // for each value we will have two sub-factors for each other party
-    List<List<FieldElement>> subFactors = new ArrayList<>();
-    for (int partyId = 1; partyId <= resourcePool.getNoOfParties(); partyId++) {
-      if (partyId != resourcePool.getMyId()) {
-        MultiplyLeft leftMult = leftMultipliers.get(partyId);
-        MultiplyRight rightMult = rightMultipliers.get(partyId);
-        if (resourcePool.getMyId() < partyId) {
-          subFactors.add(rightMult.multiply(stretched));
-          subFactors.add(leftMult.multiply(leftFactorGroups));
-        } else {
-          subFactors.add(leftMult.multiply(leftFactorGroups));
-          subFactors.add(rightMult.multiply(stretched));
-        }
-      }
+    // for each value we will have two sub-factors for each other party, computed with all other
+    // parties at once
+    Map<Integer, List<FieldElementVector>> perPartySubFactors =
+        PairwiseExecutor.forEachOtherParty(resourcePool, partyId -> {
+          MultiplyLeft leftMult = leftMultipliers.get(partyId);
+          MultiplyRight rightMult = rightMultipliers.get(partyId);
+          List<FieldElementVector> pairSubFactors = new ArrayList<>(2);
+          if (resourcePool.getMyId() < partyId) {
+            pairSubFactors.add(definition.createVector(rightMult.multiply(stretched)));
+            pairSubFactors.add(definition.createVector(leftMult.multiply(leftFactorGroups)));
+          } else {
+            pairSubFactors.add(definition.createVector(leftMult.multiply(leftFactorGroups)));
+            pairSubFactors.add(definition.createVector(rightMult.multiply(stretched)));
+          }
+          return pairSubFactors;
+        });
+    List<FieldElementVector> subFactors = new ArrayList<>();
+    for (List<FieldElementVector> pairSubFactors : perPartySubFactors.values()) {
+      subFactors.addAll(pairSubFactors);
     }
 
     // step 3 or protocol
     // own part of the product
-    List<FieldElement> localSubFactors =
-        fieldElementUtils.pairWiseMultiply(leftFactorGroups, stretched);
+    FieldElementVector localSubFactors =
+        definition.createVector(leftFactorGroups).multiply(stretchedVector);
     subFactors.add(localSubFactors);
 
     // combine all sub-factors into product shares
-    return Addable.sumRows(subFactors);
+    return Addable.sum(subFactors).asList();
   }
 
   /**
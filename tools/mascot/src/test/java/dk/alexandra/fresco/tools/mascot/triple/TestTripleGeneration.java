@@ -240,4 +240,13 @@ public class TestTripleGeneration extends NetworkedTest {
     testMultiplePartiesTriple(Arrays.asList(macKeyShareOne, macKeyShareTwo, macKeyShareThree), 3
     );
   }
+
+  @Test
+  public void testFivePartiesMultTriple() {
+    List<FieldElement> macKeyShares = new ArrayList<>();
+    for (int pid = 1; pid <= 5; pid++) {
+      macKeyShares.add(getFieldDefinition().createElement(1000 * pid + 7));
+    }
+    testMultiplePartiesTriple(macKeyShares, 3);
+  }
 }
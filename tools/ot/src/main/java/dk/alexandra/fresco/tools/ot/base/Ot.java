@@ -1,6 +1,9 @@
 package dk.alexandra.fresco.tools.ot.base;
 
+import dk.alexandra.fresco.framework.util.Pair;
 import dk.alexandra.fresco.framework.util.StrictBitVector;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Oblivious Transfer interface for 1-out-of-2 oblivious transfer. That is, the sending party inputs
@@ -30,4 +33,34 @@ public interface Ot {
    * @return The message indicated by the choice bit
    */
   StrictBitVector receive(boolean choiceBit);
+
+  /**
+   * Send a batch of message pairs for the recipient to choose from. The default implementation
+   * executes the OTs one at a time, implementations may do the whole batch at once.
+   *
+   * @param messages
+   *          The pairs of messages to send, message zero first
+   */
+  default void send(List<Pair<StrictBitVector, StrictBitVector>> messages) {
+    for (Pair<StrictBitVector, StrictBitVector> message : messages) {
+      send(message.getFirst(), message.getSecond());
+    }
+  }
+
+  /**
+   * Receive one-out-of-two messages for a batch of OTs. The sender must send a pair of messages
+   * for each choice bit using {@link #send(List)}.
+   *
+   * @param choiceBits
+   *          Bits indicating which messages to receive, read from left to right. False means
+   *          message zero and true means message one.
+   * @return The messages indicated by the choice bits
+   */
+  default List<StrictBitVector> receive(StrictBitVector choiceBits) {
+    List<StrictBitVector> messages = new ArrayList<>(choiceBits.getSize());
+    for (int i = 0; i < choiceBits.getSize(); i++) {
+      messages.add(receive(choiceBits.getBit(i, false)));
+    }
+    return messages;
+  }
 }
@@ -0,0 +1,219 @@
+package dk.alexandra.fresco.tools.ot.otextension;
+
+import dk.alexandra.fresco.framework.util.StrictBitVector;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A row-major bit matrix stored in a single contiguous array of longs.
+ *
+ * <p>Each row is stored in a whole number of longs, with the first bit of the row as the most
+ * significant bit of the first long. This is the same bit order as in a {@link StrictBitVector},
+ * so rows convert to and from the byte representation of these using big-endian longs. The number
+ * of rows is padded to a multiple of 64 and all padding bits are zero, which lets the matrix be
+ * transposed in blocks of 64 x 64 bits.</p>
+ */
+final class BitMatrix {
+
+  private static final int BLOCK_SIZE = Long.SIZE;
+
+  private final int rows;
+  private final int columns;
+  private final int wordsPerRow;
+  private final long[] words;
+
+  /**
+   * Creates a matrix of zeros.
+   *
+   * @param rows the number of rows
+   * @param columns the number of columns, which must be a multiple of 8
+   */
+  BitMatrix(int rows, int columns) {
+    if (rows < 0 || columns < 0 || columns % Byte.SIZE != 0) {
+      throw new IllegalArgumentException(
+          "Matrix must have a non-negative amount of rows and a multiple of 8 columns, but was "
+              + rows + " x " + columns);
+    }
+    this.rows = rows;
+    this.columns = columns;
+    this.wordsPerRow = (columns + BLOCK_SIZE - 1) / BLOCK_SIZE;
+    int paddedRows = (rows + BLOCK_SIZE - 1) / BLOCK_SIZE * BLOCK_SIZE;
+    this.words = new long[paddedRows * wordsPerRow];
+  }
+
+  int getRows() {
+    return rows;
+  }
+
+  int getColumns() {
+    return columns;
+  }
+
+  /**
+   * Tells if this matrix has the given dimensions, and hence can be reused for a matrix of these.
+   */
+  boolean hasDimensions(int rows, int columns) {
+    return this.rows == rows && this.columns == columns;
+  }
+
+  /**
+   * Sets a row from its byte representation.
+   *
+   * @param row the index of the row
+   * @param bytes the bits of the row, holding at least a row of bytes from the offset
+   * @param offset the offset of the row in the bytes
+   */
+  void setRow(int row, byte[] bytes, int offset) {
+    ByteBuffer buffer = ByteBuffer.wrap(bytes, offset, columns / Byte.SIZE);
+    int base = row * wordsPerRow;
+    for (int i = 0; i < wordsPerRow; i++) {
+      words[base + i] = getWord(buffer);
+    }
+  }
+
+  /**
+   * XORs the byte representation of a row into a row.
+   *
+   * @param row the index of the row
+   * @param bytes the bits to XOR into the row, holding at least a row of bytes from the offset
+   * @param offset the offset of the row in the bytes
+   */
+  void xorRow(int row, byte[] bytes, int offset) {
+    ByteBuffer buffer = ByteBuffer.wrap(bytes, offset, columns / Byte.SIZE);
+    int base = row * wordsPerRow;
+    for (int i = 0; i < wordsPerRow; i++) {
+      words[base + i] ^= getWord(buffer);
+    }
+  }
+
+  /**
+   * XORs the same bits into each of the first rows of the matrix.
+   *
+   * @param noOfRows the number of rows to XOR into
+   * @param bytes the bits to XOR into each row, one row of bytes
+   */
+  void xorIntoRows(int noOfRows, byte[] bytes) {
+    long[] value = new long[wordsPerRow];
+    ByteBuffer buffer = ByteBuffer.wrap(bytes, 0, columns / Byte.SIZE);
+    for (int i = 0; i < wordsPerRow; i++) {
+      value[i] = getWord(buffer);
+    }
+    for (int row = 0; row < noOfRows; row++) {
+      int base = row * wordsPerRow;
+      for (int i = 0; i < wordsPerRow; i++) {
+        words[base + i] ^= value[i];
+      }
+    }
+  }
+
+  /**
+   * Writes the byte representation of a row to a buffer.
+   *
+   * @param row the index of the row
+   * @param buffer the buffer to write the row of bytes to
+   */
+  void getRow(int row, ByteBuffer buffer) {
+    int base = row * wordsPerRow;
+    int remainingBytes = columns / Byte.SIZE;
+    for (int i = 0; i < wordsPerRow; i++) {
+      long word = words[base + i];
+      if (remainingBytes >= Long.BYTES) {
+        buffer.putLong(word);
+        remainingBytes -= Long.BYTES;
+      } else {
+        for (int j = 0; j < remainingBytes; j++) {
+          buffer.put((byte) (word >>> (Long.SIZE - Byte.SIZE * (j + 1))));
+        }
+      }
+    }
+  }
+
+  /**
+   * Gets a row as a bit vector.
+   *
+   * @param row the index of the row
+   * @return a new bit vector holding the row
+   */
+  StrictBitVector getRow(int row) {
+    ByteBuffer buffer = ByteBuffer.allocate(columns / Byte.SIZE);
+    getRow(row, buffer);
+    return new StrictBitVector(buffer.array());
+  }
+
+  /**
+   * Gets the first rows of the matrix as bit vectors.
+   *
+   * @param noOfRows the number of rows to get
+   * @return a new list of new bit vectors
+   */
+  List<StrictBitVector> toRows(int noOfRows) {
+    List<StrictBitVector> result = new ArrayList<>(noOfRows);
+    for (int i = 0; i < noOfRows; i++) {
+      result.add(getRow(i));
+    }
+    return result;
+  }
+
+  /**
+   * Transposes this matrix into another matrix, which must have as many rows as this has columns
+   * and vice versa. Every bit of the target is overwritten, so it may be reused.
+   *
+   * <p>The matrix is processed one block of 64 x 64 bits at a time. The block is copied into a
+   * small array of 64 longs, transposed in place and written to the target, so each block is
+   * read and written once while it is in the cache.</p>
+   *
+   * @param target the matrix to hold the transpose
+   */
+  void transpose(BitMatrix target) {
+    if (target.rows != columns || target.columns != rows) {
+      throw new IllegalArgumentException("Cannot transpose a " + rows + " x " + columns
+          + " matrix into a " + target.rows + " x " + target.columns + " matrix");
+    }
+    long[] block = new long[BLOCK_SIZE];
+    int blockRows = words.length / wordsPerRow / BLOCK_SIZE;
+    for (int blockRow = 0; blockRow < blockRows; blockRow++) {
+      for (int blockColumn = 0; blockColumn < wordsPerRow; blockColumn++) {
+        int source = blockRow * BLOCK_SIZE * wordsPerRow + blockColumn;
+        for (int k = 0; k < BLOCK_SIZE; k++) {
+          block[k] = words[source + k * wordsPerRow];
+        }
+        transposeBlock(block);
+        int destination = blockColumn * BLOCK_SIZE * target.wordsPerRow + blockRow;
+        for (int k = 0; k < BLOCK_SIZE; k++) {
+          target.words[destination + k * target.wordsPerRow] = block[k];
+        }
+      }
+    }
+  }
+
+  /**
+   * Transposes a 64 x 64 bit matrix in place, see Hacker's Delight, section 7-3. Each step swaps
+   * the off-diagonal sub blocks of half the size of the previous step.
+   *
+   * @param block the rows of the matrix, with the first column as the most significant bits
+   */
+  static void transposeBlock(long[] block) {
+    long mask = 0x00000000FFFFFFFFL;
+    for (int j = BLOCK_SIZE / 2; j != 0; j >>>= 1, mask ^= mask << j) {
+      for (int k = 0; k < BLOCK_SIZE; k = ((k | j) + 1) & ~j) {
+        long t = (block[k] ^ (block[k | j] >>> j)) & mask;
+        block[k] ^= t;
+        block[k | j] ^= t << j;
+      }
+    }
+  }
+
+  private static long getWord(ByteBuffer buffer) {
+    if (buffer.remaining() >= Long.BYTES) {
+      return buffer.getLong();
+    }
+    long word = 0;
+    int shift = Long.SIZE;
+    while (buffer.hasRemaining()) {
+      shift -= Byte.SIZE;
+      word |= (buffer.get() & 0xFFL) << shift;
+    }
+    return word;
+  }
+}
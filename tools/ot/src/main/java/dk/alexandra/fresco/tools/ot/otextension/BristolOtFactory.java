@@ -1,8 +1,11 @@
 package dk.alexandra.fresco.tools.ot.otextension;
 
 import dk.alexandra.fresco.framework.network.Network;
+import dk.alexandra.fresco.framework.util.Pair;
 import dk.alexandra.fresco.framework.util.StrictBitVector;
 import dk.alexandra.fresco.tools.ot.base.Ot;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Factory class for the Bristol OT protocol, which is an OT extension protocol,
@@ -52,11 +55,31 @@ public class BristolOtFactory implements Ot {
    */
   @Override
   public void send(StrictBitVector messageZero, StrictBitVector messageOne) {
+    getSender().send(messageZero.toByteArray(), messageOne.toByteArray());
+  }
+
+  /**
+   * Act as sender in a batch of 1-out-of-2 OTs, exchanging all the messages at once.
+   *
+   * @param messages
+   *          The pairs of messages to send, message zero first
+   */
+  @Override
+  public void send(List<Pair<StrictBitVector, StrictBitVector>> messages) {
+    List<Pair<byte[], byte[]>> serialized = new ArrayList<>(messages.size());
+    for (Pair<StrictBitVector, StrictBitVector> message : messages) {
+      serialized.add(
+          new Pair<>(message.getFirst().toByteArray(), message.getSecond().toByteArray()));
+    }
+    getSender().send(serialized);
+  }
+
+  private BristolOtSender getSender() {
     if (this.sender == null) {
       RotSender sender = rot.createSender();
       this.sender = new BristolOtSender(sender, resources, network, batchSize);
     }
-    this.sender.send(messageZero.toByteArray(), messageOne.toByteArray());
+    return this.sender;
   }
 
   /**
@@ -68,12 +91,32 @@ public class BristolOtFactory implements Ot {
    */
   @Override
   public StrictBitVector receive(boolean choiceBit) {
+    byte[] res = getReceiver().receive(choiceBit);
+    return new StrictBitVector(res);
+  }
+
+  /**
+   * Act as receiver in a batch of 1-out-of-2 OTs, exchanging all the messages at once.
+   *
+   * @param choiceBits
+   *          The bits representing the choices of messages, read from left to right
+   */
+  @Override
+  public List<StrictBitVector> receive(StrictBitVector choiceBits) {
+    List<byte[]> res = getReceiver().receive(choiceBits);
+    List<StrictBitVector> messages = new ArrayList<>(res.size());
+    for (byte[] message : res) {
+      messages.add(new StrictBitVector(message));
+    }
+    return messages;
+  }
+
+  private BristolOtReceiver getReceiver() {
     if (this.receiver == null) {
       RotReceiver receiver = rot.createReceiver();
       this.receiver = new BristolOtReceiver(receiver, resources, network,
           batchSize);
     }
-    byte[] res = receiver.receive(choiceBit);
-    return new StrictBitVector(res);
+    return this.receiver;
   }
 }
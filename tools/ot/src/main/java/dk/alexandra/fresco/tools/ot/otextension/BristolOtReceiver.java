@@ -2,8 +2,10 @@ package dk.alexandra.fresco.tools.ot.otextension;
 
 import dk.alexandra.fresco.framework.MaliciousException;
 import dk.alexandra.fresco.framework.network.Network;
+import dk.alexandra.fresco.framework.util.ByteArrayHelper;
 import dk.alexandra.fresco.framework.util.StrictBitVector;
-
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -55,13 +57,7 @@ public class BristolOtReceiver {
    * @return The serialized message from the OT
    */
   public byte[] receive(boolean choiceBit) {
-    // Check if there is still an unused random OT stored, if not, execute a
-    // random OT extension
-    if (offset < 0 || offset >= batchSize) {
-      choices = new StrictBitVector(batchSize, resources.getRandomGenerator());
-      randomMessages = receiver.extend(choices);
-      offset = 0;
-    }
+    ensureRandomOts();
     // Notify the sender if it should switch the 0 and 1 messages around (s.t.
     // the random choice bit in the preprocessed random OTs matches the true
     // choice bit
@@ -74,6 +70,70 @@ public class BristolOtReceiver {
     return res;
   }
 
+  /**
+   * Receive the serialized messages of a batch of 1-out-of-2 OTs. The switch
+   * bits of all the OTs are sent in a single message, and the adjusted
+   * messages are received in a single message. The sender must call
+   * {@link BristolOtSender#send(List)} with a pair of messages for each choice
+   * bit.
+   *
+   * @param choiceBits
+   *          The choice bits, read from left to right. False for message 0,
+   *          true for message 1.
+   * @return The serialized messages from the OTs
+   */
+  public List<byte[]> receive(StrictBitVector choiceBits) {
+    int count = choiceBits.getSize();
+    List<byte[]> randomKeys = new ArrayList<>(count);
+    byte[] randomChoices = new byte[(count + Byte.SIZE - 1) / Byte.SIZE];
+    byte[] switchBits = new byte[randomChoices.length];
+    for (int i = 0; i < count; i++) {
+      ensureRandomOts();
+      boolean randomChoice = choices.getBit(offset, false);
+      ByteArrayHelper.setBit(randomChoices, i, randomChoice);
+      ByteArrayHelper.setBit(switchBits, i, choiceBits.getBit(i, false) ^ randomChoice);
+      randomKeys.add(randomMessages.get(offset).toByteArray());
+      offset++;
+    }
+    network.send(resources.getOtherId(), switchBits);
+    ByteBuffer adjustments = ByteBuffer.wrap(network.receive(resources.getOtherId()));
+    List<byte[]> res = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      if (adjustments.remaining() < Integer.BYTES) {
+        throw new MaliciousException("Sender sent too few adjustment messages.");
+      }
+      int length = adjustments.getInt();
+      if (length < 0 || adjustments.remaining() < 2 * length) {
+        throw new MaliciousException("Sender sent adjustment messages of invalid length.");
+      }
+      byte[] adjustment = new byte[length];
+      if (ByteArrayHelper.getBit(randomChoices, i)) {
+        adjustments.position(adjustments.position() + length);
+        adjustments.get(adjustment);
+      } else {
+        adjustments.get(adjustment);
+        adjustments.position(adjustments.position() + length);
+      }
+      res.add(PseudoOtp.decrypt(adjustment, randomKeys.get(i)));
+    }
+    if (adjustments.hasRemaining()) {
+      throw new MaliciousException("Sender sent too many adjustment messages.");
+    }
+    return res;
+  }
+
+  /**
+   * Check if there is still an unused random OT stored, if not, execute a
+   * random OT extension.
+   */
+  private void ensureRandomOts() {
+    if (offset < 0 || offset >= batchSize) {
+      choices = new StrictBitVector(batchSize, resources.getRandomGenerator());
+      randomMessages = receiver.extend(choices);
+      offset = 0;
+    }
+  }
+
   /**
    * Adjust the random, preprocessed message, to fit the specific message sent
    * by the sender.
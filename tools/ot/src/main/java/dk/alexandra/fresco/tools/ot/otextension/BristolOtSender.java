@@ -1,8 +1,12 @@
 package dk.alexandra.fresco.tools.ot.otextension;
 
+import dk.alexandra.fresco.framework.MaliciousException;
 import dk.alexandra.fresco.framework.network.Network;
+import dk.alexandra.fresco.framework.util.ByteArrayHelper;
 import dk.alexandra.fresco.framework.util.Pair;
 import dk.alexandra.fresco.framework.util.StrictBitVector;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -46,14 +50,67 @@ public class BristolOtSender {
    * @param messageOne The message to send for choice one
    */
   public void send(byte[] messageZero, byte[] messageOne) {
-    // Check if there is still an unused random OT stored, if not, execute a
-    // random OT extension
+    ensureRandomOts();
+    doActualSend(messageZero, messageOne);
+    offset++;
+  }
+
+  /**
+   * Send the serialized messages of a batch of 1-out-of-2 OTs. The switch bits of all the OTs are
+   * received in a single message, and the adjusted messages are sent back in a single message.
+   * The receiver must call {@link BristolOtReceiver#receive(StrictBitVector)} with a choice bit
+   * for each pair of messages.
+   *
+   * @param messages The pairs of messages to send, the first being the message for choice zero
+   *        and the second the message for choice one
+   */
+  public void send(List<Pair<byte[], byte[]>> messages) {
+    int count = messages.size();
+    List<StrictBitVector> randomZeros = new ArrayList<>(count);
+    List<StrictBitVector> randomOnes = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      ensureRandomOts();
+      randomZeros.add(randomMessages.getFirst().get(offset));
+      randomOnes.add(randomMessages.getSecond().get(offset));
+      offset++;
+    }
+    byte[] switchBits = network.receive(resources.getOtherId());
+    if (switchBits.length != (count + Byte.SIZE - 1) / Byte.SIZE) {
+      throw new MaliciousException("Receiver sent the wrong number of switch bits.");
+    }
+    int totalLength = 0;
+    for (Pair<byte[], byte[]> message : messages) {
+      int maxLength = Math.max(message.getFirst().length, message.getSecond().length);
+      totalLength += Integer.BYTES + 2 * maxLength;
+    }
+    // Each OT is encoded as the length of the adjusted messages followed by the two messages
+    ByteBuffer adjustments = ByteBuffer.allocate(totalLength);
+    for (int i = 0; i < count; i++) {
+      byte[] messageZero = messages.get(i).getFirst();
+      byte[] messageOne = messages.get(i).getSecond();
+      int maxLength = Math.max(messageZero.length, messageOne.length);
+      byte[] randomZero = randomZeros.get(i).toByteArray();
+      byte[] randomOne = randomOnes.get(i).toByteArray();
+      adjustments.putInt(maxLength);
+      if (ByteArrayHelper.getBit(switchBits, i)) {
+        adjustments.put(PseudoOtp.encrypt(messageOne, randomZero, maxLength));
+        adjustments.put(PseudoOtp.encrypt(messageZero, randomOne, maxLength));
+      } else {
+        adjustments.put(PseudoOtp.encrypt(messageZero, randomZero, maxLength));
+        adjustments.put(PseudoOtp.encrypt(messageOne, randomOne, maxLength));
+      }
+    }
+    network.send(resources.getOtherId(), adjustments.array());
+  }
+
+  /**
+   * Check if there is still an unused random OT stored, if not, execute a random OT extension.
+   */
+  private void ensureRandomOts() {
     if (offset < 0 || offset >= batchSize) {
       randomMessages = sender.extend(batchSize);
       offset = 0;
     }
-    doActualSend(messageZero, messageOne);
-    offset++;
   }
 
   /**
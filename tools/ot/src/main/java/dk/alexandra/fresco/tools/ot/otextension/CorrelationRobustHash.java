@@ -0,0 +1,90 @@
+package dk.alexandra.fresco.tools.ot.otextension;
+
+import dk.alexandra.fresco.framework.util.ExceptionConverter;
+import dk.alexandra.fresco.framework.util.StrictBitVector;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * A tweakable correlation robust hash function based on AES with a fixed, public key, following
+ * Guo, Katz, Wang and Yu, "Efficient and Secure Multiparty Computation from Fixed-Key Block
+ * Ciphers", 2020. With <i>&pi;</i> being AES under the fixed key, a 128 bit block <i>x</i> is hashed
+ * with tweak <i>i</i> as
+ * <p>
+ * <i>H(i, x) = &pi;(&pi;(x) &oplus; i) &oplus; &pi;(x)</i>.
+ * </p>
+ * Longer inputs are hashed a block at a time, with the index of the block included in the tweak,
+ * so the output has the same length as the input. A whole batch of inputs is hashed with two
+ * calls to the cipher, rather than one digest per input.
+ */
+final class CorrelationRobustHash {
+
+  static final int BLOCK_BITS = 128;
+  private static final int BLOCK_BYTES = BLOCK_BITS / Byte.SIZE;
+  // Any public key will do; this is the first 16 bytes of the fractional part of pi
+  private static final byte[] FIXED_KEY = {
+      (byte) 0x24, (byte) 0x3F, (byte) 0x6A, (byte) 0x88, (byte) 0x85, (byte) 0xA3, (byte) 0x08,
+      (byte) 0xD3, (byte) 0x13, (byte) 0x19, (byte) 0x8A, (byte) 0x2E, (byte) 0x03, (byte) 0x70,
+      (byte) 0x73, (byte) 0x44};
+
+  private final Cipher cipher;
+
+  CorrelationRobustHash() {
+    this.cipher = ExceptionConverter.safe(() -> {
+      Cipher aes = Cipher.getInstance("AES/ECB/NoPadding");
+      aes.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(FIXED_KEY, "AES"));
+      return aes;
+    }, "Could not initialize fixed key AES");
+  }
+
+  /**
+   * Tells if inputs of the given number of bits can be hashed, i.e., if it is a positive multiple
+   * of the block size.
+   */
+  static boolean supports(int bitLength) {
+    return bitLength > 0 && bitLength % BLOCK_BITS == 0;
+  }
+
+  /**
+   * Hashes the first rows of a matrix, using <code>tweak + i</code> as the tweak of row <i>i</i>.
+   * Since the key is fixed, the caller must make sure that a tweak is never reused for different
+   * inputs, i.e., that the tweaks of consecutive batches do not overlap.
+   *
+   * @param matrix the matrix, of which the number of columns must be supported
+   * @param size the number of rows to hash
+   * @param tweak the tweak of the first row
+   * @return the hashes of the rows
+   */
+  List<StrictBitVector> hash(BitMatrix matrix, int size, long tweak) {
+    int rowBytes = matrix.getColumns() / Byte.SIZE;
+    ByteBuffer input = ByteBuffer.allocate(size * rowBytes);
+    for (int i = 0; i < size; i++) {
+      matrix.getRow(i, input);
+    }
+    byte[] permuted = ExceptionConverter.safe(() -> cipher.doFinal(input.array()),
+        "Fixed key AES failed");
+    ByteBuffer tweaked = ByteBuffer.wrap(permuted.clone());
+    int blocksPerRow = rowBytes / BLOCK_BYTES;
+    for (int i = 0; i < size; i++) {
+      for (int j = 0; j < blocksPerRow; j++) {
+        int offset = (i * blocksPerRow + j) * BLOCK_BYTES;
+        tweaked.putLong(offset, tweaked.getLong(offset) ^ (tweak + i));
+        tweaked.putLong(offset + Long.BYTES, tweaked.getLong(offset + Long.BYTES) ^ j);
+      }
+    }
+    byte[] output = ExceptionConverter.safe(() -> cipher.doFinal(tweaked.array()),
+        "Fixed key AES failed");
+    List<StrictBitVector> result = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      byte[] row = new byte[rowBytes];
+      for (int k = 0; k < rowBytes; k++) {
+        row[k] = (byte) (output[i * rowBytes + k] ^ permuted[i * rowBytes + k]);
+      }
+      result.add(new StrictBitVector(row));
+    }
+    return result;
+  }
+}
@@ -7,7 +7,6 @@ import dk.alexandra.fresco.framework.util.StrictBitVector;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 /**
@@ -18,6 +17,10 @@ public class CoteReceiver extends CoteShared {
   private final OtExtensionResourcePool resources;
   private final Network network;
   private final List<Pair<Drbg, Drbg>> prgs;
+  // Buffers reused between extensions of the same size
+  private byte[][] rowBuffers;
+  private BitMatrix tmatrix;
+  private BitMatrix tmatrixTransposed;
 
   /**
    * Constructs a correlated OT extension with errors receiver instance.
@@ -50,55 +53,49 @@ public class CoteReceiver extends CoteShared {
    *         received messages
    */
   public List<StrictBitVector> extend(StrictBitVector choices) {
-    if (choices.getSize() < 1) {
-      throw new IllegalArgumentException(
-          "The amount of OTs must be a positive integer");
-    }
-    int bytesNeeded = choices.getSize() / Byte.SIZE;
-    final List<StrictBitVector>  tlistZero = prgs.parallelStream()
-        .limit(resources.getComputationalSecurityParameter())
-        .map(p -> p.getFirst())
-        .map(drbg -> {
-          byte[] byteBuffer = new byte[bytesNeeded];
-          drbg.nextBytes(byteBuffer);
-          return byteBuffer;
-        })
-        .map(StrictBitVector::new)
-        .collect(Collectors.toList());
-    final List<StrictBitVector> ulist = prgs.parallelStream()
-        .limit(resources.getComputationalSecurityParameter())
-        .map(p -> p.getSecond())
-        .map(drbg -> {
-          byte[] byteBuffer = new byte[bytesNeeded];
-          drbg.nextBytes(byteBuffer);
-          return byteBuffer;
-        })
-        .map(StrictBitVector::new)
-        .collect(Collectors.toList());
-    ulist.parallelStream().forEach(u -> u.xor(choices));
-    IntStream.range(0, resources.getComputationalSecurityParameter()).parallel()
-      .forEach(i -> ulist.get(i).xor(tlistZero.get(i)));
-    sendList(ulist);
-    return Transpose.transpose(tlistZero);
+    return extendMatrix(choices).toRows(choices.getSize());
   }
 
-
   /**
-   * Sends a list of StrictBitVectors to the default (0) channel.
+   * Constructs a new batch of correlated OTs with errors, as the rows of a bit matrix. The matrix
+   * is reused by the next extension of the same size, so it is only valid until then.
    *
-   * @param list
-   *          List to send, where all elements are required to have the same
-   *          length.
+   * @param choices
+   *          The receivers random choices for this extension. This MUST have
+   *          size 2^x for some x >=3.
+   * @return A matrix with a row per OT
    */
-  private void sendList(List<StrictBitVector> list) {
-    // Find the amount of bytes needed for each bitvector in the list
-    int elementLength = list.get(0).getSize() / 8;
-    // Allocate space for all elements in the list.
-    byte[] toSend = new byte[(list.get(0).getSize() / 8) * list.size()];
-    for (int i = 0; i < list.size(); i++) {
-      System.arraycopy(list.get(i).toByteArray(), 0, toSend, i * elementLength,
-          elementLength);
+  BitMatrix extendMatrix(StrictBitVector choices) {
+    if (choices.getSize() < 1) {
+      throw new IllegalArgumentException(
+          "The amount of OTs must be a positive integer");
+    }
+    int kbitLength = resources.getComputationalSecurityParameter();
+    int size = choices.getSize();
+    int bytesNeeded = size / Byte.SIZE;
+    if (tmatrix == null || !tmatrix.hasDimensions(kbitLength, size)) {
+      rowBuffers = new byte[kbitLength][bytesNeeded];
+      tmatrix = new BitMatrix(kbitLength, size);
+      tmatrixTransposed = new BitMatrix(size, kbitLength);
     }
-    network.send(resources.getOtherId(), toSend);
+    byte[] choiceBytes = choices.toByteArray();
+    // The message is sent, so it can not be reused
+    byte[] ulist = new byte[kbitLength * bytesNeeded];
+    IntStream.range(0, kbitLength).parallel().forEach(i -> {
+      byte[] row = rowBuffers[i];
+      prgs.get(i).getFirst().nextBytes(row);
+      tmatrix.setRow(i, row, 0);
+      int offset = i * bytesNeeded;
+      for (int j = 0; j < bytesNeeded; j++) {
+        ulist[offset + j] = (byte) (row[j] ^ choiceBytes[j]);
+      }
+      prgs.get(i).getSecond().nextBytes(row);
+      for (int j = 0; j < bytesNeeded; j++) {
+        ulist[offset + j] ^= row[j];
+      }
+    });
+    network.send(resources.getOtherId(), ulist);
+    tmatrix.transpose(tmatrixTransposed);
+    return tmatrixTransposed;
   }
 }
@@ -6,7 +6,6 @@ import dk.alexandra.fresco.framework.util.StrictBitVector;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 /**
@@ -19,6 +18,10 @@ public class CoteSender extends CoteShared {
   private final List<Drbg> prgs;
   // The random messages choices for the random seed OTs
   private StrictBitVector otChoices;
+  // Buffers reused between extensions of the same size
+  private byte[][] rowBuffers;
+  private BitMatrix tmatrix;
+  private BitMatrix qmatrix;
 
   /**
    * Construct a sending party for an instance of the correlated OT protocol.
@@ -55,6 +58,17 @@ public class CoteSender extends CoteShared {
    * @param size Amount of OTs to construct
    */
   public List<StrictBitVector> extend(int size) {
+    return extendMatrix(size).toRows(size);
+  }
+
+  /**
+   * Constructs a new batch of correlated OTs with errors, as the rows of a bit matrix. The matrix
+   * is reused by the next extension of the same size, so it is only valid until then.
+   *
+   * @param size Amount of OTs to construct
+   * @return A matrix with a row per OT
+   */
+  BitMatrix extendMatrix(int size) {
     if (size < 1) {
       throw new IllegalArgumentException("The amount of OTs must be a positive integer");
     }
@@ -62,39 +76,22 @@ public class CoteSender extends CoteShared {
       throw new IllegalArgumentException(
           "The amount of OTs must be a positive integer divisible by 8");
     }
+    int kbitLength = resources.getComputationalSecurityParameter();
     int bytesNeeded = size / Byte.SIZE;
-    final List<StrictBitVector> tlist = prgs.parallelStream()
-        .limit(resources.getComputationalSecurityParameter())
-        .map(drbg -> {
-          byte[] bytes = new byte[bytesNeeded];
-          drbg.nextBytes(bytes);
-          return bytes;
-        })
-        .map(StrictBitVector::new)
-        .collect(Collectors.toList());
-    final List<StrictBitVector> ulist = receiveList(resources.getComputationalSecurityParameter());
-    IntStream.range(0, resources.getComputationalSecurityParameter()).parallel()
-        .filter(i -> otChoices.getBit(i, false))
-        .forEach(i -> tlist.get(i).xor(ulist.get(i)));
-    return Transpose.transpose(tlist);
-  }
-
-  /**
-   * Receives a list of StrictBitVectors from the default (0) channel.
-   *
-   * @param size Amount of elements in vector to receive. All of which must be of equal size.
-   * @return The list of received elements, or null in case an error occurred.
-   */
-  private List<StrictBitVector> receiveList(int size) {
-    List<StrictBitVector> list = new ArrayList<>(size);
-    byte[] byteBuffer = network.receive(resources.getOtherId());
-    int elementLength = byteBuffer.length / size;
-    for (int i = 0; i < size; i++) {
-      byte[] currentVector = new byte[elementLength];
-      System.arraycopy(byteBuffer, i * elementLength, currentVector, 0, elementLength);
-      StrictBitVector currentArr = new StrictBitVector(currentVector);
-      list.add(currentArr);
+    if (tmatrix == null || !tmatrix.hasDimensions(kbitLength, size)) {
+      rowBuffers = new byte[kbitLength][bytesNeeded];
+      tmatrix = new BitMatrix(kbitLength, size);
+      qmatrix = new BitMatrix(size, kbitLength);
     }
-    return list;
+    byte[] ulist = network.receive(resources.getOtherId());
+    IntStream.range(0, kbitLength).parallel().forEach(i -> {
+      prgs.get(i).nextBytes(rowBuffers[i]);
+      tmatrix.setRow(i, rowBuffers[i], 0);
+      if (otChoices.getBit(i, false)) {
+        tmatrix.xorRow(i, ulist, i * bytesNeeded);
+      }
+    });
+    tmatrix.transpose(qmatrix);
+    return qmatrix;
   }
 }
@@ -43,7 +43,8 @@ public class RotReceiverImpl extends RotSharedImpl implements RotReceiver {
         paddingChoices);
     // Use the choices along with the random padding uses for correlated OT with
     // errors
-    List<StrictBitVector> tlist = receiver.extend(extendedChoices);
+    BitMatrix tmatrix = receiver.extendMatrix(extendedChoices);
+    List<StrictBitVector> tlist = tmatrix.toRows(ellPrime);
     // Agree on challenges for linear combination test
     List<StrictBitVector> chiList = getChallenges(ellPrime);
     StrictBitVector xvec = computeBitLinearCombination(extendedChoices, chiList);
@@ -51,7 +52,8 @@ public class RotReceiverImpl extends RotSharedImpl implements RotReceiver {
     StrictBitVector tvec = computeInnerProduct(chiList, tlist);
     network.send(resources.getOtherId(), tvec.toByteArray());
     // Remove the correlation of the OTs by hashing
-    List<StrictBitVector> vvec = hashBitVector(tlist, choices.getSize());
+    List<StrictBitVector> vvec = hashRows(tmatrix, choices.getSize(),
+        nextTweak(choices.getSize()));
     return vvec;
   }
 
@@ -40,7 +40,8 @@ public class RotSenderImpl extends RotSharedImpl implements RotSender {
     // Round up to nearest two-power, which is required by the underlying scheme
     int ellPrime = (int) Math.pow(2, Math.ceil(Math.log(minOts) / Math.log(2)));
     // Construct a sufficient amount correlated OTs with errors
-    List<StrictBitVector> qlist = sender.extend(ellPrime);
+    BitMatrix qmatrix = sender.extendMatrix(ellPrime);
+    List<StrictBitVector> qlist = qmatrix.toRows(ellPrime);
     // Agree on a random challenge for each of the correlated OTs with errors
     List<StrictBitVector> chiList = getChallenges(ellPrime);
     // Retrieve the correlation from the correlated OTs with errors
@@ -64,15 +65,14 @@ public class RotSenderImpl extends RotSharedImpl implements RotSender {
           "Correlation check failed for the sender in the random OT extension");
     }
     // Remove the correlated of the first "size" messages by hashing for
-    // choice-zero
-    List<StrictBitVector> vlistZero = hashBitVector(qlist, size);
+    // choice-zero. Both messages use the same tweaks, matching those of the receiver
+    long tweak = nextTweak(size);
+    List<StrictBitVector> vlistZero = hashRows(qmatrix, size, tweak);
     // XOR the correlated into all the values from the underlying correlated OT
     // with error to compute the choice-one message
-    for (int i = 0; i < size; i++) {
-      qlist.get(i).xor(delta);
-    }
+    qmatrix.xorIntoRows(size, delta.toByteArray());
     // Remove the correlated for the choice-one as well
-    List<StrictBitVector> vlistOne = hashBitVector(qlist, size);
+    List<StrictBitVector> vlistOne = hashRows(qmatrix, size, tweak);
     Pair<List<StrictBitVector>, List<StrictBitVector>> res =
         new Pair<>(vlistZero, vlistOne);
     return res;
@@ -17,6 +17,8 @@ public abstract class RotSharedImpl {
   private final CoinTossing ct;
   private final int comSecParam;
   private final MessageDigest digest;
+  private final CorrelationRobustHash correlationRobustHash;
+  private long tweak;
 
   /**
    * Constructs a random OT extension super-class using an underlying correlated OT with errors
@@ -30,6 +32,7 @@ public abstract class RotSharedImpl {
     this.ct = ct;
     this.digest = digest;
     this.comSecParam = comSecParam;
+    this.correlationRobustHash = new CorrelationRobustHash();
   }
 
 
@@ -125,6 +128,38 @@ public abstract class RotSharedImpl {
     return res;
   }
 
+  /**
+   * Hashes the first {@code size} rows of a matrix to remove their correlation. If the rows are a
+   * whole number of AES blocks, a batch of rows is hashed with a fixed key AES correlation robust
+   * hash, giving hashes of the same length as the rows. Otherwise each row is hashed with {@link
+   * #hashBitVector(List, int)}.
+   *
+   * @param matrix The matrix of which to hash the rows
+   * @param size The amount of rows to hash
+   * @param tweak The tweak of the first row, see {@link #nextTweak(int)}
+   * @return A list containing the hashed rows
+   */
+  List<StrictBitVector> hashRows(BitMatrix matrix, int size, long tweak) {
+    if (CorrelationRobustHash.supports(matrix.getColumns())) {
+      return correlationRobustHash.hash(matrix, size, tweak);
+    }
+    return hashBitVector(matrix.toRows(size), size);
+  }
+
+  /**
+   * Reserves the tweaks for hashing {@code size} rows in an extension. The tweaks keep running
+   * across extensions, so that no tweak is used twice under the fixed key. Both the sender and the
+   * receiver must call this exactly once per extension with the same size, to stay in sync.
+   *
+   * @param size The amount of rows to be hashed
+   * @return The tweak of the first row
+   */
+  long nextTweak(int size) {
+    long first = tweak;
+    tweak += size;
+    return first;
+  }
+
   /**
    * Agree on a list of {@code size} coin-tossed elements, represented by StrictBitVectors. Each
    * consisting of bits reflecting the computational security used at initialization of this class
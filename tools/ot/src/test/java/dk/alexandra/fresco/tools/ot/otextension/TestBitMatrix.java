@@ -0,0 +1,116 @@
+package dk.alexandra.fresco.tools.ot.otextension;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import dk.alexandra.fresco.framework.util.StrictBitVector;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+
+public class TestBitMatrix {
+
+  private static BitMatrix randomMatrix(int rows, int columns, Random rand) {
+    BitMatrix matrix = new BitMatrix(rows, columns);
+    byte[] row = new byte[columns / Byte.SIZE];
+    for (int i = 0; i < rows; i++) {
+      rand.nextBytes(row);
+      matrix.setRow(i, row, 0);
+    }
+    return matrix;
+  }
+
+  private static void testTranspose(int rows, int columns) {
+    BitMatrix matrix = randomMatrix(rows, columns, new Random(rows * 31 + columns));
+    BitMatrix transposed = new BitMatrix(columns, rows);
+    matrix.transpose(transposed);
+    List<StrictBitVector> original = matrix.toRows(rows);
+    List<StrictBitVector> result = transposed.toRows(columns);
+    for (int i = 0; i < rows; i++) {
+      for (int j = 0; j < columns; j++) {
+        assertEquals(original.get(i).getBit(j, false), result.get(j).getBit(i, false));
+      }
+    }
+  }
+
+  @Test
+  public void testTransposeSquare() {
+    testTranspose(128, 128);
+  }
+
+  @Test
+  public void testTransposeWide() {
+    testTranspose(128, 1024);
+  }
+
+  @Test
+  public void testTransposeTall() {
+    testTranspose(2048, 256);
+  }
+
+  @Test
+  public void testTransposeUnaligned() {
+    testTranspose(8, 16);
+    testTranspose(24, 72);
+    testTranspose(136, 40);
+  }
+
+  @Test
+  public void testTransposeMatchesTranspose() {
+    BitMatrix matrix = randomMatrix(64, 256, new Random(42));
+    BitMatrix transposed = new BitMatrix(256, 64);
+    matrix.transpose(transposed);
+    assertEquals(Transpose.transpose(matrix.toRows(64)), transposed.toRows(256));
+  }
+
+  @Test
+  public void testTransposeReused() {
+    BitMatrix transposed = new BitMatrix(64, 128);
+    randomMatrix(128, 64, new Random(1)).transpose(transposed);
+    BitMatrix matrix = randomMatrix(128, 64, new Random(2));
+    matrix.transpose(transposed);
+    BitMatrix back = new BitMatrix(128, 64);
+    transposed.transpose(back);
+    assertEquals(matrix.toRows(128), back.toRows(128));
+  }
+
+  @Test
+  public void testRows() {
+    byte[] bytes = new byte[] { 0x01, 0x23, 0x45, 0x67, (byte) 0x89, (byte) 0xAB,
+        (byte) 0xCD, (byte) 0xEF, 0x11, 0x22, 0x33, 0x44 };
+    BitMatrix matrix = new BitMatrix(3, bytes.length * Byte.SIZE);
+    matrix.setRow(1, bytes, 0);
+    assertEquals(new StrictBitVector(bytes), matrix.getRow(1));
+    assertEquals(new StrictBitVector(bytes.length * Byte.SIZE), matrix.getRow(0));
+    matrix.xorIntoRows(2, bytes);
+    assertEquals(new StrictBitVector(bytes), matrix.getRow(0));
+    assertEquals(new StrictBitVector(bytes.length * Byte.SIZE), matrix.getRow(1));
+    matrix.xorRow(2, new byte[] { 0x00, 0x01, 0x23, 0x45, 0x67, (byte) 0x89, (byte) 0xAB,
+        (byte) 0xCD, (byte) 0xEF, 0x11, 0x22, 0x33, 0x44 }, 1);
+    assertEquals(new StrictBitVector(bytes), matrix.getRow(2));
+  }
+
+  @Test
+  public void testCorrelationRobustHash() {
+    BitMatrix matrix = randomMatrix(4, 256, new Random(3));
+    byte[] row = matrix.getRow(0).toByteArray().clone();
+    matrix.setRow(1, row, 0);
+    List<StrictBitVector> hashes = new CorrelationRobustHash().hash(matrix, 4, 0);
+    assertEquals(4, hashes.size());
+    assertEquals(256, hashes.get(0).getSize());
+    assertEquals(hashes, new CorrelationRobustHash().hash(matrix, 4, 0));
+    // Equal rows are separated by their index
+    assertNotEquals(hashes.get(0), hashes.get(1));
+    assertNotEquals(matrix.getRow(0), hashes.get(0));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testTransposeWrongDimensions() {
+    new BitMatrix(64, 128).transpose(new BitMatrix(64, 128));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testIllegalColumns() {
+    new BitMatrix(64, 12);
+  }
+}
@@ -123,6 +123,64 @@ public class TestFunctionalBristolOt {
         (List<StrictBitVector>) extendResults.get(1), choices);
   }
 
+  private List<Pair<StrictBitVector, StrictBitVector>> bristolOtSendBatch(
+      OtExtensionTestContext ctx, int iterations, int batchSize) {
+    OtExtensionResourcePool resources = ctx.createResources(1);
+    Ot otSender = new BristolOtFactory(new RotFactory(resources, ctx.getNetwork()), resources,
+        ctx.getNetwork(), batchSize);
+    List<Pair<StrictBitVector, StrictBitVector>> messages = new ArrayList<>(iterations);
+    Drbg rand = ctx.createRand(1);
+    for (int i = 0; i < iterations; i++) {
+      messages.add(new Pair<>(new StrictBitVector(messageLength, rand),
+          new StrictBitVector(messageLength, rand)));
+    }
+    // Do a single OT first to check that the batch continues from the stored random OTs
+    otSender.send(messages.get(0).getFirst(), messages.get(0).getSecond());
+    otSender.send(messages.subList(1, iterations));
+    return messages;
+  }
+
+  private List<StrictBitVector> bristolOtReceiveBatch(OtExtensionTestContext ctx,
+      StrictBitVector choices, int batchSize) {
+    OtExtensionResourcePool resources = ctx.createResources(1);
+    Ot otReceiver = new BristolOtFactory(new RotFactory(resources, ctx.getNetwork()), resources,
+        ctx.getNetwork(), batchSize);
+    List<StrictBitVector> messages = new ArrayList<>(choices.getSize());
+    messages.add(otReceiver.receive(choices.getBit(0, false)));
+    StrictBitVector rest = new StrictBitVector(choices.getSize() - 8);
+    for (int i = 0; i < rest.getSize(); i++) {
+      rest.setBit(i, choices.getBit(i + 1, false), false);
+    }
+    messages.addAll(otReceiver.receive(rest));
+    return messages;
+  }
+
+  /**
+   * Verify that we can execute a batch of OTs spanning several random OT extensions.
+   */
+  @SuppressWarnings("unchecked")
+  @Test
+  public void testBristolOtBatch() {
+    int batchSize = 800;
+    // One single OT followed by a batch of 2000 OTs
+    int iterations = 2001;
+    Drbg rand = new AesCtrDrbg(HelperForTests.seedThree);
+    StrictBitVector choices = new StrictBitVector(iterations + 7, rand);
+    Callable<List<?>> partyOneOt = () -> bristolOtSendBatch(senderContext, iterations, batchSize);
+    Callable<List<?>> partyTwoOt = () -> bristolOtReceiveBatch(receiverContext, choices,
+        batchSize);
+    List<List<?>> results = testRuntime.runPerPartyTasks(Arrays.asList(partyOneOt, partyTwoOt));
+    List<Pair<StrictBitVector, StrictBitVector>> sent =
+        (List<Pair<StrictBitVector, StrictBitVector>>) results.get(0);
+    List<StrictBitVector> received = (List<StrictBitVector>) results.get(1);
+    assertEquals(iterations, received.size());
+    for (int i = 0; i < iterations; i++) {
+      StrictBitVector expected = choices.getBit(i, false)
+          ? sent.get(i).getSecond() : sent.get(i).getFirst();
+      assertEquals(expected, received.get(i));
+    }
+  }
+
   private List<Pair<StrictBitVector, StrictBitVector>> bristolRotBatchSend(
       OtExtensionTestContext ctx, int batchSize, int id) {
     OtExtensionResourcePool resources = ctx.createResources(id);
@@ -1,6 +1,7 @@
 package dk.alexandra.fresco.tools.ot.otextension;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
 
 import dk.alexandra.fresco.framework.util.StrictBitVector;
 import java.lang.reflect.InvocationTargetException;
@@ -161,4 +162,24 @@ public class TestRot {
         RotReceiverImpl.class, b, alist);
     assertEquals(true, expected.equals(res));
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testTweaksRunAcrossExtensions() {
+    RotSharedImpl rot = new RotSharedImpl(null, null, 128) {};
+    BitMatrix matrix = new BitMatrix(4, 256);
+    byte[] row = new byte[256 / Byte.SIZE];
+    Arrays.fill(row, (byte) 0x5A);
+    matrix.setRow(0, row, 0);
+    // Two consecutive extensions of the same size hashing the same rows
+    long firstTweak = rot.nextTweak(4);
+    List<StrictBitVector> first = rot.hashRows(matrix, 4, firstTweak);
+    long secondTweak = rot.nextTweak(4);
+    List<StrictBitVector> second = rot.hashRows(matrix, 4, secondTweak);
+    assertEquals(firstTweak + 4, secondTweak);
+    for (int i = 0; i < 4; i++) {
+      assertNotEquals(first.get(i), second.get(i));
+    }
+    // The same tweak gives the same hash, as needed by the sender and receiver to agree
+    assertEquals(second, rot.hashRows(matrix, 4, secondTweak));
+  }
+}